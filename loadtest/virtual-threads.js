@@ -0,0 +1,39 @@
+// Compares request throughput and tail latency with and without virtual threads.
+//
+// Start the backend once with SPECFLUX_VIRTUAL_THREADS=true and once with false, then run:
+//
+//   k6 run -e BASE_URL=http://localhost:8090 -e API_KEY=sfx_... -e PROJECT=SPEC \
+//     loadtest/virtual-threads.js
+//
+// and compare http_reqs (throughput) and the p(95)/p(99) of http_req_duration between the runs.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8090';
+const PROJECT = __ENV.PROJECT || 'SPEC';
+const CONNECTIONS = Number(__ENV.CONNECTIONS || 2000);
+
+export const options = {
+  scenarios: {
+    connections: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: CONNECTIONS },
+        { duration: '2m', target: CONNECTIONS },
+        { duration: '15s', target: 0 },
+      ],
+    },
+  },
+  summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+const params = { headers: { Authorization: `Bearer ${__ENV.API_KEY}` } };
+
+export default function () {
+  const tasks = http.get(`${BASE_URL}/api/projects/${PROJECT}/tasks?limit=20`, params);
+  check(tasks, { 'tasks listed': (r) => r.status === 200 });
+
+  const epics = http.get(`${BASE_URL}/api/projects/${PROJECT}/epics`, params);
+  check(epics, { 'epics listed': (r) => r.status === 200 });
+}
@@ -2,6 +2,7 @@ package com.specflux;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main entry point for SpecFlux Backend.
@@ -10,6 +11,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * across multiple software repositories with spec-driven workflows.
  */
 @SpringBootApplication
+@EnableScheduling
 public class SpecFluxApplication {
 
   public static void main(String[] args) {
@@ -13,7 +13,6 @@ import com.specflux.api.generated.model.AcceptanceCriteriaListResponseDto;
 import com.specflux.api.generated.model.CreateAcceptanceCriteriaRequestDto;
 import com.specflux.api.generated.model.UpdateAcceptanceCriteriaRequestDto;
 import com.specflux.epic.domain.Epic;
-import com.specflux.project.domain.Project;
 import com.specflux.shared.interfaces.rest.RefResolver;
 import com.specflux.task.domain.Task;
 
@@ -40,8 +39,7 @@ public class AcceptanceCriteriaApplicationService {
    */
   public AcceptanceCriteriaListResponseDto listTaskAcceptanceCriteria(
       String projectRef, String taskRef) {
-    Project project = refResolver.resolveProject(projectRef);
-    Task task = refResolver.resolveTask(project, taskRef);
+    Task task = refResolver.resolveTask(projectRef, taskRef);
 
     List<AcceptanceCriteria> criteria =
         acceptanceCriteriaRepository.findByTaskIdOrderByOrderIndexAsc(task.getId());
@@ -61,8 +59,7 @@ public class AcceptanceCriteriaApplicationService {
    */
   public AcceptanceCriteriaDto createTaskAcceptanceCriteria(
       String projectRef, String taskRef, CreateAcceptanceCriteriaRequestDto request) {
-    Project project = refResolver.resolveProject(projectRef);
-    Task task = refResolver.resolveTask(project, taskRef);
+    Task task = refResolver.resolveTask(projectRef, taskRef);
 
     int orderIndex =
         request.getOrderIndex() != null
@@ -85,8 +82,7 @@ public class AcceptanceCriteriaApplicationService {
    */
   public AcceptanceCriteriaDto getTaskAcceptanceCriteria(
       String projectRef, String taskRef, Long criteriaId) {
-    Project project = refResolver.resolveProject(projectRef);
-    Task task = refResolver.resolveTask(project, taskRef);
+    Task task = refResolver.resolveTask(projectRef, taskRef);
 
     AcceptanceCriteria ac =
         acceptanceCriteriaRepository
@@ -113,8 +109,7 @@ public class AcceptanceCriteriaApplicationService {
       String taskRef,
       Long criteriaId,
       UpdateAcceptanceCriteriaRequestDto request) {
-    Project project = refResolver.resolveProject(projectRef);
-    Task task = refResolver.resolveTask(project, taskRef);
+    Task task = refResolver.resolveTask(projectRef, taskRef);
 
     AcceptanceCriteria ac =
         acceptanceCriteriaRepository
@@ -147,8 +142,7 @@ public class AcceptanceCriteriaApplicationService {
    * @param criteriaId the criteria ID
    */
   public void deleteTaskAcceptanceCriteria(String projectRef, String taskRef, Long criteriaId) {
-    Project project = refResolver.resolveProject(projectRef);
-    Task task = refResolver.resolveTask(project, taskRef);
+    Task task = refResolver.resolveTask(projectRef, taskRef);
 
     AcceptanceCriteria ac =
         acceptanceCriteriaRepository
@@ -172,8 +166,7 @@ public class AcceptanceCriteriaApplicationService {
    */
   public AcceptanceCriteriaListResponseDto listEpicAcceptanceCriteria(
       String projectRef, String epicRef) {
-    Project project = refResolver.resolveProject(projectRef);
-    Epic epic = refResolver.resolveEpic(project, epicRef);
+    Epic epic = refResolver.resolveEpic(projectRef, epicRef);
 
     List<AcceptanceCriteria> criteria =
         acceptanceCriteriaRepository.findByEpicIdOrderByOrderIndexAsc(epic.getId());
@@ -193,8 +186,7 @@ public class AcceptanceCriteriaApplicationService {
    */
   public AcceptanceCriteriaDto createEpicAcceptanceCriteria(
       String projectRef, String epicRef, CreateAcceptanceCriteriaRequestDto request) {
-    Project project = refResolver.resolveProject(projectRef);
-    Epic epic = refResolver.resolveEpic(project, epicRef);
+    Epic epic = refResolver.resolveEpic(projectRef, epicRef);
 
     int orderIndex =
         request.getOrderIndex() != null
@@ -217,8 +209,7 @@ public class AcceptanceCriteriaApplicationService {
    */
   public AcceptanceCriteriaDto getEpicAcceptanceCriteria(
       String projectRef, String epicRef, Long criteriaId) {
-    Project project = refResolver.resolveProject(projectRef);
-    Epic epic = refResolver.resolveEpic(project, epicRef);
+    Epic epic = refResolver.resolveEpic(projectRef, epicRef);
 
     AcceptanceCriteria ac =
         acceptanceCriteriaRepository
@@ -245,8 +236,7 @@ public class AcceptanceCriteriaApplicationService {
       String epicRef,
       Long criteriaId,
       UpdateAcceptanceCriteriaRequestDto request) {
-    Project project = refResolver.resolveProject(projectRef);
-    Epic epic = refResolver.resolveEpic(project, epicRef);
+    Epic epic = refResolver.resolveEpic(projectRef, epicRef);
 
     AcceptanceCriteria ac =
         acceptanceCriteriaRepository
@@ -279,8 +269,7 @@ public class AcceptanceCriteriaApplicationService {
    * @param criteriaId the criteria ID
    */
   public void deleteEpicAcceptanceCriteria(String projectRef, String epicRef, Long criteriaId) {
-    Project project = refResolver.resolveProject(projectRef);
-    Epic epic = refResolver.resolveEpic(project, epicRef);
+    Epic epic = refResolver.resolveEpic(projectRef, epicRef);
 
     AcceptanceCriteria ac =
         acceptanceCriteriaRepository
@@ -4,19 +4,25 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import com.specflux.apikey.domain.ApiKey;
 import com.specflux.apikey.domain.ApiKeyRepository;
+import com.specflux.apikey.infrastructure.ApiKeyUsageWriter;
 import com.specflux.shared.domain.EntityType;
 import com.specflux.shared.domain.PublicId;
 import com.specflux.user.domain.User;
@@ -28,6 +34,12 @@ import lombok.RequiredArgsConstructor;
  * Application service for API key management.
  *
  * <p>Handles key generation, validation, and lifecycle operations.
+ *
+ * <p>Validated keys are cached by their hash for a short TTL, and usage timestamps are handed to
+ * the {@link ApiKeyUsageWriter}, so authenticating a known key touches neither the database nor a
+ * transaction. Revoking a key evicts it from the cache of this instance immediately; other
+ * instances stop accepting it once their entry expires. Entries hold a snapshot of the key's owner
+ * rather than the managed entity, since they are shared across request threads.
  */
 @Service
 @RequiredArgsConstructor
@@ -37,11 +49,18 @@ public class ApiKeyService {
   private static final String KEY_PREFIX = "sfx_";
   private static final int KEY_BYTES = 32; // 256 bits
   private static final int PREFIX_LENGTH = 12; // Characters to extract for prefix lookup
+  private static final int MAX_CACHED_KEYS = 10_000;
 
   private final TransactionTemplate transactionTemplate;
   private final ApiKeyRepository apiKeyRepository;
   private final UserRepository userRepository;
+  private final ApiKeyUsageWriter apiKeyUsageWriter;
   private final SecureRandom secureRandom = new SecureRandom();
+  private final Map<String, CachedKey> validatedKeys = new ConcurrentHashMap<>();
+  private final AtomicLong revocations = new AtomicLong();
+
+  @Value("${specflux.api-keys.cache-ttl:PT5M}")
+  private Duration cacheTtl = Duration.ofMinutes(5);
 
   /**
    * Creates a new API key for a user.
@@ -88,16 +107,28 @@ public class ApiKeyService {
   }
 
   /**
-   * Validates an API key and returns the associated user if valid.
+   * Validates an API key and returns its owner if valid.
    *
    * @param fullKey the full API key (sfx_...)
-   * @return the user if key is valid, empty if invalid
+   * @return the key's owner if the key is valid, empty if invalid
    */
-  public Optional<User> validateKey(String fullKey) {
+  public Optional<KeyOwner> validateKey(String fullKey) {
     if (fullKey == null || !fullKey.startsWith(KEY_PREFIX)) {
       return Optional.empty();
     }
 
+    Instant now = Instant.now();
+    String providedHash = hashKey(fullKey);
+    CachedKey cached = validatedKeys.get(providedHash);
+    if (cached != null) {
+      if (cached.isValidAt(now)) {
+        apiKeyUsageWriter.recordUsage(cached.apiKeyId(), now);
+        return Optional.of(cached.owner());
+      }
+      validatedKeys.remove(providedHash, cached);
+    }
+
+    long revocationsBeforeLoad = revocations.get();
     String keyPrefix = extractPrefix(fullKey);
     Optional<ApiKey> apiKeyOpt = apiKeyRepository.findByKeyPrefixWithUser(keyPrefix);
 
@@ -109,7 +140,6 @@ public class ApiKeyService {
     ApiKey apiKey = apiKeyOpt.get();
 
     // Verify hash matches
-    String providedHash = hashKey(fullKey);
     if (!apiKey.getKeyHash().equals(providedHash)) {
       log.warn("API key hash mismatch for prefix: {}", keyPrefix);
       return Optional.empty();
@@ -125,11 +155,22 @@ public class ApiKeyService {
       return Optional.empty();
     }
 
-    // Update last used timestamp - only this needs a transaction
-    apiKey.recordUsage();
-    transactionTemplate.executeWithoutResult(status -> apiKeyRepository.save(apiKey));
+    if (validatedKeys.size() >= MAX_CACHED_KEYS) {
+      validatedKeys.values().removeIf(k -> !k.isValidAt(now));
+    }
+    KeyOwner owner = KeyOwner.of(apiKey.getUser());
+    if (validatedKeys.size() < MAX_CACHED_KEYS) {
+      CachedKey entry =
+          new CachedKey(apiKey.getId(), owner, apiKey.getExpiresAt(), now.plus(cacheTtl));
+      validatedKeys.put(providedHash, entry);
+      // A revocation that committed since the key was loaded above did not see this entry
+      if (revocations.get() != revocationsBeforeLoad) {
+        validatedKeys.remove(providedHash, entry);
+      }
+    }
+    apiKeyUsageWriter.recordUsage(apiKey.getId(), now);
 
-    return Optional.of(apiKey.getUser());
+    return Optional.of(owner);
   }
 
   /**
@@ -154,6 +195,8 @@ public class ApiKeyService {
 
     // Only the save operation needs a transaction
     transactionTemplate.executeWithoutResult(status -> apiKeyRepository.save(apiKey));
+    revocations.incrementAndGet();
+    validatedKeys.values().removeIf(k -> k.apiKeyId().equals(apiKey.getId()));
 
     log.info("Revoked API key {}", publicId);
   }
@@ -232,4 +275,21 @@ public class ApiKeyService {
 
   /** Result of API key creation, containing the key entity and the full key (shown once). */
   public record ApiKeyCreationResult(ApiKey apiKey, String fullKey) {}
+
+  /** The user an API key belongs to, copied from the entity when the key is validated. */
+  public record KeyOwner(String publicId, String firebaseUid, String email, String displayName) {
+
+    static KeyOwner of(User user) {
+      return new KeyOwner(
+          user.getPublicId(), user.getFirebaseUid(), user.getEmail(), user.getDisplayName());
+    }
+  }
+
+  /** A validated key, trusted until {@code cachedUntil} or the key's own expiry. */
+  private record CachedKey(Long apiKeyId, KeyOwner owner, Instant expiresAt, Instant cachedUntil) {
+
+    boolean isValidAt(Instant now) {
+      return now.isBefore(cachedUntil) && (expiresAt == null || now.isBefore(expiresAt));
+    }
+  }
 }
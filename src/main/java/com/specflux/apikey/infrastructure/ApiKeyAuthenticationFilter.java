@@ -11,7 +11,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.specflux.apikey.application.ApiKeyService;
 import com.specflux.shared.infrastructure.security.FirebaseAuthenticationToken;
 import com.specflux.shared.infrastructure.security.FirebasePrincipal;
-import com.specflux.user.domain.User;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -49,21 +48,21 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
 
       if (ApiKeyService.isApiKey(token)) {
         try {
-          var userOpt = apiKeyService.validateKey(token);
+          var ownerOpt = apiKeyService.validateKey(token);
 
-          if (userOpt.isPresent()) {
-            User user = userOpt.get();
+          if (ownerOpt.isPresent()) {
+            ApiKeyService.KeyOwner owner = ownerOpt.get();
 
             FirebasePrincipal principal =
                 new FirebasePrincipal(
-                    user.getFirebaseUid(), user.getEmail(), user.getDisplayName(), null);
+                    owner.firebaseUid(), owner.email(), owner.displayName(), null);
 
             FirebaseAuthenticationToken authentication =
                 new FirebaseAuthenticationToken(principal, token, Collections.emptyList());
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            log.debug("Successfully authenticated user via API key: {}", user.getPublicId());
+            log.debug("Successfully authenticated user via API key: {}", owner.publicId());
           } else {
             log.warn("Invalid or expired API key");
             SecurityContextHolder.clearContext();
@@ -0,0 +1,87 @@
+package com.specflux.apikey.infrastructure;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind buffer for API key {@code last_used_at} timestamps.
+ *
+ * <p>Authentication only records the latest use of each key in memory. The buffer is written with
+ * one JDBC batch per flush, so a key used thousands of times a minute costs one UPDATE per flush
+ * interval instead of one write transaction per request. Timestamps are only moved forward. A
+ * failed flush puts its entries back for the next one; uses recorded since the last successful
+ * flush are lost if the process dies.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiKeyUsageWriter {
+
+  private static final int BATCH_SIZE = 100;
+
+  private static final String UPDATE_SQL =
+      "UPDATE api_keys SET last_used_at = ? WHERE id = ?"
+          + " AND (last_used_at IS NULL OR last_used_at < ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final Map<Long, Instant> pending = new ConcurrentHashMap<>();
+
+  /**
+   * Records a use of an API key.
+   *
+   * @param apiKeyId the key's internal ID
+   * @param usedAt when the key was used
+   */
+  public void recordUsage(Long apiKeyId, Instant usedAt) {
+    pending.merge(apiKeyId, usedAt, (a, b) -> a.isAfter(b) ? a : b);
+  }
+
+  /** Writes the buffered timestamps. */
+  @Scheduled(fixedDelayString = "${specflux.api-keys.usage-flush-interval:PT30S}")
+  @PreDestroy
+  public void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+    List<Map.Entry<Long, Instant>> batch = new ArrayList<>(pending.size());
+    for (Map.Entry<Long, Instant> entry : pending.entrySet()) {
+      // Only drop the entry if no newer use was recorded in the meantime
+      if (pending.remove(entry.getKey(), entry.getValue())) {
+        batch.add(Map.entry(entry.getKey(), entry.getValue()));
+      }
+    }
+    try {
+      jdbcTemplate.batchUpdate(
+          UPDATE_SQL,
+          batch,
+          BATCH_SIZE,
+          (ps, entry) -> {
+            OffsetDateTime usedAt = entry.getValue().atOffset(ZoneOffset.UTC);
+            ps.setObject(1, usedAt);
+            ps.setLong(2, entry.getKey());
+            ps.setObject(3, usedAt);
+          });
+    } catch (DataAccessException e) {
+      // Keep whichever is newer: the failed timestamp or a use recorded during the flush
+      batch.forEach(entry -> recordUsage(entry.getKey(), entry.getValue()));
+      log.warn("[apiKeyUsage] flush of {} keys failed, retrying later", batch.size(), e);
+      return;
+    }
+    log.debug("[apiKeyUsage] flushed {} keys", batch.size());
+  }
+}
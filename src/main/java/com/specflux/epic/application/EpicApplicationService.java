@@ -1,16 +1,13 @@
 package com.specflux.epic.application;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
-import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.jpa.domain.PredicateSpecification;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.specflux.acceptancecriteria.domain.AcceptanceCriteria;
 import com.specflux.acceptancecriteria.domain.AcceptanceCriteriaRepository;
 import com.specflux.api.generated.model.CreateEpicRequestAcceptanceCriteriaInnerDto;
@@ -25,14 +22,19 @@ import com.specflux.epic.domain.Epic;
 import com.specflux.epic.domain.EpicDependency;
 import com.specflux.epic.domain.EpicDependencyRepository;
 import com.specflux.epic.domain.EpicRepository;
+import com.specflux.epic.domain.EpicSpecifications;
 import com.specflux.epic.interfaces.rest.EpicMapper;
 import com.specflux.prd.domain.Prd;
+import com.specflux.project.application.ProjectSequenceAllocator;
 import com.specflux.project.domain.Project;
 import com.specflux.shared.application.CurrentUserService;
+import com.specflux.shared.application.KeysetPage;
+import com.specflux.shared.application.KeysetPaginator;
 import com.specflux.shared.application.UpdateHelper;
 import com.specflux.shared.interfaces.rest.RefResolver;
 import com.specflux.task.domain.Task;
-import com.specflux.task.domain.TaskRepository;
+import com.specflux.task.domain.TaskSpecifications;
+import com.specflux.task.domain.TaskStatus;
 import com.specflux.task.interfaces.rest.TaskMapper;
 import com.specflux.user.domain.User;
 
@@ -49,12 +51,13 @@ public class EpicApplicationService {
   private final EpicRepository epicRepository;
   private final EpicDependencyRepository epicDependencyRepository;
   private final AcceptanceCriteriaRepository acceptanceCriteriaRepository;
-  private final TaskRepository taskRepository;
   private final RefResolver refResolver;
+  private final ProjectSequenceAllocator projectSequenceAllocator;
   private final CurrentUserService currentUserService;
   private final TransactionTemplate transactionTemplate;
   private final EpicMapper epicMapper;
-  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final EpicPhaseService epicPhaseService;
+  private final KeysetPaginator keysetPaginator;
 
   /**
    * Creates a new epic in a project.
@@ -75,7 +78,7 @@ public class EpicApplicationService {
           User currentUser = currentUserService.getCurrentUser();
 
           String publicId = generatePublicId("epic");
-          int sequenceNumber = getNextSequenceNumber(project);
+          int sequenceNumber = projectSequenceAllocator.nextEpicSequence(project);
           String displayKey = project.getProjectKey() + "-E" + sequenceNumber;
 
           Epic epic =
@@ -117,8 +120,7 @@ public class EpicApplicationService {
    * @return the epic DTO
    */
   public EpicDto getEpic(String projectRef, String epicRef) {
-    Project project = refResolver.resolveProject(projectRef);
-    Epic epic = refResolver.resolveEpic(project, epicRef);
+    Epic epic = refResolver.resolveEpic(projectRef, epicRef);
     return epicMapper.toDto(epic);
   }
 
@@ -131,8 +133,8 @@ public class EpicApplicationService {
    * @return the updated epic DTO
    */
   public EpicDto updateEpic(String projectRef, String epicRef, UpdateEpicRequestDto request) {
-    Project project = refResolver.resolveProject(projectRef);
-    Epic epic = refResolver.resolveEpic(project, epicRef);
+    Epic epic = refResolver.resolveEpic(projectRef, epicRef);
+    Project project = epic.getProject();
 
     UpdateHelper.applyValue(request.getTitle(), epic::setTitle);
     UpdateHelper.applyString(request.getDescription(), epic::setDescription);
@@ -157,9 +159,11 @@ public class EpicApplicationService {
    * @param epicRef the epic reference
    */
   public void deleteEpic(String projectRef, String epicRef) {
-    Project project = refResolver.resolveProject(projectRef);
-    Epic epic = refResolver.resolveEpic(project, epicRef);
+    Epic epic = refResolver.resolveEpic(projectRef, epicRef);
+    Project project = epic.getProject();
     transactionTemplate.executeWithoutResult(status -> epicRepository.delete(epic));
+    epicPhaseService.evict(project.getId());
+    refResolver.evictEpic(epic);
   }
 
   /**
@@ -192,57 +196,31 @@ public class EpicApplicationService {
 
     Project project = refResolver.resolveProject(projectRef);
 
-    // Parse cursor if present
-    CursorData cursorData = decodeCursor(cursor);
-    int offset = cursorData != null ? cursorData.offset() : 0;
-
     // Resolve PRD if prdRef is provided
-    Long prdId = null;
+    PredicateSpecification<Epic> filter = EpicSpecifications.inProject(project.getId());
+    if (status != null) {
+      filter = filter.and(EpicSpecifications.hasStatus(epicMapper.toDomainStatus(status)));
+    }
     if (prdRef != null && !prdRef.isBlank()) {
       Prd prd = refResolver.resolvePrd(project, prdRef);
-      prdId = prd.getId();
-      log.debug("[listEpics] Resolved prdRef {} to prdId {}", prdRef, prdId);
+      log.debug("[listEpics] Resolved prdRef {} to prdId {}", prdRef, prd.getId());
+      filter = filter.and(EpicSpecifications.forPrd(prd.getId()));
     }
 
-    // Get epics for project with optional filters
-    List<Epic> allEpics = fetchEpicsWithFilters(project.getId(), status, prdId);
-    log.debug("[listEpics] Found {} epics for project {}", allEpics.size(), project.getId());
-
-    long total = allEpics.size();
-
-    // Sort field mapping
-    String sortField = mapSortField(sort);
-    boolean ascending = "asc".equalsIgnoreCase(order);
-
-    // Sort and paginate
-    Comparator<Epic> comparator = getComparator(sortField);
-    if (!ascending) {
-      comparator = comparator.reversed();
-    }
-
-    List<Epic> sortedEpics =
-        allEpics.stream().sorted(comparator).skip(offset).limit(limit + 1).toList();
-
-    boolean hasMore = sortedEpics.size() > limit;
-    List<Epic> resultEpics = hasMore ? sortedEpics.subList(0, limit) : sortedEpics;
+    KeysetPage<Epic> page =
+        keysetPaginator.paginate(
+            Epic.class,
+            Specification.where(filter),
+            EpicSpecifications.sortKey(sort),
+            "asc".equalsIgnoreCase(order),
+            cursor,
+            limit,
+            Epic.SUMMARY_GRAPH);
+    log.debug("[listEpics] Found {} epics for project {}", page.total(), project.getId());
 
     EpicListResponseDto response = new EpicListResponseDto();
-    response.setData(resultEpics.stream().map(epicMapper::toDtoSimple).toList());
-
-    CursorPaginationDto pagination = new CursorPaginationDto();
-    pagination.setTotal(total);
-    pagination.setHasMore(hasMore);
-
-    if (hasMore) {
-      int nextOffset = offset + limit;
-      pagination.setNextCursor(encodeCursor(new CursorData(nextOffset)));
-    }
-    if (offset > 0) {
-      int prevOffset = Math.max(0, offset - limit);
-      pagination.setPrevCursor(encodeCursor(new CursorData(prevOffset)));
-    }
-
-    response.setPagination(pagination);
+    response.setData(epicMapper.toDtos(page.items()));
+    response.setPagination(page.toPaginationDto());
     return response;
   }
 
@@ -260,46 +238,27 @@ public class EpicApplicationService {
    */
   public TaskListResponseDto listEpicTasks(
       String projectRef, String epicRef, String cursor, Integer limit, String status) {
-    Project project = refResolver.resolveProject(projectRef);
-    Epic epic = refResolver.resolveEpic(project, epicRef);
-
-    List<Task> tasks = taskRepository.findByEpicId(epic.getId());
+    Epic epic = refResolver.resolveEpic(projectRef, epicRef);
 
-    // Filter by status if provided
+    PredicateSpecification<Task> filter = TaskSpecifications.inEpic(epic.getId());
     if (status != null && !status.isBlank()) {
-      tasks = tasks.stream().filter(t -> t.getStatus().name().equalsIgnoreCase(status)).toList();
+      filter = filter.and(hasTaskStatus(status));
     }
 
-    long total = tasks.size();
-
-    // Parse cursor to get offset
-    CursorData cursorData = decodeCursor(cursor);
-    int offset = cursorData != null ? cursorData.offset() : 0;
-
-    // Apply pagination with cursor offset
     int effectiveLimit = limit != null ? Math.min(limit, 100) : 20;
-    List<Task> pagedTasks = tasks.stream().skip(offset).limit(effectiveLimit + 1).toList();
-
-    boolean hasMore = pagedTasks.size() > effectiveLimit;
-    List<Task> resultTasks = hasMore ? pagedTasks.subList(0, effectiveLimit) : pagedTasks;
+    KeysetPage<Task> page =
+        keysetPaginator.paginate(
+            Task.class,
+            Specification.where(filter),
+            TaskSpecifications.sortKey("created_at"),
+            true,
+            cursor,
+            effectiveLimit,
+            Task.SUMMARY_GRAPH);
 
     TaskListResponseDto response = new TaskListResponseDto();
-    response.setData(resultTasks.stream().map(TaskMapper::toDto).toList());
-
-    CursorPaginationDto pagination = new CursorPaginationDto();
-    pagination.setTotal(total);
-    pagination.setHasMore(hasMore);
-
-    if (hasMore) {
-      int nextOffset = offset + effectiveLimit;
-      pagination.setNextCursor(encodeCursor(new CursorData(nextOffset)));
-    }
-    if (offset > 0) {
-      int prevOffset = Math.max(0, offset - effectiveLimit);
-      pagination.setPrevCursor(encodeCursor(new CursorData(prevOffset)));
-    }
-
-    response.setPagination(pagination);
+    response.setData(page.items().stream().map(TaskMapper::toDto).toList());
+    response.setPagination(page.toPaginationDto());
 
     return response;
   }
@@ -314,15 +273,14 @@ public class EpicApplicationService {
    * @return list of dependency epics
    */
   public EpicListResponseDto listEpicDependencies(String projectRef, String epicRef) {
-    Project project = refResolver.resolveProject(projectRef);
-    Epic epic = refResolver.resolveEpic(project, epicRef);
+    Epic epic = refResolver.resolveEpic(projectRef, epicRef);
 
     List<EpicDependency> dependencies = epicDependencyRepository.findByEpicId(epic.getId());
     List<Epic> dependencyEpics =
         dependencies.stream().map(EpicDependency::getDependsOnEpic).toList();
 
     EpicListResponseDto response = new EpicListResponseDto();
-    response.setData(dependencyEpics.stream().map(epicMapper::toDtoSimple).toList());
+    response.setData(epicMapper.toDtos(dependencyEpics));
 
     CursorPaginationDto pagination = new CursorPaginationDto();
     pagination.setTotal((long) dependencyEpics.size());
@@ -341,8 +299,8 @@ public class EpicApplicationService {
    * @return the updated epic DTO
    */
   public EpicDto addEpicDependency(String projectRef, String epicRef, String dependsOnEpicRef) {
-    Project project = refResolver.resolveProject(projectRef);
-    Epic epic = refResolver.resolveEpic(project, epicRef);
+    Epic epic = refResolver.resolveEpic(projectRef, epicRef);
+    Project project = epic.getProject();
     Epic dependsOnEpic = refResolver.resolveEpic(project, dependsOnEpicRef);
 
     // Check for self-dependency
@@ -361,6 +319,7 @@ public class EpicApplicationService {
 
     EpicDependency dependency = new EpicDependency(epic, dependsOnEpic);
     transactionTemplate.executeWithoutResult(status -> epicDependencyRepository.save(dependency));
+    epicPhaseService.evict(project.getId());
 
     return epicMapper.toDto(epic);
   }
@@ -373,8 +332,8 @@ public class EpicApplicationService {
    * @param depEpicRef the dependency epic to remove
    */
   public void removeEpicDependency(String projectRef, String epicRef, String depEpicRef) {
-    Project project = refResolver.resolveProject(projectRef);
-    Epic epic = refResolver.resolveEpic(project, epicRef);
+    Epic epic = refResolver.resolveEpic(projectRef, epicRef);
+    Project project = epic.getProject();
     Epic dependsOnEpic = refResolver.resolveEpic(project, depEpicRef);
 
     EpicDependency dependency =
@@ -383,81 +342,20 @@ public class EpicApplicationService {
             .orElseThrow(() -> new EntityNotFoundException("Dependency not found"));
 
     transactionTemplate.executeWithoutResult(status -> epicDependencyRepository.delete(dependency));
+    epicPhaseService.evict(project.getId());
   }
 
-  private Comparator<Epic> getComparator(String field) {
-    return switch (field) {
-      case "title" -> Comparator.comparing(Epic::getTitle, String.CASE_INSENSITIVE_ORDER);
-      case "status" -> Comparator.comparing(e -> e.getStatus().name());
-      case "targetDate" ->
-          Comparator.comparing(
-              Epic::getTargetDate, Comparator.nullsLast(Comparator.naturalOrder()));
-      case "updatedAt" -> Comparator.comparing(Epic::getUpdatedAt);
-      default -> Comparator.comparing(Epic::getCreatedAt);
-    };
-  }
-
-  private String mapSortField(String sort) {
-    return switch (sort) {
-      case "title" -> "title";
-      case "status" -> "status";
-      case "target_date" -> "targetDate";
-      case "updated_at" -> "updatedAt";
-      default -> "createdAt";
-    };
-  }
-
-  /**
-   * Fetches epics with multiple optional filters.
-   *
-   * @param projectId the project ID
-   * @param status optional status filter
-   * @param prdId optional PRD ID filter
-   * @return list of matching epics
-   */
-  private List<Epic> fetchEpicsWithFilters(Long projectId, EpicStatusDto status, Long prdId) {
-
-    if (status != null && prdId != null) {
-      return epicRepository.findByProjectIdAndStatusAndPrdId(
-          projectId, epicMapper.toDomainStatus(status), prdId);
-    } else if (status != null) {
-      return epicRepository.findByProjectIdAndStatus(projectId, epicMapper.toDomainStatus(status));
-    } else if (prdId != null) {
-      return epicRepository.findByProjectIdAndPrdId(projectId, prdId);
-    } else {
-      return epicRepository.findByProjectId(projectId);
+  /** Matches a task status given by name, case-insensitively; unknown names match nothing. */
+  private PredicateSpecification<Task> hasTaskStatus(String status) {
+    for (TaskStatus candidate : TaskStatus.values()) {
+      if (candidate.name().equalsIgnoreCase(status)) {
+        return TaskSpecifications.hasStatus(candidate);
+      }
     }
-  }
-
-  private int getNextSequenceNumber(Project project) {
-    List<Epic> epics = epicRepository.findByProjectId(project.getId());
-    return epics.stream().mapToInt(Epic::getSequenceNumber).max().orElse(0) + 1;
+    return (root, cb) -> cb.disjunction();
   }
 
   private String generatePublicId(String prefix) {
     return prefix + "_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
   }
-
-  private CursorData decodeCursor(String cursor) {
-    if (cursor == null || cursor.isBlank()) {
-      return null;
-    }
-    try {
-      String json = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
-      return objectMapper.readValue(json, CursorData.class);
-    } catch (Exception e) {
-      throw new IllegalArgumentException("Invalid cursor");
-    }
-  }
-
-  private String encodeCursor(CursorData data) {
-    try {
-      String json = objectMapper.writeValueAsString(data);
-      return Base64.getEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8));
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to encode cursor", e);
-    }
-  }
-
-  private record CursorData(int offset) {}
 }
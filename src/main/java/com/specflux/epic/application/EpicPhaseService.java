@@ -0,0 +1,92 @@
+package com.specflux.epic.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.specflux.epic.domain.EpicDependencyRepository;
+import com.specflux.epic.domain.EpicPhases;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caches the {@link EpicPhases} of each project.
+ *
+ * <p>Phases are computed from all dependency edges of a project, loaded with a single query on
+ * first use. Callers that add or remove epic dependencies, or delete epics, evict the project once
+ * their transaction has committed. Other instances pick up such changes when their entries expire
+ * after {@code specflux.epics.phase-cache-ttl}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EpicPhaseService {
+
+  private final EpicDependencyRepository epicDependencyRepository;
+
+  private final Map<Long, Cached> phases = new ConcurrentHashMap<>();
+
+  @Value("${specflux.epics.phase-cache-ttl:PT5M}")
+  private Duration cacheTtl = Duration.ofMinutes(5);
+
+  /**
+   * Returns the epic phases of a project.
+   *
+   * @param projectId the project id
+   * @return the phases, possibly shared with other callers
+   */
+  public EpicPhases getPhases(Long projectId) {
+    Instant now = Instant.now();
+    Cached cached = phases.get(projectId);
+    if (cached == null || !cached.isValidAt(now)) {
+      cached =
+          phases.compute(
+              projectId,
+              (id, current) ->
+                  current != null && current.isValidAt(now)
+                      ? current
+                      : new Cached(load(id), now.plus(cacheTtl)));
+    }
+    return cached.phases();
+  }
+
+  /**
+   * Drops the cached phases of a project.
+   *
+   * @param projectId the project id
+   */
+  public void evict(Long projectId) {
+    phases.remove(projectId);
+  }
+
+  private EpicPhases load(Long projectId) {
+    List<EpicDependencyRepository.Edge> edges =
+        epicDependencyRepository.findEdgesByProjectId(projectId);
+    long[] from = new long[edges.size()];
+    long[] to = new long[edges.size()];
+    for (int e = 0; e < edges.size(); e++) {
+      from[e] = edges.get(e).getEpicId();
+      to[e] = edges.get(e).getDependsOnEpicId();
+    }
+    EpicPhases loaded = EpicPhases.of(from, to);
+    log.debug(
+        "[epicPhases] loaded project={} dependencies={} maxPhase={}",
+        projectId,
+        edges.size(),
+        loaded.maxPhase());
+    return loaded;
+  }
+
+  private record Cached(EpicPhases phases, Instant cachedUntil) {
+
+    boolean isValidAt(Instant now) {
+      return now.isBefore(cachedUntil);
+    }
+  }
+}
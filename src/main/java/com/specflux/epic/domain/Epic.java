@@ -15,6 +15,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -25,10 +27,16 @@ import lombok.Setter;
 /** Epic aggregate root representing a large feature or initiative. */
 @Entity
 @Table(name = "epics")
+@NamedEntityGraph(
+    name = Epic.SUMMARY_GRAPH,
+    attributeNodes = {@NamedAttributeNode("project"), @NamedAttributeNode("createdBy")})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Epic extends AggregateRoot<Long> {
 
+  /** Associations read when mapping an epic to its API representation. */
+  public static final String SUMMARY_GRAPH = "Epic.summary";
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
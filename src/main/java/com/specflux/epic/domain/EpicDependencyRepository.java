@@ -1,8 +1,10 @@
 package com.specflux.epic.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,6 +17,10 @@ public interface EpicDependencyRepository extends JpaRepository<EpicDependency,
   /** Find all dependencies for an epic (epics that this epic depends on). */
   List<EpicDependency> findByEpicId(Long epicId);
 
+  /** Find all dependencies of the given epics, with the target epics loaded. */
+  @EntityGraph(attributePaths = "dependsOnEpic")
+  List<EpicDependency> findByEpicIdInOrderById(Collection<Long> epicIds);
+
   /** Find all dependents of an epic (epics that depend on this epic). */
   List<EpicDependency> findByDependsOnEpicId(Long epicId);
 
@@ -27,7 +33,22 @@ public interface EpicDependencyRepository extends JpaRepository<EpicDependency,
   /** Delete all dependencies where this epic is the target. */
   void deleteByDependsOnEpicId(Long epicId);
 
-  /** Find all dependencies for epics in a project. */
-  @Query("SELECT ed FROM EpicDependency ed WHERE ed.epic.project.id = :projectId")
+  /** Find all dependencies for epics in a project, with the target epics loaded. */
+  @EntityGraph(attributePaths = "dependsOnEpic")
+  @Query("SELECT ed FROM EpicDependency ed WHERE ed.epic.project.id = :projectId ORDER BY ed.id")
   List<EpicDependency> findByProjectId(@Param("projectId") Long projectId);
+
+  /** Find the epic id pairs of every dependency in a project, without loading the epics. */
+  @Query(
+      "SELECT ed.epic.id AS epicId, ed.dependsOnEpic.id AS dependsOnEpicId FROM EpicDependency ed"
+          + " WHERE ed.epic.project.id = :projectId")
+  List<Edge> findEdgesByProjectId(@Param("projectId") Long projectId);
+
+  /** A dependency as a pair of epic ids. */
+  interface Edge {
+
+    Long getEpicId();
+
+    Long getDependsOnEpicId();
+  }
 }
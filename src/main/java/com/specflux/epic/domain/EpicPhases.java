@@ -0,0 +1,96 @@
+package com.specflux.epic.domain;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable phase assignment for the epics of one project.
+ *
+ * <p>The phase of an epic is 1 plus the length of the longest dependency chain below it, so epics
+ * without dependencies are in phase 1 and every epic comes after all the epics it depends on. All
+ * phases are computed in one pass over the edges (Kahn's algorithm, keeping the longest distance
+ * seen per epic). Epics on a cycle, which can only exist because cycles are not rejected yet, keep
+ * the phase derived from their acyclic dependencies.
+ */
+public final class EpicPhases {
+
+  private static final EpicPhases EMPTY = new EpicPhases(Map.of());
+
+  private final Map<Long, Integer> phases;
+
+  private EpicPhases(Map<Long, Integer> phases) {
+    this.phases = phases;
+  }
+
+  /** Returns phases for a project without dependencies. */
+  public static EpicPhases empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Computes phases from parallel edge arrays, where {@code epicIds[e]} depends on {@code
+   * dependsOnEpicIds[e]}. Duplicate edges are ignored.
+   *
+   * @param epicIds the dependent epic of each edge
+   * @param dependsOnEpicIds the epic each edge points to
+   * @return the phases
+   */
+  public static EpicPhases of(long[] epicIds, long[] dependsOnEpicIds) {
+    if (epicIds.length != dependsOnEpicIds.length) {
+      throw new IllegalArgumentException("Edge arrays must have the same length");
+    }
+    if (epicIds.length == 0) {
+      return EMPTY;
+    }
+
+    Map<Long, Set<Long>> dependencies = new HashMap<>();
+    Map<Long, List<Long>> dependents = new HashMap<>();
+    for (int e = 0; e < epicIds.length; e++) {
+      dependencies.computeIfAbsent(dependsOnEpicIds[e], _ -> new LinkedHashSet<>());
+      if (dependencies
+          .computeIfAbsent(epicIds[e], _ -> new LinkedHashSet<>())
+          .add(dependsOnEpicIds[e])) {
+        dependents.computeIfAbsent(dependsOnEpicIds[e], _ -> new ArrayList<>()).add(epicIds[e]);
+      }
+    }
+
+    Map<Long, Integer> remaining = new HashMap<>();
+    Map<Long, Integer> phases = new HashMap<>();
+    Deque<Long> ready = new ArrayDeque<>();
+    dependencies.forEach(
+        (epicId, dependsOn) -> {
+          remaining.put(epicId, dependsOn.size());
+          phases.put(epicId, 1);
+          if (dependsOn.isEmpty()) {
+            ready.add(epicId);
+          }
+        });
+    while (!ready.isEmpty()) {
+      Long epicId = ready.poll();
+      int next = phases.get(epicId) + 1;
+      for (Long dependent : dependents.getOrDefault(epicId, List.of())) {
+        phases.merge(dependent, next, Math::max);
+        if (remaining.merge(dependent, -1, Integer::sum) == 0) {
+          ready.add(dependent);
+        }
+      }
+    }
+    return new EpicPhases(Map.copyOf(phases));
+  }
+
+  /** Phase of the given epic; epics without dependencies are in phase 1. */
+  public int phaseOf(long epicId) {
+    return phases.getOrDefault(epicId, 1);
+  }
+
+  /** Highest phase in the project, or 1 when there are no dependencies. */
+  public int maxPhase() {
+    return phases.values().stream().mapToInt(Integer::intValue).max().orElse(1);
+  }
+}
@@ -3,17 +3,40 @@ package com.specflux.epic.domain;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /** Repository for Epic aggregate root. */
 public interface EpicRepository extends JpaRepository<Epic, Long> {
 
   Optional<Epic> findByPublicId(String publicId);
 
+  /** Loads an entity by id together with the associations the API mapping reads. */
+  @EntityGraph(Epic.SUMMARY_GRAPH)
+  Optional<Epic> findWithSummaryById(Long id);
+
+  @EntityGraph(Epic.SUMMARY_GRAPH)
   Optional<Epic> findByPublicIdAndProjectId(String publicId, Long projectId);
 
+  @EntityGraph(Epic.SUMMARY_GRAPH)
   Optional<Epic> findByProjectIdAndDisplayKey(Long projectId, String displayKey);
 
+  /**
+   * Resolves an epic reference and its project reference with a single joined query. The project is
+   * matched by public id or (upper-cased) project key, the epic by public id or display key.
+   */
+  @EntityGraph(Epic.SUMMARY_GRAPH)
+  @Query(
+      "SELECT e FROM Epic e WHERE (e.project.publicId = :projectRef"
+          + " OR e.project.projectKey = :projectKey)"
+          + " AND (e.publicId = :ref OR e.displayKey = :ref)")
+  Optional<Epic> findByProjectRefAndRef(
+      @Param("projectRef") String projectRef,
+      @Param("projectKey") String projectKey,
+      @Param("ref") String ref);
+
   List<Epic> findByProjectId(Long projectId);
 
   List<Epic> findByProjectIdAndStatus(Long projectId, EpicStatus status);
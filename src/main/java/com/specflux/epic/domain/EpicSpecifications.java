@@ -0,0 +1,73 @@
+package com.specflux.epic.domain;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.PredicateSpecification;
+
+import com.specflux.shared.domain.SortKey;
+
+/** Query filters and sort keys for epics. */
+public final class EpicSpecifications {
+
+  /** Stand-in for a missing target date so that undated epics sort after dated ones. */
+  private static final LocalDate NO_TARGET_DATE = LocalDate.of(9999, 12, 31);
+
+  static final SortKey<Epic, Instant> CREATED_AT =
+      SortKey.ofInstant("created_at", (root, cb) -> root.get("createdAt"), Epic::getCreatedAt);
+
+  static final SortKey<Epic, Instant> UPDATED_AT =
+      SortKey.ofInstant("updated_at", (root, cb) -> root.get("updatedAt"), Epic::getUpdatedAt);
+
+  static final SortKey<Epic, String> TITLE =
+      SortKey.ofString(
+          "title",
+          (root, cb) -> cb.lower(root.get("title")),
+          e -> e.getTitle().toLowerCase(Locale.ROOT));
+
+  static final SortKey<Epic, EpicStatus> STATUS =
+      SortKey.ofEnum("status", EpicStatus.class, (root, cb) -> root.get("status"), Epic::getStatus);
+
+  static final SortKey<Epic, LocalDate> TARGET_DATE =
+      SortKey.ofDate(
+          "target_date",
+          (root, cb) -> cb.coalesce(root.<LocalDate>get("targetDate"), NO_TARGET_DATE),
+          e -> e.getTargetDate() != null ? e.getTargetDate() : NO_TARGET_DATE);
+
+  private EpicSpecifications() {}
+
+  /** Epics belonging to the given project. */
+  public static PredicateSpecification<Epic> inProject(Long projectId) {
+    return (root, cb) -> cb.equal(root.get("project").get("id"), projectId);
+  }
+
+  /** Epics with the given status. */
+  public static PredicateSpecification<Epic> hasStatus(EpicStatus status) {
+    return (root, cb) -> cb.equal(root.get("status"), status);
+  }
+
+  /** Epics linked to the given PRD. */
+  public static PredicateSpecification<Epic> forPrd(Long prdId) {
+    return (root, cb) -> cb.equal(root.get("prdId"), prdId);
+  }
+
+  /**
+   * Maps an API sort parameter to a sort key, defaulting to creation time.
+   *
+   * @param sort the API sort value (e.g. "target_date")
+   * @return the matching sort key
+   */
+  public static SortKey<Epic, ?> sortKey(String sort) {
+    if (sort == null) {
+      return CREATED_AT;
+    }
+    return switch (sort) {
+      case "title" -> TITLE;
+      case "status" -> STATUS;
+      case "target_date" -> TARGET_DATE;
+      case "updated_at" -> UPDATED_AT;
+      default -> CREATED_AT;
+    };
+  }
+}
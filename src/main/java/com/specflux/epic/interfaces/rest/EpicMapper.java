@@ -3,20 +3,27 @@ package com.specflux.epic.interfaces.rest;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
 import com.specflux.api.generated.model.EpicDto;
 import com.specflux.api.generated.model.EpicStatusDto;
 import com.specflux.api.generated.model.TaskStatsDto;
+import com.specflux.epic.application.EpicPhaseService;
 import com.specflux.epic.domain.Epic;
 import com.specflux.epic.domain.EpicDependency;
 import com.specflux.epic.domain.EpicDependencyRepository;
+import com.specflux.epic.domain.EpicPhases;
 import com.specflux.epic.domain.EpicStatus;
-import com.specflux.prd.domain.Prd;
 import com.specflux.prd.domain.PrdRepository;
-import com.specflux.task.domain.Task;
 import com.specflux.task.domain.TaskRepository;
 import com.specflux.task.domain.TaskStatus;
 
@@ -30,6 +37,7 @@ public class EpicMapper {
   private final TaskRepository taskRepository;
   private final EpicDependencyRepository epicDependencyRepository;
   private final PrdRepository prdRepository;
+  private final EpicPhaseService epicPhaseService;
 
   /**
    * Converts a domain Epic entity to an API Epic DTO with computed fields.
@@ -38,56 +46,67 @@ public class EpicMapper {
    * @return the API DTO
    */
   public EpicDto toDto(Epic domain) {
-    EpicDto dto = new EpicDto();
-    dto.setId(domain.getPublicId());
-    dto.setDisplayKey(domain.getDisplayKey());
-    dto.setProjectId(domain.getProject().getPublicId());
-    dto.setTitle(domain.getTitle());
-    dto.setDescription(domain.getDescription());
-    dto.setStatus(toApiStatus(domain.getStatus()));
-    dto.setTargetDate(domain.getTargetDate());
-    dto.setCreatedById(domain.getCreatedBy().getPublicId());
-    dto.setCreatedAt(toOffsetDateTime(domain.getCreatedAt()));
-    dto.setUpdatedAt(toOffsetDateTime(domain.getUpdatedAt()));
-
-    // PRD reference
-    if (domain.getPrdId() != null) {
-      prdRepository.findById(domain.getPrdId()).map(Prd::getPublicId).ifPresent(dto::setPrdId);
-    }
-    dto.setPrdFilePath(domain.getPrdFilePath());
-    dto.setEpicFilePath(domain.getEpicFilePath());
-    dto.setNotes(domain.getNotes());
-
-    // Compute task stats
-    List<Task> tasks = taskRepository.findByEpicId(domain.getId());
-    TaskStatsDto taskStats = computeTaskStats(tasks);
-    dto.setTaskStats(taskStats);
-
-    // Compute progress percentage
-    int progressPercentage = computeProgressPercentage(taskStats);
-    dto.setProgressPercentage(progressPercentage);
-
-    // Dependencies
-    List<EpicDependency> dependencies = epicDependencyRepository.findByEpicId(domain.getId());
-    List<String> dependsOn =
-        dependencies.stream().map(dep -> dep.getDependsOnEpic().getPublicId()).toList();
-    dto.setDependsOn(dependsOn);
-
-    // Compute phase based on dependency depth
-    int phase = computePhase(domain.getId());
-    dto.setPhase(phase);
-
-    return dto;
+    return toDtos(List.of(domain)).getFirst();
   }
 
   /**
-   * Conversion with all fields needed for list views including graph visualization. Includes
-   * dependsOn, taskStats, progressPercentage, and phase.
+   * Converts epics of one project to API DTOs with computed fields. Task stats, PRD references and
+   * dependencies are loaded for the whole batch and phases come from the project's cached {@link
+   * EpicPhases}, so the number of queries does not depend on the number of epics.
    *
-   * @param domain the domain entity
-   * @return the API DTO with all fields
+   * @param epics the domain entities, all belonging to the same project
+   * @return the API DTOs in the same order
    */
-  public EpicDto toDtoSimple(Epic domain) {
+  public List<EpicDto> toDtos(List<Epic> epics) {
+    if (epics.isEmpty()) {
+      return List.of();
+    }
+    List<Long> epicIds = epics.stream().map(Epic::getId).toList();
+
+    Map<Long, Map<TaskStatus, Long>> taskCounts = new HashMap<>();
+    for (TaskRepository.EpicStatusCount count :
+        taskRepository.countByEpicIdInGroupByStatus(epicIds)) {
+      taskCounts
+          .computeIfAbsent(count.getEpicId(), _ -> new EnumMap<>(TaskStatus.class))
+          .put(count.getStatus(), count.getCount());
+    }
+
+    Set<Long> prdIds =
+        epics.stream().map(Epic::getPrdId).filter(Objects::nonNull).collect(Collectors.toSet());
+    Map<Long, String> prdPublicIds =
+        prdIds.isEmpty()
+            ? Map.of()
+            : prdRepository.findKeysByIdIn(prdIds).stream()
+                .collect(
+                    Collectors.toMap(
+                        PrdRepository.PrdKey::getId, PrdRepository.PrdKey::getPublicId));
+
+    Map<Long, List<String>> dependsOn = new HashMap<>();
+    for (EpicDependency dep : epicDependencyRepository.findByEpicIdInOrderById(epicIds)) {
+      dependsOn
+          .computeIfAbsent(dep.getEpic().getId(), _ -> new ArrayList<>())
+          .add(dep.getDependsOnEpic().getPublicId());
+    }
+    EpicPhases phases = epicPhaseService.getPhases(epics.getFirst().getProject().getId());
+
+    return epics.stream()
+        .map(
+            epic ->
+                toDto(
+                    epic,
+                    taskCounts.getOrDefault(epic.getId(), Map.of()),
+                    prdPublicIds.get(epic.getPrdId()),
+                    dependsOn.getOrDefault(epic.getId(), List.of()),
+                    phases.phaseOf(epic.getId())))
+        .toList();
+  }
+
+  private EpicDto toDto(
+      Epic domain,
+      Map<TaskStatus, Long> taskCounts,
+      String prdPublicId,
+      List<String> dependsOn,
+      int phase) {
     EpicDto dto = new EpicDto();
     dto.setId(domain.getPublicId());
     dto.setDisplayKey(domain.getDisplayKey());
@@ -101,41 +120,33 @@ public class EpicMapper {
     dto.setUpdatedAt(toOffsetDateTime(domain.getUpdatedAt()));
 
     // PRD reference
-    if (domain.getPrdId() != null) {
-      prdRepository.findById(domain.getPrdId()).map(Prd::getPublicId).ifPresent(dto::setPrdId);
-    }
+    dto.setPrdId(prdPublicId);
     dto.setPrdFilePath(domain.getPrdFilePath());
     dto.setEpicFilePath(domain.getEpicFilePath());
     dto.setNotes(domain.getNotes());
 
     // Compute task stats
-    List<Task> tasks = taskRepository.findByEpicId(domain.getId());
-    TaskStatsDto taskStats = computeTaskStats(tasks);
+    TaskStatsDto taskStats = computeTaskStats(taskCounts);
     dto.setTaskStats(taskStats);
 
     // Compute progress percentage
     int progressPercentage = computeProgressPercentage(taskStats);
     dto.setProgressPercentage(progressPercentage);
 
-    // Include dependsOn for dependency graph support
-    List<EpicDependency> dependencies = epicDependencyRepository.findByEpicId(domain.getId());
-    List<String> dependsOn =
-        dependencies.stream().map(dep -> dep.getDependsOnEpic().getPublicId()).toList();
+    // Dependencies
     dto.setDependsOn(dependsOn);
 
-    // Compute phase based on dependency depth
-    int phase = computePhase(domain.getId());
+    // Phase based on dependency depth
     dto.setPhase(phase);
 
     return dto;
   }
 
-  private TaskStatsDto computeTaskStats(List<Task> tasks) {
+  private TaskStatsDto computeTaskStats(Map<TaskStatus, Long> counts) {
     TaskStatsDto stats = new TaskStatsDto();
-    int total = tasks.size();
-    int done = (int) tasks.stream().filter(t -> t.getStatus() == TaskStatus.COMPLETED).count();
-    int inProgress =
-        (int) tasks.stream().filter(t -> t.getStatus() == TaskStatus.IN_PROGRESS).count();
+    int total = counts.values().stream().mapToInt(Long::intValue).sum();
+    int done = counts.getOrDefault(TaskStatus.COMPLETED, 0L).intValue();
+    int inProgress = counts.getOrDefault(TaskStatus.IN_PROGRESS, 0L).intValue();
     int backlog = total - done - inProgress;
 
     stats.setTotal(total);
@@ -152,31 +163,6 @@ public class EpicMapper {
     return (stats.getDone() * 100) / stats.getTotal();
   }
 
-  private int computePhase(Long epicId) {
-    // Phase = 1 + max depth of dependency chain
-    return computePhaseRecursive(epicId, new java.util.HashSet<>());
-  }
-
-  private int computePhaseRecursive(Long epicId, java.util.Set<Long> visited) {
-    if (visited.contains(epicId)) {
-      return 1; // Cycle detected, break recursion
-    }
-    visited.add(epicId);
-
-    List<EpicDependency> dependencies = epicDependencyRepository.findByEpicId(epicId);
-    if (dependencies.isEmpty()) {
-      return 1;
-    }
-
-    int maxDepPhase = 0;
-    for (EpicDependency dep : dependencies) {
-      int depPhase = computePhaseRecursive(dep.getDependsOnEpic().getId(), visited);
-      maxDepPhase = Math.max(maxDepPhase, depPhase);
-    }
-
-    return maxDepPhase + 1;
-  }
-
   /**
    * Converts an API EpicStatusDto to a domain EpicStatus.
    *
@@ -0,0 +1,122 @@
+package com.specflux.github.application;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.specflux.github.infrastructure.GithubApiClient.ConditionalRepositoryList;
+import com.specflux.github.infrastructure.GithubApiClient.RepositoryListResponse;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caches GitHub repository listings per installation and page, and revalidates them with
+ * conditional requests.
+ *
+ * <p>Every listing is still checked with GitHub, passing the cached ETag and Last-Modified values.
+ * GitHub answers 304 when nothing changed, which is served from the cache and does not count
+ * against the rate limit. The least recently used listings are evicted once the cache is full.
+ * Outcomes are published as the {@code specflux.github.repos.cache.requests} metric, tagged {@code
+ * miss}, {@code not_modified} or {@code modified}.
+ */
+@Slf4j
+@Component
+public class GithubRepositoryListCache {
+
+  static final int MAX_CACHED_LISTINGS = 1_000;
+
+  private final Map<Key, ConditionalRepositoryList> listings =
+      Collections.synchronizedMap(
+          new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, ConditionalRepositoryList> eldest) {
+              return size() > MAX_CACHED_LISTINGS;
+            }
+          });
+
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder notModified = new LongAdder();
+  private final LongAdder modified = new LongAdder();
+
+  public GithubRepositoryListCache(MeterRegistry meterRegistry) {
+    register(meterRegistry, misses, "miss");
+    register(meterRegistry, notModified, "not_modified");
+    register(meterRegistry, modified, "modified");
+    Gauge.builder("specflux.github.repos.cache.size", listings, Map::size)
+        .description("Cached GitHub repository listings")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Returns a repository listing, revalidating the cached copy if there is one.
+   *
+   * @param installationId the GitHub installation the listing belongs to
+   * @param page the page number
+   * @param perPage the page size
+   * @param fetcher lists the repositories, given the cached ETag and Last-Modified (or nulls)
+   * @return the current listing
+   */
+  public RepositoryListResponse get(Long installationId, int page, int perPage, Fetcher fetcher) {
+    Key key = new Key(installationId, page, perPage);
+    ConditionalRepositoryList cached = listings.get(key);
+
+    ConditionalRepositoryList fetched =
+        cached == null
+            ? fetcher.fetch(null, null)
+            : fetcher.fetch(cached.getEtag(), cached.getLastModified());
+
+    if (fetched.isNotModified() && cached != null) {
+      notModified.increment();
+      return cached.getResponse();
+    }
+    if (cached == null) {
+      misses.increment();
+    } else {
+      modified.increment();
+    }
+    if (fetched.getEtag() != null || fetched.getLastModified() != null) {
+      listings.put(key, fetched);
+    } else {
+      listings.remove(key);
+    }
+    log.debug(
+        "[githubRepos] fetched installation={} page={} revalidated={}",
+        installationId,
+        page,
+        cached != null);
+    return fetched.getResponse();
+  }
+
+  /**
+   * Drops all listings of an installation.
+   *
+   * @param installationId the installation id
+   */
+  public void evict(Long installationId) {
+    synchronized (listings) {
+      listings.keySet().removeIf(k -> k.installationId().equals(installationId));
+    }
+  }
+
+  private static void register(MeterRegistry registry, LongAdder counter, String result) {
+    FunctionCounter.builder("specflux.github.repos.cache.requests", counter, LongAdder::sum)
+        .description("GitHub repository listings by cache outcome")
+        .tag("result", result)
+        .register(registry);
+  }
+
+  /** Lists repositories conditionally on the given validators. */
+  @FunctionalInterface
+  public interface Fetcher {
+
+    ConditionalRepositoryList fetch(String etag, String lastModified);
+  }
+
+  private record Key(Long installationId, int page, int perPage) {}
+}
@@ -40,6 +40,8 @@ public class GithubService {
   private final UserRepository userRepository;
   private final CurrentUserService currentUserService;
   private final TransactionTemplate transactionTemplate;
+  private final GithubRepositoryListCache repositoryListCache;
+  private final GithubTokenRefresher tokenRefresher;
 
   /**
    * Exchanges an OAuth authorization code for tokens and creates/updates the GitHub installation.
@@ -116,42 +118,16 @@ public class GithubService {
   /**
    * Refreshes the access token if it's expired or about to expire.
    *
-   * <p>OAuth App tokens don't have refresh tokens, so we skip refresh for those.
+   * <p>OAuth App tokens don't have refresh tokens, so we skip refresh for those. A token that is
+   * about to expire is refreshed in the background and still returned; the caller only waits when
+   * it has already expired. See {@link GithubTokenRefresher}.
    *
    * @param installation the GitHub installation
    * @return the installation with refreshed tokens (if refresh was needed)
    * @throws GithubApiException if token refresh fails
    */
   public GithubInstallation refreshAccessToken(GithubInstallation installation) {
-    // OAuth Apps don't have refresh tokens - their access tokens are long-lived
-    if (installation.getRefreshToken() == null) {
-      log.debug(
-          "Installation {} has no refresh token (OAuth App), skipping refresh",
-          installation.getPublicId());
-      return installation;
-    }
-
-    if (!installation.needsTokenRefresh(TOKEN_REFRESH_THRESHOLD_MINUTES)) {
-      log.debug(
-          "Access token for installation {} is still valid, skipping refresh",
-          installation.getPublicId());
-      return installation;
-    }
-
-    log.info("Refreshing access token for installation {}", installation.getPublicId());
-    TokenResponse tokenResponse =
-        githubApiClient.refreshAccessToken(installation.getRefreshToken());
-
-    return transactionTemplate.execute(
-        status -> {
-          installation.updateTokens(
-              tokenResponse.getAccessToken(),
-              tokenResponse.getAccessTokenExpiresAt(),
-              tokenResponse.getRefreshToken(),
-              tokenResponse.getRefreshTokenExpiresAt());
-
-          return installationRepository.save(installation);
-        });
+    return tokenRefresher.ensureFresh(installation, TOKEN_REFRESH_THRESHOLD_MINUTES);
   }
 
   /**
@@ -180,6 +156,9 @@ public class GithubService {
   /**
    * Lists GitHub repositories for the current user.
    *
+   * <p>Listings are cached and revalidated with GitHub on every call; see {@link
+   * GithubRepositoryListCache}.
+   *
    * @param page the page number (1-indexed)
    * @param perPage the number of repositories per page (max 100)
    * @return the list of repositories with pagination info
@@ -195,7 +174,13 @@ public class GithubService {
         page,
         perPage);
 
-    return githubApiClient.listRepositories(freshInstallation.getAccessToken(), page, perPage);
+    return repositoryListCache.get(
+        freshInstallation.getId(),
+        page,
+        perPage,
+        (etag, lastModified) ->
+            githubApiClient.listRepositoriesIfModified(
+                freshInstallation.getAccessToken(), page, perPage, etag, lastModified));
   }
 
   /**
@@ -247,6 +232,9 @@ public class GithubService {
     transactionTemplate.executeWithoutResult(
         status -> {
           User currentUser = currentUserService.getCurrentUser();
+          installationRepository
+              .findByUserId(currentUser.getId())
+              .ifPresent(installation -> repositoryListCache.evict(installation.getId()));
           installationRepository.deleteByUserId(currentUser.getId());
           log.info("Disconnected GitHub installation for user {}", currentUser.getId());
         });
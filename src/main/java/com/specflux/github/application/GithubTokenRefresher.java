@@ -0,0 +1,263 @@
+package com.specflux.github.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.specflux.github.domain.GithubInstallation;
+import com.specflux.github.domain.GithubInstallationRepository;
+import com.specflux.github.infrastructure.GithubApiClient;
+import com.specflux.github.infrastructure.GithubApiClient.GithubApiException;
+import com.specflux.github.infrastructure.GithubApiClient.TokenResponse;
+import com.specflux.shared.infrastructure.persistence.AdvisoryLocks;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refreshes GitHub access tokens ahead of expiry.
+ *
+ * <p>A scheduled job walks the installations whose tokens expire within the lead time and renews
+ * them in batches, so requests normally find a valid token. The job runs on one instance at a time,
+ * so instances do not redeem the same refresh tokens side by side. A request that does see a token
+ * about to expire keeps using it and triggers a background refresh; it only waits when the token
+ * has already expired.
+ *
+ * <p>Refreshes are single-flight: concurrent refreshes of one installation share the first one's
+ * result. GitHub is called without holding a connection; the new tokens are then saved under a row
+ * lock, and only if the row still holds the refresh token that was redeemed. When another instance
+ * redeemed it first, GitHub rejects the second redemption and the installation is reloaded instead.
+ *
+ * <p>Installations whose refresh token has expired are not retried: the scheduled job skips them,
+ * and requests fail with a prompt to reconnect GitHub once the access token has expired too.
+ */
+@Slf4j
+@Component
+public class GithubTokenRefresher {
+
+  private static final int BATCH_SIZE = 50;
+
+  /** Advisory lock key held while the scheduled refresh runs ("ghTokn"). */
+  private static final long REFRESH_LOCK_KEY = 0x6768_546f_6b6eL;
+
+  private final GithubInstallationRepository installationRepository;
+  private final GithubApiClient githubApiClient;
+  private final TransactionTemplate transactionTemplate;
+  private final AdvisoryLocks advisoryLocks;
+  private final Duration leadTime;
+
+  private final Map<Long, CompletableFuture<GithubInstallation>> inFlight =
+      new ConcurrentHashMap<>();
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  public GithubTokenRefresher(
+      GithubInstallationRepository installationRepository,
+      GithubApiClient githubApiClient,
+      TransactionTemplate transactionTemplate,
+      AdvisoryLocks advisoryLocks,
+      @Value("${github.token-refresh.lead-time:PT15M}") Duration leadTime) {
+    this.installationRepository = installationRepository;
+    this.githubApiClient = githubApiClient;
+    this.transactionTemplate = transactionTemplate;
+    this.advisoryLocks = advisoryLocks;
+    this.leadTime = leadTime;
+  }
+
+  /**
+   * Returns an installation whose access token can be used now.
+   *
+   * @param installation the installation
+   * @param thresholdMinutes minutes before expiry at which a refresh is started
+   * @return the installation, refreshed if its token had already expired
+   */
+  public GithubInstallation ensureFresh(GithubInstallation installation, int thresholdMinutes) {
+    // OAuth Apps don't have refresh tokens - their access tokens are long-lived
+    if (installation.getRefreshToken() == null
+        || !installation.needsTokenRefresh(thresholdMinutes)) {
+      return installation;
+    }
+    if (installation.isRefreshTokenExpired()) {
+      // Nothing to redeem; keep using the access token for as long as it lasts
+      if (installation.getAccessTokenExpiresAt().isAfter(Instant.now())) {
+        return installation;
+      }
+      throw reconnectRequired(installation);
+    }
+    if (installation.getAccessTokenExpiresAt().isAfter(Instant.now())) {
+      refreshInBackground(installation.getId());
+      return installation;
+    }
+    return refresh(installation.getId());
+  }
+
+  /**
+   * Refreshes an installation's tokens, or waits for a refresh already in progress.
+   *
+   * @param installationId the installation id
+   * @return the installation with current tokens
+   */
+  public GithubInstallation refresh(Long installationId) {
+    CompletableFuture<GithubInstallation> flight = new CompletableFuture<>();
+    CompletableFuture<GithubInstallation> existing = inFlight.putIfAbsent(installationId, flight);
+    if (existing != null) {
+      try {
+        return existing.join();
+      } catch (CompletionException e) {
+        throw e.getCause() instanceof RuntimeException cause ? cause : e;
+      }
+    }
+
+    try {
+      GithubInstallation refreshed = redeem(installationId);
+      inFlight.remove(installationId, flight);
+      flight.complete(refreshed);
+      return refreshed;
+    } catch (RuntimeException e) {
+      inFlight.remove(installationId, flight);
+      flight.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  /** Renews the tokens of all installations that expire within the lead time. */
+  @Scheduled(
+      fixedDelayString = "${github.token-refresh.interval:PT1M}",
+      initialDelayString = "${github.token-refresh.interval:PT1M}")
+  public void refreshExpiring() {
+    if (!advisoryLocks.runExclusively(REFRESH_LOCK_KEY, this::refreshExpiringBatches)) {
+      log.debug("[githubTokens] skipped, another instance is refreshing");
+    }
+  }
+
+  private void refreshExpiringBatches() {
+    Instant now = Instant.now();
+    Instant cutoff = now.plus(leadTime);
+    long afterId = 0;
+    int refreshed = 0;
+    int failed = 0;
+    while (true) {
+      List<GithubInstallation> batch =
+          installationRepository.findExpiringBefore(cutoff, now, afterId, Limit.of(BATCH_SIZE));
+      if (batch.isEmpty()) {
+        break;
+      }
+      List<CompletableFuture<GithubInstallation>> refreshes = new ArrayList<>(batch.size());
+      for (GithubInstallation installation : batch) {
+        refreshes.add(CompletableFuture.supplyAsync(() -> refresh(installation.getId()), executor));
+      }
+      for (int i = 0; i < refreshes.size(); i++) {
+        try {
+          refreshes.get(i).join();
+          refreshed++;
+        } catch (CompletionException e) {
+          failed++;
+          log.warn(
+              "[githubTokens] refresh failed for installation {}: {}",
+              batch.get(i).getPublicId(),
+              e.getCause().getMessage());
+        }
+      }
+      afterId = batch.getLast().getId();
+    }
+    if (refreshed + failed > 0) {
+      log.info("[githubTokens] refreshed={} failed={}", refreshed, failed);
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdown();
+  }
+
+  private void refreshInBackground(Long installationId) {
+    if (inFlight.containsKey(installationId)) {
+      return;
+    }
+    executor.execute(
+        () -> {
+          try {
+            refresh(installationId);
+          } catch (RuntimeException e) {
+            log.warn(
+                "[githubTokens] background refresh failed for installation {}: {}",
+                installationId,
+                e.getMessage());
+          }
+        });
+  }
+
+  private GithubInstallation redeem(Long installationId) {
+    GithubInstallation installation = load(installationId);
+    // Another request or instance may have refreshed it since the caller read it
+    if (installation.getRefreshToken() == null
+        || !installation.needsTokenRefresh((int) leadTime.toMinutes())) {
+      return installation;
+    }
+    if (installation.isRefreshTokenExpired()) {
+      throw reconnectRequired(installation);
+    }
+
+    log.info("Refreshing access token for installation {}", installation.getPublicId());
+    String redeemed = installation.getRefreshToken();
+    TokenResponse tokenResponse;
+    try {
+      tokenResponse = githubApiClient.refreshAccessToken(redeemed);
+    } catch (GithubApiException e) {
+      // Refresh tokens are single-use: if another instance redeemed it first, use its result
+      GithubInstallation current = load(installationId);
+      if (!redeemed.equals(current.getRefreshToken())) {
+        return current;
+      }
+      throw e;
+    }
+
+    return transactionTemplate.execute(
+        status -> {
+          GithubInstallation locked =
+              installationRepository
+                  .findByIdForUpdate(installationId)
+                  .orElseThrow(() -> notFound(installationId));
+          // Replaced while GitHub was called, e.g. by a reconnect; keep what is stored
+          if (!redeemed.equals(locked.getRefreshToken())) {
+            return locked;
+          }
+          locked.updateTokens(
+              tokenResponse.getAccessToken(),
+              tokenResponse.getAccessTokenExpiresAt(),
+              tokenResponse.getRefreshToken(),
+              tokenResponse.getRefreshTokenExpiresAt());
+          return installationRepository.save(locked);
+        });
+  }
+
+  private GithubInstallation load(Long installationId) {
+    return installationRepository
+        .findById(installationId)
+        .orElseThrow(() -> notFound(installationId));
+  }
+
+  private static EntityNotFoundException notFound(Long installationId) {
+    return new EntityNotFoundException("GitHub installation not found: " + installationId);
+  }
+
+  private static GithubApiException reconnectRequired(GithubInstallation installation) {
+    return new GithubApiException(
+        "GitHub authorization for "
+            + installation.getGithubUsername()
+            + " has expired; reconnect GitHub to continue");
+  }
+}
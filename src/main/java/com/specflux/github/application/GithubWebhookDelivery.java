@@ -0,0 +1,15 @@
+package com.specflux.github.application;
+
+import java.time.Instant;
+
+/**
+ * A verified GitHub webhook delivery waiting to be processed.
+ *
+ * @param deliveryId the {@code X-GitHub-Delivery} id, unique per delivery
+ * @param event the {@code X-GitHub-Event} name, e.g. {@code pull_request}
+ * @param payload the raw JSON payload
+ * @param receivedAt when the delivery was received
+ * @param replay whether this is a replay of a failed delivery
+ */
+public record GithubWebhookDelivery(
+    String deliveryId, String event, byte[] payload, Instant receivedAt, boolean replay) {}
@@ -0,0 +1,25 @@
+package com.specflux.github.application;
+
+import java.util.List;
+
+/**
+ * Processes GitHub webhook deliveries of one event type. Implementations are picked up from the
+ * application context by {@link GithubWebhookQueue}.
+ */
+public interface GithubWebhookHandler {
+
+  /**
+   * Returns the event this handler processes.
+   *
+   * @return the GitHub event name, e.g. {@code pull_request}
+   */
+  String event();
+
+  /**
+   * Processes a batch of deliveries, in the order they were received.
+   *
+   * @param deliveries the deliveries, all of this handler's event
+   * @throws RuntimeException if the batch could not be processed
+   */
+  void handle(List<GithubWebhookDelivery> deliveries);
+}
@@ -0,0 +1,426 @@
+package com.specflux.github.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.specflux.github.domain.GithubWebhookFailure;
+import com.specflux.github.domain.GithubWebhookFailureRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded in-process queue between the GitHub webhook endpoint and the {@link
+ * GithubWebhookHandler}s.
+ *
+ * <p>Accepting a delivery only checks it against recently seen delivery ids and puts it on the
+ * queue, so GitHub is answered without waiting for the database. When the queue is full the
+ * delivery is rejected and GitHub is told to back off. A small pool of workers drains the queue in
+ * batches, grouped by event. If a batch fails its deliveries are retried one by one, and those that
+ * still fail are stored in {@code github_webhook_failures}.
+ *
+ * <p>On shutdown new deliveries are rejected and the workers get {@code
+ * github.webhook.shutdown-timeout} to empty the queue; deliveries still queued after that are
+ * stored as well, since GitHub was already told they were accepted.
+ *
+ * <p>Stored deliveries are replayed oldest first when an instance starts, and on demand through
+ * {@link #replayStored()} and {@link #replay(String)}. Automatic replays skip a delivery once it
+ * has failed {@code github.webhook.max-attempts} times, so a delivery that can never be processed
+ * stays stored for an operator instead of failing on every start. A replayed delivery counts as
+ * seen, so GitHub redelivering it meanwhile is answered as a duplicate.
+ *
+ * <p>Deliveries are published as {@code specflux.github.webhooks.deliveries}, tagged {@code
+ * accepted}, {@code duplicate}, {@code ignored}, {@code rejected}, {@code processed} or {@code
+ * failed}; queue depth as {@code specflux.github.webhooks.queue.size} and time from receipt to
+ * processing as {@code specflux.github.webhooks.lag}.
+ */
+@Slf4j
+@Component
+public class GithubWebhookQueue {
+
+  private static final int MAX_REMEMBERED_DELIVERIES = 10_000;
+  private static final int REPLAY_PAGE_SIZE = 100;
+
+  /** How long an idle worker waits for a delivery before checking for shutdown. */
+  private static final long POLL_MILLIS = 500;
+
+  /** What happened to an offered delivery. */
+  public enum Outcome {
+    ACCEPTED,
+    DUPLICATE,
+    IGNORED,
+    REJECTED
+  }
+
+  private final Map<String, GithubWebhookHandler> handlers;
+  private final GithubWebhookFailureRepository failureRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final BlockingQueue<GithubWebhookDelivery> queue;
+  private final int workers;
+  private final int batchSize;
+  private final Duration shutdownTimeout;
+  private final int maxAttempts;
+
+  private final Set<String> seen =
+      Collections.newSetFromMap(
+          Collections.synchronizedMap(
+              new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                  return size() > MAX_REMEMBERED_DELIVERIES;
+                }
+              }));
+
+  /** Stored deliveries that are queued for replay and not processed yet. */
+  private final Set<String> replaying = ConcurrentHashMap.newKeySet();
+
+  private final List<Thread> workerThreads = new ArrayList<>();
+  private volatile boolean stopping;
+
+  private final LongAdder accepted = new LongAdder();
+  private final LongAdder duplicate = new LongAdder();
+  private final LongAdder ignored = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder processed = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final Timer lag;
+
+  public GithubWebhookQueue(
+      List<GithubWebhookHandler> handlers,
+      GithubWebhookFailureRepository failureRepository,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${github.webhook.queue-capacity:1000}") int capacity,
+      @Value("${github.webhook.workers:2}") int workers,
+      @Value("${github.webhook.batch-size:100}") int batchSize,
+      @Value("${github.webhook.shutdown-timeout:PT10S}") Duration shutdownTimeout,
+      @Value("${github.webhook.max-attempts:5}") int maxAttempts) {
+    this.handlers =
+        handlers.stream()
+            .collect(Collectors.toMap(GithubWebhookHandler::event, Function.identity()));
+    this.failureRepository = failureRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.workers = workers;
+    this.batchSize = batchSize;
+    this.shutdownTimeout = shutdownTimeout;
+    this.maxAttempts = maxAttempts;
+
+    register(meterRegistry, accepted, "accepted");
+    register(meterRegistry, duplicate, "duplicate");
+    register(meterRegistry, ignored, "ignored");
+    register(meterRegistry, rejected, "rejected");
+    register(meterRegistry, processed, "processed");
+    register(meterRegistry, failed, "failed");
+    Gauge.builder("specflux.github.webhooks.queue.size", queue, BlockingQueue::size)
+        .description("GitHub webhook deliveries waiting to be processed")
+        .register(meterRegistry);
+    Gauge.builder(
+            "specflux.github.webhooks.queue.remaining", queue, BlockingQueue::remainingCapacity)
+        .description("Free slots in the GitHub webhook queue")
+        .register(meterRegistry);
+    this.lag =
+        Timer.builder("specflux.github.webhooks.lag")
+            .description("Time from receiving a GitHub webhook delivery to processing it")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Queues a verified delivery for processing.
+   *
+   * @param deliveryId the {@code X-GitHub-Delivery} id
+   * @param event the {@code X-GitHub-Event} name
+   * @param payload the raw payload
+   * @return whether the delivery was queued, and if not, why
+   */
+  public Outcome offer(String deliveryId, String event, byte[] payload) {
+    if (!handlers.containsKey(event)) {
+      ignored.increment();
+      return Outcome.IGNORED;
+    }
+    if (!seen.add(deliveryId)) {
+      duplicate.increment();
+      return Outcome.DUPLICATE;
+    }
+    boolean queued;
+    // Checked together with the enqueue so that nothing is queued after stop() took the rest
+    synchronized (queue) {
+      queued =
+          !stopping
+              && queue.offer(
+                  new GithubWebhookDelivery(deliveryId, event, payload, Instant.now(), false));
+    }
+    if (!queued) {
+      // Let GitHub's redelivery through once there is room again
+      seen.remove(deliveryId);
+      rejected.increment();
+      return Outcome.REJECTED;
+    }
+    accepted.increment();
+    return Outcome.ACCEPTED;
+  }
+
+  /**
+   * Queues stored deliveries again, oldest first, skipping those that failed {@code
+   * github.webhook.max-attempts} times. Stops once the queue is full; the rest stay stored for the
+   * next replay.
+   *
+   * @return how many deliveries were queued
+   */
+  public int replayStored() {
+    int queued = 0;
+    int skipped = 0;
+    long afterId = 0;
+    List<GithubWebhookFailure> page;
+    do {
+      page =
+          failureRepository.findByAttemptsLessThanAndIdGreaterThanOrderByIdAsc(
+              maxAttempts, afterId, Limit.of(REPLAY_PAGE_SIZE));
+      for (GithubWebhookFailure failure : page) {
+        switch (replay(failure)) {
+          case ACCEPTED -> queued++;
+          case REJECTED -> {
+            log.info("[githubWebhooks] queue full after replaying {} stored deliveries", queued);
+            return queued;
+          }
+          default -> skipped++;
+        }
+        afterId = failure.getId();
+      }
+    } while (page.size() == REPLAY_PAGE_SIZE);
+    if (queued > 0 || skipped > 0) {
+      log.info(
+          "[githubWebhooks] replaying {} stored deliveries, {} already queued", queued, skipped);
+    }
+    return queued;
+  }
+
+  /**
+   * Queues one stored delivery again, however often it failed before.
+   *
+   * @param deliveryId the {@code X-GitHub-Delivery} id
+   * @return whether the delivery was queued, and if not, why; empty if it is not stored
+   */
+  public Optional<Outcome> replay(String deliveryId) {
+    return failureRepository.findByDeliveryId(deliveryId).map(this::replay);
+  }
+
+  private Outcome replay(GithubWebhookFailure failure) {
+    String deliveryId = failure.getDeliveryId();
+    if (!replaying.add(deliveryId)) {
+      return Outcome.DUPLICATE;
+    }
+    // Turns GitHub redelivering the same delivery into a duplicate while the replay is queued
+    seen.add(deliveryId);
+    boolean queued;
+    synchronized (queue) {
+      queued =
+          !stopping
+              && queue.offer(
+                  new GithubWebhookDelivery(
+                      deliveryId,
+                      failure.getEvent(),
+                      failure.getPayload(),
+                      failure.getReceivedAt(),
+                      true));
+    }
+    if (!queued) {
+      replaying.remove(deliveryId);
+      return Outcome.REJECTED;
+    }
+    return Outcome.ACCEPTED;
+  }
+
+  @PostConstruct
+  void start() {
+    for (int i = 0; i < workers; i++) {
+      workerThreads.add(Thread.ofVirtual().name("github-webhook-" + i).start(this::drain));
+    }
+    try {
+      replayStored();
+    } catch (RuntimeException e) {
+      log.error("[githubWebhooks] could not replay stored deliveries", e);
+    }
+  }
+
+  @PreDestroy
+  void stop() {
+    synchronized (queue) {
+      stopping = true;
+    }
+    Instant deadline = Instant.now().plus(shutdownTimeout);
+    try {
+      for (Thread worker : workerThreads) {
+        Duration remaining = Duration.between(Instant.now(), deadline);
+        if (remaining.isPositive()) {
+          worker.join(remaining);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    workerThreads.forEach(Thread::interrupt);
+
+    List<GithubWebhookDelivery> left = new ArrayList<>();
+    queue.drainTo(left);
+    // Replayed deliveries are still stored and keep their attempts
+    left.removeIf(GithubWebhookDelivery::replay);
+    if (!left.isEmpty()) {
+      log.warn("[githubWebhooks] storing {} deliveries not processed before shutdown", left.size());
+      left.forEach(delivery -> store(delivery, "Not processed before shutdown"));
+    }
+  }
+
+  private void drain() {
+    List<GithubWebhookDelivery> batch = new ArrayList<>(batchSize);
+    while (true) {
+      GithubWebhookDelivery first;
+      try {
+        first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      if (first == null) {
+        // Only stop once the queue is empty, so that accepted deliveries are processed
+        if (stopping) {
+          return;
+        }
+        continue;
+      }
+      batch.add(first);
+      queue.drainTo(batch, batchSize - 1);
+      try {
+        process(batch);
+      } catch (RuntimeException e) {
+        log.error("[githubWebhooks] unexpected failure processing a batch", e);
+      }
+      batch.clear();
+    }
+  }
+
+  /** Processes a batch of deliveries, one handler call per event. */
+  void process(List<GithubWebhookDelivery> batch) {
+    Map<String, List<GithubWebhookDelivery>> byEvent =
+        batch.stream()
+            .collect(
+                Collectors.groupingBy(
+                    GithubWebhookDelivery::event, LinkedHashMap::new, Collectors.toList()));
+    byEvent.forEach(
+        (event, deliveries) -> {
+          GithubWebhookHandler handler = handlers.get(event);
+          if (handler == null) {
+            deliveries.forEach(
+                d -> failed(d, new IllegalStateException("No handler for event " + event)));
+            return;
+          }
+          try {
+            handler.handle(deliveries);
+          } catch (RuntimeException e) {
+            if (deliveries.size() == 1) {
+              failed(deliveries.getFirst(), e);
+              return;
+            }
+            log.warn(
+                "[githubWebhooks] batch of {} {} deliveries failed, retrying one by one: {}",
+                deliveries.size(),
+                event,
+                e.getMessage());
+            deliveries.forEach(delivery -> handleAlone(handler, delivery));
+            return;
+          }
+          deliveries.forEach(this::processed);
+        });
+  }
+
+  private void handleAlone(GithubWebhookHandler handler, GithubWebhookDelivery delivery) {
+    try {
+      handler.handle(List.of(delivery));
+    } catch (RuntimeException e) {
+      failed(delivery, e);
+      return;
+    }
+    processed(delivery);
+  }
+
+  private void processed(GithubWebhookDelivery delivery) {
+    processed.increment();
+    if (delivery.replay()) {
+      try {
+        transactionTemplate.executeWithoutResult(
+            _ -> failureRepository.deleteByDeliveryId(delivery.deliveryId()));
+      } catch (RuntimeException e) {
+        log.error(
+            "[githubWebhooks] could not clear replayed delivery {}", delivery.deliveryId(), e);
+      }
+      replaying.remove(delivery.deliveryId());
+    } else {
+      lag.record(Duration.between(delivery.receivedAt(), Instant.now()));
+    }
+  }
+
+  private void failed(GithubWebhookDelivery delivery, RuntimeException cause) {
+    failed.increment();
+    log.warn(
+        "[githubWebhooks] delivery {} ({}) failed: {}",
+        delivery.deliveryId(),
+        delivery.event(),
+        cause.getMessage());
+    store(delivery, String.valueOf(cause.getMessage()));
+    if (delivery.replay()) {
+      replaying.remove(delivery.deliveryId());
+    }
+  }
+
+  private void store(GithubWebhookDelivery delivery, String error) {
+    try {
+      transactionTemplate.executeWithoutResult(
+          _ ->
+              failureRepository
+                  .findByDeliveryId(delivery.deliveryId())
+                  .ifPresentOrElse(
+                      failure -> failure.failedAgain(error),
+                      () ->
+                          failureRepository.save(
+                              new GithubWebhookFailure(
+                                  delivery.deliveryId(),
+                                  delivery.event(),
+                                  delivery.payload(),
+                                  delivery.receivedAt(),
+                                  error))));
+    } catch (RuntimeException e) {
+      log.error("[githubWebhooks] could not store delivery {}", delivery.deliveryId(), e);
+    }
+  }
+
+  private static void register(MeterRegistry registry, LongAdder counter, String result) {
+    FunctionCounter.builder("specflux.github.webhooks.deliveries", counter, LongAdder::sum)
+        .description("GitHub webhook deliveries by outcome")
+        .tag("result", result)
+        .register(registry);
+  }
+}
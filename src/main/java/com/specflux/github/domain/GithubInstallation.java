@@ -115,6 +115,15 @@ public class GithubInstallation extends AggregateRoot<Long> {
     return accessTokenExpiresAt.isBefore(threshold);
   }
 
+  /**
+   * Checks if the refresh token has expired, in which case the user has to reconnect GitHub.
+   *
+   * @return true if the refresh token can no longer be redeemed
+   */
+  public boolean isRefreshTokenExpired() {
+    return refreshTokenExpiresAt != null && !refreshTokenExpiresAt.isAfter(Instant.now());
+  }
+
   /**
    * Updates the OAuth tokens after refresh.
    *
@@ -1,8 +1,16 @@
 package com.specflux.github.domain;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
 
 /** Repository for GithubInstallation aggregate root. */
 public interface GithubInstallationRepository extends JpaRepository<GithubInstallation, Long> {
@@ -13,6 +21,29 @@ public interface GithubInstallationRepository extends JpaRepository<GithubInstal
 
   Optional<GithubInstallation> findByInstallationId(Long installationId);
 
+  /**
+   * Loads an installation and locks its row until the surrounding transaction ends. Used to save
+   * refreshed tokens only if the row still holds the refresh token that was redeemed.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT i FROM GithubInstallation i WHERE i.id = :id")
+  Optional<GithubInstallation> findByIdForUpdate(@Param("id") Long id);
+
+  /**
+   * Finds refreshable installations whose access token expires before the cutoff, ordered by id and
+   * starting after the given id, so callers can walk them in batches. Installations whose refresh
+   * token has expired by {@code now} are left out; they need to be reconnected.
+   */
+  @Query(
+      "SELECT i FROM GithubInstallation i WHERE i.refreshToken IS NOT NULL"
+          + " AND (i.refreshTokenExpiresAt IS NULL OR i.refreshTokenExpiresAt > :now)"
+          + " AND i.accessTokenExpiresAt < :cutoff AND i.id > :afterId ORDER BY i.id")
+  List<GithubInstallation> findExpiringBefore(
+      @Param("cutoff") Instant cutoff,
+      @Param("now") Instant now,
+      @Param("afterId") Long afterId,
+      Limit limit);
+
   boolean existsByUserId(Long userId);
 
   void deleteByUserId(Long userId);
@@ -0,0 +1,83 @@
+package com.specflux.github.domain;
+
+import java.time.Instant;
+
+import com.specflux.shared.domain.AggregateRoot;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * A GitHub webhook delivery whose processing failed.
+ *
+ * <p>Keeps the raw payload so the delivery can be replayed once the cause is fixed.
+ */
+@Entity
+@Table(name = "github_webhook_failures")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GithubWebhookFailure extends AggregateRoot<Long> {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "delivery_id", nullable = false, unique = true, length = 64)
+  private String deliveryId;
+
+  @Column(nullable = false, length = 64)
+  private String event;
+
+  @Column(nullable = false)
+  private byte[] payload;
+
+  @Column(columnDefinition = "TEXT")
+  private String error;
+
+  @Column(nullable = false)
+  private Integer attempts;
+
+  @Column(name = "received_at", nullable = false)
+  private Instant receivedAt;
+
+  @Column(name = "failed_at", nullable = false)
+  private Instant failedAt;
+
+  /**
+   * Records a failed delivery.
+   *
+   * @param deliveryId the GitHub delivery id
+   * @param event the GitHub event name
+   * @param payload the raw payload
+   * @param receivedAt when the delivery was received
+   * @param error why processing failed
+   */
+  public GithubWebhookFailure(
+      String deliveryId, String event, byte[] payload, Instant receivedAt, String error) {
+    this.deliveryId = deliveryId;
+    this.event = event;
+    this.payload = payload;
+    this.receivedAt = receivedAt;
+    this.error = error;
+    this.attempts = 1;
+    this.failedAt = Instant.now();
+  }
+
+  /**
+   * Records that processing failed again, e.g. after a replay.
+   *
+   * @param error why processing failed
+   */
+  public void failedAgain(String error) {
+    this.error = error;
+    this.attempts++;
+    this.failedAt = Instant.now();
+  }
+}
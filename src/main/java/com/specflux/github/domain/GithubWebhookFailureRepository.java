@@ -0,0 +1,22 @@
+package com.specflux.github.domain;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/** Repository for failed GitHub webhook deliveries. */
+public interface GithubWebhookFailureRepository extends JpaRepository<GithubWebhookFailure, Long> {
+
+  Optional<GithubWebhookFailure> findByDeliveryId(String deliveryId);
+
+  /** Returns the oldest failures first. */
+  List<GithubWebhookFailure> findAllByOrderByIdAsc(Limit limit);
+
+  /** Returns failures with fewer attempts than given, stored after the given id, oldest first. */
+  List<GithubWebhookFailure> findByAttemptsLessThanAndIdGreaterThanOrderByIdAsc(
+      int attempts, long id, Limit limit);
+
+  void deleteByDeliveryId(String deliveryId);
+}
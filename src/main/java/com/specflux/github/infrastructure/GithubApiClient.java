@@ -27,18 +27,18 @@ import lombok.RequiredArgsConstructor;
 /**
  * REST client for GitHub API calls.
  *
- * <p>Handles OAuth token exchange, token refresh, and repository creation.
+ * <p>Handles OAuth token exchange, token refresh, and repository creation. Calls go through the
+ * pooled, timeout-bounded client from {@link GithubHttpConfig}.
  */
 @Component
 @RequiredArgsConstructor
 public class GithubApiClient {
 
   private static final Logger log = LoggerFactory.getLogger(GithubApiClient.class);
-  private static final String GITHUB_API_BASE = "https://api.github.com";
   private static final String GITHUB_OAUTH_BASE = "https://github.com/login/oauth";
 
   private final GithubAppConfig config;
-  private final RestTemplate restTemplate = new RestTemplate();
+  private final RestTemplate restTemplate;
 
   /**
    * Exchanges an OAuth authorization code for access and refresh tokens.
@@ -137,7 +137,7 @@ public class GithubApiClient {
    * @throws GithubApiException if the request fails
    */
   public UserProfile getAuthenticatedUser(String accessToken) {
-    String url = GITHUB_API_BASE + "/user";
+    String url = config.getApiUrl() + "/user";
 
     HttpHeaders headers = new HttpHeaders();
     headers.set("Authorization", "Bearer " + accessToken);
@@ -174,7 +174,7 @@ public class GithubApiClient {
    */
   public Repository createRepository(
       String accessToken, String name, String description, boolean isPrivate) {
-    String url = GITHUB_API_BASE + "/user/repos";
+    String url = config.getApiUrl() + "/user/repos";
 
     HttpHeaders headers = new HttpHeaders();
     headers.set("Authorization", "Bearer " + accessToken);
@@ -230,8 +230,25 @@ public class GithubApiClient {
    * @throws GithubApiException if the request fails
    */
   public RepositoryListResponse listRepositories(String accessToken, int page, int perPage) {
+    return listRepositoriesIfModified(accessToken, page, perPage, null, null).getResponse();
+  }
+
+  /**
+   * Lists repositories for the authenticated user unless they are unchanged since an earlier
+   * listing. GitHub does not count a 304 response against the rate limit.
+   *
+   * @param accessToken the access token
+   * @param page the page number (1-indexed)
+   * @param perPage the number of repositories per page (max 100)
+   * @param etag the ETag of the earlier listing, or null
+   * @param lastModified the Last-Modified value of the earlier listing, or null
+   * @return the listing, or a not-modified result if the earlier listing is still current
+   * @throws GithubApiException if the request fails
+   */
+  public ConditionalRepositoryList listRepositoriesIfModified(
+      String accessToken, int page, int perPage, String etag, String lastModified) {
     String url =
-        UriComponentsBuilder.fromUriString(GITHUB_API_BASE + "/user/repos")
+        UriComponentsBuilder.fromUriString(config.getApiUrl() + "/user/repos")
             .queryParam("visibility", "all")
             .queryParam("affiliation", "owner")
             .queryParam("sort", "updated")
@@ -244,6 +261,12 @@ public class GithubApiClient {
     HttpHeaders headers = new HttpHeaders();
     headers.set("Authorization", "Bearer " + accessToken);
     headers.set("Accept", "application/vnd.github+json");
+    if (etag != null) {
+      headers.set(HttpHeaders.IF_NONE_MATCH, etag);
+    }
+    if (lastModified != null) {
+      headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+    }
 
     HttpEntity<?> request = new HttpEntity<>(headers);
 
@@ -253,6 +276,10 @@ public class GithubApiClient {
           restTemplate.exchange(
               url, HttpMethod.GET, request, new ParameterizedTypeReference<List<Repository>>() {});
 
+      if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+        log.debug("GitHub repositories unchanged, page={}, perPage={}", page, perPage);
+        return new ConditionalRepositoryList(null, etag, lastModified);
+      }
       if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
         throw new GithubApiException("Failed to list repositories");
       }
@@ -264,7 +291,10 @@ public class GithubApiClient {
       String linkHeader = response.getHeaders().getFirst("Link");
       int totalCount = estimateTotalCount(repos.size(), page, perPage, linkHeader);
 
-      return new RepositoryListResponse(repos, totalCount, page, perPage);
+      return new ConditionalRepositoryList(
+          new RepositoryListResponse(repos, totalCount, page, perPage),
+          response.getHeaders().getETag(),
+          response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED));
     } catch (HttpClientErrorException e) {
       log.error("GitHub repository list failed: {}", e.getMessage());
       throw new GithubApiException("Failed to list repositories: " + e.getMessage(), e);
@@ -280,7 +310,7 @@ public class GithubApiClient {
    * @return true if the repository exists and is accessible, false otherwise
    */
   public boolean repositoryExists(String accessToken, String owner, String repo) {
-    String url = GITHUB_API_BASE + "/repos/" + owner + "/" + repo;
+    String url = config.getApiUrl() + "/repos/" + owner + "/" + repo;
 
     HttpHeaders headers = new HttpHeaders();
     headers.set("Authorization", "Bearer " + accessToken);
@@ -304,6 +334,63 @@ public class GithubApiClient {
     }
   }
 
+  /**
+   * Lists the pull requests of a repository, most recently updated first, unless the page is
+   * unchanged since an earlier listing. GitHub does not count a 304 response against the rate
+   * limit.
+   *
+   * @param accessToken the access token
+   * @param owner the repository owner (username or organization)
+   * @param repo the repository name
+   * @param page the page number (1-indexed)
+   * @param perPage the number of pull requests per page (max 100)
+   * @param etag the ETag of the earlier listing, or null
+   * @return the pull requests, or a not-modified result if the earlier listing is still current
+   * @throws GithubApiException if the request fails
+   */
+  public ConditionalPullRequestList listPullRequestsIfModified(
+      String accessToken, String owner, String repo, int page, int perPage, String etag) {
+    String url =
+        UriComponentsBuilder.fromUriString(config.getApiUrl() + "/repos/{owner}/{repo}/pulls")
+            .queryParam("state", "all")
+            .queryParam("sort", "updated")
+            .queryParam("direction", "desc")
+            .queryParam("page", page)
+            .queryParam("per_page", perPage)
+            .buildAndExpand(owner, repo)
+            .toUriString();
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.set("Authorization", "Bearer " + accessToken);
+    headers.set("Accept", "application/vnd.github+json");
+    if (etag != null) {
+      headers.set(HttpHeaders.IF_NONE_MATCH, etag);
+    }
+
+    HttpEntity<?> request = new HttpEntity<>(headers);
+
+    try {
+      log.debug("Listing pull requests of {}/{}, page={}", owner, repo, page);
+      ResponseEntity<List<PullRequest>> response =
+          restTemplate.exchange(
+              url, HttpMethod.GET, request, new ParameterizedTypeReference<List<PullRequest>>() {});
+
+      String remaining = response.getHeaders().getFirst("x-ratelimit-remaining");
+      Integer rateLimitRemaining = remaining != null ? Integer.valueOf(remaining) : null;
+      if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+        return new ConditionalPullRequestList(null, etag, rateLimitRemaining);
+      }
+      if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+        throw new GithubApiException("Failed to list pull requests");
+      }
+      return new ConditionalPullRequestList(
+          response.getBody(), response.getHeaders().getETag(), rateLimitRemaining);
+    } catch (HttpClientErrorException e) {
+      log.error("GitHub pull request list failed for {}/{}: {}", owner, repo, e.getMessage());
+      throw new GithubApiException("Failed to list pull requests: " + e.getMessage(), e);
+    }
+  }
+
   /** Estimates total count based on Link header or current page size. */
   private int estimateTotalCount(int currentSize, int page, int perPage, String linkHeader) {
     // If we got fewer than perPage, this is likely the last page
@@ -430,4 +517,61 @@ public class GithubApiClient {
       this.perPage = perPage;
     }
   }
+
+  /** Result of a conditional repository listing. */
+  @Data
+  public static class ConditionalRepositoryList {
+    /** The listing, or null if it has not changed since the given validators were issued. */
+    private final RepositoryListResponse response;
+
+    private final String etag;
+    private final String lastModified;
+
+    public boolean isNotModified() {
+      return response == null;
+    }
+  }
+
+  /** GitHub pull request, as listed for a repository or sent with a webhook. */
+  @Data
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class PullRequest {
+    private int number;
+
+    /** Either {@code open} or {@code closed}; merged pull requests are closed. */
+    private String state;
+
+    @JsonProperty("html_url")
+    private String htmlUrl;
+
+    @JsonProperty("merged_at")
+    private String mergedAt;
+
+    @JsonProperty("updated_at")
+    private String updatedAt;
+
+    public boolean isMerged() {
+      return mergedAt != null;
+    }
+
+    public boolean isOpen() {
+      return "open".equals(state);
+    }
+  }
+
+  /** Result of a conditional pull request listing. */
+  @Data
+  public static class ConditionalPullRequestList {
+    /** The pull requests, or null if they have not changed since the given ETag was issued. */
+    private final List<PullRequest> pullRequests;
+
+    private final String etag;
+
+    /** Requests left in the token's rate limit window, if GitHub reported it. */
+    private final Integer rateLimitRemaining;
+
+    public boolean isNotModified() {
+      return pullRequests == null;
+    }
+  }
 }
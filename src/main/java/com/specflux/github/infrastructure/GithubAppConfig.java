@@ -70,6 +70,10 @@ public class GithubAppConfig {
   @Value("${github.redirect-uri:}")
   private String redirectUri;
 
+  /** Base URL of the GitHub REST API; pointed at a local stub in tests. */
+  @Value("${github.api-url:https://api.github.com}")
+  private String apiUrl;
+
   @PostConstruct
   public void validate() {
     boolean hasOAuth = isOAuthConfigured();
@@ -0,0 +1,276 @@
+package com.specflux.github.infrastructure;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.specflux.github.infrastructure.GithubApiClient.GithubApiException;
+
+/**
+ * Bounds and retries outgoing GitHub calls.
+ *
+ * <ul>
+ *   <li><b>Bulkhead</b>: at most {@code maxConcurrentCalls} requests are in flight; further calls
+ *       wait for a slot until their deadline and then fail. A slot is held until the response is
+ *       closed, i.e. until its body has been read.
+ *   <li><b>Deadline</b>: a call, including all of its retries, gives up after {@code callTimeout}.
+ *       The request factory caps each attempt's read timeout at the time left, see {@link
+ *       #attemptTimeout(Duration)}.
+ *   <li><b>Retry</b>: GET and HEAD requests are retried on 5xx responses and I/O errors, and every
+ *       request is retried when GitHub rate limits it, since rate-limited requests are not
+ *       processed. Retries wait for {@code Retry-After} or the rate limit reset when GitHub sends
+ *       one, and otherwise back off exponentially with full jitter.
+ * </ul>
+ *
+ * <p>When the bulkhead or deadline stops a call, or I/O errors persist, a {@link
+ * GithubApiException} is thrown. A final error response is returned to the caller unchanged.
+ */
+public class GithubCallPolicy implements ClientHttpRequestInterceptor {
+
+  private static final Logger log = LoggerFactory.getLogger(GithubCallPolicy.class);
+
+  /** Deadline of the call in progress on this thread, read when each attempt is created. */
+  private static final ThreadLocal<Instant> CALL_DEADLINE = new ThreadLocal<>();
+
+  private final Semaphore slots;
+  private final int maxAttempts;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+  private final Duration callTimeout;
+  private final Clock clock = Clock.systemUTC();
+
+  /**
+   * Creates a policy.
+   *
+   * @param maxConcurrentCalls requests that may be in flight at once
+   * @param maxAttempts attempts per call, including the first
+   * @param initialBackoff upper bound of the first retry delay
+   * @param maxBackoff upper bound of any backoff delay
+   * @param callTimeout deadline for a call including all retries
+   */
+  public GithubCallPolicy(
+      int maxConcurrentCalls,
+      int maxAttempts,
+      Duration initialBackoff,
+      Duration maxBackoff,
+      Duration callTimeout) {
+    this.slots = new Semaphore(maxConcurrentCalls, true);
+    this.maxAttempts = maxAttempts;
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = maxBackoff;
+    this.callTimeout = callTimeout;
+  }
+
+  @Override
+  public ClientHttpResponse intercept(
+      HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+    Instant deadline = clock.instant().plus(callTimeout);
+    CALL_DEADLINE.set(deadline);
+    try {
+      return execute(request, body, execution, deadline);
+    } finally {
+      CALL_DEADLINE.remove();
+    }
+  }
+
+  /**
+   * Returns the read timeout for an attempt of the call in progress on this thread: the configured
+   * timeout, capped at the time left until the call's deadline.
+   *
+   * @param readTimeout the configured read timeout
+   * @return the timeout to apply to the attempt
+   */
+  Duration attemptTimeout(Duration readTimeout) {
+    Instant deadline = CALL_DEADLINE.get();
+    if (deadline == null) {
+      return readTimeout;
+    }
+    Duration remaining = Duration.between(clock.instant(), deadline);
+    if (remaining.compareTo(readTimeout) >= 0) {
+      return readTimeout;
+    }
+    // A zero timeout means "none" to the JDK client, so time out almost at once instead
+    return remaining.toMillis() > 0 ? remaining : Duration.ofMillis(1);
+  }
+
+  private ClientHttpResponse execute(
+      HttpRequest request, byte[] body, ClientHttpRequestExecution execution, Instant deadline)
+      throws IOException {
+    boolean idempotent =
+        request.getMethod() == HttpMethod.GET || request.getMethod() == HttpMethod.HEAD;
+
+    for (int attempt = 1; ; attempt++) {
+      acquireSlot(request, deadline);
+      ClientHttpResponse response;
+      try {
+        response = new SlotReleasingResponse(execution.execute(request, body));
+      } catch (IOException e) {
+        slots.release();
+        Duration delay = backoff(attempt);
+        if (!idempotent || !canRetry(attempt, delay, deadline)) {
+          throw new GithubApiException(
+              "GitHub request failed: " + request.getMethod() + " " + request.getURI(), e);
+        }
+        log.debug("Retrying GitHub request {} after I/O error: {}", request.getURI(), e.toString());
+        sleep(delay);
+        continue;
+      } catch (RuntimeException e) {
+        slots.release();
+        throw e;
+      }
+
+      Duration delay;
+      try {
+        delay = retryDelay(response, idempotent, attempt);
+      } catch (IOException | RuntimeException e) {
+        response.close();
+        throw e;
+      }
+      if (delay == null || !canRetry(attempt, delay, deadline)) {
+        return response;
+      }
+      log.debug(
+          "Retrying GitHub request {} after status {} in {}ms",
+          request.getURI(),
+          response.getStatusCode().value(),
+          delay.toMillis());
+      response.close();
+      sleep(delay);
+    }
+  }
+
+  /** Returns how long to wait before retrying, or null if the response must not be retried. */
+  private Duration retryDelay(ClientHttpResponse response, boolean idempotent, int attempt)
+      throws IOException {
+    HttpStatusCode status = response.getStatusCode();
+    if (status.value() == 403 || status.value() == 429) {
+      Duration rateLimitWait = rateLimitWait(response);
+      if (rateLimitWait != null) {
+        return rateLimitWait;
+      }
+      return status.value() == 429 ? backoff(attempt) : null;
+    }
+    if (status.is5xxServerError() && idempotent) {
+      return backoff(attempt);
+    }
+    return null;
+  }
+
+  /**
+   * Reads how long GitHub asks us to wait from {@code Retry-After} (secondary rate limits) or
+   * {@code x-ratelimit-reset} (primary rate limit exhausted). Returns null if neither applies.
+   */
+  private Duration rateLimitWait(ClientHttpResponse response) {
+    String retryAfter = response.getHeaders().getFirst("Retry-After");
+    if (retryAfter != null) {
+      try {
+        return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+    String remaining = response.getHeaders().getFirst("x-ratelimit-remaining");
+    String reset = response.getHeaders().getFirst("x-ratelimit-reset");
+    if ("0".equals(remaining) && reset != null) {
+      try {
+        Instant resetAt = Instant.ofEpochSecond(Long.parseLong(reset));
+        Duration wait = Duration.between(clock.instant(), resetAt);
+        return wait.isNegative() ? Duration.ZERO : wait;
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  /** Exponential backoff with full jitter: a random delay up to initial * 2^(attempt-1). */
+  private Duration backoff(int attempt) {
+    long cap =
+        Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 20));
+    return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1));
+  }
+
+  private boolean canRetry(int attempt, Duration delay, Instant deadline) {
+    return attempt < maxAttempts && clock.instant().plus(delay).isBefore(deadline);
+  }
+
+  private void acquireSlot(HttpRequest request, Instant deadline) {
+    long waitMillis = Math.max(0, Duration.between(clock.instant(), deadline).toMillis());
+    try {
+      if (!slots.tryAcquire(waitMillis, TimeUnit.MILLISECONDS)) {
+        throw new GithubApiException(
+            "Too many concurrent GitHub requests; gave up on " + request.getURI());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GithubApiException("Interrupted waiting to call GitHub", e);
+    }
+  }
+
+  private static void sleep(Duration delay) {
+    try {
+      Thread.sleep(delay);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GithubApiException("Interrupted while retrying a GitHub request", e);
+    }
+  }
+
+  /** Returns the bulkhead slot once the caller has closed the response. */
+  private final class SlotReleasingResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    SlotReleasingResponse(ClientHttpResponse delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      return delegate.getBody();
+    }
+
+    @Override
+    public void close() {
+      try {
+        delegate.close();
+      } finally {
+        if (released.compareAndSet(false, true)) {
+          slots.release();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.specflux.github.infrastructure;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * HTTP client for GitHub API calls.
+ *
+ * <p>Uses the JDK {@link HttpClient}, which keeps connections alive and pools them per host and
+ * negotiates HTTP/2 with GitHub. Each request is bounded by connect and read timeouts, the latter
+ * capped at the time left until the call's deadline, and each call by the {@link GithubCallPolicy}
+ * bulkhead, deadline and retries.
+ */
+@Configuration
+public class GithubHttpConfig {
+
+  @Bean
+  RestTemplate githubRestTemplate(
+      @Value("${github.http.connect-timeout:PT5S}") Duration connectTimeout,
+      @Value("${github.http.read-timeout:PT10S}") Duration readTimeout,
+      @Value("${github.http.call-timeout:PT20S}") Duration callTimeout,
+      @Value("${github.http.max-concurrent-calls:32}") int maxConcurrentCalls,
+      @Value("${github.http.max-attempts:3}") int maxAttempts) {
+    return restTemplate(
+        connectTimeout,
+        readTimeout,
+        new GithubCallPolicy(
+            maxConcurrentCalls,
+            maxAttempts,
+            Duration.ofMillis(200),
+            Duration.ofSeconds(5),
+            callTimeout));
+  }
+
+  static RestTemplate restTemplate(
+      Duration connectTimeout, Duration readTimeout, GithubCallPolicy policy) {
+    HttpClient httpClient =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(connectTimeout)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    // Interceptors create the underlying request per attempt, so each one gets its own timeout
+    ClientHttpRequestFactory requestFactory =
+        (uri, method) -> {
+          JdkClientHttpRequestFactory attempt = new JdkClientHttpRequestFactory(httpClient);
+          attempt.setReadTimeout(policy.attemptTimeout(readTimeout));
+          return attempt.createRequest(uri, method);
+        };
+
+    RestTemplate restTemplate = new RestTemplate(requestFactory);
+    restTemplate.getInterceptors().add(policy);
+    return restTemplate;
+  }
+}
@@ -0,0 +1,71 @@
+package com.specflux.github.infrastructure;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Verifies the {@code X-Hub-Signature-256} header GitHub signs webhook deliveries with.
+ *
+ * <p>The signature is an HMAC-SHA256 of the raw request body keyed with the webhook secret. When no
+ * secret is configured every delivery is rejected.
+ */
+@Component
+public class GithubWebhookVerifier {
+
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final String PREFIX = "sha256=";
+
+  private final SecretKeySpec key;
+
+  public GithubWebhookVerifier(@Value("${github.webhook.secret:}") String secret) {
+    this.key =
+        secret == null || secret.isBlank()
+            ? null
+            : new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+  }
+
+  /**
+   * Checks a delivery's signature.
+   *
+   * @param payload the raw request body
+   * @param signature the {@code X-Hub-Signature-256} header, or null if absent
+   * @return true if the signature matches the payload
+   */
+  public boolean isValid(byte[] payload, String signature) {
+    if (key == null || signature == null || !signature.startsWith(PREFIX)) {
+      return false;
+    }
+    byte[] expected;
+    try {
+      expected = HexFormat.of().parseHex(signature.substring(PREFIX.length()));
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+    return MessageDigest.isEqual(sign(payload), expected);
+  }
+
+  /**
+   * Signs a payload the way GitHub does.
+   *
+   * @param payload the payload
+   * @return the HMAC-SHA256 of the payload
+   */
+  byte[] sign(byte[] payload) {
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(key);
+      return mac.doFinal(payload);
+    } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+      throw new IllegalStateException("Cannot compute webhook signature", e);
+    }
+  }
+}
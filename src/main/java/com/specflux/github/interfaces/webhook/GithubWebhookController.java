@@ -0,0 +1,60 @@
+package com.specflux.github.interfaces.webhook;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.specflux.github.application.GithubWebhookQueue;
+import com.specflux.github.infrastructure.GithubWebhookVerifier;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Receives GitHub webhook deliveries.
+ *
+ * <p>Not part of the generated API, so it lives outside {@code interfaces.rest}: the signature has
+ * to be checked against the raw body, so the body is taken as bytes. A delivery is only verified
+ * and queued here; processing happens on the {@link GithubWebhookQueue} workers.
+ */
+@RestController
+@RequiredArgsConstructor
+public class GithubWebhookController {
+
+  private static final Logger log = LoggerFactory.getLogger(GithubWebhookController.class);
+
+  /** Seconds GitHub (or whoever redelivers) should wait when the queue is full. */
+  private static final String RETRY_AFTER_SECONDS = "30";
+
+  private final GithubWebhookVerifier verifier;
+  private final GithubWebhookQueue queue;
+
+  /**
+   * Accepts a webhook delivery. Answers 202 when it was queued, 204 when it is a duplicate or an
+   * event nobody handles, 401 when the signature does not match and 503 when the queue is full.
+   */
+  @PostMapping("/api/github/webhooks")
+  public ResponseEntity<Void> receive(
+      @RequestHeader("X-GitHub-Event") String event,
+      @RequestHeader("X-GitHub-Delivery") String deliveryId,
+      @RequestHeader(value = "X-Hub-Signature-256", required = false) String signature,
+      @RequestBody byte[] payload) {
+    if (!verifier.isValid(payload, signature)) {
+      log.warn("Rejected GitHub webhook delivery {} with an invalid signature", deliveryId);
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+    return switch (queue.offer(deliveryId, event, payload)) {
+      case ACCEPTED -> ResponseEntity.accepted().build();
+      case DUPLICATE, IGNORED -> ResponseEntity.noContent().build();
+      case REJECTED ->
+          ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+              .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+              .build();
+    };
+  }
+}
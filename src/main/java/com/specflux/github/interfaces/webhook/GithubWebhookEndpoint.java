@@ -0,0 +1,91 @@
+package com.specflux.github.interfaces.webhook;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.specflux.github.application.GithubWebhookQueue;
+import com.specflux.github.domain.GithubWebhookFailure;
+import com.specflux.github.domain.GithubWebhookFailureRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Actuator endpoint for operators to inspect and replay stored GitHub webhook deliveries.
+ *
+ * <p>Not exposed over HTTP until {@code githubwebhooks} is added to {@code
+ * management.endpoints.web.exposure.include}, and then only to the operators allowed by {@link
+ * com.specflux.shared.infrastructure.security.OperatorAccess}.
+ */
+@Component
+@Endpoint(id = "githubwebhooks")
+@RequiredArgsConstructor
+public class GithubWebhookEndpoint {
+
+  private static final int MAX_LISTED = 100;
+
+  private final GithubWebhookQueue queue;
+  private final GithubWebhookFailureRepository failureRepository;
+
+  /** Lists the oldest stored deliveries. */
+  @ReadOperation
+  public List<StoredDelivery> stored() {
+    return failureRepository.findAllByOrderByIdAsc(Limit.of(MAX_LISTED)).stream()
+        .map(StoredDelivery::of)
+        .toList();
+  }
+
+  /** Queues the stored deliveries that have attempts left. */
+  @WriteOperation
+  public ReplayResult replayStored() {
+    return new ReplayResult(queue.replayStored());
+  }
+
+  /**
+   * Queues one stored delivery, however often it failed. The result is {@code accepted}, {@code
+   * duplicate} when it is already queued, {@code rejected} when the queue is full, or {@code
+   * not_stored}.
+   */
+  @WriteOperation
+  public DeliveryReplayResult replay(@Selector String deliveryId) {
+    String result =
+        queue
+            .replay(deliveryId)
+            .map(outcome -> outcome.name().toLowerCase(Locale.ROOT))
+            .orElse("not_stored");
+    return new DeliveryReplayResult(deliveryId, result);
+  }
+
+  /** A stored delivery, without its payload. */
+  public record StoredDelivery(
+      String deliveryId,
+      String event,
+      int attempts,
+      String error,
+      Instant receivedAt,
+      Instant failedAt) {
+
+    static StoredDelivery of(GithubWebhookFailure failure) {
+      return new StoredDelivery(
+          failure.getDeliveryId(),
+          failure.getEvent(),
+          failure.getAttempts(),
+          failure.getError(),
+          failure.getReceivedAt(),
+          failure.getFailedAt());
+    }
+  }
+
+  /** How many stored deliveries were queued. */
+  public record ReplayResult(int queued) {}
+
+  /** What happened to a delivery an operator replayed. */
+  public record DeliveryReplayResult(String deliveryId, String result) {}
+}
@@ -22,6 +22,7 @@ import com.specflux.epic.domain.Epic;
 import com.specflux.epic.domain.EpicDependency;
 import com.specflux.epic.domain.EpicDependencyRepository;
 import com.specflux.epic.domain.EpicRepository;
+import com.specflux.project.application.ProjectSequenceAllocator;
 import com.specflux.project.domain.Project;
 import com.specflux.project.domain.ProjectMember;
 import com.specflux.project.domain.ProjectMemberRepository;
@@ -44,6 +45,7 @@ public class MigrationService {
   private static final Logger log = LoggerFactory.getLogger(MigrationService.class);
 
   private final ProjectRepository projectRepository;
+  private final ProjectSequenceAllocator projectSequenceAllocator;
   private final ProjectMemberRepository projectMemberRepository;
   private final EpicRepository epicRepository;
   private final EpicDependencyRepository epicDependencyRepository;
@@ -203,7 +205,7 @@ public class MigrationService {
           continue;
         }
 
-        int seqNum = project.nextEpicSequence();
+        int seqNum = projectSequenceAllocator.nextEpicSequence(project);
         String displayKey = project.getProjectKey() + "-E" + seqNum;
         String publicId = generatePublicId("epic");
 
@@ -222,7 +224,6 @@ public class MigrationService {
         }
 
         Epic saved = epicRepository.save(epic);
-        projectRepository.save(project); // Save updated sequence
 
         epicMap.put(v1Id, saved);
         count++;
@@ -259,7 +260,7 @@ public class MigrationService {
           continue;
         }
 
-        int seqNum = project.nextTaskSequence();
+        int seqNum = projectSequenceAllocator.nextTaskSequence(project);
         String displayKey = project.getProjectKey() + "-T" + seqNum;
         String publicId = generatePublicId("task");
 
@@ -280,7 +281,6 @@ public class MigrationService {
         }
 
         Task saved = taskRepository.save(task);
-        projectRepository.save(project); // Save updated sequence
 
         taskMap.put(v1Id, saved);
         count++;
@@ -1,19 +1,14 @@
 package com.specflux.prd.application;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
-import java.util.Comparator;
-import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.jpa.domain.PredicateSpecification;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.specflux.api.generated.model.AddPrdDocumentRequestDto;
 import com.specflux.api.generated.model.CreatePrdRequestDto;
-import com.specflux.api.generated.model.CursorPaginationDto;
 import com.specflux.api.generated.model.PrdDto;
 import com.specflux.api.generated.model.PrdListResponseDto;
 import com.specflux.api.generated.model.PrdStatusDto;
@@ -24,9 +19,13 @@ import com.specflux.prd.domain.PrdDocument;
 import com.specflux.prd.domain.PrdDocumentRepository;
 import com.specflux.prd.domain.PrdDocumentType;
 import com.specflux.prd.domain.PrdRepository;
+import com.specflux.prd.domain.PrdSpecifications;
 import com.specflux.prd.interfaces.rest.PrdMapper;
+import com.specflux.project.application.ProjectSequenceAllocator;
 import com.specflux.project.domain.Project;
 import com.specflux.shared.application.CurrentUserService;
+import com.specflux.shared.application.KeysetPage;
+import com.specflux.shared.application.KeysetPaginator;
 import com.specflux.shared.application.UpdateHelper;
 import com.specflux.shared.interfaces.rest.RefResolver;
 import com.specflux.user.domain.User;
@@ -44,10 +43,11 @@ public class PrdApplicationService {
   private final PrdRepository prdRepository;
   private final PrdDocumentRepository prdDocumentRepository;
   private final RefResolver refResolver;
+  private final ProjectSequenceAllocator projectSequenceAllocator;
   private final CurrentUserService currentUserService;
   private final TransactionTemplate transactionTemplate;
   private final PrdMapper prdMapper;
-  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final KeysetPaginator keysetPaginator;
 
   /**
    * Creates a new PRD in a project.
@@ -63,7 +63,7 @@ public class PrdApplicationService {
           User currentUser = currentUserService.getCurrentUser();
 
           String publicId = generatePublicId("prd");
-          int sequenceNumber = getNextSequenceNumber(project);
+          int sequenceNumber = projectSequenceAllocator.nextPrdSequence(project);
           String displayKey = project.getProjectKey() + "-P" + sequenceNumber;
 
           // Generate folder path from title if not provided
@@ -98,8 +98,7 @@ public class PrdApplicationService {
    * @return the PRD DTO
    */
   public PrdDto getPrd(String projectRef, String prdRef) {
-    Project project = refResolver.resolveProject(projectRef);
-    Prd prd = resolvePrd(project, prdRef);
+    Prd prd = refResolver.resolvePrd(projectRef, prdRef);
     return prdMapper.toDto(prd);
   }
 
@@ -112,8 +111,7 @@ public class PrdApplicationService {
    * @return the updated PRD DTO
    */
   public PrdDto updatePrd(String projectRef, String prdRef, UpdatePrdRequestDto request) {
-    Project project = refResolver.resolveProject(projectRef);
-    Prd prd = resolvePrd(project, prdRef);
+    Prd prd = refResolver.resolvePrd(projectRef, prdRef);
 
     UpdateHelper.applyValue(request.getTitle(), prd::setTitle);
     UpdateHelper.applyString(request.getDescription(), prd::setDescription);
@@ -131,9 +129,9 @@ public class PrdApplicationService {
    * @param prdRef the PRD reference
    */
   public void deletePrd(String projectRef, String prdRef) {
-    Project project = refResolver.resolveProject(projectRef);
-    Prd prd = resolvePrd(project, prdRef);
+    Prd prd = refResolver.resolvePrd(projectRef, prdRef);
     transactionTemplate.executeWithoutResult(status -> prdRepository.delete(prd));
+    refResolver.evictPrd(prd);
   }
 
   /**
@@ -155,56 +153,26 @@ public class PrdApplicationService {
 
     Project project = refResolver.resolveProject(projectRef);
 
-    // Parse cursor if present
-    CursorData cursorData = decodeCursor(cursor);
-    int offset = cursorData != null ? cursorData.offset() : 0;
-
-    // Get PRDs for project with optional status filter
-    List<Prd> allPrds;
+    PredicateSpecification<Prd> filter = PrdSpecifications.inProject(project.getId());
     if (status != null) {
-      allPrds =
-          prdRepository.findByProjectIdAndStatus(project.getId(), prdMapper.toDomainStatus(status));
       log.debug("[listPrds] Querying with status filter: {}", status);
-    } else {
-      allPrds = prdRepository.findByProjectId(project.getId());
+      filter = filter.and(PrdSpecifications.hasStatus(prdMapper.toDomainStatus(status)));
     }
-    log.debug("[listPrds] Found {} PRDs for project {}", allPrds.size(), project.getId());
-
-    long total = allPrds.size();
-
-    // Sort field mapping
-    String sortField = mapSortField(sort);
-    boolean ascending = "asc".equalsIgnoreCase(order);
-
-    // Sort and paginate
-    Comparator<Prd> comparator = getComparator(sortField);
-    if (!ascending) {
-      comparator = comparator.reversed();
-    }
-
-    List<Prd> sortedPrds =
-        allPrds.stream().sorted(comparator).skip(offset).limit(limit + 1).toList();
 
-    boolean hasMore = sortedPrds.size() > limit;
-    List<Prd> resultPrds = hasMore ? sortedPrds.subList(0, limit) : sortedPrds;
+    KeysetPage<Prd> page =
+        keysetPaginator.paginate(
+            Prd.class,
+            Specification.where(filter),
+            PrdSpecifications.sortKey(sort),
+            "asc".equalsIgnoreCase(order),
+            cursor,
+            limit,
+            Prd.SUMMARY_GRAPH);
+    log.debug("[listPrds] Found {} PRDs for project {}", page.total(), project.getId());
 
     PrdListResponseDto response = new PrdListResponseDto();
-    response.setData(resultPrds.stream().map(prdMapper::toDtoSimple).toList());
-
-    CursorPaginationDto pagination = new CursorPaginationDto();
-    pagination.setTotal(total);
-    pagination.setHasMore(hasMore);
-
-    if (hasMore) {
-      int nextOffset = offset + limit;
-      pagination.setNextCursor(encodeCursor(new CursorData(nextOffset)));
-    }
-    if (offset > 0) {
-      int prevOffset = Math.max(0, offset - limit);
-      pagination.setPrevCursor(encodeCursor(new CursorData(prevOffset)));
-    }
-
-    response.setPagination(pagination);
+    response.setData(page.items().stream().map(prdMapper::toDtoSimple).toList());
+    response.setPagination(page.toPaginationDto());
     return response;
   }
 
@@ -219,8 +187,7 @@ public class PrdApplicationService {
    * @return the updated PRD DTO
    */
   public PrdDto addDocument(String projectRef, String prdRef, AddPrdDocumentRequestDto request) {
-    Project project = refResolver.resolveProject(projectRef);
-    Prd prd = resolvePrd(project, prdRef);
+    Prd prd = refResolver.resolvePrd(projectRef, prdRef);
 
     // Check if document with same path already exists
     if (prdDocumentRepository
@@ -265,8 +232,7 @@ public class PrdApplicationService {
    */
   public PrdDto updateDocument(
       String projectRef, String prdRef, Long docId, UpdatePrdDocumentRequestDto request) {
-    Project project = refResolver.resolveProject(projectRef);
-    Prd prd = resolvePrd(project, prdRef);
+    Prd prd = refResolver.resolvePrd(projectRef, prdRef);
 
     PrdDocument document =
         prdDocumentRepository
@@ -295,8 +261,7 @@ public class PrdApplicationService {
    * @param docId the document ID
    */
   public void deleteDocument(String projectRef, String prdRef, Long docId) {
-    Project project = refResolver.resolveProject(projectRef);
-    Prd prd = resolvePrd(project, prdRef);
+    Prd prd = refResolver.resolvePrd(projectRef, prdRef);
 
     PrdDocument document =
         prdDocumentRepository
@@ -318,43 +283,7 @@ public class PrdApplicationService {
    * @throws EntityNotFoundException if PRD not found
    */
   public Prd resolvePrd(Project project, String ref) {
-    if (ref == null || ref.isBlank()) {
-      throw new IllegalArgumentException("PRD reference is required");
-    }
-
-    // Check if it's a public ID (starts with "prd_")
-    if (ref.startsWith("prd_")) {
-      return prdRepository
-          .findByPublicIdAndProjectId(ref, project.getId())
-          .orElseThrow(() -> new EntityNotFoundException("PRD not found: " + ref));
-    }
-
-    // Treat as display key (e.g., PROJ-P1)
-    return prdRepository
-        .findByProjectIdAndDisplayKey(project.getId(), ref)
-        .orElseThrow(() -> new EntityNotFoundException("PRD not found: " + ref));
-  }
-
-  private Comparator<Prd> getComparator(String field) {
-    return switch (field) {
-      case "title" -> Comparator.comparing(Prd::getTitle, String.CASE_INSENSITIVE_ORDER);
-      case "status" -> Comparator.comparing(p -> p.getStatus().name());
-      case "updatedAt" -> Comparator.comparing(Prd::getUpdatedAt);
-      default -> Comparator.comparing(Prd::getCreatedAt);
-    };
-  }
-
-  private String mapSortField(String sort) {
-    return switch (sort) {
-      case "title" -> "title";
-      case "status" -> "status";
-      case "updated_at" -> "updatedAt";
-      default -> "createdAt";
-    };
-  }
-
-  private int getNextSequenceNumber(Project project) {
-    return prdRepository.countByProjectId(project.getId()) + 1;
+    return refResolver.resolvePrd(project, ref);
   }
 
   private String generatePublicId(String prefix) {
@@ -369,27 +298,4 @@ public class PrdApplicationService {
         .replaceAll("-+", "-")
         .replaceAll("^-|-$", "");
   }
-
-  private CursorData decodeCursor(String cursor) {
-    if (cursor == null || cursor.isBlank()) {
-      return null;
-    }
-    try {
-      String json = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
-      return objectMapper.readValue(json, CursorData.class);
-    } catch (Exception e) {
-      throw new IllegalArgumentException("Invalid cursor");
-    }
-  }
-
-  private String encodeCursor(CursorData data) {
-    try {
-      String json = objectMapper.writeValueAsString(data);
-      return Base64.getEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8));
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to encode cursor", e);
-    }
-  }
-
-  private record CursorData(int offset) {}
 }
@@ -19,6 +19,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedEntityGraphs;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
 import jakarta.persistence.PreUpdate;
@@ -31,10 +34,28 @@ import lombok.Setter;
 /** PRD aggregate root representing a product requirements document. */
 @Entity
 @Table(name = "prds")
+@NamedEntityGraphs({
+  @NamedEntityGraph(
+      name = Prd.SUMMARY_GRAPH,
+      attributeNodes = {@NamedAttributeNode("project"), @NamedAttributeNode("createdBy")}),
+  @NamedEntityGraph(
+      name = Prd.DETAIL_GRAPH,
+      attributeNodes = {
+        @NamedAttributeNode("project"),
+        @NamedAttributeNode("createdBy"),
+        @NamedAttributeNode("documents")
+      })
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Prd extends AggregateRoot<Long> {
 
+  /** Associations read when mapping a PRD for list views. */
+  public static final String SUMMARY_GRAPH = "Prd.summary";
+
+  /** Associations read when mapping a single PRD, including its documents. */
+  public static final String DETAIL_GRAPH = "Prd.detail";
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
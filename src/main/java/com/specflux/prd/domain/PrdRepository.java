@@ -1,19 +1,43 @@
 package com.specflux.prd.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /** Repository for Prd aggregate root. */
 public interface PrdRepository extends JpaRepository<Prd, Long> {
 
   Optional<Prd> findByPublicId(String publicId);
 
+  /** Loads an entity by id together with the associations the API mapping reads. */
+  @EntityGraph(Prd.DETAIL_GRAPH)
+  Optional<Prd> findWithDocumentsById(Long id);
+
+  @EntityGraph(Prd.DETAIL_GRAPH)
   Optional<Prd> findByPublicIdAndProjectId(String publicId, Long projectId);
 
+  @EntityGraph(Prd.DETAIL_GRAPH)
   Optional<Prd> findByProjectIdAndDisplayKey(Long projectId, String displayKey);
 
+  /**
+   * Resolves a PRD reference and its project reference with a single joined query. The project is
+   * matched by public id or (upper-cased) project key, the PRD by public id or display key.
+   */
+  @EntityGraph(Prd.DETAIL_GRAPH)
+  @Query(
+      "SELECT p FROM Prd p WHERE (p.project.publicId = :projectRef"
+          + " OR p.project.projectKey = :projectKey)"
+          + " AND (p.publicId = :ref OR p.displayKey = :ref)")
+  Optional<Prd> findByProjectRefAndRef(
+      @Param("projectRef") String projectRef,
+      @Param("projectKey") String projectKey,
+      @Param("ref") String ref);
+
   Optional<Prd> findByProjectIdAndFolderPath(Long projectId, String folderPath);
 
   List<Prd> findByProjectId(Long projectId);
@@ -23,4 +47,16 @@ public interface PrdRepository extends JpaRepository<Prd, Long> {
   List<Prd> findByProjectIdAndTag(Long projectId, String tag);
 
   int countByProjectId(Long projectId);
+
+  /** Resolves the public ids of the given PRDs without loading the PRDs. */
+  @Query("SELECT p.id AS id, p.publicId AS publicId FROM Prd p WHERE p.id IN :ids")
+  List<PrdKey> findKeysByIdIn(@Param("ids") Collection<Long> ids);
+
+  /** Identifiers of a PRD. */
+  interface PrdKey {
+
+    Long getId();
+
+    String getPublicId();
+  }
 }
@@ -0,0 +1,57 @@
+package com.specflux.prd.domain;
+
+import java.time.Instant;
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.PredicateSpecification;
+
+import com.specflux.shared.domain.SortKey;
+
+/** Query filters and sort keys for PRDs. */
+public final class PrdSpecifications {
+
+  static final SortKey<Prd, Instant> CREATED_AT =
+      SortKey.ofInstant("created_at", (root, cb) -> root.get("createdAt"), Prd::getCreatedAt);
+
+  static final SortKey<Prd, Instant> UPDATED_AT =
+      SortKey.ofInstant("updated_at", (root, cb) -> root.get("updatedAt"), Prd::getUpdatedAt);
+
+  static final SortKey<Prd, String> TITLE =
+      SortKey.ofString(
+          "title",
+          (root, cb) -> cb.lower(root.get("title")),
+          p -> p.getTitle().toLowerCase(Locale.ROOT));
+
+  static final SortKey<Prd, PrdStatus> STATUS =
+      SortKey.ofEnum("status", PrdStatus.class, (root, cb) -> root.get("status"), Prd::getStatus);
+
+  private PrdSpecifications() {}
+
+  /** PRDs belonging to the given project. */
+  public static PredicateSpecification<Prd> inProject(Long projectId) {
+    return (root, cb) -> cb.equal(root.get("project").get("id"), projectId);
+  }
+
+  /** PRDs with the given status. */
+  public static PredicateSpecification<Prd> hasStatus(PrdStatus status) {
+    return (root, cb) -> cb.equal(root.get("status"), status);
+  }
+
+  /**
+   * Maps an API sort parameter to a sort key, defaulting to creation time.
+   *
+   * @param sort the API sort value (e.g. "updated_at")
+   * @return the matching sort key
+   */
+  public static SortKey<Prd, ?> sortKey(String sort) {
+    if (sort == null) {
+      return CREATED_AT;
+    }
+    return switch (sort) {
+      case "title" -> TITLE;
+      case "status" -> STATUS;
+      case "updated_at" -> UPDATED_AT;
+      default -> CREATED_AT;
+    };
+  }
+}
@@ -1,18 +1,11 @@
 package com.specflux.project.application;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
-import java.util.List;
 import java.util.UUID;
 
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.specflux.api.generated.model.CreateProjectRequestDto;
-import com.specflux.api.generated.model.CursorPaginationDto;
 import com.specflux.api.generated.model.ProjectDto;
 import com.specflux.api.generated.model.ProjectListResponseDto;
 import com.specflux.api.generated.model.UpdateProjectRequestDto;
@@ -20,8 +13,11 @@ import com.specflux.project.domain.Project;
 import com.specflux.project.domain.ProjectMember;
 import com.specflux.project.domain.ProjectMemberRepository;
 import com.specflux.project.domain.ProjectRepository;
+import com.specflux.project.domain.ProjectSpecifications;
 import com.specflux.project.interfaces.rest.ProjectMapper;
 import com.specflux.shared.application.CurrentUserService;
+import com.specflux.shared.application.KeysetPage;
+import com.specflux.shared.application.KeysetPaginator;
 import com.specflux.shared.application.UpdateHelper;
 import com.specflux.shared.interfaces.rest.GlobalExceptionHandler.ResourceConflictException;
 import com.specflux.shared.interfaces.rest.RefResolver;
@@ -39,7 +35,7 @@ public class ProjectApplicationService {
   private final RefResolver refResolver;
   private final CurrentUserService currentUserService;
   private final TransactionTemplate transactionTemplate;
-  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final KeysetPaginator keysetPaginator;
 
   /**
    * Creates a new project.
@@ -111,6 +107,7 @@ public class ProjectApplicationService {
   public void deleteProject(String ref) {
     Project project = refResolver.resolveProject(ref);
     transactionTemplate.executeWithoutResult(status -> projectRepository.delete(project));
+    refResolver.evictProject(project);
   }
 
   /**
@@ -125,101 +122,23 @@ public class ProjectApplicationService {
   public ProjectListResponseDto listProjects(String cursor, int limit, String sort, String order) {
     User currentUser = currentUserService.getCurrentUser();
 
-    // Parse cursor if present
-    CursorData cursorData = decodeCursor(cursor);
+    KeysetPage<Project> page =
+        keysetPaginator.paginate(
+            Project.class,
+            ProjectSpecifications.hasMember(currentUser.getId()),
+            ProjectSpecifications.sortKey(sort),
+            "asc".equalsIgnoreCase(order),
+            cursor,
+            limit,
+            Project.SUMMARY_GRAPH);
 
-    // Determine sort field
-    String sortField = mapSortField(sort);
-    Sort.Direction direction =
-        "asc".equalsIgnoreCase(order) ? Sort.Direction.ASC : Sort.Direction.DESC;
-
-    List<Project> projects;
-    long total;
-
-    // Get all projects where user is a member
-    List<Project> allProjects = projectMemberRepository.findProjectsByUserId(currentUser.getId());
-    total = allProjects.size();
-
-    // Apply sorting
-    List<Project> sortedProjects =
-        allProjects.stream()
-            .sorted(
-                (a, b) -> {
-                  int cmp = compareByField(a, b, sortField);
-                  return direction == Sort.Direction.DESC ? -cmp : cmp;
-                })
-            .toList();
-
-    // Apply cursor-based pagination (offset under the hood)
-    int offset = cursorData != null ? cursorData.offset() : 0;
-    projects = sortedProjects.stream().skip(offset).limit(limit + 1).toList();
-
-    boolean hasMore = projects.size() > limit;
-    List<Project> resultProjects = hasMore ? projects.subList(0, limit) : projects;
-
-    // Build response
     ProjectListResponseDto response = new ProjectListResponseDto();
-    response.setData(resultProjects.stream().map(ProjectMapper::toDto).toList());
-
-    CursorPaginationDto pagination = new CursorPaginationDto();
-    pagination.setTotal(total);
-    pagination.setHasMore(hasMore);
-
-    if (hasMore) {
-      int nextOffset = offset + limit;
-      pagination.setNextCursor(encodeCursor(new CursorData(nextOffset)));
-    }
-    if (cursorData != null && cursorData.offset() > 0) {
-      int prevOffset = Math.max(0, cursorData.offset() - limit);
-      pagination.setPrevCursor(encodeCursor(new CursorData(prevOffset)));
-    }
-
-    response.setPagination(pagination);
+    response.setData(page.items().stream().map(ProjectMapper::toDto).toList());
+    response.setPagination(page.toPaginationDto());
     return response;
   }
 
-  private int compareByField(Project a, Project b, String field) {
-    return switch (field) {
-      case "name" -> a.getName().compareToIgnoreCase(b.getName());
-      case "projectKey" -> a.getProjectKey().compareToIgnoreCase(b.getProjectKey());
-      case "updatedAt" -> a.getUpdatedAt().compareTo(b.getUpdatedAt());
-      default -> a.getCreatedAt().compareTo(b.getCreatedAt());
-    };
-  }
-
-  private String mapSortField(String sort) {
-    return switch (sort) {
-      case "name" -> "name";
-      case "project_key" -> "projectKey";
-      case "updated_at" -> "updatedAt";
-      default -> "createdAt";
-    };
-  }
-
   private String generatePublicId(String prefix) {
     return prefix + "_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
   }
-
-  private CursorData decodeCursor(String cursor) {
-    if (cursor == null || cursor.isBlank()) {
-      return null;
-    }
-    try {
-      String json = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
-      return objectMapper.readValue(json, CursorData.class);
-    } catch (Exception e) {
-      throw new IllegalArgumentException("Invalid cursor");
-    }
-  }
-
-  private String encodeCursor(CursorData data) {
-    try {
-      String json = objectMapper.writeValueAsString(data);
-      return Base64.getEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8));
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to encode cursor", e);
-    }
-  }
-
-  private record CursorData(int offset) {}
 }
@@ -0,0 +1,55 @@
+package com.specflux.project.application;
+
+import org.springframework.stereotype.Service;
+
+import com.specflux.project.domain.Project;
+import com.specflux.project.domain.ProjectRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Allocates the sequence numbers used in task, epic and PRD display keys.
+ *
+ * <p>Each allocation is a single row-level increment on the project, so it costs O(1) regardless of
+ * project size and concurrent creators never receive the same number. Numbers reserved by a
+ * transaction that later rolls back are not reused, which can leave gaps.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectSequenceAllocator {
+
+  private final ProjectRepository projectRepository;
+
+  /** Allocates the next task sequence number. */
+  public int nextTaskSequence(Project project) {
+    return reserveTaskSequences(project, 1);
+  }
+
+  /**
+   * Reserves a contiguous block of task sequence numbers.
+   *
+   * @param project the project
+   * @param count the number of sequence numbers to reserve
+   * @return the first sequence number of the block
+   */
+  public int reserveTaskSequences(Project project, int count) {
+    requirePositive(count);
+    return projectRepository.reserveTaskSequences(project.getId(), count) - count + 1;
+  }
+
+  /** Allocates the next epic sequence number. */
+  public int nextEpicSequence(Project project) {
+    return projectRepository.reserveEpicSequences(project.getId(), 1);
+  }
+
+  /** Allocates the next PRD sequence number. */
+  public int nextPrdSequence(Project project) {
+    return projectRepository.reservePrdSequences(project.getId(), 1);
+  }
+
+  private static void requirePositive(int count) {
+    if (count < 1) {
+      throw new IllegalArgumentException("count must be positive: " + count);
+    }
+  }
+}
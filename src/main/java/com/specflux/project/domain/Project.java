@@ -2,6 +2,8 @@ package com.specflux.project.domain;
 
 import java.time.Instant;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import com.specflux.shared.domain.AggregateRoot;
 import com.specflux.user.domain.User;
 
@@ -13,6 +15,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -20,13 +24,25 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-/** Project aggregate root representing a software project with epics and tasks. */
+/**
+ * Project aggregate root representing a software project with epics and tasks.
+ *
+ * <p>Sequence counters are normally advanced in SQL by {@link ProjectRepository}; dynamic updates
+ * keep a stale in-memory counter from overwriting them when other fields change.
+ */
 @Entity
 @Table(name = "projects")
+@NamedEntityGraph(
+    name = Project.SUMMARY_GRAPH,
+    attributeNodes = {@NamedAttributeNode("owner")})
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Project extends AggregateRoot<Long> {
 
+  /** Associations read when mapping a project to its API representation. */
+  public static final String SUMMARY_GRAPH = "Project.summary";
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
@@ -62,6 +78,9 @@ public class Project extends AggregateRoot<Long> {
   @Column(name = "release_sequence", nullable = false)
   private Integer releaseSequence = 0;
 
+  @Column(name = "prd_sequence", nullable = false)
+  private Integer prdSequence = 0;
+
   @Column(name = "created_at", nullable = false, updatable = false)
   private Instant createdAt;
 
@@ -76,6 +95,7 @@ public class Project extends AggregateRoot<Long> {
     this.epicSequence = 0;
     this.taskSequence = 0;
     this.releaseSequence = 0;
+    this.prdSequence = 0;
     this.createdAt = Instant.now();
     this.updatedAt = Instant.now();
   }
@@ -85,18 +105,6 @@ public class Project extends AggregateRoot<Long> {
     this.updatedAt = Instant.now();
   }
 
-  /** Increments and returns the next epic sequence number. */
-  public int nextEpicSequence() {
-    this.epicSequence++;
-    return this.epicSequence;
-  }
-
-  /** Increments and returns the next task sequence number. */
-  public int nextTaskSequence() {
-    this.taskSequence++;
-    return this.taskSequence;
-  }
-
   /** Increments and returns the next release sequence number. */
   public int nextReleaseSequence() {
     this.releaseSequence++;
@@ -4,6 +4,12 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.LockModeType;
 
 /** Repository for Project aggregate root. */
 public interface ProjectRepository extends JpaRepository<Project, Long> {
@@ -12,7 +18,80 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
   Optional<Project> findByProjectKey(String projectKey);
 
+  /**
+   * Loads a project and locks its row until the surrounding transaction ends. Used to serialize
+   * writes that must see each other's effects, such as dependency cycle checks.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT p FROM Project p WHERE p.id = :id")
+  Optional<Project> findByIdForUpdate(@Param("id") Long id);
+
   List<Project> findByOwnerId(Long ownerId);
 
   boolean existsByProjectKey(String projectKey);
+
+  /**
+   * Reads a project's change version without loading the entity.
+   *
+   * <p>The version is maintained by database triggers and increases whenever a transaction that
+   * wrote to the project or its tasks, epics, PRDs, dependencies and acceptance criteria commits.
+   *
+   * @return the change version, or empty if no project has this public ID
+   */
+  @Query(
+      value = "SELECT change_version FROM projects WHERE public_id = :publicId",
+      nativeQuery = true)
+  Optional<Long> findChangeVersionByPublicId(@Param("publicId") String publicId);
+
+  /**
+   * Reads a project's change version by project key without loading the entity.
+   *
+   * @return the change version, or empty if no project has this key
+   */
+  @Query(
+      value = "SELECT change_version FROM projects WHERE project_key = :projectKey",
+      nativeQuery = true)
+  Optional<Long> findChangeVersionByProjectKey(@Param("projectKey") String projectKey);
+
+  /**
+   * Atomically reserve a block of task sequence numbers.
+   *
+   * <p>The row lock taken by the UPDATE serializes concurrent callers, so every caller receives a
+   * distinct block without reading existing tasks.
+   *
+   * @return the last sequence number of the reserved block
+   */
+  @Transactional
+  @Query(
+      value =
+          "UPDATE projects SET task_sequence = task_sequence + :count"
+              + " WHERE id = :projectId RETURNING task_sequence",
+      nativeQuery = true)
+  int reserveTaskSequences(@Param("projectId") Long projectId, @Param("count") int count);
+
+  /**
+   * Atomically reserve a block of epic sequence numbers.
+   *
+   * @return the last sequence number of the reserved block
+   */
+  @Transactional
+  @Query(
+      value =
+          "UPDATE projects SET epic_sequence = epic_sequence + :count"
+              + " WHERE id = :projectId RETURNING epic_sequence",
+      nativeQuery = true)
+  int reserveEpicSequences(@Param("projectId") Long projectId, @Param("count") int count);
+
+  /**
+   * Atomically reserve a block of PRD sequence numbers.
+   *
+   * @return the last sequence number of the reserved block
+   */
+  @Transactional
+  @Query(
+      value =
+          "UPDATE projects SET prd_sequence = prd_sequence + :count"
+              + " WHERE id = :projectId RETURNING prd_sequence",
+      nativeQuery = true)
+  int reservePrdSequences(@Param("projectId") Long projectId, @Param("count") int count);
 }
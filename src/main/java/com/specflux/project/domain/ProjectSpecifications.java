@@ -0,0 +1,65 @@
+package com.specflux.project.domain;
+
+import java.time.Instant;
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.specflux.shared.domain.SortKey;
+
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/** Query filters and sort keys for projects. */
+public final class ProjectSpecifications {
+
+  static final SortKey<Project, Instant> CREATED_AT =
+      SortKey.ofInstant("created_at", (root, cb) -> root.get("createdAt"), Project::getCreatedAt);
+
+  static final SortKey<Project, Instant> UPDATED_AT =
+      SortKey.ofInstant("updated_at", (root, cb) -> root.get("updatedAt"), Project::getUpdatedAt);
+
+  static final SortKey<Project, String> NAME =
+      SortKey.ofString(
+          "name",
+          (root, cb) -> cb.lower(root.get("name")),
+          p -> p.getName().toLowerCase(Locale.ROOT));
+
+  static final SortKey<Project, String> PROJECT_KEY =
+      SortKey.ofString(
+          "project_key",
+          (root, cb) -> cb.lower(root.get("projectKey")),
+          p -> p.getProjectKey().toLowerCase(Locale.ROOT));
+
+  private ProjectSpecifications() {}
+
+  /** Projects the given user is a member of. */
+  public static Specification<Project> hasMember(Long userId) {
+    return (root, query, cb) -> {
+      Subquery<Long> members = query.subquery(Long.class);
+      Root<ProjectMember> member = members.from(ProjectMember.class);
+      members
+          .select(member.get("project").get("id"))
+          .where(cb.equal(member.get("user").get("id"), userId));
+      return root.get("id").in(members);
+    };
+  }
+
+  /**
+   * Maps an API sort parameter to a sort key, defaulting to creation time.
+   *
+   * @param sort the API sort value (e.g. "project_key")
+   * @return the matching sort key
+   */
+  public static SortKey<Project, ?> sortKey(String sort) {
+    if (sort == null) {
+      return CREATED_AT;
+    }
+    return switch (sort) {
+      case "name" -> NAME;
+      case "project_key" -> PROJECT_KEY;
+      case "updated_at" -> UPDATED_AT;
+      default -> CREATED_AT;
+    };
+  }
+}
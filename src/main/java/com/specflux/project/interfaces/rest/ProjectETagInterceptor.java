@@ -0,0 +1,74 @@
+package com.specflux.project.interfaces.rest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.specflux.shared.interfaces.rest.RefResolver;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Answers conditional GETs of a project and its tasks, epics and PRDs from its change version.
+ *
+ * <p>Responses carry an ETag derived from the version, and a request whose {@code If-None-Match}
+ * still matches gets 304 Not Modified before the controller runs, at the cost of one indexed
+ * lookup. The version is read before the response is built, so a write committing in between yields
+ * a newer body under the older ETag; the next poll then gets a full response again rather than a
+ * stale 304.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectETagInterceptor implements HandlerInterceptor {
+
+  /** Endpoints whose responses only depend on data covered by the change version. */
+  public static final List<String> PATHS =
+      List.of(
+          "/api/projects/*",
+          "/api/projects/*/tasks/**",
+          "/api/projects/*/epics/**",
+          "/api/projects/*/prds/**",
+          "/api/projects/*/task-dependencies");
+
+  private final RefResolver refResolver;
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (!"GET".equals(request.getMethod())) {
+      return true;
+    }
+    String projectRef = projectRef(request);
+    if (projectRef == null) {
+      return true;
+    }
+    // Unknown projects fall through to the controller, which answers 404
+    Optional<Long> version = refResolver.resolveProjectChangeVersion(projectRef);
+    if (version.isEmpty()) {
+      return true;
+    }
+    // Let clients store the response but revalidate it on every use
+    response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+    return !new ServletWebRequest(request, response)
+        .checkNotModified("W/\"" + version.get() + "\"");
+  }
+
+  @SuppressWarnings("unchecked")
+  private static String projectRef(HttpServletRequest request) {
+    Map<String, String> variables =
+        (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+    if (variables == null) {
+      return null;
+    }
+    // getProject names the variable "ref", every nested resource "projectRef"
+    return variables.getOrDefault("projectRef", variables.get("ref"));
+  }
+}
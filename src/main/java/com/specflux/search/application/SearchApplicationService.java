@@ -0,0 +1,107 @@
+package com.specflux.search.application;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import com.specflux.api.generated.model.SearchResponseDto;
+import com.specflux.api.generated.model.SearchResultDto;
+import com.specflux.api.generated.model.SearchResultTypeDto;
+import com.specflux.api.generated.model.SuggestResponseDto;
+import com.specflux.api.generated.model.SuggestionDto;
+import com.specflux.project.domain.Project;
+import com.specflux.search.domain.InvertedIndex;
+import com.specflux.search.domain.SearchDocument;
+import com.specflux.search.domain.SearchDocumentType;
+import com.specflux.shared.interfaces.rest.RefResolver;
+
+import lombok.RequiredArgsConstructor;
+
+/** Application service for project-wide search. */
+@Service
+@RequiredArgsConstructor
+public class SearchApplicationService {
+
+  private final SearchIndexService searchIndexService;
+  private final RefResolver refResolver;
+
+  /**
+   * Searches the entities of a project.
+   *
+   * @param projectRef the project reference
+   * @param query the search text
+   * @param types optional comma-separated kinds of entities to include
+   * @param limit the maximum number of results
+   * @return the matching entities, best match first
+   */
+  public SearchResponseDto search(String projectRef, String query, String types, int limit) {
+    Project project = refResolver.resolveProject(projectRef);
+    if (query == null || query.isBlank()) {
+      throw new IllegalArgumentException("Search text is required");
+    }
+
+    SearchResponseDto response = new SearchResponseDto();
+    response.setData(
+        searchIndexService.search(project.getId(), query, parseTypes(types), limit).stream()
+            .map(SearchApplicationService::toDto)
+            .toList());
+    return response;
+  }
+
+  /**
+   * Suggests tasks, epics and PRDs of a project as the user types.
+   *
+   * @param projectRef the project reference
+   * @param query the typed text
+   * @param types optional comma-separated kinds of entities to include
+   * @param limit the maximum number of suggestions
+   * @return the suggestions, best first
+   */
+  public SuggestResponseDto suggest(String projectRef, String query, String types, int limit) {
+    Project project = refResolver.resolveProject(projectRef);
+    if (query == null) {
+      throw new IllegalArgumentException("Typed text is required");
+    }
+
+    SuggestResponseDto response = new SuggestResponseDto();
+    response.setData(
+        searchIndexService.suggest(project.getId(), query, parseTypes(types), limit).stream()
+            .map(SearchApplicationService::toSuggestionDto)
+            .toList());
+    return response;
+  }
+
+  private static Set<SearchDocumentType> parseTypes(String types) {
+    Set<SearchDocumentType> included = EnumSet.noneOf(SearchDocumentType.class);
+    if (types != null && !types.isBlank()) {
+      Arrays.stream(types.split(","))
+          .map(String::trim)
+          .map(SearchResultTypeDto::fromValue)
+          .map(type -> SearchDocumentType.valueOf(type.getValue()))
+          .forEach(included::add);
+    }
+    return included;
+  }
+
+  private static SearchResultDto toDto(InvertedIndex.Hit hit) {
+    SearchDocument document = hit.document();
+    SearchResultDto dto = new SearchResultDto();
+    dto.setType(SearchResultTypeDto.fromValue(document.type().name()));
+    dto.setId(document.publicId());
+    dto.setDisplayKey(document.displayKey());
+    dto.setTitle(document.title());
+    dto.setScore(hit.score());
+    return dto;
+  }
+
+  private static SuggestionDto toSuggestionDto(SearchDocument document) {
+    SuggestionDto dto = new SuggestionDto();
+    dto.setType(SearchResultTypeDto.fromValue(document.type().name()));
+    dto.setId(document.publicId());
+    dto.setDisplayKey(document.displayKey());
+    dto.setTitle(document.title());
+    return dto;
+  }
+}
@@ -0,0 +1,247 @@
+package com.specflux.search.application;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.specflux.search.domain.InvertedIndex;
+import com.specflux.search.domain.SearchDocument;
+import com.specflux.search.domain.SearchDocumentType;
+import com.specflux.search.domain.SuggestionTrie;
+import com.specflux.search.infrastructure.SearchDocumentLoader;
+import com.specflux.shared.application.AfterCommit;
+import com.specflux.task.domain.TasksChangedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds one {@link InvertedIndex} and one {@link SuggestionTrie} per project and keeps them in step
+ * with the database.
+ *
+ * <p>An index is built from the database the first time its project is searched, or for every
+ * project in the background at startup when {@code specflux.search.warm-up} is set. Entity changes
+ * are applied once their transaction commits, and only to indexes already built. An index built
+ * while a change to its project committed is discarded rather than cached, since it may have been
+ * read before the change; the next search builds it again.
+ *
+ * <p>Each instance keeps its own indexes and only sees changes made through it; with several
+ * instances, a project's index on the others catches up when they restart.
+ */
+@Slf4j
+@Service
+public class SearchIndexService {
+
+  private final SearchDocumentLoader loader;
+  private final boolean warmUp;
+  private final Timer searchTimer;
+  private final Timer suggestTimer;
+
+  private final Map<Long, ProjectIndex> indexes = new ConcurrentHashMap<>();
+
+  /** Number of committed changes per project, to detect changes racing with a build. */
+  private final Map<Long, Long> changeCounts = new ConcurrentHashMap<>();
+
+  /** Builds in progress per project, shared by concurrent first searches of the project. */
+  private final Map<Long, CompletableFuture<ProjectIndex>> builds = new ConcurrentHashMap<>();
+
+  public SearchIndexService(
+      SearchDocumentLoader loader,
+      MeterRegistry meterRegistry,
+      @Value("${specflux.search.warm-up:true}") boolean warmUp) {
+    this.loader = loader;
+    this.warmUp = warmUp;
+    this.searchTimer =
+        Timer.builder("specflux.search.duration")
+            .description("Time taken to query a project search index")
+            .register(meterRegistry);
+    this.suggestTimer =
+        Timer.builder("specflux.search.suggest.duration")
+            .description("Time taken to look up typeahead suggestions in a project")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Searches the documents of a project.
+   *
+   * @param projectId the project id
+   * @param query the query text
+   * @param types the kinds of entities to include, or empty for all
+   * @param limit the maximum number of hits
+   * @return the hits, highest score first
+   */
+  public List<InvertedIndex.Hit> search(
+      long projectId, String query, Set<SearchDocumentType> types, int limit) {
+    InvertedIndex documents = indexFor(projectId).documents();
+    return searchTimer.record(() -> documents.search(query, types, limit));
+  }
+
+  /**
+   * Suggests tasks, epics and PRDs of a project whose display key or a title word starts with the
+   * typed text.
+   *
+   * @param projectId the project id
+   * @param query the typed text
+   * @param types the kinds of entities to include, or empty for all
+   * @param limit the maximum number of suggestions
+   * @return the suggestions, best first
+   */
+  public List<SearchDocument> suggest(
+      long projectId, String query, Set<SearchDocumentType> types, int limit) {
+    SuggestionTrie suggestions = indexFor(projectId).suggestions();
+    return suggestTimer.record(() -> suggestions.suggest(query, types, limit));
+  }
+
+  /**
+   * Adds or replaces a document once the current transaction commits.
+   *
+   * @param document the document
+   */
+  public void index(SearchDocument document) {
+    AfterCommit.run(() -> apply(document.projectId(), index -> index.put(document)));
+  }
+
+  /**
+   * Removes a document once the current transaction commits.
+   *
+   * @param projectId the project the document belongs to
+   * @param type the kind of entity
+   * @param id the entity id
+   */
+  public void remove(long projectId, SearchDocumentType type, long id) {
+    AfterCommit.run(() -> apply(projectId, index -> index.remove(type, id)));
+  }
+
+  /**
+   * Drops a project's index once the current transaction commits.
+   *
+   * @param projectId the project id
+   */
+  public void dropProject(long projectId) {
+    AfterCommit.run(
+        () -> {
+          changeCounts.merge(projectId, 1L, Long::sum);
+          indexes.remove(projectId);
+        });
+  }
+
+  /** Re-reads tasks written with bulk SQL, which the entity listener does not see. */
+  @EventListener
+  public void onTasksChanged(TasksChangedEvent event) {
+    long projectId = event.getProjectId();
+    List<SearchDocument> documents =
+        loader.load(SearchDocumentType.TASK, projectId, event.getPublicIds());
+    AfterCommit.run(() -> apply(projectId, index -> index.putAll(documents)));
+  }
+
+  /** Builds the index of every project in the background. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    if (!warmUp) {
+      return;
+    }
+    Thread.ofVirtual()
+        .name("search-warm-up")
+        .start(
+            () -> {
+              long start = System.nanoTime();
+              try {
+                List<Long> projectIds = loader.projectIds();
+                projectIds.forEach(this::indexFor);
+                log.info(
+                    "[search] Indexed {} projects in {} ms",
+                    projectIds.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+              } catch (RuntimeException e) {
+                log.warn("[search] Warm-up failed; indexes will be built on first search", e);
+              }
+            });
+  }
+
+  private ProjectIndex indexFor(long projectId) {
+    ProjectIndex index = indexes.get(projectId);
+    if (index != null) {
+      return index;
+    }
+    // Concurrent first searches of a project share its build; other projects build in parallel
+    CompletableFuture<ProjectIndex> build = new CompletableFuture<>();
+    CompletableFuture<ProjectIndex> existing = builds.putIfAbsent(projectId, build);
+    if (existing != null) {
+      try {
+        return existing.join();
+      } catch (CompletionException e) {
+        throw e.getCause() instanceof RuntimeException cause ? cause : e;
+      }
+    }
+    try {
+      index = indexes.get(projectId);
+      if (index == null) {
+        index = build(projectId);
+      }
+      build.complete(index);
+      return index;
+    } catch (RuntimeException e) {
+      build.completeExceptionally(e);
+      throw e;
+    } finally {
+      builds.remove(projectId, build);
+    }
+  }
+
+  private ProjectIndex build(long projectId) {
+    long changesBefore = changeCounts.getOrDefault(projectId, 0L);
+    ProjectIndex built = new ProjectIndex(new InvertedIndex(), new SuggestionTrie());
+    built.putAll(loader.loadProject(projectId));
+    // Only cache what was read once the reading transaction commits, and only if no change
+    // committed meanwhile; compute is atomic with the computeIfPresent in apply
+    AfterCommit.run(
+        () ->
+            indexes.compute(
+                projectId,
+                (_, current) ->
+                    current == null
+                            && changeCounts.getOrDefault(projectId, 0L) == changesBefore
+                        ? built
+                        : current));
+    return built;
+  }
+
+  private void apply(long projectId, Consumer<ProjectIndex> change) {
+    changeCounts.merge(projectId, 1L, Long::sum);
+    indexes.computeIfPresent(
+        projectId,
+        (_, index) -> {
+          change.accept(index);
+          return index;
+        });
+  }
+
+  /** The indexes of one project, changed together. */
+  private record ProjectIndex(InvertedIndex documents, SuggestionTrie suggestions) {
+
+    void put(SearchDocument document) {
+      documents.put(document);
+      suggestions.put(document);
+    }
+
+    void putAll(List<SearchDocument> loaded) {
+      documents.putAll(loaded);
+      suggestions.putAll(loaded);
+    }
+
+    void remove(SearchDocumentType type, long id) {
+      documents.remove(type, id);
+      suggestions.remove(type, id);
+    }
+  }
+}
@@ -0,0 +1,323 @@
+package com.specflux.search.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over the searchable documents of one project.
+ *
+ * <p>Every term maps to a compact {@link Postings} list of the documents containing it. Queries
+ * match documents containing every query word, either as a whole term or as a term prefix, and rank
+ * them with BM25. Title and display key terms count {@value #TITLE_BOOST} times, and terms only
+ * matched by prefix score {@value #PREFIX_WEIGHT} of a whole match.
+ *
+ * <p>Documents are replaced by appending a new version and marking the old one deleted. Deleted
+ * entries are skipped by queries and dropped once they make up a quarter of the index, by rewriting
+ * the posting lists. Reads run concurrently; writes are exclusive.
+ */
+public final class InvertedIndex {
+
+  static final int TITLE_BOOST = 3;
+  static final float PREFIX_WEIGHT = 0.5f;
+
+  /** BM25 term frequency saturation. */
+  private static final float K1 = 1.2f;
+
+  /** BM25 document length normalisation. */
+  private static final float B = 0.75f;
+
+  private static final int MAX_QUERY_WORDS = 8;
+  private static final int MAX_EXPANSIONS = 64;
+  private static final int MIN_DELETED_TO_COMPACT = 1_000;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final NavigableMap<String, Postings> terms = new TreeMap<>();
+  private final Map<Key, Integer> ordinals = new HashMap<>();
+
+  // Documents by ordinal, in parallel arrays so scoring reads no objects. A deleted document keeps
+  // its slot with a null document and a negative length until the next compaction.
+  private SearchDocument[] docs = new SearchDocument[64];
+  private int[] docLengths = new int[64];
+  private byte[] docTypes = new byte[64];
+  private int docCount;
+
+  private int liveDocs;
+  private long totalLength;
+
+  /** A document matching a query. */
+  public record Hit(SearchDocument document, float score) {}
+
+  /**
+   * Adds documents, replacing earlier versions.
+   *
+   * @param documents the documents
+   */
+  public void putAll(Collection<SearchDocument> documents) {
+    lock.writeLock().lock();
+    try {
+      for (SearchDocument document : documents) {
+        removeLocked(new Key(document.type(), document.id()));
+        addLocked(document);
+      }
+      compactIfNeeded();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Adds a document, replacing its earlier version.
+   *
+   * @param document the document
+   */
+  public void put(SearchDocument document) {
+    putAll(List.of(document));
+  }
+
+  /**
+   * Removes a document, if indexed.
+   *
+   * @param type the kind of entity
+   * @param id the entity id
+   */
+  public void remove(SearchDocumentType type, long id) {
+    lock.writeLock().lock();
+    try {
+      removeLocked(new Key(type, id));
+      compactIfNeeded();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Returns the number of indexed documents. */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return liveDocs;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Finds the documents matching every word of a query, best first.
+   *
+   * @param query the query text
+   * @param types the kinds of entities to include, or empty for all
+   * @param limit the maximum number of hits
+   * @return the hits, highest score first
+   */
+  public List<Hit> search(String query, Set<SearchDocumentType> types, int limit) {
+    List<String> words = new ArrayList<>(new LinkedHashSet<>(SearchTokenizer.tokenize(query)));
+    if (words.size() > MAX_QUERY_WORDS) {
+      words = words.subList(0, MAX_QUERY_WORDS);
+    }
+    if (words.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+
+    lock.readLock().lock();
+    try {
+      if (liveDocs == 0) {
+        return List.of();
+      }
+      int typeMask = typeMask(types);
+      // BM25 length normalisation is k1 * (1 - b + b * length / averageLength)
+      float normBase = K1 * (1 - B);
+      float normPerTerm = K1 * B * liveDocs / totalLength;
+      // matched[doc] counts the query words a document matched so far; only documents that
+      // matched every earlier word are considered for the next one
+      int[] matched = new int[docCount];
+      float[] scores = new float[docCount];
+      float[] wordScore = new float[docCount];
+      int[] touched = new int[docCount];
+      int touchedCount = 0;
+
+      for (int w = 0; w < words.size(); w++) {
+        String word = words.get(w);
+        touchedCount = 0;
+        int expansions = 0;
+        for (Map.Entry<String, Postings> term : prefixRange(word).entrySet()) {
+          if (expansions++ == MAX_EXPANSIONS) {
+            break;
+          }
+          float weight = term.getKey().length() == word.length() ? 1f : PREFIX_WEIGHT;
+          Postings postings = term.getValue();
+          float termWeight = weight * idf(postings.docCount()) * (K1 + 1);
+          Postings.Cursor cursor = postings.cursor();
+          while (cursor.next()) {
+            int doc = cursor.doc();
+            // matched[doc] == w + 1 marks a document already scored for this word
+            if (matched[doc] < w) {
+              continue;
+            }
+            int length = docLengths[doc];
+            if (length < 0 || (typeMask & (1 << docTypes[doc])) == 0) {
+              continue;
+            }
+            float tf = cursor.frequency();
+            float norm = normBase + normPerTerm * length;
+            float score = termWeight * tf / (tf + norm);
+            if (matched[doc] == w) {
+              matched[doc] = w + 1;
+              wordScore[doc] = score;
+              touched[touchedCount++] = doc;
+            } else if (score > wordScore[doc]) {
+              wordScore[doc] = score;
+            }
+          }
+        }
+        if (touchedCount == 0) {
+          return List.of();
+        }
+        for (int i = 0; i < touchedCount; i++) {
+          scores[touched[i]] += wordScore[touched[i]];
+        }
+      }
+
+      // The documents touched by the last word matched every word
+      PriorityQueue<Hit> best =
+          new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Hit::score));
+      for (int i = 0; i < touchedCount; i++) {
+        int doc = touched[i];
+        if (best.size() < limit || scores[doc] > best.peek().score()) {
+          best.add(new Hit(docs[doc], scores[doc]));
+          if (best.size() > limit) {
+            best.poll();
+          }
+        }
+      }
+      List<Hit> hits = new ArrayList<>(best);
+      hits.sort(Comparator.comparingDouble(Hit::score).reversed());
+      return hits;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Returns the terms starting with the given prefix, the prefix itself first. */
+  private NavigableMap<String, Postings> prefixRange(String prefix) {
+    return terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+  }
+
+  /** Returns a bit per included type ordinal, all set when no types are given. */
+  private static int typeMask(Set<SearchDocumentType> types) {
+    if (types.isEmpty()) {
+      return -1;
+    }
+    int mask = 0;
+    for (SearchDocumentType type : types) {
+      mask |= 1 << type.ordinal();
+    }
+    return mask;
+  }
+
+  private float idf(int docFrequency) {
+    int df = Math.min(docFrequency, liveDocs);
+    return (float) Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5));
+  }
+
+  private void addLocked(SearchDocument document) {
+    Map<String, Integer> frequencies = new HashMap<>();
+    int length = 0;
+    for (String term : SearchTokenizer.tokenize(document.displayKey())) {
+      frequencies.merge(term, TITLE_BOOST, Integer::sum);
+      length += TITLE_BOOST;
+    }
+    for (String term : SearchTokenizer.tokenize(document.title())) {
+      frequencies.merge(term, TITLE_BOOST, Integer::sum);
+      length += TITLE_BOOST;
+    }
+    for (String term : SearchTokenizer.tokenize(document.body())) {
+      frequencies.merge(term, 1, Integer::sum);
+      length++;
+    }
+
+    int ordinal = docCount++;
+    if (ordinal == docs.length) {
+      int capacity = ordinal * 2;
+      docs = Arrays.copyOf(docs, capacity);
+      docLengths = Arrays.copyOf(docLengths, capacity);
+      docTypes = Arrays.copyOf(docTypes, capacity);
+    }
+    docs[ordinal] = document.withoutBody();
+    docLengths[ordinal] = length;
+    docTypes[ordinal] = (byte) document.type().ordinal();
+    ordinals.put(new Key(document.type(), document.id()), ordinal);
+    liveDocs++;
+    totalLength += length;
+    frequencies.forEach(
+        (term, frequency) ->
+            terms.computeIfAbsent(term, _ -> new Postings()).add(ordinal, frequency));
+  }
+
+  private void removeLocked(Key key) {
+    Integer ordinal = ordinals.remove(key);
+    if (ordinal == null) {
+      return;
+    }
+    liveDocs--;
+    totalLength -= docLengths[ordinal];
+    docs[ordinal] = null;
+    docLengths[ordinal] = -1;
+  }
+
+  /** Rewrites the posting lists without deleted documents once they are a quarter of the index. */
+  private void compactIfNeeded() {
+    int deleted = docCount - liveDocs;
+    if (deleted < MIN_DELETED_TO_COMPACT || deleted < docCount / 4) {
+      return;
+    }
+    int[] remap = new int[docCount];
+    int live = 0;
+    for (int doc = 0; doc < docCount; doc++) {
+      if (docLengths[doc] < 0) {
+        remap[doc] = -1;
+      } else {
+        remap[doc] = live;
+        docs[live] = docs[doc];
+        docLengths[live] = docLengths[doc];
+        docTypes[live] = docTypes[doc];
+        live++;
+      }
+    }
+    Arrays.fill(docs, live, docCount, null);
+    docCount = live;
+
+    Iterator<Map.Entry<String, Postings>> it = terms.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<String, Postings> term = it.next();
+      Postings rewritten = new Postings();
+      Postings.Cursor cursor = term.getValue().cursor();
+      while (cursor.next()) {
+        if (remap[cursor.doc()] >= 0) {
+          rewritten.add(remap[cursor.doc()], cursor.frequency());
+        }
+      }
+      if (rewritten.docCount() == 0) {
+        it.remove();
+      } else {
+        rewritten.trim();
+        term.setValue(rewritten);
+      }
+    }
+    ordinals.replaceAll((key, doc) -> remap[doc]);
+  }
+
+  /** Identifies a document across versions. */
+  private record Key(SearchDocumentType type, long id) {}
+}
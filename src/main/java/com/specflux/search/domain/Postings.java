@@ -0,0 +1,109 @@
+package com.specflux.search.domain;
+
+import java.util.Arrays;
+
+/**
+ * The documents containing one term, with the term's frequency in each.
+ *
+ * <p>Entries are appended in increasing document order and stored as variable-length integers: the
+ * gap to the previous document, then the frequency. Most gaps and frequencies fit in one byte, so a
+ * posting usually takes two bytes.
+ */
+final class Postings {
+
+  private byte[] data = new byte[8];
+  private int length;
+  private int docCount;
+  private int lastDoc = -1;
+
+  /**
+   * Appends a document.
+   *
+   * @param doc the document ordinal, greater than any added before
+   * @param frequency the number of times the term occurs in the document
+   */
+  void add(int doc, int frequency) {
+    if (doc <= lastDoc) {
+      throw new IllegalArgumentException("Documents must be added in increasing order");
+    }
+    ensureCapacity(10);
+    writeVarInt(doc - lastDoc);
+    writeVarInt(frequency);
+    lastDoc = doc;
+    docCount++;
+  }
+
+  /** Returns the number of documents in the list, including deleted ones. */
+  int docCount() {
+    return docCount;
+  }
+
+  /** Returns the encoded size in bytes. */
+  int sizeInBytes() {
+    return length;
+  }
+
+  /** Releases unused capacity. */
+  void trim() {
+    if (data.length > length) {
+      data = Arrays.copyOf(data, Math.max(length, 1));
+    }
+  }
+
+  /** Returns a cursor over the entries, in document order. */
+  Cursor cursor() {
+    return new Cursor();
+  }
+
+  private void ensureCapacity(int extra) {
+    if (length + extra > data.length) {
+      data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+    }
+  }
+
+  private void writeVarInt(int value) {
+    while ((value & ~0x7F) != 0) {
+      data[length++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    data[length++] = (byte) value;
+  }
+
+  /** Reads the entries of a posting list one at a time. */
+  final class Cursor {
+
+    private int position;
+    private int doc = -1;
+    private int frequency;
+
+    /** Moves to the next entry, returning false at the end. */
+    boolean next() {
+      if (position >= length) {
+        return false;
+      }
+      doc += readVarInt();
+      frequency = readVarInt();
+      return true;
+    }
+
+    int doc() {
+      return doc;
+    }
+
+    int frequency() {
+      return frequency;
+    }
+
+    private int readVarInt() {
+      int value = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = data[position++];
+        value |= (b & 0x7F) << shift;
+        shift += 7;
+      } while (b < 0);
+      return value;
+    }
+  }
+}
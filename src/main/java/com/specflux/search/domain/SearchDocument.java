@@ -0,0 +1,45 @@
+package com.specflux.search.domain;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * The searchable text of one entity.
+ *
+ * @param type the kind of entity
+ * @param id the entity id
+ * @param projectId the project the entity belongs to
+ * @param publicId the entity's public id
+ * @param displayKey the entity's display key, or null if it has none
+ * @param title the title or name, weighted above the body
+ * @param body the remaining searchable text, or null
+ */
+public record SearchDocument(
+    SearchDocumentType type,
+    long id,
+    long projectId,
+    String publicId,
+    String displayKey,
+    String title,
+    String body) {
+
+  /**
+   * Joins the non-null parts of a document body with spaces.
+   *
+   * @param parts the parts, any of which may be null
+   * @return the joined text, or null if every part is null
+   */
+  public static String body(String... parts) {
+    String joined =
+        Arrays.stream(parts).filter(Objects::nonNull).collect(Collectors.joining(" "));
+    return joined.isEmpty() ? null : joined;
+  }
+
+  /** Returns this document without its body, which is only needed while indexing. */
+  SearchDocument withoutBody() {
+    return body == null
+        ? this
+        : new SearchDocument(type, id, projectId, publicId, displayKey, title, null);
+  }
+}
@@ -0,0 +1,11 @@
+package com.specflux.search.domain;
+
+/** Kinds of entities covered by project search. */
+public enum SearchDocumentType {
+  TASK,
+  EPIC,
+  PRD,
+  AGENT,
+  SKILL,
+  MCP_SERVER
+}
@@ -0,0 +1,45 @@
+package com.specflux.search.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits text into lower-case terms at every character that is neither a letter nor a digit.
+ *
+ * <p>No stemming or stop words: prefix matching covers word forms, and BM25 gives common words
+ * little weight.
+ */
+final class SearchTokenizer {
+
+  /** Longer runs (hashes, encoded blobs) are not worth indexing. */
+  static final int MAX_TERM_LENGTH = 40;
+
+  private SearchTokenizer() {}
+
+  /**
+   * Returns the terms of a text in order, including repeats.
+   *
+   * @param text the text, or null
+   * @return the terms
+   */
+  static List<String> tokenize(String text) {
+    List<String> terms = new ArrayList<>();
+    if (text == null) {
+      return terms;
+    }
+    int start = -1;
+    for (int i = 0; i <= text.length(); i++) {
+      boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+      if (wordChar && start < 0) {
+        start = i;
+      } else if (!wordChar && start >= 0) {
+        if (i - start <= MAX_TERM_LENGTH) {
+          terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+        }
+        start = -1;
+      }
+    }
+    return terms;
+  }
+}
@@ -0,0 +1,501 @@
+package com.specflux.search.domain;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Radix trie over the display keys and title words of one project's tasks, epics and PRDs, for
+ * typeahead.
+ *
+ * <p>Edges carry strings, so chains of single-child nodes are collapsed into one edge. Every node
+ * caches the best {@value #CACHED} documents of each type below it. A lookup walks the query's
+ * characters and reads those lists. Display key matches rank above title word matches, shorter
+ * terms above longer ones and newer documents above older ones, so a display key equal to the query
+ * comes first.
+ *
+ * <p>An insert pushes the new entry into the lists along its path. A removal drops the document
+ * from those lists, rebuilds only the lists that held it from the node's children, and collapses
+ * nodes it leaves empty. Reads run concurrently; writes are exclusive.
+ */
+public final class SuggestionTrie {
+
+  /** Documents cached per node and type, and so the most a lookup returns. */
+  static final int CACHED = 20;
+
+  private static final SearchDocumentType[] TYPES = {
+    SearchDocumentType.TASK, SearchDocumentType.EPIC, SearchDocumentType.PRD
+  };
+
+  private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+  private static final Comparator<Entry> RANK = SuggestionTrie::compare;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Node root = new Node("");
+
+  /** Terms each document was inserted under, to remove it again. */
+  private final Map<Key, List<String>> termsByDocument = new HashMap<>();
+
+  /**
+   * Adds documents, replacing earlier versions. Documents of other types are ignored.
+   *
+   * @param documents the documents
+   */
+  public void putAll(Collection<SearchDocument> documents) {
+    lock.writeLock().lock();
+    try {
+      if (termsByDocument.isEmpty()) {
+        // Bulk load: insert everything, then build every node's lists once
+        for (SearchDocument document : documents) {
+          insert(document, false);
+        }
+        rebuildAll(root);
+      } else {
+        for (SearchDocument document : documents) {
+          removeLocked(new Key(document.type(), document.id()));
+          insert(document, true);
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Adds a document, replacing its earlier version. Documents of other types are ignored.
+   *
+   * @param document the document
+   */
+  public void put(SearchDocument document) {
+    putAll(List.of(document));
+  }
+
+  /**
+   * Removes a document, if present.
+   *
+   * @param type the kind of entity
+   * @param id the entity id
+   */
+  public void remove(SearchDocumentType type, long id) {
+    lock.writeLock().lock();
+    try {
+      removeLocked(new Key(type, id));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Suggests documents whose display key or a title word starts with the query.
+   *
+   * <p>With several words, the last one is looked up and only the cached documents whose titles
+   * also have words starting with each of the others are returned.
+   *
+   * @param query the typed text
+   * @param types the kinds of entities to include, or empty for all
+   * @param limit the maximum number of suggestions
+   * @return the suggestions, best first
+   */
+  public List<SearchDocument> suggest(String query, Set<SearchDocumentType> types, int limit) {
+    String normalized = normalize(query).strip();
+    if (normalized.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+    String[] words = normalized.split("\\s+");
+    String last = words[words.length - 1];
+    List<String> others = Arrays.asList(words).subList(0, words.length - 1);
+
+    lock.readLock().lock();
+    try {
+      Node node = root;
+      int matched = 0;
+      while (matched < last.length()) {
+        Node child = node.child(last.charAt(matched));
+        if (child == null) {
+          return List.of();
+        }
+        int common = commonPrefix(child.label, last, matched);
+        // A mismatch inside the edge; the query may also end inside it, which still matches
+        if (common < child.label.length() && matched + common < last.length()) {
+          return List.of();
+        }
+        matched += common;
+        node = child;
+      }
+
+      List<Entry> candidates = new ArrayList<>();
+      for (int slot = 0; slot < TYPES.length; slot++) {
+        if (types.isEmpty() || types.contains(TYPES[slot])) {
+          candidates.addAll(List.of(node.top[slot]));
+        }
+      }
+      candidates.sort(RANK);
+      List<SearchDocument> suggestions = new ArrayList<>(Math.min(limit, candidates.size()));
+      for (Entry entry : candidates) {
+        addIfMatches(suggestions, entry.document(), others, limit);
+      }
+      return suggestions;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private static void addIfMatches(
+      List<SearchDocument> suggestions, SearchDocument document, List<String> others, int limit) {
+    if (suggestions.size() == limit || suggestions.contains(document)) {
+      return;
+    }
+    if (!others.isEmpty()) {
+      List<String> titleWords = titleTerms(document.title());
+      for (String other : others) {
+        if (titleWords.stream().noneMatch(word -> word.startsWith(other))) {
+          return;
+        }
+      }
+    }
+    suggestions.add(document);
+  }
+
+  private void insert(SearchDocument document, boolean updateLists) {
+    int slot = slot(document.type());
+    if (slot < 0) {
+      return;
+    }
+    SearchDocument target = document.withoutBody();
+    String displayKey = document.displayKey() != null ? normalize(document.displayKey()) : null;
+    Set<String> terms = new LinkedHashSet<>();
+    if (displayKey != null) {
+      terms.add(displayKey);
+    }
+    terms.addAll(titleTerms(document.title()));
+    termsByDocument.put(new Key(document.type(), document.id()), List.copyOf(terms));
+
+    for (String term : terms) {
+      Entry entry = new Entry(target, term.equals(displayKey), term.length());
+      List<Node> path = pathTo(term, true);
+      path.getLast().addOwn(entry);
+      if (updateLists) {
+        for (Node node : path) {
+          node.offer(slot, entry);
+        }
+      }
+    }
+  }
+
+  private void removeLocked(Key key) {
+    List<String> terms = termsByDocument.remove(key);
+    if (terms == null) {
+      return;
+    }
+    int slot = slot(key.type());
+    for (String term : terms) {
+      List<Node> path = pathTo(term, false);
+      path.getLast().removeOwn(key);
+      // Deepest first, so each rebuilt list reads already rebuilt children
+      for (int i = path.size() - 1; i >= 0; i--) {
+        Node node = path.get(i);
+        if (Arrays.stream(node.top[slot]).anyMatch(key::matches)) {
+          node.rebuild(slot);
+        }
+      }
+      prune(path);
+    }
+  }
+
+  /**
+   * Returns the nodes from the root to the node ending at the term, splitting an edge or adding a
+   * leaf when creating.
+   */
+  private List<Node> pathTo(String term, boolean create) {
+    List<Node> path = new ArrayList<>();
+    Node node = root;
+    path.add(node);
+    int matched = 0;
+    while (matched < term.length()) {
+      Node child = node.child(term.charAt(matched));
+      int common = child != null ? commonPrefix(child.label, term, matched) : 0;
+      if (child == null || common < child.label.length()) {
+        if (!create) {
+          throw new IllegalStateException("Term is not in the trie: " + term);
+        }
+        if (child == null) {
+          child = new Node(term.substring(matched));
+          node.addChild(child);
+          path.add(child);
+          return path;
+        }
+        child = node.split(child, common);
+      }
+      matched += common;
+      node = child;
+      path.add(node);
+    }
+    return path;
+  }
+
+  /** Removes nodes left without entries or children, and merges nodes left with one child. */
+  private static void prune(List<Node> path) {
+    for (int i = path.size() - 1; i > 0; i--) {
+      Node node = path.get(i);
+      Node parent = path.get(i - 1);
+      if (node.ownCount > 0 || node.childCount > 1) {
+        return;
+      }
+      if (node.childCount == 1) {
+        parent.replaceChild(node, node.mergeIntoOnlyChild());
+        return;
+      }
+      parent.removeChild(node);
+    }
+  }
+
+  private static void rebuildAll(Node node) {
+    for (int i = 0; i < node.childCount; i++) {
+      rebuildAll(node.children[i]);
+    }
+    for (int slot = 0; slot < TYPES.length; slot++) {
+      node.rebuild(slot);
+    }
+  }
+
+  /** Orders display keys first, then shorter terms, then newer documents. */
+  private static int compare(Entry a, Entry b) {
+    if (a.key() != b.key()) {
+      return a.key() ? -1 : 1;
+    }
+    if (a.termLength() != b.termLength()) {
+      return Integer.compare(a.termLength(), b.termLength());
+    }
+    return Long.compare(b.id(), a.id());
+  }
+
+  private static int slot(SearchDocumentType type) {
+    return switch (type) {
+      case TASK -> 0;
+      case EPIC -> 1;
+      case PRD -> 2;
+      default -> -1;
+    };
+  }
+
+  private static int commonPrefix(String label, String text, int offset) {
+    int max = Math.min(label.length(), text.length() - offset);
+    int i = 0;
+    while (i < max && label.charAt(i) == text.charAt(offset + i)) {
+      i++;
+    }
+    return i;
+  }
+
+  private static List<String> titleTerms(String title) {
+    return SearchTokenizer.tokenize(normalize(title));
+  }
+
+  /** Lower-cases text and strips accents, so "Résumé" and "resume" are the same term. */
+  static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+    return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+  }
+
+  /** Identifies a document across versions. */
+  private record Key(SearchDocumentType type, long id) {
+
+    boolean matches(Entry entry) {
+      return entry.document().type() == type && entry.id() == id;
+    }
+  }
+
+  /** A document found under a term. */
+  private record Entry(SearchDocument document, boolean key, int termLength) {
+
+    long id() {
+      return document.id();
+    }
+  }
+
+  private static final class Node {
+
+    private static final Entry[] NONE = new Entry[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private String label;
+    private Node[] children = NO_CHILDREN;
+    private int childCount;
+
+    /** Entries whose term ends at this node, in no particular order. */
+    private Entry[] own = NONE;
+
+    private int ownCount;
+
+    /** Per type slot, the best entries at or below this node, one per document, best first. */
+    private final Entry[][] top = {NONE, NONE, NONE};
+
+    Node(String label) {
+      this.label = label;
+    }
+
+    /** Returns the child whose label starts with the character, by binary search. */
+    Node child(char first) {
+      int low = 0;
+      int high = childCount - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        char c = children[mid].label.charAt(0);
+        if (c < first) {
+          low = mid + 1;
+        } else if (c > first) {
+          high = mid - 1;
+        } else {
+          return children[mid];
+        }
+      }
+      return null;
+    }
+
+    void addChild(Node child) {
+      if (childCount == children.length) {
+        children = Arrays.copyOf(children, Math.max(2, childCount * 2));
+      }
+      int at = childCount;
+      while (at > 0 && children[at - 1].label.charAt(0) > child.label.charAt(0)) {
+        children[at] = children[at - 1];
+        at--;
+      }
+      children[at] = child;
+      childCount++;
+    }
+
+    void removeChild(Node child) {
+      for (int i = 0; i < childCount; i++) {
+        if (children[i] == child) {
+          System.arraycopy(children, i + 1, children, i, childCount - i - 1);
+          children[--childCount] = null;
+          return;
+        }
+      }
+    }
+
+    void replaceChild(Node child, Node replacement) {
+      for (int i = 0; i < childCount; i++) {
+        if (children[i] == child) {
+          children[i] = replacement;
+          return;
+        }
+      }
+    }
+
+    /** Splits a child's edge after its first characters, returning the new middle node. */
+    Node split(Node child, int at) {
+      Node middle = new Node(child.label.substring(0, at));
+      child.label = child.label.substring(at);
+      middle.addChild(child);
+      System.arraycopy(child.top, 0, middle.top, 0, TYPES.length);
+      replaceChild(child, middle);
+      return middle;
+    }
+
+    /** Folds this node, which has no entries, into its only child and returns the child. */
+    Node mergeIntoOnlyChild() {
+      Node child = children[0];
+      child.label = label + child.label;
+      return child;
+    }
+
+    void addOwn(Entry entry) {
+      if (ownCount == own.length) {
+        own = Arrays.copyOf(own, Math.max(2, ownCount + (ownCount >> 1)));
+      }
+      own[ownCount++] = entry;
+    }
+
+    void removeOwn(Key key) {
+      int kept = 0;
+      for (int i = 0; i < ownCount; i++) {
+        if (!key.matches(own[i])) {
+          own[kept++] = own[i];
+        }
+      }
+      Arrays.fill(own, kept, ownCount, null);
+      ownCount = kept;
+      if (ownCount == 0) {
+        own = NONE;
+      }
+    }
+
+    /** Adds an entry to a cached list if it ranks among the best. */
+    void offer(int slot, Entry entry) {
+      Best best = new Best(top[slot]);
+      best.offer(entry);
+      top[slot] = best.toArray();
+    }
+
+    /** Rebuilds a cached list from this node's entries and its children's lists. */
+    void rebuild(int slot) {
+      Best best = new Best(NONE);
+      for (int i = 0; i < ownCount; i++) {
+        if (slot(own[i].document().type()) == slot) {
+          best.offer(own[i]);
+        }
+      }
+      for (int i = 0; i < childCount; i++) {
+        for (Entry entry : children[i].top[slot]) {
+          best.offer(entry);
+        }
+      }
+      top[slot] = best.toArray();
+    }
+  }
+
+  /** Collects the best {@value #CACHED} entries, at most one per document, best first. */
+  private static final class Best {
+
+    private final List<Entry> entries;
+
+    Best(Entry[] initial) {
+      entries = new ArrayList<>(CACHED + 1);
+      entries.addAll(List.of(initial));
+    }
+
+    void offer(Entry entry) {
+      if (entries.size() == CACHED && compare(entry, entries.getLast()) >= 0) {
+        return;
+      }
+      for (int i = 0; i < entries.size(); i++) {
+        if (entries.get(i).document() == entry.document()) {
+          if (compare(entries.get(i), entry) <= 0) {
+            return;
+          }
+          entries.remove(i);
+          break;
+        }
+      }
+      int at = entries.size();
+      while (at > 0 && compare(entry, entries.get(at - 1)) < 0) {
+        at--;
+      }
+      entries.add(at, entry);
+      if (entries.size() > CACHED) {
+        entries.removeLast();
+      }
+    }
+
+    Entry[] toArray() {
+      return entries.toArray(Node.NONE);
+    }
+  }
+}
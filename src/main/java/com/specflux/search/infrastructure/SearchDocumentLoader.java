@@ -0,0 +1,112 @@
+package com.specflux.search.infrastructure;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.specflux.search.domain.SearchDocument;
+import com.specflux.search.domain.SearchDocumentType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads searchable documents straight from the entity tables.
+ *
+ * <p>Rows are read with plain SQL rather than through the entity repositories, so rebuilding a
+ * project's index neither loads associations nor fills the persistence context. The body columns
+ * must be composed the same way as in {@link SearchIndexEventListener}.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchDocumentLoader {
+
+  private static final Map<SearchDocumentType, String> SELECTS =
+      new EnumMap<>(
+          Map.of(
+              SearchDocumentType.TASK,
+              "SELECT id, project_id, public_id, display_key, title, description AS body"
+                  + " FROM tasks",
+              SearchDocumentType.EPIC,
+              "SELECT id, project_id, public_id, display_key, title, description AS body"
+                  + " FROM epics",
+              SearchDocumentType.PRD,
+              "SELECT id, project_id, public_id, display_key, title,"
+                  + " concat_ws(' ', description, tag) AS body FROM prds",
+              SearchDocumentType.AGENT,
+              "SELECT id, project_id, public_id, NULL AS display_key, name AS title,"
+                  + " description AS body FROM agents",
+              SearchDocumentType.SKILL,
+              "SELECT id, project_id, public_id, NULL AS display_key, name AS title,"
+                  + " description AS body FROM skills",
+              SearchDocumentType.MCP_SERVER,
+              "SELECT id, project_id, public_id, NULL AS display_key, name AS title,"
+                  + " concat_ws(' ', command, args) AS body FROM mcp_servers"));
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  /**
+   * Loads every searchable document of a project.
+   *
+   * @param projectId the project id
+   * @return the documents
+   */
+  public List<SearchDocument> loadProject(long projectId) {
+    MapSqlParameterSource params = new MapSqlParameterSource("projectId", projectId);
+    List<SearchDocument> documents = new ArrayList<>();
+    SELECTS.forEach(
+        (type, select) ->
+            documents.addAll(
+                jdbcTemplate.query(
+                    select + " WHERE project_id = :projectId",
+                    params,
+                    (rs, _) -> toDocument(type, rs))));
+    return documents;
+  }
+
+  /**
+   * Loads the documents of some entities of one kind within a project.
+   *
+   * @param type the kind of entity
+   * @param projectId the project id
+   * @param publicIds the entities' public ids
+   * @return the documents of the entities that exist
+   */
+  public List<SearchDocument> load(
+      SearchDocumentType type, long projectId, Collection<String> publicIds) {
+    if (publicIds.isEmpty()) {
+      return List.of();
+    }
+    MapSqlParameterSource params =
+        new MapSqlParameterSource("projectId", projectId).addValue("publicIds", publicIds);
+    return jdbcTemplate.query(
+        SELECTS.get(type) + " WHERE project_id = :projectId AND public_id IN (:publicIds)",
+        params,
+        (rs, _) -> toDocument(type, rs));
+  }
+
+  /** Returns the ids of all projects. */
+  public List<Long> projectIds() {
+    return jdbcTemplate.getJdbcTemplate().queryForList("SELECT id FROM projects", Long.class);
+  }
+
+  private static SearchDocument toDocument(SearchDocumentType type, ResultSet rs)
+      throws SQLException {
+    String body = rs.getString("body");
+    return new SearchDocument(
+        type,
+        rs.getLong("id"),
+        rs.getLong("project_id"),
+        rs.getString("public_id"),
+        rs.getString("display_key"),
+        rs.getString("title"),
+        body == null || body.isEmpty() ? null : body);
+  }
+}
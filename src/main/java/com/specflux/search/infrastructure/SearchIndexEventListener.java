@@ -0,0 +1,170 @@
+package com.specflux.search.infrastructure;
+
+import java.util.Set;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import com.specflux.agent.domain.Agent;
+import com.specflux.epic.domain.Epic;
+import com.specflux.mcpserver.domain.McpServer;
+import com.specflux.prd.domain.Prd;
+import com.specflux.project.domain.Project;
+import com.specflux.search.application.SearchIndexService;
+import com.specflux.search.domain.SearchDocument;
+import com.specflux.search.domain.SearchDocumentType;
+import com.specflux.skill.domain.Skill;
+import com.specflux.task.domain.Task;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Feeds entity inserts, updates and deletes made through JPA into the search index.
+ *
+ * <p>Hibernate calls the listener while flushing, inside the transaction; {@link
+ * SearchIndexService} only applies the change once the transaction commits. Writes that bypass JPA,
+ * such as the task batch endpoints, publish their own events instead.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexEventListener
+    implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+  /** Properties whose changes alter a document; anything else is ignored. */
+  private static final Set<String> INDEXED_PROPERTIES =
+      Set.of("displayKey", "title", "name", "description", "tag", "command", "args");
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final SearchIndexService searchIndexService;
+
+  @PostConstruct
+  void register() {
+    EventListenerRegistry registry =
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getEventListenerRegistry();
+    registry.appendListeners(EventType.POST_INSERT, this);
+    registry.appendListeners(EventType.POST_UPDATE, this);
+    registry.appendListeners(EventType.POST_DELETE, this);
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    SearchDocument document = toDocument(event.getEntity());
+    if (document != null) {
+      searchIndexService.index(document);
+    }
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    if (!touchesIndexedProperty(event)) {
+      return;
+    }
+    SearchDocument document = toDocument(event.getEntity());
+    if (document != null) {
+      searchIndexService.index(document);
+    }
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    if (event.getEntity() instanceof Project project) {
+      searchIndexService.dropProject(project.getId());
+      return;
+    }
+    SearchDocument document = toDocument(event.getEntity());
+    if (document != null) {
+      searchIndexService.remove(document.projectId(), document.type(), document.id());
+    }
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return false;
+  }
+
+  private static boolean touchesIndexedProperty(PostUpdateEvent event) {
+    int[] dirty = event.getDirtyProperties();
+    if (dirty == null) {
+      return true;
+    }
+    String[] names = event.getPersister().getPropertyNames();
+    for (int index : dirty) {
+      if (INDEXED_PROPERTIES.contains(names[index])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Returns the document of a searchable entity, or null for any other entity. */
+  static SearchDocument toDocument(Object entity) {
+    return switch (entity) {
+      case Task task ->
+          new SearchDocument(
+              SearchDocumentType.TASK,
+              task.getId(),
+              task.getProject().getId(),
+              task.getPublicId(),
+              task.getDisplayKey(),
+              task.getTitle(),
+              SearchDocument.body(task.getDescription()));
+      case Epic epic ->
+          new SearchDocument(
+              SearchDocumentType.EPIC,
+              epic.getId(),
+              epic.getProject().getId(),
+              epic.getPublicId(),
+              epic.getDisplayKey(),
+              epic.getTitle(),
+              SearchDocument.body(epic.getDescription()));
+      case Prd prd ->
+          new SearchDocument(
+              SearchDocumentType.PRD,
+              prd.getId(),
+              prd.getProject().getId(),
+              prd.getPublicId(),
+              prd.getDisplayKey(),
+              prd.getTitle(),
+              SearchDocument.body(prd.getDescription(), prd.getTag()));
+      case Agent agent ->
+          new SearchDocument(
+              SearchDocumentType.AGENT,
+              agent.getId(),
+              agent.getProject().getId(),
+              agent.getPublicId(),
+              null,
+              agent.getName(),
+              SearchDocument.body(agent.getDescription()));
+      case Skill skill ->
+          new SearchDocument(
+              SearchDocumentType.SKILL,
+              skill.getId(),
+              skill.getProject().getId(),
+              skill.getPublicId(),
+              null,
+              skill.getName(),
+              SearchDocument.body(skill.getDescription()));
+      case McpServer server ->
+          new SearchDocument(
+              SearchDocumentType.MCP_SERVER,
+              server.getId(),
+              server.getProject().getId(),
+              server.getPublicId(),
+              null,
+              server.getName(),
+              SearchDocument.body(server.getCommand(), server.getArgs()));
+      default -> null;
+    };
+  }
+}
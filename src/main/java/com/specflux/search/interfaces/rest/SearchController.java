@@ -0,0 +1,31 @@
+package com.specflux.search.interfaces.rest;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.specflux.api.generated.SearchApi;
+import com.specflux.api.generated.model.SearchResponseDto;
+import com.specflux.api.generated.model.SuggestResponseDto;
+import com.specflux.search.application.SearchApplicationService;
+
+import lombok.RequiredArgsConstructor;
+
+/** REST controller for search endpoints. Implements generated OpenAPI interface. */
+@RestController
+@RequiredArgsConstructor
+public class SearchController implements SearchApi {
+
+  private final SearchApplicationService searchService;
+
+  @Override
+  public ResponseEntity<SearchResponseDto> searchProject(
+      String projectRef, String q, String types, Integer limit) {
+    return ResponseEntity.ok(searchService.search(projectRef, q, types, limit));
+  }
+
+  @Override
+  public ResponseEntity<SuggestResponseDto> suggest(
+      String projectRef, String q, String types, Integer limit) {
+    return ResponseEntity.ok(searchService.suggest(projectRef, q, types, limit));
+  }
+}
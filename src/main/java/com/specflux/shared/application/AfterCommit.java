@@ -0,0 +1,34 @@
+package com.specflux.shared.application;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers work until the surrounding transaction has committed.
+ *
+ * <p>Used by in-memory caches so that values read or written inside a transaction that later rolls
+ * back never become visible to other requests.
+ */
+public final class AfterCommit {
+
+  private AfterCommit() {}
+
+  /**
+   * Runs the action after the current transaction commits, or immediately if there is none.
+   *
+   * @param action the action to run
+   */
+  public static void run(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+}
@@ -1,7 +1,12 @@
 package com.specflux.shared.application;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -20,17 +25,29 @@ import lombok.RequiredArgsConstructor;
  * Service to retrieve the current authenticated user.
  *
  * <p>Extracts the Firebase UID from the security context and loads the corresponding User entity.
- * The user is cached for the duration of the HTTP request to avoid repeated database queries.
+ * The user is cached for the duration of the HTTP request, and across requests in a bounded cache
+ * keyed by Firebase UID, so most requests resolve the current user without a database query.
+ *
+ * <p>Cached users are detached snapshots: callers may read them and use them as association
+ * targets, but must load a managed copy before changing them and call {@link #evict(User)} after
+ * the change has committed. Values read inside a transaction are only cached once it commits. Other
+ * instances pick up changes when their entries expire after {@code specflux.users.cache-ttl}.
  */
 @Service
 @RequiredArgsConstructor
 public class CurrentUserService {
 
   private static final String CURRENT_USER_ATTR = "currentUser";
+  private static final int MAX_CACHED_USERS = 10_000;
 
   private final UserRepository userRepository;
   private final TransactionTemplate transactionTemplate;
 
+  private final Map<String, Cached<User>> usersByFirebaseUid = new ConcurrentHashMap<>();
+
+  @Value("${specflux.users.cache-ttl:PT5M}")
+  private Duration cacheTtl = Duration.ofMinutes(5);
+
   /**
    * Gets the current authenticated user.
    *
@@ -52,8 +69,13 @@ public class CurrentUserService {
       }
     }
 
-    // Load from database
-    User user = loadCurrentUser();
+    // Check the cross-request cache, then load from database
+    String firebaseUid = getCurrentFirebaseUid();
+    User user = cachedUser(firebaseUid);
+    if (user == null) {
+      user = loadCurrentUser();
+      cache(usersByFirebaseUid, firebaseUid, user);
+    }
 
     // Cache in request scope
     if (requestAttributes != null) {
@@ -137,8 +159,13 @@ public class CurrentUserService {
       }
     }
 
-    // Load or create user
-    User user = loadOrCreateCurrentUser();
+    // Check the cross-request cache, then load or create user
+    String firebaseUid = getCurrentFirebaseUid();
+    User user = cachedUser(firebaseUid);
+    if (user == null) {
+      user = loadOrCreateCurrentUser();
+      cache(usersByFirebaseUid, firebaseUid, user);
+    }
 
     // Cache in request scope
     if (requestAttributes != null) {
@@ -189,7 +216,9 @@ public class CurrentUserService {
             var existingByEmail = userRepository.findByEmail(email);
             if (existingByEmail.isPresent()) {
               User user = existingByEmail.get();
-              // Link the new Firebase UID to the existing account
+              // Link the new Firebase UID to the existing account; the old UID must not resolve
+              // to the cached snapshot any more
+              evictAfterCommit(user);
               user.setFirebaseUid(principal.getFirebaseUid());
               // Update display name and avatar if provided
               if (principal.getDisplayName() != null) {
@@ -213,4 +242,52 @@ public class CurrentUserService {
           return userRepository.save(newUser);
         });
   }
+
+  /**
+   * Drops the cached snapshot of a user, e.g. after their profile was updated.
+   *
+   * @param user the user
+   */
+  public void evict(User user) {
+    usersByFirebaseUid.values().removeIf(c -> c.value().getId().equals(user.getId()));
+  }
+
+  private User cachedUser(String firebaseUid) {
+    Cached<User> cached = usersByFirebaseUid.get(firebaseUid);
+    if (cached == null) {
+      return null;
+    }
+    if (!cached.isValidAt(Instant.now())) {
+      usersByFirebaseUid.remove(firebaseUid, cached);
+      return null;
+    }
+    return cached.value();
+  }
+
+  /** Caches a value, deferring until commit when called inside a transaction. */
+  private <K, V> void cache(Map<K, Cached<V>> cache, K key, V value) {
+    Runnable put =
+        () -> {
+          Instant now = Instant.now();
+          if (cache.size() >= MAX_CACHED_USERS) {
+            cache.values().removeIf(c -> !c.isValidAt(now));
+          }
+          if (cache.size() < MAX_CACHED_USERS) {
+            cache.put(key, new Cached<>(value, now.plus(cacheTtl)));
+          }
+        };
+    AfterCommit.run(put);
+  }
+
+  private void evictAfterCommit(User user) {
+    evict(user);
+    AfterCommit.run(() -> evict(user));
+  }
+
+  private record Cached<V>(V value, Instant cachedUntil) {
+
+    boolean isValidAt(Instant now) {
+      return now.isBefore(cachedUntil);
+    }
+  }
 }
@@ -0,0 +1,129 @@
+package com.specflux.shared.application;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.specflux.shared.domain.KeysetCursor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Encodes keyset cursors as compact, tamper-proof opaque strings.
+ *
+ * <p>A cursor is a small binary payload followed by a truncated HMAC-SHA256 tag, encoded as
+ * URL-safe Base64. Clients cannot read or forge positions, and any modification is rejected as an
+ * invalid cursor.
+ */
+@Slf4j
+@Component
+public class CursorCodec {
+
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+  private static final byte VERSION = 1;
+  private static final int TAG_LENGTH = 12;
+  private static final int FLAG_ASCENDING = 1;
+  private static final int FLAG_BACKWARD = 2;
+
+  private final SecretKeySpec signingKey;
+
+  public CursorCodec(@Value("${specflux.pagination.cursor-secret:}") String secret) {
+    byte[] keyBytes;
+    if (secret == null || secret.isBlank()) {
+      log.warn(
+          "specflux.pagination.cursor-secret is not set; using a random key. "
+              + "Cursors will not survive restarts or work across instances.");
+      keyBytes = new byte[32];
+      new SecureRandom().nextBytes(keyBytes);
+    } else {
+      keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+    }
+    this.signingKey = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+  }
+
+  /**
+   * Encodes a cursor.
+   *
+   * @param cursor the cursor to encode
+   * @return the opaque cursor string
+   */
+  public String encode(KeysetCursor cursor) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(VERSION);
+      out.writeByte(
+          (cursor.ascending() ? FLAG_ASCENDING : 0) | (cursor.backward() ? FLAG_BACKWARD : 0));
+      out.writeUTF(cursor.sortKey());
+      out.writeUTF(cursor.key());
+      out.writeLong(cursor.id());
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to encode cursor", e);
+    }
+
+    byte[] payload = bytes.toByteArray();
+    byte[] token = Arrays.copyOf(payload, payload.length + TAG_LENGTH);
+    System.arraycopy(sign(payload), 0, token, payload.length, TAG_LENGTH);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+  }
+
+  /**
+   * Decodes and verifies a cursor.
+   *
+   * @param cursor the opaque cursor string (may be null or blank)
+   * @return the decoded cursor, or null if none was given
+   * @throws IllegalArgumentException if the cursor is malformed or its signature does not match
+   */
+  public KeysetCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      byte[] token = Base64.getUrlDecoder().decode(cursor);
+      if (token.length <= TAG_LENGTH) {
+        throw new IllegalArgumentException("Invalid cursor");
+      }
+      byte[] payload = Arrays.copyOf(token, token.length - TAG_LENGTH);
+      byte[] tag = Arrays.copyOfRange(token, payload.length, token.length);
+      if (!MessageDigest.isEqual(tag, Arrays.copyOf(sign(payload), TAG_LENGTH))) {
+        throw new IllegalArgumentException("Invalid cursor");
+      }
+
+      DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+      if (in.readByte() != VERSION) {
+        throw new IllegalArgumentException("Invalid cursor");
+      }
+      int flags = in.readByte();
+      String sortKey = in.readUTF();
+      String key = in.readUTF();
+      long id = in.readLong();
+      return new KeysetCursor(
+          sortKey, (flags & FLAG_ASCENDING) != 0, (flags & FLAG_BACKWARD) != 0, key, id);
+    } catch (IOException | IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+  }
+
+  private byte[] sign(byte[] payload) {
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(signingKey);
+      return mac.doFinal(payload);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Failed to sign cursor", e);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.specflux.shared.application;
+
+import java.util.List;
+
+import com.specflux.api.generated.model.CursorPaginationDto;
+
+/**
+ * One page of a keyset-paginated list.
+ *
+ * @param items the rows on this page, in display order
+ * @param total the number of rows matching the filter
+ * @param hasMore whether there are rows after this page
+ * @param nextCursor the cursor for the following page, or null
+ * @param prevCursor the cursor for the preceding page, or null
+ * @param <T> the row type
+ */
+public record KeysetPage<T>(
+    List<T> items, long total, boolean hasMore, String nextCursor, String prevCursor) {
+
+  /** Builds the API pagination metadata for this page. */
+  public CursorPaginationDto toPaginationDto() {
+    CursorPaginationDto pagination = new CursorPaginationDto();
+    pagination.setTotal(total);
+    pagination.setHasMore(hasMore);
+    pagination.setNextCursor(nextCursor);
+    pagination.setPrevCursor(prevCursor);
+    return pagination;
+  }
+}
@@ -0,0 +1,111 @@
+package com.specflux.shared.application;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import com.specflux.shared.domain.Entity;
+import com.specflux.shared.domain.KeysetCursor;
+import com.specflux.shared.domain.SortKey;
+import com.specflux.shared.infrastructure.persistence.KeysetQueryExecutor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keyset pagination shared by all list endpoints.
+ *
+ * <p>Decodes the incoming cursor, seeks to the boundary row in SQL and returns the page together
+ * with signed cursors for the next and previous pages.
+ */
+@Service
+@RequiredArgsConstructor
+public class KeysetPaginator {
+
+  private final KeysetQueryExecutor keysetQueryExecutor;
+  private final CursorCodec cursorCodec;
+
+  /**
+   * Fetches one page of a list.
+   *
+   * @param type the entity class
+   * @param filter the filter applied to the list
+   * @param sortKey the key the list is ordered by
+   * @param ascending whether the list is sorted ascending
+   * @param cursor the cursor from a previous page (optional)
+   * @param limit the page size
+   * @return the page
+   * @throws IllegalArgumentException if the cursor is invalid or was issued for another sort
+   */
+  public <T extends Entity<Long>, K extends Comparable<? super K>> KeysetPage<T> paginate(
+      Class<T> type,
+      Specification<T> filter,
+      SortKey<T, K> sortKey,
+      boolean ascending,
+      String cursor,
+      int limit) {
+    return paginate(type, filter, sortKey, ascending, cursor, limit, null);
+  }
+
+  /**
+   * Fetches one page of a list, loading the associations of a named entity graph with the rows.
+   *
+   * @param type the entity class
+   * @param filter the filter applied to the list
+   * @param sortKey the key the list is ordered by
+   * @param ascending whether the list is sorted ascending
+   * @param cursor the cursor from a previous page (optional)
+   * @param limit the page size
+   * @param fetchGraph the entity graph used to load the rows (optional)
+   * @return the page
+   * @throws IllegalArgumentException if the cursor is invalid or was issued for another sort
+   */
+  public <T extends Entity<Long>, K extends Comparable<? super K>> KeysetPage<T> paginate(
+      Class<T> type,
+      Specification<T> filter,
+      SortKey<T, K> sortKey,
+      boolean ascending,
+      String cursor,
+      int limit,
+      String fetchGraph) {
+    KeysetCursor position = cursorCodec.decode(cursor);
+    if (position != null
+        && (!position.sortKey().equals(sortKey.getName()) || position.ascending() != ascending)) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+
+    long total = keysetQueryExecutor.count(type, filter);
+
+    if (position != null && position.backward()) {
+      List<T> rows =
+          keysetQueryExecutor.fetch(
+              type, filter, sortKey, !ascending, position, limit + 1, fetchGraph);
+      boolean hasPrevious = rows.size() > limit;
+      List<T> items = new ArrayList<>(hasPrevious ? rows.subList(0, limit) : rows);
+      Collections.reverse(items);
+      String next = items.isEmpty() ? null : encode(sortKey, ascending, false, items.getLast());
+      String prev = hasPrevious ? encode(sortKey, ascending, true, items.getFirst()) : null;
+      return new KeysetPage<>(items, total, next != null, next, prev);
+    }
+
+    List<T> rows =
+        keysetQueryExecutor.fetch(
+            type, filter, sortKey, ascending, position, limit + 1, fetchGraph);
+    boolean hasMore = rows.size() > limit;
+    List<T> items = hasMore ? rows.subList(0, limit) : rows;
+    String next = hasMore ? encode(sortKey, ascending, false, items.getLast()) : null;
+    String prev =
+        position != null && !items.isEmpty()
+            ? encode(sortKey, ascending, true, items.getFirst())
+            : null;
+    return new KeysetPage<>(items, total, hasMore, next, prev);
+  }
+
+  private <T extends Entity<Long>> String encode(
+      SortKey<T, ?> sortKey, boolean ascending, boolean backward, T row) {
+    return cursorCodec.encode(
+        new KeysetCursor(sortKey.getName(), ascending, backward, sortKey.format(row), row.getId()));
+  }
+}
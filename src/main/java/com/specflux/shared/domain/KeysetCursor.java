@@ -0,0 +1,16 @@
+package com.specflux.shared.domain;
+
+/**
+ * Position within a keyset-paginated list.
+ *
+ * <p>Identifies the boundary row by its sort key and id, together with the sort it was taken from.
+ * A backward cursor points at the first row of a page and is used to fetch the page before it.
+ *
+ * @param sortKey the name of the sort key the list is ordered by
+ * @param ascending whether the list is sorted ascending
+ * @param backward whether the cursor pages towards the start of the list
+ * @param key the formatted sort key of the boundary row
+ * @param id the id of the boundary row
+ */
+public record KeysetCursor(
+    String sortKey, boolean ascending, boolean backward, String key, long id) {}
@@ -0,0 +1,111 @@
+package com.specflux.shared.domain;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+
+/**
+ * A sortable key for keyset pagination.
+ *
+ * <p>Pairs the SQL expression a list is ordered by with the Java accessor that reads the same value
+ * from a loaded entity, so the last row of a page can be turned into a cursor. Keys are always
+ * combined with the entity id as tie-breaker.
+ *
+ * @param <T> the entity type
+ * @param <K> the key type
+ */
+public final class SortKey<T, K extends Comparable<? super K>> {
+
+  private final String name;
+  private final BiFunction<From<?, T>, CriteriaBuilder, Expression<K>> expression;
+  private final Function<T, K> extractor;
+  private final Function<K, String> formatter;
+  private final Function<String, K> parser;
+
+  private SortKey(
+      String name,
+      BiFunction<From<?, T>, CriteriaBuilder, Expression<K>> expression,
+      Function<T, K> extractor,
+      Function<K, String> formatter,
+      Function<String, K> parser) {
+    this.name = Objects.requireNonNull(name, "name must not be null");
+    this.expression = expression;
+    this.extractor = extractor;
+    this.formatter = formatter;
+    this.parser = parser;
+  }
+
+  /** Creates a key over a string expression. */
+  public static <T> SortKey<T, String> ofString(
+      String name,
+      BiFunction<From<?, T>, CriteriaBuilder, Expression<String>> expression,
+      Function<T, String> extractor) {
+    return new SortKey<>(name, expression, extractor, Function.identity(), Function.identity());
+  }
+
+  /** Creates a key over an integer expression. */
+  public static <T> SortKey<T, Integer> ofInteger(
+      String name,
+      BiFunction<From<?, T>, CriteriaBuilder, Expression<Integer>> expression,
+      Function<T, Integer> extractor) {
+    return new SortKey<>(name, expression, extractor, String::valueOf, Integer::valueOf);
+  }
+
+  /** Creates a key over a timestamp expression. */
+  public static <T> SortKey<T, Instant> ofInstant(
+      String name,
+      BiFunction<From<?, T>, CriteriaBuilder, Expression<Instant>> expression,
+      Function<T, Instant> extractor) {
+    return new SortKey<>(name, expression, extractor, Instant::toString, Instant::parse);
+  }
+
+  /** Creates a key over a date expression. */
+  public static <T> SortKey<T, LocalDate> ofDate(
+      String name,
+      BiFunction<From<?, T>, CriteriaBuilder, Expression<LocalDate>> expression,
+      Function<T, LocalDate> extractor) {
+    return new SortKey<>(name, expression, extractor, LocalDate::toString, LocalDate::parse);
+  }
+
+  /** Creates a key over an enum column, compared by its stored value. */
+  public static <T, E extends Enum<E>> SortKey<T, E> ofEnum(
+      String name,
+      Class<E> type,
+      BiFunction<From<?, T>, CriteriaBuilder, Expression<E>> expression,
+      Function<T, E> extractor) {
+    return new SortKey<>(name, expression, extractor, Enum::name, v -> Enum.valueOf(type, v));
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /** Builds the SQL expression for this key. */
+  public Expression<K> toExpression(From<?, T> root, CriteriaBuilder cb) {
+    return expression.apply(root, cb);
+  }
+
+  /** Reads this key from an entity and formats it for a cursor. */
+  public String format(T entity) {
+    return formatter.apply(extractor.apply(entity));
+  }
+
+  /**
+   * Parses a key previously produced by {@link #format}.
+   *
+   * @throws IllegalArgumentException if the value cannot be parsed
+   */
+  public K parse(String value) {
+    try {
+      return parser.apply(value);
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Invalid sort key value for " + name, e);
+    }
+  }
+}
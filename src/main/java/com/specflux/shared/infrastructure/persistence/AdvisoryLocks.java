@@ -0,0 +1,59 @@
+package com.specflux.shared.infrastructure.persistence;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Runs work that must not overlap across instances, guarded by PostgreSQL advisory locks.
+ *
+ * <p>The lock is taken with {@code pg_try_advisory_lock} on a connection that is held until the
+ * work ends, so a second instance skips the work instead of queueing behind it. PostgreSQL releases
+ * the lock by itself if the holding connection dies.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdvisoryLocks {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Runs a task unless another session holds the lock.
+   *
+   * @param key the advisory lock key
+   * @param task the work to run while holding the lock
+   * @return true if the lock was taken and the task ran, false if it was held elsewhere
+   */
+  public boolean runExclusively(long key, Runnable task) {
+    return Boolean.TRUE.equals(
+        jdbcTemplate.execute(
+            (ConnectionCallback<Boolean>)
+                connection -> {
+                  if (!call(connection, "SELECT pg_try_advisory_lock(?)", key)) {
+                    return false;
+                  }
+                  try {
+                    task.run();
+                    return true;
+                  } finally {
+                    call(connection, "SELECT pg_advisory_unlock(?)", key);
+                  }
+                }));
+  }
+
+  private static boolean call(Connection connection, String sql, long key) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setLong(1, key);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() && resultSet.getBoolean(1);
+      }
+    }
+  }
+}
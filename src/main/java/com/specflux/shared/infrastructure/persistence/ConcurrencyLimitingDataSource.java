@@ -0,0 +1,124 @@
+package com.specflux.shared.infrastructure.persistence;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Limits how many connections can be checked out of the target data source at once.
+ *
+ * <p>With virtual threads every request gets its own thread, so thousands of requests can ask the
+ * pool for a connection at the same time. Callers wait in a fair queue on a semaphore instead, and
+ * give up with a {@link SQLTransientConnectionException} after the acquire timeout. A permit is
+ * returned when the connection is closed or aborted.
+ */
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+  private final Semaphore permits;
+  private final Duration acquireTimeout;
+
+  /**
+   * Creates a limiting data source.
+   *
+   * @param target the data source to guard, normally the connection pool
+   * @param maxConcurrentConnections the number of connections that may be checked out at once
+   * @param acquireTimeout how long a caller waits for a permit
+   */
+  public ConcurrencyLimitingDataSource(
+      DataSource target, int maxConcurrentConnections, Duration acquireTimeout) {
+    super(target);
+    this.permits = new Semaphore(maxConcurrentConnections, true);
+    this.acquireTimeout = acquireTimeout;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    return guard(() -> super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    return guard(() -> super.getConnection(username, password));
+  }
+
+  /** Number of callers waiting for a connection. */
+  public int getWaitingCount() {
+    return permits.getQueueLength();
+  }
+
+  /** Number of connections that can currently be checked out without waiting. */
+  public int getAvailablePermits() {
+    return permits.availablePermits();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        throw new SQLTransientConnectionException(
+            "Timed out after "
+                + acquireTimeout.toMillis()
+                + "ms waiting for a database connection");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("Interrupted waiting for a database connection", e);
+    }
+  }
+
+  private Connection guard(ConnectionSupplier supplier) throws SQLException {
+    Connection connection;
+    try {
+      connection = supplier.get();
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection)
+        Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+              String name = method.getName();
+              if (name.equals("equals")) {
+                return proxy == args[0];
+              }
+              if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+              }
+              boolean ending = name.equals("close") || name.equals("abort");
+              if (ending && !released.compareAndSet(false, true)) {
+                // Already closed or aborted; let the connection handle the repeated call
+                ending = false;
+              }
+              try {
+                return method.invoke(connection, args);
+              } catch (InvocationTargetException e) {
+                throw e.getCause();
+              } finally {
+                if (ending) {
+                  permits.release();
+                }
+              }
+            });
+  }
+
+  @FunctionalInterface
+  private interface ConnectionSupplier {
+
+    Connection get() throws SQLException;
+  }
+}
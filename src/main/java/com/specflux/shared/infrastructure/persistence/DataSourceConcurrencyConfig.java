@@ -0,0 +1,61 @@
+package com.specflux.shared.infrastructure.persistence;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Guards the connection pool when requests run on virtual threads.
+ *
+ * <p>Wraps the application data source in a {@link ConcurrencyLimitingDataSource} sized to the
+ * Hikari pool, so that excess requests queue cheaply on a semaphore and time out with a clear error
+ * rather than piling up inside the pool. The number of waiting callers is published as the {@code
+ * specflux.db.connections.waiting} metric.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class DataSourceConcurrencyConfig {
+
+  @Bean
+  static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(
+      @Value(
+              "${specflux.datasource.max-concurrent-connections:"
+                  + "${spring.datasource.hikari.maximum-pool-size:10}}")
+          int maxConcurrentConnections,
+      @Value("${specflux.datasource.acquire-timeout:PT10S}") Duration acquireTimeout) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)
+            || bean instanceof ConcurrencyLimitingDataSource) {
+          return bean;
+        }
+        return new ConcurrencyLimitingDataSource(
+            dataSource, maxConcurrentConnections, acquireTimeout);
+      }
+    };
+  }
+
+  @Bean
+  MeterBinder concurrencyLimitingDataSourceMetrics(DataSource dataSource) {
+    return registry -> {
+      if (dataSource instanceof ConcurrencyLimitingDataSource limited) {
+        Gauge.builder(
+                "specflux.db.connections.waiting",
+                limited,
+                ConcurrencyLimitingDataSource::getWaitingCount)
+            .description("Requests waiting for a database connection")
+            .register(registry);
+      }
+    };
+  }
+}
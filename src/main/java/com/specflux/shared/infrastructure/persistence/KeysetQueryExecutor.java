@@ -0,0 +1,135 @@
+package com.specflux.shared.infrastructure.persistence;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import com.specflux.shared.domain.KeysetCursor;
+import com.specflux.shared.domain.SortKey;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Runs keyset (seek) queries with the Criteria API.
+ *
+ * <p>Instead of skipping rows with OFFSET, each page starts from a WHERE clause on the last seen
+ * (sort key, id) pair, so any page costs the same as the first one when the sort key is indexed.
+ */
+@Component
+public class KeysetQueryExecutor {
+
+  /** JPA hint that loads the graph's attributes eagerly and leaves everything else lazy. */
+  private static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
+  @PersistenceContext private EntityManager entityManager;
+
+  /**
+   * Fetches rows following the given position.
+   *
+   * @param type the entity class (must have an {@code id} attribute)
+   * @param filter the filter applied to the list
+   * @param sortKey the key the list is ordered by
+   * @param ascending the direction to read in
+   * @param after the boundary row, or null to start from the beginning
+   * @param limit the maximum number of rows to return
+   * @return the rows in read order
+   */
+  public <T, K extends Comparable<? super K>> List<T> fetch(
+      Class<T> type,
+      Specification<T> filter,
+      SortKey<T, K> sortKey,
+      boolean ascending,
+      KeysetCursor after,
+      int limit) {
+    return fetch(type, filter, sortKey, ascending, after, limit, null);
+  }
+
+  /**
+   * Fetches rows following the given position, joining the associations of a named entity graph
+   * into the same query.
+   *
+   * @param type the entity class (must have an {@code id} attribute)
+   * @param filter the filter applied to the list
+   * @param sortKey the key the list is ordered by
+   * @param ascending the direction to read in
+   * @param after the boundary row, or null to start from the beginning
+   * @param limit the maximum number of rows to return
+   * @param fetchGraph the name of the entity graph to fetch, or null for the default plan
+   * @return the rows in read order
+   */
+  public <T, K extends Comparable<? super K>> List<T> fetch(
+      Class<T> type,
+      Specification<T> filter,
+      SortKey<T, K> sortKey,
+      boolean ascending,
+      KeysetCursor after,
+      int limit,
+      String fetchGraph) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<T> query = cb.createQuery(type);
+    Root<T> root = query.from(type);
+
+    Expression<K> key = sortKey.toExpression(root, cb);
+    Expression<Long> id = root.get("id");
+
+    Predicate where = filter.toPredicate(root, query, cb);
+    if (after != null) {
+      where = cb.and(where, seek(cb, key, id, sortKey.parse(after.key()), after.id(), ascending));
+    }
+
+    query
+        .select(root)
+        .where(where)
+        .orderBy(ascending ? cb.asc(key) : cb.desc(key), ascending ? cb.asc(id) : cb.desc(id));
+
+    TypedQuery<T> typedQuery = entityManager.createQuery(query).setMaxResults(limit);
+    if (fetchGraph != null) {
+      typedQuery.setHint(FETCH_GRAPH_HINT, entityManager.getEntityGraph(fetchGraph));
+    }
+    return typedQuery.getResultList();
+  }
+
+  /**
+   * Counts rows matching the filter.
+   *
+   * @param type the entity class
+   * @param filter the filter applied to the list
+   * @return the number of matching rows
+   */
+  public <T> long count(Class<T> type, Specification<T> filter) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> query = cb.createQuery(Long.class);
+    Root<T> root = query.from(type);
+    query.select(cb.count(root)).where(filter.toPredicate(root, query, cb));
+    return entityManager.createQuery(query).getSingleResult();
+  }
+
+  /**
+   * Builds {@code key >= k AND (key > k OR id > i)} (mirrored for descending). The leading range
+   * condition lets PostgreSQL seek directly into a (key, id) index.
+   */
+  private <K extends Comparable<? super K>> Predicate seek(
+      CriteriaBuilder cb,
+      Expression<K> key,
+      Expression<Long> id,
+      K lastKey,
+      long lastId,
+      boolean ascending) {
+    if (ascending) {
+      return cb.and(
+          cb.greaterThanOrEqualTo(key, lastKey),
+          cb.or(cb.greaterThan(key, lastKey), cb.greaterThan(id, lastId)));
+    }
+    return cb.and(
+        cb.lessThanOrEqualTo(key, lastKey),
+        cb.or(cb.lessThan(key, lastKey), cb.lessThan(id, lastId)));
+  }
+}
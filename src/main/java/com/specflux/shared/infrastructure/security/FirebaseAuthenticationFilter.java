@@ -8,9 +8,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseAuthException;
-import com.google.firebase.auth.FirebaseToken;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -20,8 +18,8 @@ import jakarta.servlet.http.HttpServletResponse;
 /**
  * Filter that validates Firebase ID tokens from the Authorization header.
  *
- * <p>Extracts the Bearer token, verifies it using Firebase Admin SDK, and sets the authentication
- * in the SecurityContext.
+ * <p>Extracts the Bearer token, verifies it with the {@link FirebaseTokenVerifier}, and sets the
+ * authentication in the SecurityContext.
  */
 public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
 
@@ -29,10 +27,10 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
   private static final String AUTHORIZATION_HEADER = "Authorization";
   private static final String BEARER_PREFIX = "Bearer ";
 
-  private final FirebaseAuth firebaseAuth;
+  private final FirebaseTokenVerifier tokenVerifier;
 
-  public FirebaseAuthenticationFilter(FirebaseAuth firebaseAuth) {
-    this.firebaseAuth = firebaseAuth;
+  public FirebaseAuthenticationFilter(FirebaseTokenVerifier tokenVerifier) {
+    this.tokenVerifier = tokenVerifier;
   }
 
   @Override
@@ -52,21 +50,14 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
       String token = authHeader.substring(BEARER_PREFIX.length());
 
       try {
-        FirebaseToken firebaseToken = firebaseAuth.verifyIdToken(token, true);
-
-        FirebasePrincipal principal =
-            new FirebasePrincipal(
-                firebaseToken.getUid(),
-                firebaseToken.getEmail(),
-                firebaseToken.getName(),
-                firebaseToken.getPicture());
+        FirebasePrincipal principal = tokenVerifier.verify(token);
 
         FirebaseAuthenticationToken authentication =
             new FirebaseAuthenticationToken(principal, token, Collections.emptyList());
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        log.debug("Successfully authenticated user: {}", firebaseToken.getUid());
+        log.debug("Successfully authenticated user: {}", principal.getFirebaseUid());
       } catch (FirebaseAuthException e) {
         log.warn("Failed to verify Firebase token: {}", e.getMessage());
         SecurityContextHolder.clearContext();
@@ -0,0 +1,242 @@
+package com.specflux.shared.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.google.firebase.ErrorCode;
+import com.google.firebase.auth.AuthErrorCode;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseAuthException;
+import com.google.firebase.auth.FirebaseToken;
+import com.google.firebase.auth.GetUsersResult;
+import com.google.firebase.auth.UidIdentifier;
+import com.google.firebase.auth.UserIdentifier;
+import com.google.firebase.auth.UserRecord;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Verifies Firebase ID tokens and caches the result until the token expires.
+ *
+ * <p>Tokens are verified locally: the Admin SDK checks the signature against Google's public keys,
+ * which it caches according to their HTTP cache headers, so a cache miss costs no network round
+ * trip in the common case. Verified tokens are cached under a SHA-256 hash of the token, never the
+ * token itself.
+ *
+ * <p>Revocation is not checked per request. Instead, {@link #checkRevocations()} periodically looks
+ * up the users that have cached tokens, up to 100 per call, and drops the tokens of users whose
+ * tokens were revoked, or who were disabled or deleted. A revoked token is therefore accepted for
+ * at most one check interval. If Firebase cannot be reached, cached tokens stay valid until they
+ * expire.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "firebase.enabled", havingValue = "true", matchIfMissing = true)
+public class FirebaseTokenVerifier {
+
+  /** Firebase ID tokens are valid for one hour after they are issued. */
+  private static final long MAX_TOKEN_LIFETIME_SECONDS = 3600;
+
+  /** Cutoff for users that are disabled or deleted; no token is accepted. */
+  private static final long BLOCKED = Long.MAX_VALUE;
+
+  /** Most identifiers the Admin SDK accepts in one user lookup. */
+  private static final int LOOKUP_BATCH_SIZE = 100;
+
+  private final FirebaseAuth firebaseAuth;
+  private final int maxEntries;
+  private final Clock clock;
+
+  private final Map<String, CachedToken> tokens = new ConcurrentHashMap<>();
+
+  /** Epoch second per UID before which issued tokens are rejected. */
+  private final Map<String, Long> validAfter = new ConcurrentHashMap<>();
+
+  @Autowired
+  public FirebaseTokenVerifier(
+      FirebaseAuth firebaseAuth,
+      @Value("${firebase.token-cache.max-entries:10000}") int maxEntries) {
+    this(firebaseAuth, maxEntries, Clock.systemUTC());
+  }
+
+  FirebaseTokenVerifier(FirebaseAuth firebaseAuth, int maxEntries, Clock clock) {
+    this.firebaseAuth = firebaseAuth;
+    this.maxEntries = maxEntries;
+    this.clock = clock;
+  }
+
+  /**
+   * Verifies an ID token.
+   *
+   * @param token the raw ID token
+   * @return the principal the token was issued to
+   * @throws FirebaseAuthException if the token is invalid, expired or revoked
+   */
+  public FirebasePrincipal verify(String token) throws FirebaseAuthException {
+    String key = hash(token);
+    long now = clock.instant().getEpochSecond();
+    CachedToken cached = tokens.get(key);
+    if (cached != null) {
+      if (cached.expiresAt() > now) {
+        return cached.principal();
+      }
+      tokens.remove(key, cached);
+    }
+
+    FirebaseToken verified = firebaseAuth.verifyIdToken(token, false);
+    long issuedAt = claim(verified, "iat");
+    long expiresAt = claim(verified, "exp");
+    if (issuedAt < validAfter.getOrDefault(verified.getUid(), Long.MIN_VALUE)) {
+      throw new FirebaseAuthException(
+          ErrorCode.INVALID_ARGUMENT,
+          "Firebase ID token has been revoked",
+          null,
+          null,
+          AuthErrorCode.REVOKED_ID_TOKEN);
+    }
+
+    FirebasePrincipal principal =
+        new FirebasePrincipal(
+            verified.getUid(), verified.getEmail(), verified.getName(), verified.getPicture());
+    if (tokens.size() >= maxEntries) {
+      removeExpired(now);
+    }
+    if (tokens.size() < maxEntries) {
+      CachedToken entry = new CachedToken(principal, issuedAt, expiresAt);
+      tokens.put(key, entry);
+      // A revocation check that ran since the cutoff was read above did not see this entry
+      if (issuedAt < validAfter.getOrDefault(verified.getUid(), Long.MIN_VALUE)) {
+        tokens.remove(key, entry);
+      }
+    }
+    return principal;
+  }
+
+  /**
+   * Drops cached tokens of users whose tokens were revoked, or who were disabled or deleted, since
+   * they were cached. Runs in the background so that requests never wait for Firebase.
+   */
+  @Scheduled(
+      fixedDelayString = "${firebase.token-cache.revocation-check-interval:PT1M}",
+      initialDelayString = "${firebase.token-cache.revocation-check-interval:PT1M}")
+  public void checkRevocations() {
+    long now = clock.instant().getEpochSecond();
+    removeExpired(now);
+    // Tokens issued before a revocation expire within an hour, so old cutoffs can be forgotten
+    validAfter
+        .entrySet()
+        .removeIf(e -> e.getValue() != BLOCKED && e.getValue() + MAX_TOKEN_LIFETIME_SECONDS < now);
+
+    Set<String> uids = new HashSet<>();
+    tokens.values().forEach(t -> uids.add(t.principal().getFirebaseUid()));
+    validAfter.forEach(
+        (uid, cutoff) -> {
+          if (cutoff == BLOCKED) {
+            uids.add(uid);
+          }
+        });
+
+    int revoked = 0;
+    List<String> pending = new ArrayList<>(uids);
+    for (int from = 0; from < pending.size(); from += LOOKUP_BATCH_SIZE) {
+      List<String> batch =
+          pending.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, pending.size()));
+      for (Map.Entry<String, Long> entry : lookUpCutoffs(batch).entrySet()) {
+        String uid = entry.getKey();
+        long cutoff = entry.getValue();
+        if (cutoff == Long.MIN_VALUE) {
+          validAfter.remove(uid);
+          continue;
+        }
+        validAfter.put(uid, cutoff);
+        revoked += revoke(uid, cutoff);
+      }
+    }
+    log.debug(
+        "[firebaseTokens] revocation check users={} cached={} revoked={}",
+        uids.size(),
+        tokens.size(),
+        revoked);
+  }
+
+  /** Number of cached tokens. */
+  public int size() {
+    return tokens.size();
+  }
+
+  /**
+   * Returns, per UID, the epoch second before which the user's tokens are invalid, or {@link
+   * Long#MIN_VALUE} if all tokens are valid. Returns no entries if Firebase could not be asked.
+   */
+  private Map<String, Long> lookUpCutoffs(List<String> uids) {
+    GetUsersResult result;
+    try {
+      List<UserIdentifier> identifiers =
+          uids.stream().<UserIdentifier>map(UidIdentifier::new).toList();
+      result = firebaseAuth.getUsers(identifiers);
+    } catch (FirebaseAuthException e) {
+      log.warn(
+          "[firebaseTokens] revocation check failed for {} users: {}", uids.size(), e.getMessage());
+      return Map.of();
+    }
+    Map<String, Long> cutoffs = new HashMap<>();
+    for (UserRecord user : result.getUsers()) {
+      if (user.isDisabled()) {
+        cutoffs.put(user.getUid(), BLOCKED);
+        continue;
+      }
+      long validSinceMillis = user.getTokensValidAfterTimestamp();
+      cutoffs.put(
+          user.getUid(),
+          validSinceMillis > 0 ? Math.ceilDiv(validSinceMillis, 1000) : Long.MIN_VALUE);
+    }
+    // Every requested user is either returned or reported as not found, i.e. deleted
+    for (String uid : uids) {
+      cutoffs.putIfAbsent(uid, BLOCKED);
+    }
+    return cutoffs;
+  }
+
+  private int revoke(String uid, long cutoff) {
+    int before = tokens.size();
+    tokens
+        .values()
+        .removeIf(t -> t.principal().getFirebaseUid().equals(uid) && t.issuedAt() < cutoff);
+    return before - tokens.size();
+  }
+
+  private void removeExpired(long now) {
+    tokens.values().removeIf(t -> t.expiresAt() <= now);
+  }
+
+  private static long claim(FirebaseToken token, String name) {
+    return ((Number) token.getClaims().get(name)).longValue();
+  }
+
+  private static String hash(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private record CachedToken(FirebasePrincipal principal, long issuedAt, long expiresAt) {}
+}
@@ -0,0 +1,42 @@
+package com.specflux.shared.infrastructure.security;
+
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides who may use operational endpoints, such as replaying stored GitHub webhook deliveries.
+ *
+ * <p>Operators are the users whose Firebase UIDs are listed in {@code
+ * specflux.security.operator-uids}, signed in with a Firebase token or one of their API keys. While
+ * the list is empty nobody is an operator.
+ */
+@Component
+public class OperatorAccess {
+
+  /** Actuator paths only operators may call, even when the endpoint is exposed. */
+  public static final String[] OPERATOR_ENDPOINTS = {
+    "/actuator/githubwebhooks", "/actuator/githubwebhooks/**"
+  };
+
+  private final Set<String> operatorUids;
+
+  public OperatorAccess(@Value("${specflux.security.operator-uids:}") Set<String> operatorUids) {
+    this.operatorUids = Set.copyOf(operatorUids);
+  }
+
+  /** Grants access when the authenticated user is an operator. */
+  public AuthorizationDecision decide(Authentication authentication) {
+    return new AuthorizationDecision(isOperator(authentication));
+  }
+
+  boolean isOperator(Authentication authentication) {
+    return authentication != null
+        && authentication.isAuthenticated()
+        && authentication.getPrincipal() instanceof FirebasePrincipal principal
+        && operatorUids.contains(principal.getFirebaseUid());
+  }
+}
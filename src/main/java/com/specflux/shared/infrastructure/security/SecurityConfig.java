@@ -5,6 +5,7 @@ import java.util.Arrays;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -14,7 +15,6 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
-import com.google.firebase.auth.FirebaseAuth;
 import com.specflux.apikey.application.ApiKeyService;
 import com.specflux.apikey.infrastructure.ApiKeyAuthenticationFilter;
 
@@ -23,19 +23,25 @@ import com.specflux.apikey.infrastructure.ApiKeyAuthenticationFilter;
  *
  * <p>Configures stateless authentication using either Firebase tokens or API keys. API keys (sfx_
  * prefix) are validated first, then Firebase tokens. Public endpoints (health checks, OpenAPI docs)
- * are permitted without authentication.
+ * are permitted without authentication; operational actuator endpoints are limited to the operators
+ * allowed by {@link OperatorAccess}.
  */
 @Configuration
 @EnableWebSecurity
 @ConditionalOnProperty(name = "firebase.enabled", havingValue = "true", matchIfMissing = true)
 public class SecurityConfig {
 
-  private final FirebaseAuth firebaseAuth;
+  private final FirebaseTokenVerifier firebaseTokenVerifier;
   private final ApiKeyService apiKeyService;
+  private final OperatorAccess operatorAccess;
 
-  public SecurityConfig(FirebaseAuth firebaseAuth, ApiKeyService apiKeyService) {
-    this.firebaseAuth = firebaseAuth;
+  public SecurityConfig(
+      FirebaseTokenVerifier firebaseTokenVerifier,
+      ApiKeyService apiKeyService,
+      OperatorAccess operatorAccess) {
+    this.firebaseTokenVerifier = firebaseTokenVerifier;
     this.apiKeyService = apiKeyService;
+    this.operatorAccess = operatorAccess;
   }
 
   @Bean
@@ -47,6 +53,9 @@ public class SecurityConfig {
         .authorizeHttpRequests(
             auth ->
                 auth
+                    // Operational endpoints, such as replaying GitHub webhook deliveries
+                    .requestMatchers(OperatorAccess.OPERATOR_ENDPOINTS)
+                    .access((authentication, _) -> operatorAccess.decide(authentication.get()))
                     // Health and actuator endpoints
                     .requestMatchers("/actuator/**")
                     .permitAll()
@@ -57,13 +66,16 @@ public class SecurityConfig {
                     // GitHub OAuth callback (receives unauthenticated redirect from GitHub)
                     .requestMatchers("/api/github/callback")
                     .permitAll()
+                    // GitHub webhooks (authenticated by their HMAC signature instead)
+                    .requestMatchers(HttpMethod.POST, "/api/github/webhooks")
+                    .permitAll()
                     // All other requests require authentication
                     .anyRequest()
                     .authenticated())
         // Firebase filter added first, then API key filter added before it
         // This ensures order: ApiKey -> Firebase -> UsernamePassword
         .addFilterBefore(
-            new FirebaseAuthenticationFilter(firebaseAuth),
+            new FirebaseAuthenticationFilter(firebaseTokenVerifier),
             UsernamePasswordAuthenticationFilter.class)
         .addFilterBefore(
             new ApiKeyAuthenticationFilter(apiKeyService), FirebaseAuthenticationFilter.class)
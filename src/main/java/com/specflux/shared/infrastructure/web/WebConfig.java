@@ -1,19 +1,33 @@
 package com.specflux.shared.infrastructure.web;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.specflux.project.interfaces.rest.ProjectETagInterceptor;
+
+import lombok.RequiredArgsConstructor;
+
 /**
  * Web MVC configuration.
  *
- * <p>Configures static resource handling for OpenAPI specification files served to Swagger UI, and
- * CORS settings for local development.
+ * <p>Configures static resource handling for OpenAPI specification files served to Swagger UI, CORS
+ * settings for local development, and conditional GETs of project resources.
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+  private final ProjectETagInterceptor projectETagInterceptor;
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(projectETagInterceptor).addPathPatterns(ProjectETagInterceptor.PATHS);
+  }
+
   @Override
   public void addResourceHandlers(ResourceHandlerRegistry registry) {
     // Serve OpenAPI spec files from classpath:openapi/ at /openapi/**
@@ -35,6 +49,7 @@ public class WebConfig implements WebMvcConfigurer {
             "https://tauri.localhost")
         .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
         .allowedHeaders("*")
+        .exposedHeaders(HttpHeaders.ETAG)
         .allowCredentials(true)
         .maxAge(3600);
   }
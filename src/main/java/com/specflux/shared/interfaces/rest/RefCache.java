@@ -0,0 +1,162 @@
+package com.specflux.shared.interfaces.rest;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A bounded map from references to entity IDs that is read without locking.
+ *
+ * <p>Each entry is cached with the owners it is evicted with, such as its project or the entity it
+ * points to, and a reverse index from owner to keys lets an eviction touch only those entries. Once
+ * the map is full, a clock sweep removes entries that were not read since the hand last passed
+ * them, so a read only has to set a flag on its entry.
+ */
+final class RefCache<K> {
+
+  private final int maxSize;
+  private final Map<K, Entry> entries = new ConcurrentHashMap<>();
+  private final Map<Object, Set<K>> keysByOwner = new ConcurrentHashMap<>();
+  private final AtomicBoolean sweeping = new AtomicBoolean();
+
+  /** Where the last sweep stopped; only touched by the thread that holds {@link #sweeping}. */
+  private Iterator<Map.Entry<K, Entry>> hand = Collections.emptyIterator();
+
+  RefCache(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /** Returns the cached ID, or null if the key is not cached. */
+  Long get(K key) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    // Skip the write when the flag is already set, so hot entries are only read
+    if (!entry.referenced) {
+      entry.referenced = true;
+    }
+    return entry.id;
+  }
+
+  /**
+   * Caches an ID.
+   *
+   * @param key the reference
+   * @param id the entity ID it resolves to
+   * @param owners the owners whose eviction also evicts this entry
+   */
+  void put(K key, Long id, Object... owners) {
+    Entry entry = new Entry(id, List.of(owners));
+    Entry replaced = entries.put(key, entry);
+    if (replaced != null) {
+      unindex(key, replaced);
+    }
+    for (Object owner : entry.owners) {
+      keysByOwner.compute(
+          owner,
+          (_, keys) -> {
+            Set<K> indexed = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            indexed.add(key);
+            return indexed;
+          });
+    }
+    if (entries.size() > maxSize) {
+      sweep();
+    }
+  }
+
+  /** Removes a key if it still resolves to the given ID. */
+  void remove(K key, Long id) {
+    Entry entry = entries.get(key);
+    if (entry != null && entry.id.equals(id) && entries.remove(key, entry)) {
+      unindex(key, entry);
+    }
+  }
+
+  /** Removes every key cached with the given owner. */
+  void evict(Object owner) {
+    Set<K> keys = keysByOwner.remove(owner);
+    if (keys == null) {
+      return;
+    }
+    for (K key : keys) {
+      Entry entry = entries.get(key);
+      if (entry != null && entry.owners.contains(owner) && entries.remove(key, entry)) {
+        unindex(key, entry);
+      }
+    }
+  }
+
+  /** Returns the number of cached keys. */
+  int size() {
+    return entries.size();
+  }
+
+  /**
+   * Drops a removed entry's key from the owner index. A key that was cached again in the meantime
+   * keeps the owners of its new entry, since both run under the index's lock for that owner.
+   */
+  private void unindex(K key, Entry removed) {
+    for (Object owner : removed.owners) {
+      keysByOwner.computeIfPresent(
+          owner,
+          (_, keys) -> {
+            Entry current = entries.get(key);
+            if (current == null || !current.owners.contains(owner)) {
+              keys.remove(key);
+            }
+            return keys.isEmpty() ? null : keys;
+          });
+    }
+  }
+
+  /**
+   * Evicts a tenth of the entries, starting where the last sweep stopped. An entry that was read
+   * since the hand last passed it loses its flag instead and survives until the next pass. Only one
+   * thread sweeps at a time; the others keep inserting, so the map may briefly exceed its bound.
+   */
+  private void sweep() {
+    if (!sweeping.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      int target = maxSize - maxSize / 10;
+      // Two passes clear every flag and then evict, so the sweep always ends
+      long steps = 2L * entries.size();
+      while (entries.size() > target && steps-- > 0) {
+        if (!hand.hasNext()) {
+          hand = entries.entrySet().iterator();
+          if (!hand.hasNext()) {
+            return;
+          }
+        }
+        Map.Entry<K, Entry> next = hand.next();
+        Entry entry = next.getValue();
+        if (entry.referenced) {
+          entry.referenced = false;
+        } else if (entries.remove(next.getKey(), entry)) {
+          unindex(next.getKey(), entry);
+        }
+      }
+    } finally {
+      sweeping.set(false);
+    }
+  }
+
+  private static final class Entry {
+
+    private final Long id;
+    private final List<Object> owners;
+    private volatile boolean referenced;
+
+    private Entry(Long id, List<Object> owners) {
+      this.id = id;
+      this.owners = owners;
+    }
+  }
+}
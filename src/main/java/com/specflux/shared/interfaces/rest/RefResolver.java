@@ -1,5 +1,11 @@
 package com.specflux.shared.interfaces.rest;
 
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
 import org.springframework.stereotype.Service;
 
 import com.specflux.epic.domain.Epic;
@@ -8,12 +14,17 @@ import com.specflux.prd.domain.Prd;
 import com.specflux.prd.domain.PrdRepository;
 import com.specflux.project.domain.Project;
 import com.specflux.project.domain.ProjectRepository;
+import com.specflux.shared.application.AfterCommit;
 import com.specflux.shared.domain.DisplayKey;
 import com.specflux.task.domain.Task;
 import com.specflux.task.domain.TaskRepository;
 import com.specflux.user.domain.User;
 import com.specflux.user.domain.UserRepository;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
@@ -27,16 +38,46 @@ import lombok.RequiredArgsConstructor;
  *   <li>Epic: "epic_xyz789" (publicId) or "SPEC-E1" (displayKey)
  *   <li>Task: "task_def456" (publicId) or "SPEC-42" (displayKey)
  * </ul>
+ *
+ * <p>Resolved references are cached as internal IDs in a {@link RefCache}, so a cached reference is
+ * loaded by primary key instead of by key lookup, and looking it up takes no lock. References that
+ * were not used recently are evicted once the cache is full. IDs are only cached once the
+ * transaction that read them commits, and deleting an entity evicts the references to it and into
+ * it; an entry whose row has since disappeared is dropped and resolved again. Hit and miss counts
+ * are published as the {@code specflux.refs.cache.requests} metric.
  */
 @Service
 @RequiredArgsConstructor
 public class RefResolver {
 
+  static final int MAX_CACHED_REFS = 50_000;
+
   private final ProjectRepository projectRepository;
   private final EpicRepository epicRepository;
   private final TaskRepository taskRepository;
   private final UserRepository userRepository;
   private final PrdRepository prdRepository;
+  private final MeterRegistry meterRegistry;
+
+  private final RefCache<String> projectIds = new RefCache<>(MAX_CACHED_REFS);
+  private final RefCache<ChildRef> childIds = new RefCache<>(MAX_CACHED_REFS);
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  @PostConstruct
+  void registerMetrics() {
+    FunctionCounter.builder("specflux.refs.cache.requests", hits, LongAdder::sum)
+        .description("Reference resolutions served from the id cache")
+        .tag("result", "hit")
+        .register(meterRegistry);
+    FunctionCounter.builder("specflux.refs.cache.requests", misses, LongAdder::sum)
+        .description("Reference resolutions that queried the database")
+        .tag("result", "miss")
+        .register(meterRegistry);
+    Gauge.builder("specflux.refs.cache.size", this, r -> r.projectIds.size() + r.childIds.size())
+        .description("Cached reference-to-id mappings")
+        .register(meterRegistry);
+  }
 
   /**
    * Resolves a project reference to a Project entity.
@@ -50,17 +91,38 @@ public class RefResolver {
       throw new IllegalArgumentException("Project reference is required");
     }
 
-    // Check if it's a public ID (starts with "proj_")
-    if (ref.startsWith("proj_")) {
-      return projectRepository
-          .findByPublicId(ref)
-          .orElseThrow(() -> new EntityNotFoundException("Project not found: " + ref));
+    String key = projectKey(ref);
+    Long cachedId = projectIds.get(key);
+    if (cachedId != null) {
+      Optional<Project> cached = projectRepository.findById(cachedId);
+      if (cached.isPresent()) {
+        hits.increment();
+        return cached.get();
+      }
+      projectIds.remove(key, cachedId);
     }
+    misses.increment();
+
+    Project project =
+        (ref.startsWith("proj_")
+                ? projectRepository.findByPublicId(ref)
+                : projectRepository.findByProjectKey(key))
+            .orElseThrow(() -> new EntityNotFoundException("Project not found: " + ref));
+    Long id = project.getId();
+    AfterCommit.run(() -> projectIds.put(key, id, id));
+    return project;
+  }
 
-    // Otherwise, treat as project key
-    return projectRepository
-        .findByProjectKey(ref.toUpperCase())
-        .orElseThrow(() -> new EntityNotFoundException("Project not found: " + ref));
+  /**
+   * Reads the change version of a referenced project without loading the project.
+   *
+   * @param ref Project public ID (proj_xxx) or project key (SPEC)
+   * @return the change version, or empty if the project does not exist
+   */
+  public Optional<Long> resolveProjectChangeVersion(String ref) {
+    return ref.startsWith("proj_")
+        ? projectRepository.findChangeVersionByPublicId(ref)
+        : projectRepository.findChangeVersionByProjectKey(projectKey(ref));
   }
 
   /**
@@ -76,18 +138,20 @@ public class RefResolver {
       throw new IllegalArgumentException("Epic reference is required");
     }
 
-    // Check if it's a public ID (starts with "epic_")
-    if (ref.startsWith("epic_")) {
-      return epicRepository
-          .findByPublicIdAndProjectId(ref, project.getId())
-          .orElseThrow(() -> new EntityNotFoundException("Epic not found: " + ref));
-    }
-
-    // Treat as display key (e.g., PROJ-E1)
-    // Note: Epic display keys have format PROJECT-E{number}, not PROJECT-{number}
-    return epicRepository
-        .findByProjectIdAndDisplayKey(project.getId(), ref)
-        .orElseThrow(() -> new EntityNotFoundException("Epic not found: " + ref));
+    return resolveChild(
+        new ChildRef(Epic.class, project.getId(), ref),
+        epicRepository::findWithSummaryById,
+        () -> {
+          // Check if it's a public ID (starts with "epic_")
+          if (ref.startsWith("epic_")) {
+            return epicRepository.findByPublicIdAndProjectId(ref, project.getId());
+          }
+          // Treat as display key (e.g., PROJ-E1)
+          // Note: Epic display keys have format PROJECT-E{number}, not PROJECT-{number}
+          return epicRepository.findByProjectIdAndDisplayKey(project.getId(), ref);
+        },
+        Epic::getId,
+        "Epic not found: " + ref);
   }
 
   /**
@@ -103,22 +167,24 @@ public class RefResolver {
       throw new IllegalArgumentException("Task reference is required");
     }
 
-    // Check if it's a public ID (starts with "task_")
-    if (ref.startsWith("task_")) {
-      return taskRepository
-          .findByPublicIdAndProjectId(ref, project.getId())
-          .orElseThrow(() -> new EntityNotFoundException("Task not found: " + ref));
-    }
-
-    // Parse as display key (e.g., PROJ-42)
-    try {
-      DisplayKey displayKey = DisplayKey.parse(ref);
-      return taskRepository
-          .findByProjectIdAndDisplayKey(project.getId(), ref)
-          .orElseThrow(() -> new EntityNotFoundException("Task not found: " + ref));
-    } catch (IllegalArgumentException e) {
-      throw new EntityNotFoundException("Task not found: " + ref);
-    }
+    return resolveChild(
+        new ChildRef(Task.class, project.getId(), ref),
+        taskRepository::findWithSummaryById,
+        () -> {
+          // Check if it's a public ID (starts with "task_")
+          if (ref.startsWith("task_")) {
+            return taskRepository.findByPublicIdAndProjectId(ref, project.getId());
+          }
+          // Parse as display key (e.g., PROJ-42)
+          try {
+            DisplayKey.parse(ref);
+          } catch (IllegalArgumentException e) {
+            return Optional.empty();
+          }
+          return taskRepository.findByProjectIdAndDisplayKey(project.getId(), ref);
+        },
+        Task::getId,
+        "Task not found: " + ref);
   }
 
   /**
@@ -178,17 +244,19 @@ public class RefResolver {
       throw new IllegalArgumentException("PRD reference is required");
     }
 
-    // Check if it's a public ID (starts with "prd_")
-    if (ref.startsWith("prd_")) {
-      return prdRepository
-          .findByPublicIdAndProjectId(ref, project.getId())
-          .orElseThrow(() -> new EntityNotFoundException("PRD not found: " + ref));
-    }
-
-    // Treat as display key (e.g., PROJ-P1)
-    return prdRepository
-        .findByProjectIdAndDisplayKey(project.getId(), ref)
-        .orElseThrow(() -> new EntityNotFoundException("PRD not found: " + ref));
+    return resolveChild(
+        new ChildRef(Prd.class, project.getId(), ref),
+        prdRepository::findWithDocumentsById,
+        () -> {
+          // Check if it's a public ID (starts with "prd_")
+          if (ref.startsWith("prd_")) {
+            return prdRepository.findByPublicIdAndProjectId(ref, project.getId());
+          }
+          // Treat as display key (e.g., PROJ-P1)
+          return prdRepository.findByProjectIdAndDisplayKey(project.getId(), ref);
+        },
+        Prd::getId,
+        "PRD not found: " + ref);
   }
 
   /**
@@ -204,4 +272,203 @@ public class RefResolver {
     }
     return resolvePrd(project, ref);
   }
+
+  /**
+   * Resolves a project reference and an epic reference within it with a single query.
+   *
+   * @param projectRef Project public ID (proj_xxx) or project key (SPEC)
+   * @param ref Epic public ID (epic_xxx) or display key (PROJ-E1)
+   * @return The resolved Epic, with its project loaded
+   * @throws EntityNotFoundException if project or epic not found
+   */
+  public Epic resolveEpic(String projectRef, String ref) {
+    if (ref == null || ref.isBlank()) {
+      throw new IllegalArgumentException("Epic reference is required");
+    }
+
+    return resolveNested(
+        Epic.class,
+        projectRef,
+        ref,
+        epicRepository::findWithSummaryById,
+        projectKey -> epicRepository.findByProjectRefAndRef(projectRef, projectKey, ref),
+        Epic::getId,
+        Epic::getProject,
+        "Epic not found: " + ref);
+  }
+
+  /**
+   * Resolves a project reference and a task reference within it with a single query.
+   *
+   * @param projectRef Project public ID (proj_xxx) or project key (SPEC)
+   * @param ref Task public ID (task_xxx) or display key (PROJ-42)
+   * @return The resolved Task, with its project loaded
+   * @throws EntityNotFoundException if project or task not found
+   */
+  public Task resolveTask(String projectRef, String ref) {
+    if (ref == null || ref.isBlank()) {
+      throw new IllegalArgumentException("Task reference is required");
+    }
+
+    return resolveNested(
+        Task.class,
+        projectRef,
+        ref,
+        taskRepository::findWithSummaryById,
+        projectKey -> {
+          if (!ref.startsWith("task_")) {
+            try {
+              DisplayKey.parse(ref);
+            } catch (IllegalArgumentException e) {
+              return Optional.empty();
+            }
+          }
+          return taskRepository.findByProjectRefAndRef(projectRef, projectKey, ref);
+        },
+        Task::getId,
+        Task::getProject,
+        "Task not found: " + ref);
+  }
+
+  /**
+   * Resolves a project reference and a PRD reference within it with a single query.
+   *
+   * @param projectRef Project public ID (proj_xxx) or project key (SPEC)
+   * @param ref PRD public ID (prd_xxx) or display key (PROJ-P1)
+   * @return The resolved Prd, with its project loaded
+   * @throws EntityNotFoundException if project or PRD not found
+   */
+  public Prd resolvePrd(String projectRef, String ref) {
+    if (ref == null || ref.isBlank()) {
+      throw new IllegalArgumentException("PRD reference is required");
+    }
+
+    return resolveNested(
+        Prd.class,
+        projectRef,
+        ref,
+        prdRepository::findWithDocumentsById,
+        projectKey -> prdRepository.findByProjectRefAndRef(projectRef, projectKey, ref),
+        Prd::getId,
+        Prd::getProject,
+        "PRD not found: " + ref);
+  }
+
+  /**
+   * Evicts a deleted project, and every epic, task and PRD reference within it.
+   *
+   * @param project the deleted project
+   */
+  public void evictProject(Project project) {
+    projectIds.evict(project.getId());
+    childIds.evict(project.getId());
+  }
+
+  /** Evicts a deleted epic. */
+  public void evictEpic(Epic epic) {
+    evictChild(Epic.class, epic.getId());
+  }
+
+  /** Evicts a deleted task. */
+  public void evictTask(Task task) {
+    evictChild(Task.class, task.getId());
+  }
+
+  /** Evicts a deleted PRD. */
+  public void evictPrd(Prd prd) {
+    evictChild(Prd.class, prd.getId());
+  }
+
+  private <T> T resolveChild(
+      ChildRef key,
+      LongFunction<Optional<T>> loadById,
+      Supplier<Optional<T>> loadByRef,
+      Function<T, Long> idOf,
+      String notFoundMessage) {
+    Long cachedId = childIds.get(key);
+    if (cachedId != null) {
+      Optional<T> cached = loadById.apply(cachedId);
+      if (cached.isPresent()) {
+        hits.increment();
+        return cached.get();
+      }
+      childIds.remove(key, cachedId);
+    }
+    misses.increment();
+
+    T entity = loadByRef.get().orElseThrow(() -> new EntityNotFoundException(notFoundMessage));
+    Long id = idOf.apply(entity);
+    AfterCommit.run(() -> childIds.put(key, id, key.projectId(), new EntityId(key.type(), id)));
+    return entity;
+  }
+
+  /**
+   * Resolves an entity and its project from memory when both references are cached, otherwise with
+   * one joined query. When that query finds nothing the project is resolved on its own, so a
+   * missing project still reports "Project not found".
+   */
+  private <T> T resolveNested(
+      Class<T> type,
+      String projectRef,
+      String ref,
+      LongFunction<Optional<T>> loadById,
+      Function<String, Optional<T>> loadByRefs,
+      Function<T, Long> idOf,
+      Function<T, Project> projectOf,
+      String notFoundMessage) {
+    if (projectRef == null || projectRef.isBlank()) {
+      throw new IllegalArgumentException("Project reference is required");
+    }
+
+    String projectKey = projectKey(projectRef);
+    Long projectId = projectIds.get(projectKey);
+    if (projectId != null) {
+      ChildRef key = new ChildRef(type, projectId, ref);
+      Long cachedId = childIds.get(key);
+      if (cachedId != null) {
+        Optional<T> cached = loadById.apply(cachedId);
+        if (cached.isPresent()) {
+          hits.increment();
+          return cached.get();
+        }
+        childIds.remove(key, cachedId);
+      }
+    }
+    misses.increment();
+
+    // A public id never matches a project key, so the query can try the ref as both
+    Optional<T> found = loadByRefs.apply(projectRef.toUpperCase());
+    if (found.isEmpty()) {
+      resolveProject(projectRef);
+      throw new EntityNotFoundException(notFoundMessage);
+    }
+    T entity = found.get();
+    Long id = idOf.apply(entity);
+    Long resolvedProjectId = projectOf.apply(entity).getId();
+    AfterCommit.run(
+        () -> {
+          projectIds.put(projectKey, resolvedProjectId, resolvedProjectId);
+          childIds.put(
+              new ChildRef(type, resolvedProjectId, ref),
+              id,
+              resolvedProjectId,
+              new EntityId(type, id));
+        });
+    return entity;
+  }
+
+  private void evictChild(Class<?> type, Long id) {
+    childIds.evict(new EntityId(type, id));
+  }
+
+  /** Public IDs start with "proj_" and are used as given; anything else is a project key. */
+  private static String projectKey(String ref) {
+    return ref.startsWith("proj_") ? ref : ref.toUpperCase();
+  }
+
+  /** A reference to an entity within a project, as given in the request path or body. */
+  private record ChildRef(Class<?> type, Long projectId, String ref) {}
+
+  /** An epic, task or PRD, as the owner of the references that resolve to it. */
+  private record EntityId(Class<?> type, Long id) {}
 }
@@ -1,26 +1,40 @@
 package com.specflux.task.application;
 
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Base64;
-import java.util.Comparator;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.PredicateSpecification;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.specflux.api.generated.model.AddTaskDependencyRequestDto;
+import com.specflux.api.generated.model.BatchCreateTasksRequestDto;
+import com.specflux.api.generated.model.BatchCreateTasksResponseDto;
+import com.specflux.api.generated.model.BatchTaskFilterDto;
+import com.specflux.api.generated.model.BatchTaskResultDto;
+import com.specflux.api.generated.model.BatchTaskUpdateDto;
+import com.specflux.api.generated.model.BatchUpdateTasksRequestDto;
+import com.specflux.api.generated.model.BatchUpdateTasksResponseDto;
 import com.specflux.api.generated.model.CreateTaskRequestDto;
-import com.specflux.api.generated.model.CursorPaginationDto;
 import com.specflux.api.generated.model.TaskDependencyDto;
+import com.specflux.api.generated.model.TaskDependencyGraphDto;
 import com.specflux.api.generated.model.TaskDependencyListResponseDto;
 import com.specflux.api.generated.model.TaskDto;
+import com.specflux.api.generated.model.TaskGraphEdgeDto;
 import com.specflux.api.generated.model.TaskListResponseDto;
 import com.specflux.api.generated.model.TaskPriorityDto;
 import com.specflux.api.generated.model.TaskStatusDto;
@@ -28,19 +42,28 @@ import com.specflux.api.generated.model.UpdateTaskRequestDto;
 import com.specflux.epic.domain.Epic;
 import com.specflux.prd.domain.Prd;
 import com.specflux.prd.domain.PrdRepository;
+import com.specflux.project.application.ProjectSequenceAllocator;
 import com.specflux.project.domain.Project;
 import com.specflux.shared.application.CurrentUserService;
+import com.specflux.shared.application.KeysetPage;
+import com.specflux.shared.application.KeysetPaginator;
 import com.specflux.shared.application.UpdateHelper;
 import com.specflux.shared.interfaces.rest.RefResolver;
 import com.specflux.task.domain.Task;
 import com.specflux.task.domain.TaskDependency;
+import com.specflux.task.domain.TaskDependencyGraph;
 import com.specflux.task.domain.TaskDependencyRepository;
-import com.specflux.task.domain.TaskPriority;
+import com.specflux.task.domain.TaskFilter;
 import com.specflux.task.domain.TaskRepository;
+import com.specflux.task.domain.TaskSpecifications;
 import com.specflux.task.domain.TaskStatus;
+import com.specflux.task.domain.TasksChangedEvent;
+import com.specflux.task.infrastructure.persistence.TaskBatchInserter;
+import com.specflux.task.infrastructure.persistence.TaskBatchUpdater;
 import com.specflux.task.interfaces.rest.TaskMapper;
 import com.specflux.user.domain.User;
 
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -50,13 +73,21 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class TaskApplicationService {
 
+  private static final int MAX_BATCH_SIZE = 500;
+
   private final TaskRepository taskRepository;
   private final TaskDependencyRepository taskDependencyRepository;
+  private final TaskDependencyGraphService taskDependencyGraphService;
   private final PrdRepository prdRepository;
   private final RefResolver refResolver;
+  private final ProjectSequenceAllocator projectSequenceAllocator;
   private final CurrentUserService currentUserService;
   private final TransactionTemplate transactionTemplate;
-  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final TaskBatchInserter taskBatchInserter;
+  private final TaskBatchUpdater taskBatchUpdater;
+  private final KeysetPaginator keysetPaginator;
+  private final TaskSearchService taskSearchService;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * Creates a new task in a project.
@@ -69,35 +100,239 @@ public class TaskApplicationService {
     Project project = refResolver.resolveProject(projectRef);
     User currentUser = currentUserService.getCurrentUser();
 
+    Epic epic =
+        request.getEpicRef() != null
+            ? refResolver.resolveEpic(project, request.getEpicRef())
+            : null;
+    User assignee =
+        request.getAssignedToRef() != null
+            ? refResolver.resolveUser(request.getAssignedToRef())
+            : null;
+
     String publicId = generatePublicId("task");
-    int sequenceNumber = getNextSequenceNumber(project);
+    int sequenceNumber = projectSequenceAllocator.nextTaskSequence(project);
     String displayKey = project.getProjectKey() + "-" + sequenceNumber;
-
     Task task =
-        new Task(publicId, project, sequenceNumber, displayKey, request.getTitle(), currentUser);
-    task.setDescription(request.getDescription());
+        newTask(
+            publicId, project, sequenceNumber, displayKey, request, epic, assignee, currentUser);
+
+    Task saved = transactionTemplate.execute(_ -> taskRepository.save(task));
+    return TaskMapper.toDto(saved);
+  }
 
-    // Set optional fields
-    if (request.getEpicRef() != null) {
-      Epic epic = refResolver.resolveEpic(project, request.getEpicRef());
-      task.setEpic(epic);
+  /**
+   * Creates many tasks in one transaction.
+   *
+   * <p>Epic and assignee references are resolved once per distinct value, a contiguous block of
+   * sequence numbers is reserved for the valid items, and rows are written with JDBC batches.
+   * Invalid items are reported in the results without affecting the others.
+   *
+   * @param projectRef the project reference
+   * @param request the batch request
+   * @return per-item results in request order
+   */
+  public BatchCreateTasksResponseDto createTasksBatch(
+      String projectRef, BatchCreateTasksRequestDto request) {
+    Project project = refResolver.resolveProject(projectRef);
+    User currentUser = currentUserService.getCurrentUser();
+    List<CreateTaskRequestDto> items = request.getTasks();
+    if (items == null || items.isEmpty()) {
+      throw new IllegalArgumentException("At least one task is required");
     }
-    if (request.getPriority() != null) {
-      task.setPriority(TaskMapper.toDomainPriority(request.getPriority()));
+    if (items.size() > MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException(
+          "A batch may contain at most " + MAX_BATCH_SIZE + " tasks");
     }
-    if (request.getRequiresApproval() != null) {
-      task.setRequiresApproval(request.getRequiresApproval());
+
+    // Resolve each distinct reference once
+    Map<String, Resolved<Epic>> epics = new HashMap<>();
+    Map<String, Resolved<User>> assignees = new HashMap<>();
+    for (CreateTaskRequestDto item : items) {
+      if (item.getEpicRef() != null) {
+        epics.computeIfAbsent(
+            item.getEpicRef(), ref -> Resolved.of(() -> refResolver.resolveEpic(project, ref)));
+      }
+      if (item.getAssignedToRef() != null) {
+        assignees.computeIfAbsent(
+            item.getAssignedToRef(), ref -> Resolved.of(() -> refResolver.resolveUser(ref)));
+      }
     }
-    if (request.getEstimatedDuration() != null) {
-      task.setEstimatedDuration(request.getEstimatedDuration());
+
+    BatchTaskResultDto[] results = new BatchTaskResultDto[items.size()];
+    List<Integer> validIndexes = new ArrayList<>();
+    for (int i = 0; i < items.size(); i++) {
+      CreateTaskRequestDto item = items.get(i);
+      String error = validateBatchItem(item, epics, assignees);
+      if (error != null) {
+        results[i] = new BatchTaskResultDto(i, false).error(error);
+      } else {
+        validIndexes.add(i);
+      }
     }
-    if (request.getAssignedToRef() != null) {
-      User assignee = refResolver.resolveUser(request.getAssignedToRef());
-      task.setAssignedTo(assignee);
+
+    if (!validIndexes.isEmpty()) {
+      List<Task> created =
+          transactionTemplate.execute(
+              _ -> {
+                int firstSequence =
+                    projectSequenceAllocator.reserveTaskSequences(project, validIndexes.size());
+                List<Task> tasks = new ArrayList<>(validIndexes.size());
+                for (int n = 0; n < validIndexes.size(); n++) {
+                  CreateTaskRequestDto item = items.get(validIndexes.get(n));
+                  int sequenceNumber = firstSequence + n;
+                  tasks.add(
+                      newTask(
+                          generatePublicId("task"),
+                          project,
+                          sequenceNumber,
+                          project.getProjectKey() + "-" + sequenceNumber,
+                          item,
+                          item.getEpicRef() != null ? epics.get(item.getEpicRef()).value() : null,
+                          item.getAssignedToRef() != null
+                              ? assignees.get(item.getAssignedToRef()).value()
+                              : null,
+                          currentUser));
+                }
+                taskBatchInserter.insertAll(tasks);
+                eventPublisher.publishEvent(
+                    new TasksChangedEvent(
+                        project.getId(), tasks.stream().map(Task::getPublicId).toList()));
+                return tasks;
+              });
+      for (int n = 0; n < validIndexes.size(); n++) {
+        int index = validIndexes.get(n);
+        results[index] = new BatchTaskResultDto(index, true).task(TaskMapper.toDto(created.get(n)));
+      }
     }
 
-    Task saved = transactionTemplate.execute(_ -> taskRepository.save(task));
-    return TaskMapper.toDto(saved);
+    log.info(
+        "[createTasksBatch] project={} created={} failed={}",
+        project.getProjectKey(),
+        validIndexes.size(),
+        items.size() - validIndexes.size());
+
+    BatchCreateTasksResponseDto response = new BatchCreateTasksResponseDto();
+    response.setResults(Arrays.asList(results));
+    response.setCreatedCount(validIndexes.size());
+    response.setFailedCount(items.size() - validIndexes.size());
+    return response;
+  }
+
+  /**
+   * Updates many tasks in one transaction.
+   *
+   * <p>Either applies per-task partial updates with the same semantics as {@link #updateTask}, or
+   * moves every task matching a filter to a target status. References are resolved once, and tasks
+   * that share the same changes are written with a single UPDATE statement. Nothing is changed if
+   * any reference cannot be resolved.
+   *
+   * @param projectRef the project reference
+   * @param request the batch request
+   * @return the updated tasks, in request order (or id order for filter updates)
+   */
+  public BatchUpdateTasksResponseDto updateTasksBatch(
+      String projectRef, BatchUpdateTasksRequestDto request) {
+    Project project = refResolver.resolveProject(projectRef);
+    List<BatchTaskUpdateDto> updates = request.getUpdates();
+    boolean byRef = updates != null && !updates.isEmpty();
+    boolean byFilter = request.getFilter() != null || request.getTargetStatus() != null;
+    if (byRef == byFilter) {
+      throw new IllegalArgumentException("Provide either updates or a filter with targetStatus");
+    }
+
+    List<Task> updated;
+    if (byRef) {
+      if (updates.size() > MAX_BATCH_SIZE) {
+        throw new IllegalArgumentException(
+            "A batch may contain at most " + MAX_BATCH_SIZE + " tasks");
+      }
+      Map<String, Long> idsByRef =
+          resolveTaskIds(project, updates.stream().map(BatchTaskUpdateDto::getTaskRef).toList());
+
+      // Group tasks by their exact changes so each group becomes one UPDATE
+      Map<String, Epic> epics = new HashMap<>();
+      Map<String, User> assignees = new HashMap<>();
+      Map<Map<String, Object>, List<Long>> groups = new LinkedHashMap<>();
+      Set<Long> taskIds = new LinkedHashSet<>();
+      for (BatchTaskUpdateDto update : updates) {
+        Long taskId = idsByRef.get(update.getTaskRef());
+        if (!taskIds.add(taskId)) {
+          throw new IllegalArgumentException(
+              "Task " + update.getTaskRef() + " appears more than once in the batch");
+        }
+        groups
+            .computeIfAbsent(
+                toAssignments(project, update.getChanges(), epics, assignees),
+                _ -> new ArrayList<>())
+            .add(taskId);
+      }
+
+      updated =
+          transactionTemplate.execute(
+              _ -> {
+                Set<Long> textChanged = new HashSet<>();
+                groups.forEach(
+                    (assignments, ids) -> {
+                      if (!assignments.isEmpty()) {
+                        taskBatchUpdater.updateAll(ids, assignments);
+                      }
+                      if (assignments.containsKey("title")
+                          || assignments.containsKey("description")) {
+                        textChanged.addAll(ids);
+                      }
+                    });
+                List<Task> tasks = loadInOrder(taskIds);
+                if (!textChanged.isEmpty()) {
+                  eventPublisher.publishEvent(
+                      new TasksChangedEvent(
+                          project.getId(),
+                          tasks.stream()
+                              .filter(task -> textChanged.contains(task.getId()))
+                              .map(Task::getPublicId)
+                              .toList()));
+                }
+                return tasks;
+              });
+    } else {
+      BatchTaskFilterDto criteria = request.getFilter();
+      if (criteria == null || request.getTargetStatus() == null) {
+        throw new IllegalArgumentException("Updating by filter requires filter and targetStatus");
+      }
+      PredicateSpecification<Task> filter =
+          taskFilter(
+                  project,
+                  criteria.getStatus(),
+                  criteria.getPriority(),
+                  criteria.getEpicRef(),
+                  criteria.getAssignedToRef(),
+                  criteria.getPrdTag(),
+                  criteria.getStatusNot())
+              .toSpecification();
+      TaskStatus targetStatus = TaskMapper.toDomainStatus(request.getTargetStatus());
+
+      updated =
+          transactionTemplate.execute(
+              _ -> {
+                List<Long> ids = taskBatchUpdater.lockIds(filter);
+                if (ids.size() > MAX_BATCH_SIZE) {
+                  throw new IllegalArgumentException(
+                      "Filter matches "
+                          + ids.size()
+                          + " tasks; at most "
+                          + MAX_BATCH_SIZE
+                          + " can be updated at once");
+                }
+                taskBatchUpdater.updateAll(ids, Map.of("status", targetStatus));
+                return loadInOrder(ids);
+              });
+    }
+
+    log.info("[updateTasksBatch] project={} updated={}", project.getProjectKey(), updated.size());
+
+    BatchUpdateTasksResponseDto response = new BatchUpdateTasksResponseDto();
+    response.setData(updated.stream().map(TaskMapper::toDto).toList());
+    response.setUpdatedCount(updated.size());
+    return response;
   }
 
   /**
@@ -108,8 +343,7 @@ public class TaskApplicationService {
    * @return the task DTO
    */
   public TaskDto getTask(String projectRef, String taskRef) {
-    Project project = refResolver.resolveProject(projectRef);
-    Task task = refResolver.resolveTask(project, taskRef);
+    Task task = refResolver.resolveTask(projectRef, taskRef);
     return TaskMapper.toDto(task);
   }
 
@@ -122,8 +356,8 @@ public class TaskApplicationService {
    * @return the updated task DTO
    */
   public TaskDto updateTask(String projectRef, String taskRef, UpdateTaskRequestDto request) {
-    Project project = refResolver.resolveProject(projectRef);
-    Task task = refResolver.resolveTask(project, taskRef);
+    Task task = refResolver.resolveTask(projectRef, taskRef);
+    Project project = task.getProject();
 
     UpdateHelper.applyValue(request.getTitle(), task::setTitle);
     UpdateHelper.applyString(request.getDescription(), task::setDescription);
@@ -150,9 +384,11 @@ public class TaskApplicationService {
    * @param taskRef the task reference
    */
   public void deleteTask(String projectRef, String taskRef) {
-    Project project = refResolver.resolveProject(projectRef);
-    Task task = refResolver.resolveTask(project, taskRef);
+    Task task = refResolver.resolveTask(projectRef, taskRef);
+    Project project = task.getProject();
     transactionTemplate.executeWithoutResult(_ -> taskRepository.delete(task));
+    taskDependencyGraphService.evict(project.getId());
+    refResolver.evictTask(task);
   }
 
   /**
@@ -167,7 +403,7 @@ public class TaskApplicationService {
    * @param priority optional priority filter
    * @param epicRef optional epic filter
    * @param assignedToRef optional assignee filter
-   * @param search optional search term
+   * @param search optional full-text search; matches are ordered by relevance instead of sort
    * @param prdTag optional filter by PRD tag
    * @param statusNot optional comma-separated statuses to exclude
    * @return the paginated task list
@@ -196,103 +432,58 @@ public class TaskApplicationService {
         priority,
         search);
 
-    // Parse cursor if present
-    CursorData cursorData = decodeCursor(cursor);
-    int offset = cursorData != null ? cursorData.offset() : 0;
-
-    // Get all tasks for project
-    List<Task> allTasks = taskRepository.findByProjectId(project.getId());
-    log.info("[listTasks] Found {} total tasks for project {}", allTasks.size(), project.getId());
-
-    // Apply filters
-    Stream<Task> taskStream = allTasks.stream();
-
-    if (status != null) {
-      var domainStatus = TaskMapper.toDomainStatus(status);
-      taskStream = taskStream.filter(t -> t.getStatus() == domainStatus);
-    }
-    if (priority != null) {
-      TaskPriority domainPriority = TaskMapper.toDomainPriority(priority);
-      taskStream = taskStream.filter(t -> t.getPriority() == domainPriority);
-    }
-    if (epicRef != null && !epicRef.isBlank()) {
-      Epic epic = refResolver.resolveEpic(project, epicRef);
-      taskStream =
-          taskStream.filter(t -> t.getEpic() != null && t.getEpic().getId().equals(epic.getId()));
-    }
-    if (assignedToRef != null && !assignedToRef.isBlank()) {
-      User assignee = refResolver.resolveUser(assignedToRef);
-      taskStream =
-          taskStream.filter(
-              t -> t.getAssignedTo() != null && t.getAssignedTo().getId().equals(assignee.getId()));
-    }
+    TaskFilter filter =
+        taskFilter(project, status, priority, epicRef, assignedToRef, prdTag, statusNot);
     if (search != null && !search.isBlank()) {
-      String searchLower = search.toLowerCase();
-      taskStream =
-          taskStream.filter(
-              t ->
-                  t.getTitle().toLowerCase().contains(searchLower)
-                      || (t.getDescription() != null
-                          && t.getDescription().toLowerCase().contains(searchLower)));
-    }
-    if (prdTag != null && !prdTag.isBlank()) {
-      List<Prd> prdsWithTag = prdRepository.findByProjectIdAndTag(project.getId(), prdTag);
-      Set<Long> prdIds = prdsWithTag.stream().map(Prd::getId).collect(Collectors.toSet());
-      taskStream =
-          taskStream.filter(
-              t ->
-                  t.getEpic() != null
-                      && t.getEpic().getPrdId() != null
-                      && prdIds.contains(t.getEpic().getPrdId()));
-    }
-    if (statusNot != null && !statusNot.isBlank()) {
-      Set<TaskStatus> excludedStatuses =
-          Arrays.stream(statusNot.split(","))
-              .map(String::trim)
-              .map(TaskStatusDto::fromValue)
-              .map(TaskMapper::toDomainStatus)
-              .collect(Collectors.toSet());
-      taskStream = taskStream.filter(t -> !excludedStatuses.contains(t.getStatus()));
+      return taskSearchService.search(filter, search, cursor, limit);
     }
 
-    List<Task> filteredTasks = taskStream.toList();
-    long total = filteredTasks.size();
-    log.info("[listTasks] After filters: {} tasks remaining", total);
-
-    // Sort field mapping
-    String sortField = mapSortField(sort);
-    boolean ascending = "asc".equalsIgnoreCase(order);
-
-    // Sort and paginate
-    Comparator<Task> comparator = getComparator(sortField);
-    if (!ascending) {
-      comparator = comparator.reversed();
-    }
-
-    List<Task> sortedTasks =
-        filteredTasks.stream().sorted(comparator).skip(offset).limit(limit + 1).toList();
-
-    boolean hasMore = sortedTasks.size() > limit;
-    List<Task> resultTasks = hasMore ? sortedTasks.subList(0, limit) : sortedTasks;
+    // Sort and seek in the database
+    KeysetPage<Task> page =
+        keysetPaginator.paginate(
+            Task.class,
+            Specification.where(filter.toSpecification()),
+            TaskSpecifications.sortKey(sort),
+            "asc".equalsIgnoreCase(order),
+            cursor,
+            limit,
+            Task.SUMMARY_GRAPH);
+    log.info("[listTasks] {} tasks match filters in project {}", page.total(), project.getId());
 
-    // Build response
     TaskListResponseDto response = new TaskListResponseDto();
-    response.setData(resultTasks.stream().map(TaskMapper::toDto).toList());
-
-    CursorPaginationDto pagination = new CursorPaginationDto();
-    pagination.setTotal(total);
-    pagination.setHasMore(hasMore);
+    response.setData(page.items().stream().map(TaskMapper::toDto).toList());
+    response.setPagination(page.toPaginationDto());
+    return response;
+  }
 
-    if (hasMore) {
-      int nextOffset = offset + limit;
-      pagination.setNextCursor(encodeCursor(new CursorData(nextOffset)));
-    }
-    if (offset > 0) {
-      int prevOffset = Math.max(0, offset - limit);
-      pagination.setPrevCursor(encodeCursor(new CursorData(prevOffset)));
-    }
+  /**
+   * Lists tasks that can be started now: not yet started and with every dependency completed.
+   *
+   * @param projectRef the project reference
+   * @param cursor the pagination cursor (optional)
+   * @param limit the page size
+   * @param epicRef optional epic filter
+   * @param assignedToRef optional assignee filter
+   * @return ready tasks, highest priority and oldest first
+   */
+  public TaskListResponseDto listReadyTasks(
+      String projectRef, String cursor, int limit, String epicRef, String assignedToRef) {
+    Project project = refResolver.resolveProject(projectRef);
+    TaskFilter filter = taskFilter(project, null, null, epicRef, assignedToRef, null, null);
+
+    KeysetPage<Task> page =
+        keysetPaginator.paginate(
+            Task.class,
+            Specification.where(filter.toSpecification()).and(TaskSpecifications.readyToStart()),
+            TaskSpecifications.urgency(),
+            true,
+            cursor,
+            limit,
+            Task.SUMMARY_GRAPH);
 
-    response.setPagination(pagination);
+    TaskListResponseDto response = new TaskListResponseDto();
+    response.setData(page.items().stream().map(TaskMapper::toDto).toList());
+    response.setPagination(page.toPaginationDto());
     return response;
   }
 
@@ -304,8 +495,7 @@ public class TaskApplicationService {
    * @return the list of task dependencies
    */
   public TaskDependencyListResponseDto listTaskDependencies(String projectRef, String taskRef) {
-    Project project = refResolver.resolveProject(projectRef);
-    Task task = refResolver.resolveTask(project, taskRef);
+    Task task = refResolver.resolveTask(projectRef, taskRef);
 
     List<TaskDependency> dependencies = taskDependencyRepository.findByTaskId(task.getId());
 
@@ -335,19 +525,11 @@ public class TaskApplicationService {
    */
   public TaskDependencyDto addTaskDependency(
       String projectRef, String taskRef, AddTaskDependencyRequestDto request) {
-    Project project = refResolver.resolveProject(projectRef);
-    Task task = refResolver.resolveTask(project, taskRef);
+    Task task = refResolver.resolveTask(projectRef, taskRef);
+    Project project = task.getProject();
     Task dependsOnTask = refResolver.resolveTask(project, request.getDependsOnTaskRef());
 
-    // Check if dependency already exists
-    if (taskDependencyRepository.existsByTaskIdAndDependsOnTaskId(
-        task.getId(), dependsOnTask.getId())) {
-      throw new IllegalStateException("Dependency already exists");
-    }
-
-    TaskDependency dependency = new TaskDependency(task, dependsOnTask);
-    TaskDependency saved =
-        transactionTemplate.execute(_ -> taskDependencyRepository.save(dependency));
+    TaskDependency saved = taskDependencyGraphService.addDependency(task, dependsOnTask);
 
     TaskDependencyDto dto = new TaskDependencyDto();
     dto.setTaskId(saved.getTask().getPublicId());
@@ -357,6 +539,71 @@ public class TaskApplicationService {
     return dto;
   }
 
+  /**
+   * Gets the dependency graph of a project, optionally limited to the tasks reachable from one
+   * task.
+   *
+   * @param projectRef the project reference
+   * @param taskRef optional task to centre the graph on
+   * @param direction upstream, downstream or both (only used with taskRef)
+   * @return the graph with nodes in topological order
+   */
+  public TaskDependencyGraphDto getTaskDependencyGraph(
+      String projectRef, String taskRef, String direction) {
+    Project project = refResolver.resolveProject(projectRef);
+    TaskDependencyGraph graph = taskDependencyGraphService.getGraph(project.getId());
+
+    Set<Long> included = null;
+    if (taskRef != null && !taskRef.isBlank()) {
+      Task task = refResolver.resolveTask(project, taskRef);
+      String scope = direction != null ? direction : "both";
+      if (!Set.of("upstream", "downstream", "both").contains(scope)) {
+        throw new IllegalArgumentException("Invalid direction: " + direction);
+      }
+      included = new HashSet<>();
+      included.add(task.getId());
+      if (!scope.equals("downstream")) {
+        Arrays.stream(graph.upstreamOf(task.getId())).forEach(included::add);
+      }
+      if (!scope.equals("upstream")) {
+        Arrays.stream(graph.downstreamOf(task.getId())).forEach(included::add);
+      }
+    }
+
+    List<Long> order = new ArrayList<>();
+    for (long taskId : graph.topologicalOrder()) {
+      if (included == null || included.contains(taskId)) {
+        order.add(taskId);
+      }
+    }
+    Map<Long, Task> tasks =
+        taskRepository.findAllById(order).stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+    // A task deleted outside this service can linger in the cached graph; skip it and rebuild
+    if (tasks.size() < order.size()) {
+      taskDependencyGraphService.evict(project.getId());
+    }
+
+    TaskDependencyGraphDto dto = new TaskDependencyGraphDto();
+    for (Long taskId : order) {
+      Task task = tasks.get(taskId);
+      if (task == null) {
+        continue;
+      }
+      dto.addNodesItem(TaskMapper.toGraphNodeDto(task));
+      for (long dependsOnId : graph.dependenciesOf(taskId)) {
+        if (tasks.containsKey(dependsOnId)) {
+          TaskGraphEdgeDto edge = new TaskGraphEdgeDto();
+          edge.setTaskId(task.getPublicId());
+          edge.setDependsOnTaskId(tasks.get(dependsOnId).getPublicId());
+          dto.addEdgesItem(edge);
+        }
+      }
+    }
+    return dto;
+  }
+
   /**
    * Removes a dependency from a task.
    *
@@ -365,8 +612,8 @@ public class TaskApplicationService {
    * @param dependsOnTaskRef the task reference that this task depends on
    */
   public void removeTaskDependency(String projectRef, String taskRef, String dependsOnTaskRef) {
-    Project project = refResolver.resolveProject(projectRef);
-    Task task = refResolver.resolveTask(project, taskRef);
+    Task task = refResolver.resolveTask(projectRef, taskRef);
+    Project project = task.getProject();
     Task dependsOnTask = refResolver.resolveTask(project, dependsOnTaskRef);
 
     TaskDependency dependency =
@@ -374,63 +621,170 @@ public class TaskApplicationService {
             .findByTaskIdAndDependsOnTaskId(task.getId(), dependsOnTask.getId())
             .orElseThrow(
                 () ->
-                    new jakarta.persistence.EntityNotFoundException(
+                    new EntityNotFoundException(
                         "Dependency not found between " + taskRef + " and " + dependsOnTaskRef));
 
-    transactionTemplate.executeWithoutResult(_ -> taskDependencyRepository.delete(dependency));
+    taskDependencyGraphService.removeDependency(project.getId(), dependency);
   }
 
-  private Comparator<Task> getComparator(String field) {
-    return switch (field) {
-      case "title" -> Comparator.comparing(Task::getTitle, String.CASE_INSENSITIVE_ORDER);
-      case "status" -> Comparator.comparing(t -> t.getStatus().name());
-      case "priority" ->
-          Comparator.comparing(
-              t -> t.getPriority() != null ? t.getPriority().ordinal() : Integer.MAX_VALUE);
-      case "updatedAt" -> Comparator.comparing(Task::getUpdatedAt);
-      default -> Comparator.comparing(Task::getCreatedAt);
-    };
+  /**
+   * Maps task references to ids with one query.
+   *
+   * @throws EntityNotFoundException if any reference does not match a task in the project
+   */
+  private Map<String, Long> resolveTaskIds(Project project, List<String> refs) {
+    Map<String, Long> idsByRef = new HashMap<>();
+    for (TaskRepository.TaskKey key :
+        taskRepository.findKeysByProjectIdAndRefs(project.getId(), new HashSet<>(refs))) {
+      idsByRef.put(key.getPublicId(), key.getId());
+      idsByRef.put(key.getDisplayKey(), key.getId());
+    }
+    for (String ref : refs) {
+      if (!idsByRef.containsKey(ref)) {
+        throw new EntityNotFoundException("Task not found: " + ref);
+      }
+    }
+    return idsByRef;
   }
 
-  private String mapSortField(String sort) {
-    return switch (sort) {
-      case "title" -> "title";
-      case "status" -> "status";
-      case "priority" -> "priority";
-      case "updated_at" -> "updatedAt";
-      default -> "createdAt";
-    };
+  /** Loads tasks by id, returned in the order of the given ids. */
+  private List<Task> loadInOrder(Collection<Long> ids) {
+    Map<Long, Task> byId =
+        taskRepository.findByIdIn(ids).stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+    return ids.stream().map(byId::get).toList();
   }
 
-  private int getNextSequenceNumber(Project project) {
-    List<Task> tasks = taskRepository.findByProjectId(project.getId());
-    return tasks.stream().mapToInt(Task::getSequenceNumber).max().orElse(0) + 1;
+  /** Resolves the references of the list filters. */
+  private TaskFilter taskFilter(
+      Project project,
+      TaskStatusDto status,
+      TaskPriorityDto priority,
+      String epicRef,
+      String assignedToRef,
+      String prdTag,
+      String statusNot) {
+    Long epicId = null;
+    if (epicRef != null && !epicRef.isBlank()) {
+      epicId = refResolver.resolveEpic(project, epicRef).getId();
+    }
+    Long assigneeId = null;
+    if (assignedToRef != null && !assignedToRef.isBlank()) {
+      assigneeId = refResolver.resolveUser(assignedToRef).getId();
+    }
+    List<Long> prdIds = null;
+    if (prdTag != null && !prdTag.isBlank()) {
+      prdIds =
+          prdRepository.findByProjectIdAndTag(project.getId(), prdTag).stream()
+              .map(Prd::getId)
+              .toList();
+    }
+    Set<TaskStatus> excludedStatuses = null;
+    if (statusNot != null && !statusNot.isBlank()) {
+      excludedStatuses =
+          Arrays.stream(statusNot.split(","))
+              .map(String::trim)
+              .map(TaskStatusDto::fromValue)
+              .map(TaskMapper::toDomainStatus)
+              .collect(Collectors.toSet());
+    }
+    return new TaskFilter(
+        project.getId(),
+        status != null ? TaskMapper.toDomainStatus(status) : null,
+        priority != null ? TaskMapper.toDomainPriority(priority) : null,
+        epicId,
+        assigneeId,
+        prdIds,
+        excludedStatuses);
   }
 
-  private String generatePublicId(String prefix) {
-    return prefix + "_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+  /**
+   * Converts a partial update into attribute assignments, following the same null/blank rules as
+   * {@link #updateTask}. Epic and assignee references are resolved through the given caches.
+   */
+  private Map<String, Object> toAssignments(
+      Project project,
+      UpdateTaskRequestDto changes,
+      Map<String, Epic> epics,
+      Map<String, User> assignees) {
+    Map<String, Object> values = new HashMap<>();
+    UpdateHelper.applyValue(changes.getTitle(), v -> values.put("title", v));
+    UpdateHelper.applyString(changes.getDescription(), v -> values.put("description", v));
+    UpdateHelper.applyValue(
+        changes.getStatus(), s -> values.put("status", TaskMapper.toDomainStatus(s)));
+    UpdateHelper.applyValue(
+        changes.getPriority(), p -> values.put("priority", TaskMapper.toDomainPriority(p)));
+    UpdateHelper.applyValue(changes.getRequiresApproval(), v -> values.put("requiresApproval", v));
+    UpdateHelper.applyValue(
+        changes.getEstimatedDuration(), v -> values.put("estimatedDuration", v));
+    UpdateHelper.applyValue(changes.getActualDuration(), v -> values.put("actualDuration", v));
+    UpdateHelper.applyString(changes.getGithubPrUrl(), v -> values.put("githubPrUrl", v));
+    UpdateHelper.applyRef(
+        changes.getEpicRef(),
+        ref -> epics.computeIfAbsent(ref, r -> refResolver.resolveEpic(project, r)),
+        e -> values.put("epic", e));
+    UpdateHelper.applyRef(
+        changes.getAssignedToRef(),
+        ref -> assignees.computeIfAbsent(ref, refResolver::resolveUser),
+        u -> values.put("assignedTo", u));
+    return values;
   }
 
-  private CursorData decodeCursor(String cursor) {
-    if (cursor == null || cursor.isBlank()) {
-      return null;
+  private Task newTask(
+      String publicId,
+      Project project,
+      int sequenceNumber,
+      String displayKey,
+      CreateTaskRequestDto request,
+      Epic epic,
+      User assignee,
+      User createdBy) {
+    Task task =
+        new Task(publicId, project, sequenceNumber, displayKey, request.getTitle(), createdBy);
+    task.setDescription(request.getDescription());
+    task.setEpic(epic);
+    task.setAssignedTo(assignee);
+    if (request.getPriority() != null) {
+      task.setPriority(TaskMapper.toDomainPriority(request.getPriority()));
     }
-    try {
-      String json = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
-      return objectMapper.readValue(json, CursorData.class);
-    } catch (Exception e) {
-      throw new IllegalArgumentException("Invalid cursor");
+    if (request.getRequiresApproval() != null) {
+      task.setRequiresApproval(request.getRequiresApproval());
+    }
+    if (request.getEstimatedDuration() != null) {
+      task.setEstimatedDuration(request.getEstimatedDuration());
     }
+    return task;
   }
 
-  private String encodeCursor(CursorData data) {
-    try {
-      String json = objectMapper.writeValueAsString(data);
-      return Base64.getEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8));
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to encode cursor", e);
+  private String validateBatchItem(
+      CreateTaskRequestDto item,
+      Map<String, Resolved<Epic>> epics,
+      Map<String, Resolved<User>> assignees) {
+    if (item.getTitle() == null || item.getTitle().isBlank()) {
+      return "Title is required";
     }
+    if (item.getEpicRef() != null && epics.get(item.getEpicRef()).error() != null) {
+      return epics.get(item.getEpicRef()).error();
+    }
+    if (item.getAssignedToRef() != null && assignees.get(item.getAssignedToRef()).error() != null) {
+      return assignees.get(item.getAssignedToRef()).error();
+    }
+    return null;
   }
 
-  private record CursorData(int offset) {}
+  /** Outcome of resolving a reference: either the entity or the reason it failed. */
+  private record Resolved<T>(T value, String error) {
+
+    static <T> Resolved<T> of(Supplier<T> resolver) {
+      try {
+        return new Resolved<>(resolver.get(), null);
+      } catch (EntityNotFoundException | IllegalArgumentException e) {
+        return new Resolved<>(null, e.getMessage());
+      }
+    }
+  }
+
+  private String generatePublicId(String prefix) {
+    return prefix + "_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+  }
 }
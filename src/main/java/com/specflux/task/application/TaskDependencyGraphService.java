@@ -0,0 +1,119 @@
+package com.specflux.task.application;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.specflux.project.domain.ProjectRepository;
+import com.specflux.shared.interfaces.rest.GlobalExceptionHandler.ResourceConflictException;
+import com.specflux.task.domain.Task;
+import com.specflux.task.domain.TaskDependency;
+import com.specflux.task.domain.TaskDependencyGraph;
+import com.specflux.task.domain.TaskDependencyRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps an in-memory {@link TaskDependencyGraph} per project and guards dependency writes.
+ *
+ * <p>Graphs are loaded with a single query on first use. Adding a dependency locks the project row,
+ * checks for duplicates and cycles against freshly loaded edges, and then applies the new edge to
+ * the cached graph once the transaction has committed. Removals evict the cached graph instead, so
+ * a concurrent add can never resurrect a removed edge.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskDependencyGraphService {
+
+  private final TaskDependencyRepository taskDependencyRepository;
+  private final ProjectRepository projectRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  private final Map<Long, TaskDependencyGraph> graphs = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the dependency graph of a project.
+   *
+   * @param projectId the project id
+   * @return the graph, possibly shared with other callers
+   */
+  public TaskDependencyGraph getGraph(Long projectId) {
+    return graphs.computeIfAbsent(projectId, this::load);
+  }
+
+  /**
+   * Adds a dependency between two tasks of the same project.
+   *
+   * @param task the dependent task
+   * @param dependsOnTask the task it depends on
+   * @return the saved dependency
+   * @throws ResourceConflictException if the dependency exists or would create a cycle
+   */
+  public TaskDependency addDependency(Task task, Task dependsOnTask) {
+    Long projectId = task.getProject().getId();
+    TaskDependency dependency = new TaskDependency(task, dependsOnTask);
+    TaskDependency saved =
+        transactionTemplate.execute(
+            _ -> {
+              projectRepository.findByIdForUpdate(projectId);
+              TaskDependencyGraph graph = load(projectId);
+              if (graph.hasDependency(task.getId(), dependsOnTask.getId())) {
+                throw new ResourceConflictException("Dependency already exists");
+              }
+              if (graph.wouldCreateCycle(task.getId(), dependsOnTask.getId())) {
+                throw new ResourceConflictException(
+                    "Dependency would create a cycle: "
+                        + dependsOnTask.getDisplayKey()
+                        + " already depends on "
+                        + task.getDisplayKey());
+              }
+              return taskDependencyRepository.save(dependency);
+            });
+    graphs.computeIfPresent(
+        projectId, (_, graph) -> graph.withDependency(task.getId(), dependsOnTask.getId()));
+    return saved;
+  }
+
+  /**
+   * Removes a dependency.
+   *
+   * @param projectId the project the dependency belongs to
+   * @param dependency the dependency to remove
+   */
+  public void removeDependency(Long projectId, TaskDependency dependency) {
+    transactionTemplate.executeWithoutResult(_ -> taskDependencyRepository.delete(dependency));
+    evict(projectId);
+  }
+
+  /**
+   * Drops the cached graph of a project, e.g. after a task (and its dependencies) was deleted.
+   *
+   * @param projectId the project id
+   */
+  public void evict(Long projectId) {
+    graphs.remove(projectId);
+  }
+
+  private TaskDependencyGraph load(Long projectId) {
+    List<TaskDependencyRepository.Edge> edges =
+        taskDependencyRepository.findEdgesByProjectId(projectId);
+    long[] from = new long[edges.size()];
+    long[] to = new long[edges.size()];
+    for (int e = 0; e < edges.size(); e++) {
+      from[e] = edges.get(e).getTaskId();
+      to[e] = edges.get(e).getDependsOnTaskId();
+    }
+    TaskDependencyGraph graph = TaskDependencyGraph.of(from, to);
+    log.debug(
+        "[taskDependencyGraph] loaded project={} tasks={} dependencies={}",
+        projectId,
+        graph.taskCount(),
+        graph.dependencyCount());
+    return graph;
+  }
+}
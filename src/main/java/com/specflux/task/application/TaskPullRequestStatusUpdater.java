@@ -0,0 +1,107 @@
+package com.specflux.task.application;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.specflux.github.infrastructure.GithubApiClient.PullRequest;
+import com.specflux.task.domain.TaskRepository.PullRequestLink;
+import com.specflux.task.domain.TaskSpecifications;
+import com.specflux.task.domain.TaskStatus;
+import com.specflux.task.infrastructure.persistence.TaskBatchUpdater;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Moves tasks along with the GitHub pull requests they link.
+ *
+ * <p>Tasks move to in review while their pull request is open, to completed once it is merged, and
+ * back to in progress when it is closed without being merged. Each target status is applied with
+ * one set-based UPDATE, guarded by the statuses it may replace, so a task changed in the meantime
+ * is left alone.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskPullRequestStatusUpdater {
+
+  /** Statuses a pull request may still change. */
+  static final Collection<TaskStatus> TRACKED =
+      EnumSet.of(
+          TaskStatus.BACKLOG,
+          TaskStatus.READY,
+          TaskStatus.IN_PROGRESS,
+          TaskStatus.IN_REVIEW,
+          TaskStatus.BLOCKED);
+
+  /** For each status a pull request sets, the statuses it may replace. */
+  private static final Map<TaskStatus, Collection<TaskStatus>> REPLACES =
+      Map.of(
+          TaskStatus.IN_REVIEW,
+          EnumSet.of(TaskStatus.BACKLOG, TaskStatus.READY, TaskStatus.IN_PROGRESS),
+          TaskStatus.COMPLETED,
+          TRACKED,
+          TaskStatus.IN_PROGRESS,
+          EnumSet.of(TaskStatus.IN_REVIEW));
+
+  private final TaskBatchUpdater taskBatchUpdater;
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * Adds the status changes a pull request implies for the tasks that link it.
+   *
+   * @param pullRequest the pull request
+   * @param links the tasks linking it
+   * @param changes task ids per target status, added to
+   */
+  static void collect(
+      PullRequest pullRequest,
+      Collection<PullRequestLink> links,
+      Map<TaskStatus, List<Long>> changes) {
+    TaskStatus target = targetStatus(pullRequest);
+    for (PullRequestLink link : links) {
+      if (REPLACES.get(target).contains(link.getStatus())) {
+        changes.computeIfAbsent(target, _ -> new ArrayList<>()).add(link.getId());
+      }
+    }
+  }
+
+  /**
+   * Applies collected status changes, one UPDATE per target status.
+   *
+   * @param changes task ids per target status
+   * @return the number of tasks updated
+   */
+  public long apply(Map<TaskStatus, List<Long>> changes) {
+    if (changes.isEmpty()) {
+      return 0;
+    }
+    Long updated =
+        transactionTemplate.execute(
+            _ -> {
+              long count = 0;
+              for (Map.Entry<TaskStatus, List<Long>> change : changes.entrySet()) {
+                // Skip tasks whose status changed since they were read
+                List<Long> ids =
+                    taskBatchUpdater.lockIds(
+                        TaskSpecifications.idIn(change.getValue())
+                            .and(TaskSpecifications.statusIn(REPLACES.get(change.getKey()))));
+                count += taskBatchUpdater.updateAll(ids, Map.of("status", change.getKey()));
+              }
+              return count;
+            });
+    return updated != null ? updated : 0;
+  }
+
+  /** Returns the status a pull request implies. */
+  static TaskStatus targetStatus(PullRequest pullRequest) {
+    if (pullRequest.isMerged()) {
+      return TaskStatus.COMPLETED;
+    }
+    return pullRequest.isOpen() ? TaskStatus.IN_REVIEW : TaskStatus.IN_PROGRESS;
+  }
+}
@@ -0,0 +1,319 @@
+package com.specflux.task.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.specflux.github.application.GithubService;
+import com.specflux.github.domain.GithubInstallationRepository;
+import com.specflux.github.infrastructure.GithubApiClient;
+import com.specflux.github.infrastructure.GithubApiClient.ConditionalPullRequestList;
+import com.specflux.github.infrastructure.GithubApiClient.GithubApiException;
+import com.specflux.github.infrastructure.GithubApiClient.PullRequest;
+import com.specflux.shared.infrastructure.persistence.AdvisoryLocks;
+import com.specflux.task.domain.PullRequestRef;
+import com.specflux.task.domain.TaskRepository;
+import com.specflux.task.domain.TaskRepository.PullRequestLink;
+import com.specflux.task.domain.TaskStatus;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the status of tasks that link a GitHub pull request in line with the pull request.
+ *
+ * <p>A scheduled job groups open tasks by repository and lists each repository's pull requests,
+ * most recently updated first, revalidating the first page with its ETag. GitHub answers 304 when
+ * nothing changed since the last run, which does not count against the rate limit. Otherwise pages
+ * are read until every linked pull request was seen or the rest is older than the last run. Pull
+ * requests outside the most recently updated pages are picked up once they change again.
+ *
+ * <p>The changes found in a run are applied together by {@link TaskPullRequestStatusUpdater}, with
+ * one set-based UPDATE per target status. The listings' ETags are only kept once the changes are
+ * applied, so a failed run is read again in full. A listing cut off after {@code MAX_PAGES} pages
+ * is kept without its ETag: the next run reads it again, but only down to where this one started.
+ * Runs hold a PostgreSQL advisory lock, so only one instance syncs at a time.
+ *
+ * <p>A run sends at most {@code github.pr-sync.max-requests-per-run} requests and stops using a
+ * token once its rate limit window has fewer than {@code github.pr-sync.rate-limit-reserve}
+ * requests left, which stay available to users. Requests are published as {@code
+ * specflux.github.pr-sync.requests}, tagged {@code not_modified} or {@code modified}, applied
+ * changes as {@code specflux.github.pr-sync.tasks.updated} and run times as {@code
+ * specflux.github.pr-sync.duration}.
+ */
+@Slf4j
+@Service
+public class TaskPullRequestSyncService {
+
+  private static final int PER_PAGE = 100;
+  private static final int MAX_PAGES = 5;
+  private static final int BATCH_SIZE = 500;
+
+  /** Advisory lock key held by a running sync. */
+  private static final long SYNC_LOCK_KEY = 0x7072_5379_6e63L;
+
+  /** Allowance for clock differences when comparing GitHub's timestamps with ours. */
+  private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+  private final TaskRepository taskRepository;
+  private final TaskPullRequestStatusUpdater statusUpdater;
+  private final GithubInstallationRepository installationRepository;
+  private final GithubService githubService;
+  private final GithubApiClient githubApiClient;
+  private final AdvisoryLocks advisoryLocks;
+  private final int maxRequestsPerRun;
+  private final int rateLimitReserve;
+
+  /** Validators of the last listing per repository whose changes were applied. */
+  private final Map<RepositoryKey, Listing> listings = new ConcurrentHashMap<>();
+
+  private final LongAdder notModified = new LongAdder();
+  private final LongAdder modified = new LongAdder();
+  private final LongAdder tasksUpdated = new LongAdder();
+  private final Timer runTimer;
+
+  public TaskPullRequestSyncService(
+      TaskRepository taskRepository,
+      TaskPullRequestStatusUpdater statusUpdater,
+      GithubInstallationRepository installationRepository,
+      GithubService githubService,
+      GithubApiClient githubApiClient,
+      AdvisoryLocks advisoryLocks,
+      MeterRegistry meterRegistry,
+      @Value("${github.pr-sync.max-requests-per-run:60}") int maxRequestsPerRun,
+      @Value("${github.pr-sync.rate-limit-reserve:1000}") int rateLimitReserve) {
+    this.taskRepository = taskRepository;
+    this.statusUpdater = statusUpdater;
+    this.installationRepository = installationRepository;
+    this.githubService = githubService;
+    this.githubApiClient = githubApiClient;
+    this.advisoryLocks = advisoryLocks;
+    this.maxRequestsPerRun = maxRequestsPerRun;
+    this.rateLimitReserve = rateLimitReserve;
+    register(meterRegistry, notModified, "not_modified");
+    register(meterRegistry, modified, "modified");
+    FunctionCounter.builder("specflux.github.pr-sync.tasks.updated", tasksUpdated, LongAdder::sum)
+        .description("Task status changes applied from GitHub pull requests")
+        .register(meterRegistry);
+    this.runTimer =
+        Timer.builder("specflux.github.pr-sync.duration")
+            .description("Time taken by one pull request sync run")
+            .register(meterRegistry);
+  }
+
+  /** Syncs the status of every open task that links a pull request. */
+  @Scheduled(
+      fixedDelayString = "${github.pr-sync.interval:PT1M}",
+      initialDelayString = "${github.pr-sync.interval:PT1M}")
+  public void syncAll() {
+    if (!advisoryLocks.runExclusively(SYNC_LOCK_KEY, () -> runTimer.record(this::sync))) {
+      log.debug("[prSync] skipped, another instance is syncing");
+    }
+  }
+
+  private void sync() {
+    Map<RepositoryKey, Map<Integer, List<PullRequestLink>>> repositories = loadLinks();
+    if (repositories.isEmpty()) {
+      return;
+    }
+
+    Run run = new Run(maxRequestsPerRun);
+    Map<Long, Optional<String>> tokens = new HashMap<>();
+    int skipped = 0;
+    for (Map.Entry<RepositoryKey, Map<Integer, List<PullRequestLink>>> entry :
+        repositories.entrySet()) {
+      RepositoryKey repository = entry.getKey();
+      Optional<String> token = tokens.computeIfAbsent(repository.ownerId(), this::accessToken);
+      if (token.isEmpty() || !run.canRequest(repository.ownerId())) {
+        skipped++;
+        continue;
+      }
+      try {
+        syncRepository(repository, entry.getValue(), token.get(), run);
+      } catch (GithubApiException e) {
+        log.warn(
+            "[prSync] failed to sync {}/{}: {}",
+            repository.owner(),
+            repository.name(),
+            e.getMessage());
+      }
+    }
+
+    long updated = statusUpdater.apply(run.changes);
+    listings.putAll(run.listings);
+    tasksUpdated.add(updated);
+    log.info(
+        "[prSync] repositories={} skipped={} requests={} tasksUpdated={}",
+        repositories.size(),
+        skipped,
+        maxRequestsPerRun - run.requestsLeft,
+        updated);
+  }
+
+  /** Groups the open tasks that link a pull request by repository and pull request number. */
+  private Map<RepositoryKey, Map<Integer, List<PullRequestLink>>> loadLinks() {
+    Map<RepositoryKey, Map<Integer, List<PullRequestLink>>> repositories = new LinkedHashMap<>();
+    long afterId = 0;
+    while (true) {
+      List<PullRequestLink> batch =
+          taskRepository.findPullRequestLinks(
+              TaskPullRequestStatusUpdater.TRACKED, afterId, Limit.of(BATCH_SIZE));
+      if (batch.isEmpty()) {
+        return repositories;
+      }
+      for (PullRequestLink link : batch) {
+        PullRequestRef.parse(link.getGithubPrUrl())
+            .ifPresent(
+                ref ->
+                    repositories
+                        .computeIfAbsent(
+                            new RepositoryKey(link.getOwnerId(), ref.owner(), ref.repo()),
+                            _ -> new HashMap<>())
+                        .computeIfAbsent(ref.number(), _ -> new ArrayList<>())
+                        .add(link));
+      }
+      afterId = batch.getLast().getId();
+    }
+  }
+
+  private Optional<String> accessToken(Long userId) {
+    try {
+      return installationRepository
+          .findByUserId(userId)
+          .map(installation -> githubService.refreshAccessToken(installation).getAccessToken());
+    } catch (GithubApiException e) {
+      log.warn("[prSync] no usable GitHub token for user {}: {}", userId, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private void syncRepository(
+      RepositoryKey repository,
+      Map<Integer, List<PullRequestLink>> linked,
+      String token,
+      Run run) {
+    Instant startedAt = Instant.now();
+    Listing previous = listings.get(repository);
+    // A newly linked pull request may not have changed since the last listing, so it has to be
+    // looked up in full
+    boolean sameLinks = previous != null && previous.numbers().containsAll(linked.keySet());
+    String etag = sameLinks && previous.complete() ? previous.etag() : null;
+    Instant since = sameLinks ? previous.listedAt().minus(CLOCK_SKEW) : null;
+
+    Set<Integer> pending = new HashSet<>(linked.keySet());
+    String firstEtag = null;
+    boolean complete = false;
+    for (int page = 1; page <= MAX_PAGES; page++) {
+      if (!run.canRequest(repository.ownerId())) {
+        // Incomplete: keep the last complete listing so the rest is read next run
+        return;
+      }
+      ConditionalPullRequestList result =
+          githubApiClient.listPullRequestsIfModified(
+              token,
+              repository.owner(),
+              repository.name(),
+              page,
+              PER_PAGE,
+              page == 1 ? etag : null);
+      run.recordRequest(repository.ownerId(), result.getRateLimitRemaining());
+
+      if (result.isNotModified()) {
+        notModified.increment();
+        run.listings.put(repository, new Listing(etag, startedAt, previous.numbers(), true));
+        return;
+      }
+      modified.increment();
+      if (page == 1) {
+        firstEtag = result.getEtag();
+      }
+
+      List<PullRequest> pullRequests = result.getPullRequests();
+      for (PullRequest pullRequest : pullRequests) {
+        pending.remove(pullRequest.getNumber());
+        List<PullRequestLink> links = linked.get(pullRequest.getNumber());
+        if (links != null) {
+          run.collect(pullRequest, links);
+        }
+      }
+      if (pending.isEmpty()
+          || pullRequests.size() < PER_PAGE
+          || (since != null && isOlder(pullRequests.getLast(), since))) {
+        complete = true;
+        break;
+      }
+    }
+
+    if (firstEtag != null) {
+      run.listings.put(
+          repository, new Listing(firstEtag, startedAt, Set.copyOf(linked.keySet()), complete));
+    }
+  }
+
+  private static boolean isOlder(PullRequest pullRequest, Instant since) {
+    return pullRequest.getUpdatedAt() != null
+        && Instant.parse(pullRequest.getUpdatedAt()).isBefore(since);
+  }
+
+  private static void register(MeterRegistry registry, LongAdder counter, String result) {
+    FunctionCounter.builder("specflux.github.pr-sync.requests", counter, LongAdder::sum)
+        .description("GitHub pull request listings by outcome")
+        .tag("result", result)
+        .register(registry);
+  }
+
+  /** Request budget, collected changes and listings of one sync run. */
+  private final class Run {
+
+    private int requestsLeft;
+    private final Map<Long, Integer> rateLimitRemaining = new HashMap<>();
+    private final Map<TaskStatus, List<Long>> changes = new EnumMap<>(TaskStatus.class);
+    private final Map<RepositoryKey, Listing> listings = new HashMap<>();
+
+    Run(int requestsLeft) {
+      this.requestsLeft = requestsLeft;
+    }
+
+    boolean canRequest(Long userId) {
+      Integer remaining = rateLimitRemaining.get(userId);
+      return requestsLeft > 0 && (remaining == null || remaining > rateLimitReserve);
+    }
+
+    void recordRequest(Long userId, Integer remaining) {
+      requestsLeft--;
+      if (remaining != null) {
+        rateLimitRemaining.put(userId, remaining);
+      }
+    }
+
+    void collect(PullRequest pullRequest, List<PullRequestLink> links) {
+      TaskPullRequestStatusUpdater.collect(pullRequest, links, changes);
+    }
+  }
+
+  /** A repository as seen through one user's GitHub access. */
+  private record RepositoryKey(Long ownerId, String owner, String name) {}
+
+  /**
+   * Validators of a listing and the pull requests it covered. An incomplete listing stopped at
+   * {@code MAX_PAGES}, so its ETag cannot vouch for the pages it did not read.
+   */
+  private record Listing(String etag, Instant listedAt, Set<Integer> numbers, boolean complete) {}
+}
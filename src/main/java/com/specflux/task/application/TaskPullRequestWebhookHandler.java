@@ -0,0 +1,101 @@
+package com.specflux.task.application;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.specflux.github.application.GithubWebhookDelivery;
+import com.specflux.github.application.GithubWebhookHandler;
+import com.specflux.github.infrastructure.GithubApiClient.PullRequest;
+import com.specflux.task.domain.PullRequestRef;
+import com.specflux.task.domain.TaskRepository;
+import com.specflux.task.domain.TaskRepository.PullRequestLink;
+import com.specflux.task.domain.TaskStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies {@code pull_request} webhooks to the tasks that link the pull request.
+ *
+ * <p>Only actions that change a pull request's state are considered. Within a batch the last
+ * delivery per pull request wins; the linked tasks are loaded with one query on their normalized
+ * {@link PullRequestRef}, like the scheduled sync matches them, and updated by {@link
+ * TaskPullRequestStatusUpdater}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskPullRequestWebhookHandler implements GithubWebhookHandler {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final Set<String> STATE_ACTIONS =
+      Set.of("opened", "reopened", "closed", "ready_for_review");
+
+  private final TaskRepository taskRepository;
+  private final TaskPullRequestStatusUpdater statusUpdater;
+
+  @Override
+  public String event() {
+    return "pull_request";
+  }
+
+  @Override
+  public void handle(List<GithubWebhookDelivery> deliveries) {
+    Map<String, PullRequest> latest = new LinkedHashMap<>();
+    for (GithubWebhookDelivery delivery : deliveries) {
+      JsonNode root = readTree(delivery);
+      if (!STATE_ACTIONS.contains(root.path("action").asText())) {
+        continue;
+      }
+      PullRequest pullRequest = toPullRequest(delivery, root.path("pull_request"));
+      PullRequestRef.parse(pullRequest.getHtmlUrl())
+          .ifPresent(ref -> latest.put(ref.key(), pullRequest));
+    }
+    if (latest.isEmpty()) {
+      return;
+    }
+
+    Map<TaskStatus, List<Long>> changes = new EnumMap<>(TaskStatus.class);
+    for (PullRequestLink link :
+        taskRepository.findPullRequestLinksByRefs(
+            latest.keySet(), TaskPullRequestStatusUpdater.TRACKED)) {
+      PullRequestRef.parse(link.getGithubPrUrl())
+          .map(ref -> latest.get(ref.key()))
+          .ifPresent(
+              pullRequest ->
+                  TaskPullRequestStatusUpdater.collect(pullRequest, List.of(link), changes));
+    }
+    long updated = statusUpdater.apply(changes);
+    log.info(
+        "[prWebhook] deliveries={} pullRequests={} tasksUpdated={}",
+        deliveries.size(),
+        latest.size(),
+        updated);
+  }
+
+  private static JsonNode readTree(GithubWebhookDelivery delivery) {
+    try {
+      return OBJECT_MAPPER.readTree(delivery.payload());
+    } catch (IOException e) {
+      throw new IllegalArgumentException(
+          "Malformed pull_request payload in delivery " + delivery.deliveryId(), e);
+    }
+  }
+
+  private static PullRequest toPullRequest(GithubWebhookDelivery delivery, JsonNode node) {
+    try {
+      return OBJECT_MAPPER.treeToValue(node, PullRequest.class);
+    } catch (IOException e) {
+      throw new IllegalArgumentException(
+          "Malformed pull request in delivery " + delivery.deliveryId(), e);
+    }
+  }
+}
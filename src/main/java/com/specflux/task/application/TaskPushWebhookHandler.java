@@ -0,0 +1,127 @@
+package com.specflux.task.application;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.specflux.github.application.GithubWebhookDelivery;
+import com.specflux.github.application.GithubWebhookHandler;
+import com.specflux.task.domain.TaskRepository;
+import com.specflux.task.domain.TaskSpecifications;
+import com.specflux.task.domain.TaskStatus;
+import com.specflux.task.infrastructure.persistence.TaskBatchUpdater;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies {@code push} webhooks: tasks whose display key appears in a pushed commit message are
+ * moved from backlog or ready to in progress.
+ *
+ * <p>Only tasks of projects that have a repository with the pushed repository's URL are touched,
+ * so a display key mentioned in an unrelated repository changes nothing. A batch is applied with a
+ * single UPDATE.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskPushWebhookHandler implements GithubWebhookHandler {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final Pattern DISPLAY_KEY = Pattern.compile("\\b([A-Z0-9]{1,10}-\\d+)\\b");
+  private static final Collection<TaskStatus> NOT_STARTED =
+      EnumSet.of(TaskStatus.BACKLOG, TaskStatus.READY);
+
+  private final TaskRepository taskRepository;
+  private final TaskBatchUpdater taskBatchUpdater;
+  private final TransactionTemplate transactionTemplate;
+
+  @Override
+  public String event() {
+    return "push";
+  }
+
+  @Override
+  public void handle(List<GithubWebhookDelivery> deliveries) {
+    // Display keys mentioned per repository, keyed by the repository's git URLs
+    Map<Set<String>, Set<String>> keysByRepository = new LinkedHashMap<>();
+    for (GithubWebhookDelivery delivery : deliveries) {
+      JsonNode root = readTree(delivery);
+      if (root.path("deleted").asBoolean()) {
+        continue;
+      }
+      Set<String> keys = new HashSet<>();
+      for (JsonNode commit : root.path("commits")) {
+        Matcher matcher = DISPLAY_KEY.matcher(commit.path("message").asText());
+        while (matcher.find()) {
+          keys.add(matcher.group(1));
+        }
+      }
+      Set<String> gitUrls = gitUrls(root.path("repository"));
+      if (!keys.isEmpty() && !gitUrls.isEmpty()) {
+        keysByRepository.computeIfAbsent(gitUrls, _ -> new HashSet<>()).addAll(keys);
+      }
+    }
+    if (keysByRepository.isEmpty()) {
+      return;
+    }
+
+    Set<Long> taskIds = new HashSet<>();
+    keysByRepository.forEach(
+        (gitUrls, keys) ->
+            taskIds.addAll(
+                taskRepository.findIdsByDisplayKeysInRepository(keys, NOT_STARTED, gitUrls)));
+    if (taskIds.isEmpty()) {
+      return;
+    }
+    Long updated =
+        transactionTemplate.execute(
+            _ -> {
+              // Skip tasks that were started or closed since they were read
+              List<Long> ids =
+                  taskBatchUpdater.lockIds(
+                      TaskSpecifications.idIn(taskIds)
+                          .and(TaskSpecifications.statusIn(NOT_STARTED)));
+              return taskBatchUpdater.updateAll(ids, Map.of("status", TaskStatus.IN_PROGRESS));
+            });
+    log.info("[pushWebhook] deliveries={} tasksStarted={}", deliveries.size(), updated);
+  }
+
+  /** The URLs a project repository may have been registered with, lower-cased. */
+  private static Set<String> gitUrls(JsonNode repository) {
+    Set<String> urls = new HashSet<>();
+    for (String field : List.of("clone_url", "ssh_url", "git_url", "html_url")) {
+      String url = repository.path(field).asText(null);
+      if (url != null && !url.isBlank()) {
+        urls.add(url.toLowerCase(Locale.ROOT));
+      }
+    }
+    String htmlUrl = repository.path("html_url").asText(null);
+    if (htmlUrl != null) {
+      urls.add(htmlUrl.toLowerCase(Locale.ROOT) + ".git");
+    }
+    return urls;
+  }
+
+  private static JsonNode readTree(GithubWebhookDelivery delivery) {
+    try {
+      return OBJECT_MAPPER.readTree(delivery.payload());
+    } catch (IOException e) {
+      throw new IllegalArgumentException(
+          "Malformed push payload in delivery " + delivery.deliveryId(), e);
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.specflux.task.application;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.specflux.api.generated.model.TaskDto;
+import com.specflux.api.generated.model.TaskListResponseDto;
+import com.specflux.api.generated.model.TaskSearchMatchDto;
+import com.specflux.shared.application.CursorCodec;
+import com.specflux.shared.application.KeysetPage;
+import com.specflux.shared.domain.KeysetCursor;
+import com.specflux.task.domain.Task;
+import com.specflux.task.domain.TaskFilter;
+import com.specflux.task.domain.TaskRepository;
+import com.specflux.task.infrastructure.persistence.TaskTextSearch;
+import com.specflux.task.infrastructure.persistence.TaskTextSearch.Match;
+import com.specflux.task.interfaces.rest.TaskMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Lists tasks matching a full-text search, most relevant first.
+ *
+ * <p>Matching, ranking and highlighting run in PostgreSQL (see {@link TaskTextSearch}); only the
+ * tasks on the requested page are loaded. Cursors carry the rank and id of the boundary row, so
+ * every page is a seek like the other list endpoints.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskSearchService {
+
+  /** Sort key name recorded in search cursors. */
+  static final String RELEVANCE = "relevance";
+
+  private final TaskTextSearch taskTextSearch;
+  private final TaskRepository taskRepository;
+  private final CursorCodec cursorCodec;
+
+  /**
+   * Fetches one page of tasks matching a search.
+   *
+   * @param filter the list filters
+   * @param text the search text
+   * @param cursor the cursor from a previous page (optional)
+   * @param limit the page size
+   * @return the page, with the match details of each task
+   * @throws IllegalArgumentException if the cursor is invalid or was not issued for a search
+   */
+  public TaskListResponseDto search(TaskFilter filter, String text, String cursor, int limit) {
+    KeysetCursor position = cursorCodec.decode(cursor);
+    if (position != null && !RELEVANCE.equals(position.sortKey())) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+
+    String query = TaskTextSearch.toQuery(text);
+    if (query == null) {
+      return toResponse(List.of(), new KeysetPage<>(List.of(), 0, false, null, null));
+    }
+
+    long total = taskTextSearch.count(filter, query);
+    boolean backward = position != null && position.backward();
+    List<Match> rows =
+        taskTextSearch.search(
+            filter,
+            query,
+            position != null ? parseRank(position.key()) : null,
+            position != null ? position.id() : null,
+            backward,
+            limit + 1);
+    boolean hasMoreInReadOrder = rows.size() > limit;
+    List<Match> matches = new ArrayList<>(hasMoreInReadOrder ? rows.subList(0, limit) : rows);
+
+    KeysetPage<Match> page;
+    if (backward) {
+      Collections.reverse(matches);
+      String next = matches.isEmpty() ? null : encode(false, matches.getLast());
+      String prev = hasMoreInReadOrder ? encode(true, matches.getFirst()) : null;
+      page = new KeysetPage<>(matches, total, next != null, next, prev);
+    } else {
+      String next = hasMoreInReadOrder ? encode(false, matches.getLast()) : null;
+      String prev =
+          position != null && !matches.isEmpty() ? encode(true, matches.getFirst()) : null;
+      page = new KeysetPage<>(matches, total, hasMoreInReadOrder, next, prev);
+    }
+    return toResponse(matches, page);
+  }
+
+  private TaskListResponseDto toResponse(List<Match> matches, KeysetPage<Match> page) {
+    Map<Long, Task> tasks =
+        matches.isEmpty()
+            ? Map.of()
+            : taskRepository.findByIdIn(matches.stream().map(Match::id).toList()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+    List<TaskDto> data = new ArrayList<>(matches.size());
+    for (Match match : matches) {
+      Task task = tasks.get(match.id());
+      // Deleted since it was matched
+      if (task == null) {
+        continue;
+      }
+      TaskSearchMatchDto details = new TaskSearchMatchDto();
+      details.setRank(match.rank());
+      details.setTitleHighlight(match.titleHighlight());
+      details.setDescriptionSnippet(match.descriptionSnippet());
+      TaskDto dto = TaskMapper.toDto(task);
+      dto.setSearchMatch(details);
+      data.add(dto);
+    }
+
+    TaskListResponseDto response = new TaskListResponseDto();
+    response.setData(data);
+    response.setPagination(page.toPaginationDto());
+    return response;
+  }
+
+  private String encode(boolean backward, Match match) {
+    return cursorCodec.encode(
+        new KeysetCursor(RELEVANCE, false, backward, Float.toString(match.rank()), match.id()));
+  }
+
+  private static Float parseRank(String value) {
+    try {
+      return Float.valueOf(value);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid cursor", e);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.specflux.task.domain;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A GitHub pull request as identified by a task's PR link.
+ *
+ * <p>Links are matched on owner, repository and number, ignoring case, surrounding whitespace, the
+ * {@code www.} host and anything after the number, such as {@code /files} or a trailing slash. The
+ * {@code github_pr_ref} column of tasks stores {@link #key()} computed the same way.
+ *
+ * @param owner the repository owner, lower case
+ * @param repo the repository name, lower case
+ * @param number the pull request number
+ */
+public record PullRequestRef(String owner, String repo, int number) {
+
+  private static final Pattern URL =
+      Pattern.compile(
+          "^https?://(?:www\\.)?github\\.com/([^/]+)/([^/]+)/pull/(\\d+)",
+          Pattern.CASE_INSENSITIVE);
+
+  /**
+   * Parses a pull request URL.
+   *
+   * @param url the URL, as entered on a task or sent by GitHub
+   * @return the pull request, or empty if the URL does not point to one
+   */
+  public static Optional<PullRequestRef> parse(String url) {
+    if (url == null) {
+      return Optional.empty();
+    }
+    Matcher matcher = URL.matcher(url.trim());
+    if (!matcher.find()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(
+          new PullRequestRef(
+              matcher.group(1).toLowerCase(Locale.ROOT),
+              matcher.group(2).toLowerCase(Locale.ROOT),
+              Integer.parseInt(matcher.group(3))));
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+
+  /** Returns the normalized form stored in {@code tasks.github_pr_ref}. */
+  public String key() {
+    return owner + "/" + repo + "/pull/" + number;
+  }
+}
@@ -15,6 +15,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -25,10 +27,21 @@ import lombok.Setter;
 /** Task aggregate root representing a unit of work. */
 @Entity
 @Table(name = "tasks")
+@NamedEntityGraph(
+    name = Task.SUMMARY_GRAPH,
+    attributeNodes = {
+      @NamedAttributeNode("project"),
+      @NamedAttributeNode("epic"),
+      @NamedAttributeNode("createdBy"),
+      @NamedAttributeNode("assignedTo")
+    })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Task extends AggregateRoot<Long> {
 
+  /** Associations read when mapping a task to its API representation. */
+  public static final String SUMMARY_GRAPH = "Task.summary";
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
@@ -67,6 +80,14 @@ public class Task extends AggregateRoot<Long> {
   @Column(length = 10)
   private TaskPriority priority = TaskPriority.MEDIUM;
 
+  /**
+   * Rank of {@link #priority} for work queues, generated by PostgreSQL. Only mapped for queries;
+   * the in-memory value is not refreshed when the priority changes.
+   */
+  @Getter(AccessLevel.NONE)
+  @Column(insertable = false, updatable = false)
+  private Integer urgency;
+
   @Setter
   @Column(name = "requires_approval", nullable = false)
   private Boolean requiresApproval = true;
@@ -83,6 +104,14 @@ public class Task extends AggregateRoot<Long> {
   @Column(name = "github_pr_url", length = 500)
   private String githubPrUrl;
 
+  /**
+   * {@link PullRequestRef#key()} of {@link #githubPrUrl}, generated by PostgreSQL. Only mapped for
+   * queries; the in-memory value is not refreshed when the URL changes.
+   */
+  @Getter(AccessLevel.NONE)
+  @Column(insertable = false, updatable = false)
+  private String githubPrRef;
+
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "created_by_id", nullable = false)
   private User createdBy;
@@ -0,0 +1,303 @@
+package com.specflux.task.domain;
+
+import java.util.Arrays;
+
+/**
+ * Immutable dependency graph of the tasks in one project.
+ *
+ * <p>Vertices are the tasks that take part in at least one dependency, identified by their database
+ * ids and kept in ascending order. Edges are stored in compressed sparse row form in both
+ * directions: for the vertex at index {@code i}, {@code upstreamEdges[upstreamOffsets[i] ..
+ * upstreamOffsets[i + 1])} lists the vertices it depends on and the downstream arrays list the
+ * vertices that depend on it. Traversals therefore touch only primitive arrays and run in O(V + E).
+ *
+ * <p>Updates return a new graph, so instances can be shared between threads without locking.
+ */
+public final class TaskDependencyGraph {
+
+  private static final TaskDependencyGraph EMPTY =
+      new TaskDependencyGraph(new long[0], new long[0], new long[0]);
+
+  private final long[] taskIds;
+  private final int[] upstreamOffsets;
+  private final int[] upstreamEdges;
+  private final int[] downstreamOffsets;
+  private final int[] downstreamEdges;
+
+  private TaskDependencyGraph(long[] taskIds, long[] from, long[] to) {
+    this.taskIds = taskIds;
+    int vertexCount = taskIds.length;
+    int[] sources = new int[from.length];
+    int[] targets = new int[to.length];
+    for (int e = 0; e < from.length; e++) {
+      sources[e] = Arrays.binarySearch(taskIds, from[e]);
+      targets[e] = Arrays.binarySearch(taskIds, to[e]);
+    }
+    this.upstreamOffsets = new int[vertexCount + 1];
+    this.upstreamEdges = new int[from.length];
+    fill(sources, targets, upstreamOffsets, upstreamEdges);
+    this.downstreamOffsets = new int[vertexCount + 1];
+    this.downstreamEdges = new int[from.length];
+    fill(targets, sources, downstreamOffsets, downstreamEdges);
+  }
+
+  /** Returns a graph with no tasks. */
+  public static TaskDependencyGraph empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Builds a graph from parallel edge arrays, where {@code taskIds[e]} depends on {@code
+   * dependsOnTaskIds[e]}. Duplicate edges are ignored.
+   *
+   * @param taskIds the dependent task of each edge
+   * @param dependsOnTaskIds the task each edge points to
+   * @return the graph
+   */
+  public static TaskDependencyGraph of(long[] taskIds, long[] dependsOnTaskIds) {
+    if (taskIds.length != dependsOnTaskIds.length) {
+      throw new IllegalArgumentException("Edge arrays must have the same length");
+    }
+    if (taskIds.length == 0) {
+      return EMPTY;
+    }
+
+    // Sort edges so duplicates are adjacent and adjacency lists come out ordered
+    long[][] edges = new long[taskIds.length][];
+    for (int e = 0; e < taskIds.length; e++) {
+      edges[e] = new long[] {taskIds[e], dependsOnTaskIds[e]};
+    }
+    Arrays.sort(
+        edges, (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+
+    long[] from = new long[edges.length];
+    long[] to = new long[edges.length];
+    int edgeCount = 0;
+    for (long[] edge : edges) {
+      if (edgeCount > 0 && from[edgeCount - 1] == edge[0] && to[edgeCount - 1] == edge[1]) {
+        continue;
+      }
+      from[edgeCount] = edge[0];
+      to[edgeCount] = edge[1];
+      edgeCount++;
+    }
+    from = Arrays.copyOf(from, edgeCount);
+    to = Arrays.copyOf(to, edgeCount);
+
+    long[] vertices = new long[edgeCount * 2];
+    System.arraycopy(from, 0, vertices, 0, edgeCount);
+    System.arraycopy(to, 0, vertices, edgeCount, edgeCount);
+    Arrays.sort(vertices);
+    int vertexCount = 0;
+    for (long id : vertices) {
+      if (vertexCount == 0 || vertices[vertexCount - 1] != id) {
+        vertices[vertexCount++] = id;
+      }
+    }
+    return new TaskDependencyGraph(Arrays.copyOf(vertices, vertexCount), from, to);
+  }
+
+  /** Number of tasks that take part in at least one dependency. */
+  public int taskCount() {
+    return taskIds.length;
+  }
+
+  /** Number of dependencies. */
+  public int dependencyCount() {
+    return upstreamEdges.length;
+  }
+
+  /** Whether the task takes part in at least one dependency. */
+  public boolean contains(long taskId) {
+    return Arrays.binarySearch(taskIds, taskId) >= 0;
+  }
+
+  /** Whether {@code taskId} directly depends on {@code dependsOnTaskId}. */
+  public boolean hasDependency(long taskId, long dependsOnTaskId) {
+    int from = Arrays.binarySearch(taskIds, taskId);
+    int to = Arrays.binarySearch(taskIds, dependsOnTaskId);
+    if (from < 0 || to < 0) {
+      return false;
+    }
+    return Arrays.binarySearch(upstreamEdges, upstreamOffsets[from], upstreamOffsets[from + 1], to)
+        >= 0;
+  }
+
+  /** Tasks that the given task directly depends on, in id order. */
+  public long[] dependenciesOf(long taskId) {
+    return neighbours(taskId, upstreamOffsets, upstreamEdges);
+  }
+
+  /** Tasks that directly depend on the given task, in id order. */
+  public long[] dependentsOf(long taskId) {
+    return neighbours(taskId, downstreamOffsets, downstreamEdges);
+  }
+
+  /** Every task the given task depends on, directly or transitively, in id order. */
+  public long[] upstreamOf(long taskId) {
+    return reachable(taskId, upstreamOffsets, upstreamEdges);
+  }
+
+  /** Every task that depends on the given task, directly or transitively, in id order. */
+  public long[] downstreamOf(long taskId) {
+    return reachable(taskId, downstreamOffsets, downstreamEdges);
+  }
+
+  /**
+   * Whether adding a dependency from {@code taskId} on {@code dependsOnTaskId} would close a cycle,
+   * i.e. whether {@code dependsOnTaskId} already depends on {@code taskId}.
+   */
+  public boolean wouldCreateCycle(long taskId, long dependsOnTaskId) {
+    if (taskId == dependsOnTaskId) {
+      return true;
+    }
+    int target = Arrays.binarySearch(taskIds, taskId);
+    int start = Arrays.binarySearch(taskIds, dependsOnTaskId);
+    if (target < 0 || start < 0) {
+      return false;
+    }
+    int[] stack = new int[taskIds.length];
+    boolean[] visited = new boolean[taskIds.length];
+    int top = 0;
+    stack[top++] = start;
+    visited[start] = true;
+    while (top > 0) {
+      int vertex = stack[--top];
+      for (int e = upstreamOffsets[vertex]; e < upstreamOffsets[vertex + 1]; e++) {
+        int next = upstreamEdges[e];
+        if (next == target) {
+          return true;
+        }
+        if (!visited[next]) {
+          visited[next] = true;
+          stack[top++] = next;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Orders the tasks so that every task comes after the tasks it depends on (Kahn's algorithm). The
+   * order is deterministic for a given graph. Tasks on a cycle, which can only exist in data
+   * written before cycles were rejected, are appended in id order.
+   */
+  public long[] topologicalOrder() {
+    int vertexCount = taskIds.length;
+    int[] remaining = new int[vertexCount];
+    int[] queue = new int[vertexCount];
+    int head = 0;
+    int tail = 0;
+    for (int v = 0; v < vertexCount; v++) {
+      remaining[v] = upstreamOffsets[v + 1] - upstreamOffsets[v];
+      if (remaining[v] == 0) {
+        queue[tail++] = v;
+      }
+    }
+    while (head < tail) {
+      int vertex = queue[head++];
+      for (int e = downstreamOffsets[vertex]; e < downstreamOffsets[vertex + 1]; e++) {
+        int next = downstreamEdges[e];
+        if (--remaining[next] == 0) {
+          queue[tail++] = next;
+        }
+      }
+    }
+
+    long[] order = new long[vertexCount];
+    for (int i = 0; i < tail; i++) {
+      order[i] = taskIds[queue[i]];
+    }
+    for (int v = 0, n = tail; v < vertexCount && n < vertexCount; v++) {
+      if (remaining[v] > 0) {
+        order[n++] = taskIds[v];
+      }
+    }
+    return order;
+  }
+
+  /** Returns a graph that also contains the given dependency. */
+  public TaskDependencyGraph withDependency(long taskId, long dependsOnTaskId) {
+    if (hasDependency(taskId, dependsOnTaskId)) {
+      return this;
+    }
+    long[][] edges = edges();
+    long[] from = Arrays.copyOf(edges[0], edges[0].length + 1);
+    long[] to = Arrays.copyOf(edges[1], edges[1].length + 1);
+    from[from.length - 1] = taskId;
+    to[to.length - 1] = dependsOnTaskId;
+    return of(from, to);
+  }
+
+  /** Returns the edges as two parallel arrays: dependent task ids and the ids they depend on. */
+  public long[][] edges() {
+    long[] from = new long[upstreamEdges.length];
+    long[] to = new long[upstreamEdges.length];
+    for (int v = 0; v < taskIds.length; v++) {
+      for (int e = upstreamOffsets[v]; e < upstreamOffsets[v + 1]; e++) {
+        from[e] = taskIds[v];
+        to[e] = taskIds[upstreamEdges[e]];
+      }
+    }
+    return new long[][] {from, to};
+  }
+
+  private long[] neighbours(long taskId, int[] offsets, int[] adjacency) {
+    int vertex = Arrays.binarySearch(taskIds, taskId);
+    if (vertex < 0) {
+      return new long[0];
+    }
+    long[] result = new long[offsets[vertex + 1] - offsets[vertex]];
+    for (int e = offsets[vertex], n = 0; e < offsets[vertex + 1]; e++, n++) {
+      result[n] = taskIds[adjacency[e]];
+    }
+    return result;
+  }
+
+  private long[] reachable(long taskId, int[] offsets, int[] adjacency) {
+    int start = Arrays.binarySearch(taskIds, taskId);
+    if (start < 0) {
+      return new long[0];
+    }
+    int[] stack = new int[taskIds.length];
+    boolean[] visited = new boolean[taskIds.length];
+    int top = 0;
+    int found = 0;
+    stack[top++] = start;
+    while (top > 0) {
+      int vertex = stack[--top];
+      for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+        int next = adjacency[e];
+        if (!visited[next] && next != start) {
+          visited[next] = true;
+          found++;
+          stack[top++] = next;
+        }
+      }
+    }
+    long[] result = new long[found];
+    for (int v = 0, n = 0; n < found; v++) {
+      if (visited[v]) {
+        result[n++] = taskIds[v];
+      }
+    }
+    return result;
+  }
+
+  /** Fills CSR arrays from parallel source/target vertex index arrays. */
+  private static void fill(int[] sources, int[] targets, int[] offsets, int[] adjacency) {
+    for (int source : sources) {
+      offsets[source + 1]++;
+    }
+    for (int v = 0; v < offsets.length - 1; v++) {
+      offsets[v + 1] += offsets[v];
+    }
+    int[] cursor = Arrays.copyOf(offsets, offsets.length - 1);
+    for (int e = 0; e < sources.length; e++) {
+      adjacency[cursor[sources[e]]++] = targets[e];
+    }
+    for (int v = 0; v < offsets.length - 1; v++) {
+      Arrays.sort(adjacency, offsets[v], offsets[v + 1]);
+    }
+  }
+}
@@ -3,15 +3,20 @@ package com.specflux.task.domain;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /** Repository for TaskDependency entities. */
 public interface TaskDependencyRepository extends JpaRepository<TaskDependency, Long> {
 
   /** Find all dependencies for a task (tasks that this task depends on). */
+  @EntityGraph(attributePaths = {"task", "dependsOnTask"})
   List<TaskDependency> findByTaskId(Long taskId);
 
   /** Find all dependents of a task (tasks that depend on this task). */
+  @EntityGraph(attributePaths = {"task", "dependsOnTask"})
   List<TaskDependency> findByDependsOnTaskId(Long dependsOnTaskId);
 
   /** Find a specific dependency relationship. */
@@ -22,4 +27,18 @@ public interface TaskDependencyRepository extends JpaRepository<TaskDependency,
 
   /** Delete a specific dependency relationship. */
   void deleteByTaskIdAndDependsOnTaskId(Long taskId, Long dependsOnTaskId);
+
+  /** Find the task id pairs of every dependency in a project, without loading the tasks. */
+  @Query(
+      "SELECT d.task.id AS taskId, d.dependsOnTask.id AS dependsOnTaskId FROM TaskDependency d"
+          + " WHERE d.task.project.id = :projectId")
+  List<Edge> findEdgesByProjectId(@Param("projectId") Long projectId);
+
+  /** A dependency as a pair of task ids. */
+  interface Edge {
+
+    Long getTaskId();
+
+    Long getDependsOnTaskId();
+  }
 }
@@ -0,0 +1,50 @@
+package com.specflux.task.domain;
+
+import java.util.Collection;
+
+import org.springframework.data.jpa.domain.PredicateSpecification;
+
+/**
+ * Filters of a task list, with references already resolved to ids.
+ *
+ * @param projectId the project the tasks belong to
+ * @param status only tasks with this status, or null
+ * @param priority only tasks with this priority, or null
+ * @param epicId only tasks in this epic, or null
+ * @param assigneeId only tasks assigned to this user, or null
+ * @param prdIds only tasks whose epic belongs to one of these PRDs, or null for any
+ * @param excludedStatuses statuses to leave out, or null
+ */
+public record TaskFilter(
+    Long projectId,
+    TaskStatus status,
+    TaskPriority priority,
+    Long epicId,
+    Long assigneeId,
+    Collection<Long> prdIds,
+    Collection<TaskStatus> excludedStatuses) {
+
+  /** Translates the filters into SQL predicates. */
+  public PredicateSpecification<Task> toSpecification() {
+    PredicateSpecification<Task> filter = TaskSpecifications.inProject(projectId);
+    if (status != null) {
+      filter = filter.and(TaskSpecifications.hasStatus(status));
+    }
+    if (priority != null) {
+      filter = filter.and(TaskSpecifications.hasPriority(priority));
+    }
+    if (epicId != null) {
+      filter = filter.and(TaskSpecifications.inEpic(epicId));
+    }
+    if (assigneeId != null) {
+      filter = filter.and(TaskSpecifications.assignedTo(assigneeId));
+    }
+    if (prdIds != null) {
+      filter = filter.and(TaskSpecifications.inPrds(prdIds));
+    }
+    if (excludedStatuses != null && !excludedStatuses.isEmpty()) {
+      filter = filter.and(TaskSpecifications.statusNotIn(excludedStatuses));
+    }
+    return filter;
+  }
+}
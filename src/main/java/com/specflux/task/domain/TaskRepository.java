@@ -1,26 +1,147 @@
 package com.specflux.task.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /** Repository for Task aggregate root. */
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
 
   Optional<Task> findByPublicId(String publicId);
 
+  /** Loads an entity by id together with the associations the API mapping reads. */
+  @EntityGraph(Task.SUMMARY_GRAPH)
+  Optional<Task> findWithSummaryById(Long id);
+
+  @EntityGraph(Task.SUMMARY_GRAPH)
   Optional<Task> findByPublicIdAndProjectId(String publicId, Long projectId);
 
+  @EntityGraph(Task.SUMMARY_GRAPH)
   Optional<Task> findByProjectIdAndDisplayKey(Long projectId, String displayKey);
 
+  /**
+   * Resolves a task reference and its project reference with a single joined query. The project is
+   * matched by public id or (upper-cased) project key, the task by public id or display key.
+   */
+  @EntityGraph(Task.SUMMARY_GRAPH)
+  @Query(
+      "SELECT t FROM Task t WHERE (t.project.publicId = :projectRef"
+          + " OR t.project.projectKey = :projectKey)"
+          + " AND (t.publicId = :ref OR t.displayKey = :ref)")
+  Optional<Task> findByProjectRefAndRef(
+      @Param("projectRef") String projectRef,
+      @Param("projectKey") String projectKey,
+      @Param("ref") String ref);
+
+  /**
+   * Resolves task references (public ids or display keys) within a project without loading the
+   * tasks.
+   */
+  @Query(
+      "SELECT t.id AS id, t.publicId AS publicId, t.displayKey AS displayKey FROM Task t"
+          + " WHERE t.project.id = :projectId"
+          + " AND (t.publicId IN :refs OR t.displayKey IN :refs)")
+  List<TaskKey> findKeysByProjectIdAndRefs(
+      @Param("projectId") Long projectId, @Param("refs") Collection<String> refs);
+
+  /** Loads tasks by id together with the associations the API mapping reads. */
+  @EntityGraph(Task.SUMMARY_GRAPH)
+  List<Task> findByIdIn(Collection<Long> ids);
+
   List<Task> findByProjectId(Long projectId);
 
   List<Task> findByProjectIdAndStatus(Long projectId, TaskStatus status);
 
   List<Task> findByEpicId(Long epicId);
 
+  /** Counts the tasks of the given epics per epic and status. */
+  @Query(
+      "SELECT t.epic.id AS epicId, t.status AS status, COUNT(t) AS count FROM Task t"
+          + " WHERE t.epic.id IN :epicIds GROUP BY t.epic.id, t.status")
+  List<EpicStatusCount> countByEpicIdInGroupByStatus(@Param("epicIds") Collection<Long> epicIds);
+
   List<Task> findByAssignedToId(Long userId);
 
   List<Task> findByCreatedById(Long userId);
+
+  /**
+   * Finds tasks that link a pull request and have one of the given statuses, ordered by id and
+   * starting after the given id, so callers can walk them in batches.
+   */
+  @Query(
+      "SELECT t.id AS id, t.githubPrUrl AS githubPrUrl, t.status AS status,"
+          + " t.project.owner.id AS ownerId FROM Task t"
+          + " WHERE t.githubPrUrl IS NOT NULL AND t.status IN :statuses AND t.id > :afterId"
+          + " ORDER BY t.id")
+  List<PullRequestLink> findPullRequestLinks(
+      @Param("statuses") Collection<TaskStatus> statuses,
+      @Param("afterId") Long afterId,
+      Limit limit);
+
+  /**
+   * Finds tasks that link one of the given pull requests and have one of the statuses.
+   *
+   * @param refs the pull requests' {@link PullRequestRef#key()}s
+   * @param statuses the statuses to include
+   * @return the links, whatever form their URLs were entered in
+   */
+  @Query(
+      "SELECT t.id AS id, t.githubPrUrl AS githubPrUrl, t.status AS status,"
+          + " t.project.owner.id AS ownerId FROM Task t"
+          + " WHERE t.githubPrRef IN :refs AND t.status IN :statuses")
+  List<PullRequestLink> findPullRequestLinksByRefs(
+      @Param("refs") Collection<String> refs,
+      @Param("statuses") Collection<TaskStatus> statuses);
+
+  /**
+   * Finds the ids of tasks with the given display keys and statuses whose project has a repository
+   * with one of the given git URLs.
+   */
+  @Query(
+      "SELECT t.id FROM Task t WHERE t.displayKey IN :displayKeys AND t.status IN :statuses"
+          + " AND EXISTS (SELECT r.id FROM Repository r"
+          + " WHERE r.project = t.project AND LOWER(r.gitUrl) IN :gitUrls)")
+  List<Long> findIdsByDisplayKeysInRepository(
+      @Param("displayKeys") Collection<String> displayKeys,
+      @Param("statuses") Collection<TaskStatus> statuses,
+      @Param("gitUrls") Collection<String> gitUrls);
+
+  /** Identifiers of a task, used to map references to ids. */
+  interface TaskKey {
+
+    Long getId();
+
+    String getPublicId();
+
+    String getDisplayKey();
+  }
+
+  /** Number of tasks of one epic in one status. */
+  interface EpicStatusCount {
+
+    Long getEpicId();
+
+    TaskStatus getStatus();
+
+    long getCount();
+  }
+
+  /** A task's pull request link and the owner of its project, whose GitHub access is used. */
+  interface PullRequestLink {
+
+    Long getId();
+
+    String getGithubPrUrl();
+
+    TaskStatus getStatus();
+
+    Long getOwnerId();
+  }
 }
@@ -0,0 +1,160 @@
+package com.specflux.task.domain;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.PredicateSpecification;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.specflux.shared.domain.SortKey;
+
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Query filters and sort keys for tasks.
+ *
+ * <p>Each factory returns a predicate that is translated to SQL, so list endpoints only load the
+ * rows they return.
+ */
+public final class TaskSpecifications {
+
+  static final SortKey<Task, Instant> CREATED_AT =
+      SortKey.ofInstant("created_at", (root, cb) -> root.get("createdAt"), Task::getCreatedAt);
+
+  static final SortKey<Task, Instant> UPDATED_AT =
+      SortKey.ofInstant("updated_at", (root, cb) -> root.get("updatedAt"), Task::getUpdatedAt);
+
+  static final SortKey<Task, String> TITLE =
+      SortKey.ofString(
+          "title",
+          (root, cb) -> cb.lower(root.get("title")),
+          t -> t.getTitle().toLowerCase(Locale.ROOT));
+
+  static final SortKey<Task, TaskStatus> STATUS =
+      SortKey.ofEnum("status", TaskStatus.class, (root, cb) -> root.get("status"), Task::getStatus);
+
+  /** Priority sorts by severity (low first) rather than its stored string; unset sorts last. */
+  static final SortKey<Task, Integer> PRIORITY =
+      SortKey.ofInteger(
+          "priority",
+          (root, cb) ->
+              cb.<Integer>selectCase()
+                  .when(cb.equal(root.get("priority"), TaskPriority.LOW), 0)
+                  .when(cb.equal(root.get("priority"), TaskPriority.MEDIUM), 1)
+                  .when(cb.equal(root.get("priority"), TaskPriority.HIGH), 2)
+                  .when(cb.equal(root.get("priority"), TaskPriority.CRITICAL), 3)
+                  .otherwise(4),
+          t -> t.getPriority() != null ? t.getPriority().ordinal() : 4);
+
+  /**
+   * Most urgent first: critical sorts lowest, unset priority last. Ascending order with the id
+   * tie-breaker also puts older tasks first within a priority. Reads the generated {@code urgency}
+   * column so that the partial index on (project, urgency, id) serves the ordering.
+   */
+  static final SortKey<Task, Integer> URGENCY =
+      SortKey.ofInteger(
+          "urgency",
+          (root, cb) -> root.get("urgency"),
+          t ->
+              t.getPriority() != null
+                  ? TaskPriority.CRITICAL.ordinal() - t.getPriority().ordinal()
+                  : 4);
+
+  /** Statuses of tasks that have not been started yet. */
+  private static final Collection<TaskStatus> NOT_STARTED =
+      EnumSet.of(TaskStatus.BACKLOG, TaskStatus.READY);
+
+  private TaskSpecifications() {}
+
+  /** Tasks belonging to the given project. */
+  public static PredicateSpecification<Task> inProject(Long projectId) {
+    return (root, cb) -> cb.equal(root.get("project").get("id"), projectId);
+  }
+
+  /** Tasks with one of the given ids. */
+  public static PredicateSpecification<Task> idIn(Collection<Long> ids) {
+    return (root, cb) -> root.get("id").in(ids);
+  }
+
+  /** Tasks with the given status. */
+  public static PredicateSpecification<Task> hasStatus(TaskStatus status) {
+    return (root, cb) -> cb.equal(root.get("status"), status);
+  }
+
+  /** Tasks whose status is in the given set. */
+  public static PredicateSpecification<Task> statusIn(Collection<TaskStatus> statuses) {
+    return (root, cb) -> root.get("status").in(statuses);
+  }
+
+  /** Tasks whose status is not in the given set. */
+  public static PredicateSpecification<Task> statusNotIn(Collection<TaskStatus> statuses) {
+    return (root, cb) -> cb.not(root.get("status").in(statuses));
+  }
+
+  /** Tasks with the given priority. */
+  public static PredicateSpecification<Task> hasPriority(TaskPriority priority) {
+    return (root, cb) -> cb.equal(root.get("priority"), priority);
+  }
+
+  /** Tasks belonging to the given epic. */
+  public static PredicateSpecification<Task> inEpic(Long epicId) {
+    return (root, cb) -> cb.equal(root.get("epic").get("id"), epicId);
+  }
+
+  /** Tasks assigned to the given user. */
+  public static PredicateSpecification<Task> assignedTo(Long userId) {
+    return (root, cb) -> cb.equal(root.get("assignedTo").get("id"), userId);
+  }
+
+  /** Tasks whose epic belongs to one of the given PRDs. */
+  public static PredicateSpecification<Task> inPrds(Collection<Long> prdIds) {
+    if (prdIds.isEmpty()) {
+      return (root, cb) -> cb.disjunction();
+    }
+    return (root, cb) -> root.get("epic").get("prdId").in(prdIds);
+  }
+
+  /**
+   * Tasks that have not been started and whose dependencies are all completed. Expressed as a NOT
+   * EXISTS anti-join over {@code task_dependencies}, so it runs as a single query.
+   */
+  public static Specification<Task> readyToStart() {
+    return (root, query, cb) -> {
+      Subquery<Long> blockers = query.subquery(Long.class);
+      Root<TaskDependency> dependency = blockers.from(TaskDependency.class);
+      blockers
+          .select(dependency.get("id"))
+          .where(
+              cb.equal(dependency.get("task"), root),
+              cb.notEqual(dependency.get("dependsOnTask").get("status"), TaskStatus.COMPLETED));
+      return cb.and(root.get("status").in(NOT_STARTED), cb.not(cb.exists(blockers)));
+    };
+  }
+
+  /** Sort key for work queues: highest priority first, then oldest first. */
+  public static SortKey<Task, Integer> urgency() {
+    return URGENCY;
+  }
+
+  /**
+   * Maps an API sort parameter to a sort key, defaulting to creation time.
+   *
+   * @param sort the API sort value (e.g. "updated_at")
+   * @return the matching sort key
+   */
+  public static SortKey<Task, ?> sortKey(String sort) {
+    if (sort == null) {
+      return CREATED_AT;
+    }
+    return switch (sort) {
+      case "title" -> TITLE;
+      case "status" -> STATUS;
+      case "priority" -> PRIORITY;
+      case "updated_at" -> UPDATED_AT;
+      default -> CREATED_AT;
+    };
+  }
+}
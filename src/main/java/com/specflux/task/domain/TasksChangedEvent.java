@@ -0,0 +1,38 @@
+package com.specflux.task.domain;
+
+import java.util.List;
+
+import com.specflux.shared.domain.DomainEvent;
+
+/**
+ * Published when tasks are created or their text is changed with bulk SQL that bypasses the
+ * persistence context, so listeners that track entity changes can catch up.
+ */
+public class TasksChangedEvent extends DomainEvent {
+
+  private final Long projectId;
+  private final List<String> publicIds;
+
+  public TasksChangedEvent(Long projectId, List<String> publicIds) {
+    this.projectId = projectId;
+    this.publicIds = List.copyOf(publicIds);
+  }
+
+  /**
+   * Returns the project the tasks belong to.
+   *
+   * @return the project ID
+   */
+  public Long getProjectId() {
+    return projectId;
+  }
+
+  /**
+   * Returns the public IDs of the changed tasks.
+   *
+   * @return the task public IDs
+   */
+  public List<String> getPublicIds() {
+    return publicIds;
+  }
+}
@@ -0,0 +1,88 @@
+package com.specflux.task.infrastructure.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.specflux.task.domain.Task;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Inserts new tasks with JDBC batch statements.
+ *
+ * <p>Task ids are database-generated (IDENTITY), which stops Hibernate from batching inserts. This
+ * writer sends the rows in batches instead; callers must run it inside a transaction and must not
+ * expect the given entities to become managed or receive ids.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskBatchInserter {
+
+  private static final int BATCH_SIZE = 100;
+
+  private static final String INSERT_SQL =
+      "INSERT INTO tasks (public_id, project_id, epic_id, sequence_number, display_key, title,"
+          + " description, status, priority, requires_approval, estimated_duration,"
+          + " actual_duration, github_pr_url, created_by_id, assigned_to_id, created_at,"
+          + " updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Inserts the given transient tasks.
+   *
+   * @param tasks the tasks to insert
+   */
+  public void insertAll(List<Task> tasks) {
+    jdbcTemplate.batchUpdate(INSERT_SQL, tasks, BATCH_SIZE, TaskBatchInserter::bind);
+  }
+
+  private static void bind(PreparedStatement ps, Task task) throws SQLException {
+    ps.setString(1, task.getPublicId());
+    ps.setLong(2, task.getProject().getId());
+    setNullableLong(ps, 3, task.getEpic() != null ? task.getEpic().getId() : null);
+    ps.setInt(4, task.getSequenceNumber());
+    ps.setString(5, task.getDisplayKey());
+    ps.setString(6, task.getTitle());
+    ps.setString(7, task.getDescription());
+    ps.setString(8, task.getStatus().getValue());
+    ps.setString(9, task.getPriority() != null ? task.getPriority().getValue() : null);
+    ps.setBoolean(10, task.getRequiresApproval());
+    setNullableInt(ps, 11, task.getEstimatedDuration());
+    setNullableInt(ps, 12, task.getActualDuration());
+    ps.setString(13, task.getGithubPrUrl());
+    ps.setLong(14, task.getCreatedBy().getId());
+    setNullableLong(ps, 15, task.getAssignedTo() != null ? task.getAssignedTo().getId() : null);
+    ps.setObject(16, toTimestamp(task.getCreatedAt()));
+    ps.setObject(17, toTimestamp(task.getUpdatedAt()));
+  }
+
+  private static Object toTimestamp(Instant instant) {
+    return instant.atOffset(ZoneOffset.UTC);
+  }
+
+  private static void setNullableLong(PreparedStatement ps, int index, Long value)
+      throws SQLException {
+    if (value == null) {
+      ps.setNull(index, Types.BIGINT);
+    } else {
+      ps.setLong(index, value);
+    }
+  }
+
+  private static void setNullableInt(PreparedStatement ps, int index, Integer value)
+      throws SQLException {
+    if (value == null) {
+      ps.setNull(index, Types.INTEGER);
+    } else {
+      ps.setInt(index, value);
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.specflux.task.infrastructure.persistence;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.jpa.domain.PredicateSpecification;
+import org.springframework.data.jpa.domain.UpdateSpecification;
+import org.springframework.stereotype.Component;
+
+import com.specflux.task.domain.Task;
+import com.specflux.task.domain.TaskRepository;
+import com.specflux.task.domain.TaskSpecifications;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Applies the same changes to many tasks with set-based UPDATE statements.
+ *
+ * <p>Bulk updates bypass the persistence context, so pending changes are flushed before each
+ * statement and the context is cleared afterwards; tasks loaded later in the same transaction see
+ * the new values. Callers must run inside a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskBatchUpdater {
+
+  private final TaskRepository taskRepository;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  /**
+   * Selects the ids of tasks matching a filter and locks their rows for the rest of the
+   * transaction.
+   *
+   * @param filter the task filter
+   * @return the ids of matching tasks
+   */
+  public List<Long> lockIds(PredicateSpecification<Task> filter) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> query = cb.createQuery(Long.class);
+    Root<Task> root = query.from(Task.class);
+    query.select(root.get("id")).where(filter.toPredicate(root, cb));
+    return entityManager
+        .createQuery(query)
+        .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+        .getResultList();
+  }
+
+  /**
+   * Sets the given attributes on every listed task with one UPDATE statement and bumps their {@code
+   * updatedAt}.
+   *
+   * @param ids the task ids
+   * @param assignments attribute name to new value; a null value clears the attribute
+   * @return the number of rows updated
+   */
+  public long updateAll(Collection<Long> ids, Map<String, ?> assignments) {
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    Instant now = Instant.now();
+    UpdateSpecification<Task> update =
+        UpdateSpecification.<Task>update(
+                (root, criteria, cb) -> {
+                  assignments.forEach(
+                      (attribute, value) -> {
+                        Path<Object> path = root.get(attribute);
+                        if (value == null) {
+                          criteria.<Object>set(path, cb.nullLiteral(path.getJavaType()));
+                        } else {
+                          criteria.<Object, Object>set(path, value);
+                        }
+                      });
+                  criteria.set(root.get("updatedAt"), now);
+                })
+            .where(TaskSpecifications.idIn(ids));
+
+    entityManager.flush();
+    long updated = taskRepository.update(update);
+    entityManager.clear();
+    return updated;
+  }
+}
@@ -0,0 +1,217 @@
+package com.specflux.task.infrastructure.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import com.specflux.task.domain.TaskFilter;
+import com.specflux.task.domain.TaskStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Full-text search over task titles and descriptions.
+ *
+ * <p>Matches against the {@code search_vector} column through its GIN index and orders by {@code
+ * ts_rank}, where title words weigh more than description words. Highlights are only computed for
+ * the rows of the requested page. Pages are read with a seek on (rank, id), most relevant first.
+ *
+ * <p>Highlights are safe to insert as HTML: {@code ts_headline} marks matches with control
+ * characters, the text is HTML-escaped, and only then are the marks turned into {@code <mark>}
+ * tags. The control characters are stripped from titles and descriptions beforehand, so stored text
+ * cannot forge marks.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskTextSearch {
+
+  /** Must match the configuration the {@code search_vector} column is generated with. */
+  private static final String CONFIG = "'english'";
+
+  private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+
+  /** Marks {@code ts_headline} puts around matches, replaced by tags after escaping. */
+  private static final char START_SEL = '\u0002';
+
+  private static final char STOP_SEL = '\u0003';
+
+  private static final String SELECTORS =
+      "StartSel=\"" + START_SEL + "\", StopSel=\"" + STOP_SEL + "\"";
+
+  private static final String TITLE_OPTIONS = SELECTORS + ", HighlightAll=true";
+
+  private static final String SNIPPET_OPTIONS =
+      SELECTORS + ", MinWords=10, MaxWords=30, MaxFragments=2, FragmentDelimiter=\" ... \"";
+
+  /** Removes the marks from source text, so that only {@code ts_headline} can place them. */
+  private static final String STRIP_SELECTORS = "translate(%s, chr(2) || chr(3), '')";
+
+  private static final String RANK = "ts_rank(t.search_vector, q.query)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  /**
+   * A task matching a search.
+   *
+   * @param id the task id
+   * @param rank the relevance of the task
+   * @param titleHighlight the HTML-escaped title with matched words in {@code <mark>} tags
+   * @param descriptionSnippet HTML-escaped fragments of the description around matched words, in
+   *     the same form, or null
+   */
+  public record Match(long id, float rank, String titleHighlight, String descriptionSnippet) {}
+
+  /**
+   * Turns free text into a query matching tasks that contain every word, each also as a prefix.
+   *
+   * @param text the search text
+   * @return the {@code to_tsquery} input, or null if the text contains no words
+   */
+  public static String toQuery(String text) {
+    StringBuilder query = new StringBuilder();
+    Matcher matcher = WORD.matcher(text.toLowerCase(Locale.ROOT));
+    while (matcher.find()) {
+      if (!query.isEmpty()) {
+        query.append(" & ");
+      }
+      query.append(matcher.group()).append(":*");
+    }
+    return query.isEmpty() ? null : query.toString();
+  }
+
+  /**
+   * Counts the tasks matching a query.
+   *
+   * @param filter the list filters
+   * @param query a query built by {@link #toQuery}
+   * @return the number of matching tasks
+   */
+  public long count(TaskFilter filter, String query) {
+    MapSqlParameterSource params = new MapSqlParameterSource("query", query);
+    String sql = "SELECT count(*) " + from() + " WHERE " + where(filter, params);
+    Long count = jdbcTemplate.queryForObject(sql, params, Long.class);
+    return count != null ? count : 0;
+  }
+
+  /**
+   * Fetches the tasks matching a query that follow the given position.
+   *
+   * @param filter the list filters
+   * @param query a query built by {@link #toQuery}
+   * @param afterRank the rank of the boundary row, or null to start from the most relevant
+   * @param afterId the id of the boundary row, used when {@code afterRank} is set
+   * @param backward whether to read towards more relevant rows
+   * @param limit the maximum number of rows to return
+   * @return the matches in read order
+   */
+  public List<Match> search(
+      TaskFilter filter, String query, Float afterRank, Long afterId, boolean backward, int limit) {
+    MapSqlParameterSource params =
+        new MapSqlParameterSource("query", query)
+            .addValue("limit", limit)
+            .addValue("titleOptions", TITLE_OPTIONS)
+            .addValue("snippetOptions", SNIPPET_OPTIONS);
+    StringBuilder where = new StringBuilder(where(filter, params));
+    if (afterRank != null) {
+      where
+          .append(backward ? " AND (" + RANK + " > :afterRank" : " AND (" + RANK + " < :afterRank")
+          .append(" OR (" + RANK + " = :afterRank AND t.id")
+          .append(backward ? " < :afterId))" : " > :afterId))");
+      params.addValue("afterRank", afterRank).addValue("afterId", afterId);
+    }
+    String order = backward ? "rank ASC, id DESC" : "rank DESC, id ASC";
+
+    // Rank and limit first, so highlights are only built for the returned rows
+    String sql =
+        "SELECT m.id, m.rank,"
+            + " ts_headline("
+            + CONFIG
+            + ", "
+            + STRIP_SELECTORS.formatted("m.title")
+            + ", m.query, :titleOptions) AS title_highlight,"
+            + " CASE WHEN m.description IS NULL THEN NULL ELSE ts_headline("
+            + CONFIG
+            + ", "
+            + STRIP_SELECTORS.formatted("m.description")
+            + ", m.query, :snippetOptions) END AS description_snippet"
+            + " FROM (SELECT t.id, t.title, t.description, q.query, "
+            + RANK
+            + " AS rank "
+            + from()
+            + " WHERE "
+            + where
+            + " ORDER BY "
+            + order
+            + " LIMIT :limit) m"
+            + " ORDER BY "
+            + order;
+    return jdbcTemplate.query(
+        sql,
+        params,
+        (rs, rowNum) ->
+            new Match(
+                rs.getLong("id"),
+                rs.getFloat("rank"),
+                toHtml(rs.getString("title_highlight")),
+                toHtml(rs.getString("description_snippet"))));
+  }
+
+  /** Escapes a {@code ts_headline} result and turns its marks into {@code <mark>} tags. */
+  static String toHtml(String headline) {
+    if (headline == null) {
+      return null;
+    }
+    return HtmlUtils.htmlEscape(headline, StandardCharsets.UTF_8.name())
+        .replace(String.valueOf(START_SEL), "<mark>")
+        .replace(String.valueOf(STOP_SEL), "</mark>");
+  }
+
+  private static String from() {
+    return "FROM tasks t CROSS JOIN to_tsquery(" + CONFIG + ", :query) AS q(query)";
+  }
+
+  /** Builds the match condition and list filters, adding their parameters. */
+  private static String where(TaskFilter filter, MapSqlParameterSource params) {
+    StringBuilder where =
+        new StringBuilder("t.search_vector @@ q.query AND t.project_id = :projectId");
+    params.addValue("projectId", filter.projectId());
+    if (filter.status() != null) {
+      where.append(" AND t.status = :status");
+      params.addValue("status", filter.status().getValue());
+    }
+    if (filter.priority() != null) {
+      where.append(" AND t.priority = :priority");
+      params.addValue("priority", filter.priority().getValue());
+    }
+    if (filter.epicId() != null) {
+      where.append(" AND t.epic_id = :epicId");
+      params.addValue("epicId", filter.epicId());
+    }
+    if (filter.assigneeId() != null) {
+      where.append(" AND t.assigned_to_id = :assigneeId");
+      params.addValue("assigneeId", filter.assigneeId());
+    }
+    if (filter.prdIds() != null) {
+      if (filter.prdIds().isEmpty()) {
+        where.append(" AND FALSE");
+      } else {
+        where.append(" AND t.epic_id IN (SELECT e.id FROM epics e WHERE e.prd_id IN (:prdIds))");
+        params.addValue("prdIds", filter.prdIds());
+      }
+    }
+    if (filter.excludedStatuses() != null && !filter.excludedStatuses().isEmpty()) {
+      where.append(" AND t.status NOT IN (:excludedStatuses)");
+      params.addValue(
+          "excludedStatuses",
+          filter.excludedStatuses().stream().map(TaskStatus::getValue).toList());
+    }
+    return where.toString();
+  }
+}
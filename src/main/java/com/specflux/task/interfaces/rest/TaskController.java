@@ -9,9 +9,14 @@ import com.specflux.api.generated.TasksApi;
 import com.specflux.api.generated.model.AcceptanceCriteriaDto;
 import com.specflux.api.generated.model.AcceptanceCriteriaListResponseDto;
 import com.specflux.api.generated.model.AddTaskDependencyRequestDto;
+import com.specflux.api.generated.model.BatchCreateTasksRequestDto;
+import com.specflux.api.generated.model.BatchCreateTasksResponseDto;
+import com.specflux.api.generated.model.BatchUpdateTasksRequestDto;
+import com.specflux.api.generated.model.BatchUpdateTasksResponseDto;
 import com.specflux.api.generated.model.CreateAcceptanceCriteriaRequestDto;
 import com.specflux.api.generated.model.CreateTaskRequestDto;
 import com.specflux.api.generated.model.TaskDependencyDto;
+import com.specflux.api.generated.model.TaskDependencyGraphDto;
 import com.specflux.api.generated.model.TaskDependencyListResponseDto;
 import com.specflux.api.generated.model.TaskDto;
 import com.specflux.api.generated.model.TaskListResponseDto;
@@ -37,6 +42,18 @@ public class TaskController implements TasksApi {
     return ResponseEntity.status(HttpStatus.CREATED).body(created);
   }
 
+  @Override
+  public ResponseEntity<BatchCreateTasksResponseDto> createTasksBatch(
+      String projectRef, BatchCreateTasksRequestDto request) {
+    return ResponseEntity.ok(taskApplicationService.createTasksBatch(projectRef, request));
+  }
+
+  @Override
+  public ResponseEntity<BatchUpdateTasksResponseDto> updateTasksBatch(
+      String projectRef, BatchUpdateTasksRequestDto request) {
+    return ResponseEntity.ok(taskApplicationService.updateTasksBatch(projectRef, request));
+  }
+
   @Override
   public ResponseEntity<TaskDto> getTask(String projectRef, String taskRef) {
     TaskDto task = taskApplicationService.getTask(projectRef, taskRef);
@@ -87,6 +104,14 @@ public class TaskController implements TasksApi {
     return ResponseEntity.ok(response);
   }
 
+  @Override
+  public ResponseEntity<TaskListResponseDto> listReadyTasks(
+      String projectRef, String cursor, Integer limit, String epicRef, String assignedToRef) {
+    TaskListResponseDto response =
+        taskApplicationService.listReadyTasks(projectRef, cursor, limit, epicRef, assignedToRef);
+    return ResponseEntity.ok(response);
+  }
+
   @Override
   public ResponseEntity<TaskDependencyListResponseDto> listTaskDependencies(
       String projectRef, String taskRef) {
@@ -103,6 +128,13 @@ public class TaskController implements TasksApi {
     return ResponseEntity.status(HttpStatus.CREATED).body(created);
   }
 
+  @Override
+  public ResponseEntity<TaskDependencyGraphDto> getTaskDependencyGraph(
+      String projectRef, String taskRef, String direction) {
+    return ResponseEntity.ok(
+        taskApplicationService.getTaskDependencyGraph(projectRef, taskRef, direction));
+  }
+
   @Override
   public ResponseEntity<Void> removeTaskDependency(
       String projectRef, String taskRef, String dependsOnTaskRef) {
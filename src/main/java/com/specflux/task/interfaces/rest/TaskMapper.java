@@ -5,6 +5,7 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 
 import com.specflux.api.generated.model.TaskDto;
+import com.specflux.api.generated.model.TaskGraphNodeDto;
 import com.specflux.api.generated.model.TaskPriorityDto;
 import com.specflux.api.generated.model.TaskStatusDto;
 import com.specflux.task.domain.Task;
@@ -49,6 +50,21 @@ public class TaskMapper {
     return dto;
   }
 
+  /**
+   * Converts a domain Task entity to a dependency graph node.
+   *
+   * @param domain the domain entity
+   * @return the graph node DTO
+   */
+  public TaskGraphNodeDto toGraphNodeDto(Task domain) {
+    TaskGraphNodeDto dto = new TaskGraphNodeDto();
+    dto.setId(domain.getPublicId());
+    dto.setDisplayKey(domain.getDisplayKey());
+    dto.setTitle(domain.getTitle());
+    dto.setStatus(toApiStatus(domain.getStatus()));
+    return dto;
+  }
+
   /**
    * Converts an API TaskStatusDto to a domain TaskStatus.
    *
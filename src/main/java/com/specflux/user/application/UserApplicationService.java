@@ -40,16 +40,24 @@ public class UserApplicationService {
    * @return the updated user DTO
    */
   public UserDto updateCurrentUser(UpdateUserRequestDto request) {
-    return transactionTemplate.execute(
-        status -> {
-          User user = currentUserService.getOrCreateCurrentUser();
+    User current = currentUserService.getOrCreateCurrentUser();
+    User saved =
+        transactionTemplate.execute(
+            status -> {
+              // The current user may be a shared snapshot, so change a managed copy
+              User user =
+                  userRepository
+                      .findById(current.getId())
+                      .orElseThrow(
+                          () -> new EntityNotFoundException("User not found: " + current.getId()));
 
-          UpdateHelper.applyString(request.getDisplayName(), user::setDisplayName);
-          UpdateHelper.applyString(request.getAvatarUrl(), user::setAvatarUrl);
+              UpdateHelper.applyString(request.getDisplayName(), user::setDisplayName);
+              UpdateHelper.applyString(request.getAvatarUrl(), user::setAvatarUrl);
 
-          User saved = userRepository.save(user);
-          return UserMapper.toDto(saved);
-        });
+              return userRepository.save(user);
+            });
+    currentUserService.evict(saved);
+    return UserMapper.toDto(saved);
   }
 
   /**
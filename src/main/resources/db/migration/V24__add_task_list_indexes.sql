@@ -0,0 +1,7 @@
+-- Composite indexes backing the task list filters and sort orders
+CREATE INDEX idx_tasks_project_created ON tasks(project_id, created_at, id);
+CREATE INDEX idx_tasks_project_updated ON tasks(project_id, updated_at, id);
+CREATE INDEX idx_tasks_project_status_created ON tasks(project_id, status, created_at);
+CREATE INDEX idx_tasks_project_priority_created ON tasks(project_id, priority, created_at);
+CREATE INDEX idx_tasks_project_assignee_created ON tasks(project_id, assigned_to_id, created_at);
+CREATE INDEX idx_tasks_project_title ON tasks(project_id, lower(title), id);
@@ -0,0 +1,6 @@
+-- (scope, sort key, id) indexes so keyset pagination can seek instead of scanning
+CREATE INDEX idx_tasks_epic_created ON tasks(epic_id, created_at, id);
+CREATE INDEX idx_epics_project_created ON epics(project_id, created_at, id);
+CREATE INDEX idx_epics_project_updated ON epics(project_id, updated_at, id);
+CREATE INDEX idx_prds_project_created ON prds(project_id, created_at, id);
+CREATE INDEX idx_prds_project_updated ON prds(project_id, updated_at, id);
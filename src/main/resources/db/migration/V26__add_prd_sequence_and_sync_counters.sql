@@ -0,0 +1,11 @@
+-- Per-project PRD counter, and counters brought in line with existing rows so that
+-- display keys can be allocated from the projects row instead of scanning children
+ALTER TABLE projects ADD COLUMN prd_sequence INTEGER NOT NULL DEFAULT 0;
+
+UPDATE projects p SET
+    task_sequence = GREATEST(p.task_sequence,
+        COALESCE((SELECT MAX(t.sequence_number) FROM tasks t WHERE t.project_id = p.id), 0)),
+    epic_sequence = GREATEST(p.epic_sequence,
+        COALESCE((SELECT MAX(e.sequence_number) FROM epics e WHERE e.project_id = p.id), 0)),
+    prd_sequence = GREATEST(p.prd_sequence,
+        COALESCE((SELECT MAX(d.sequence_number) FROM prds d WHERE d.project_id = p.id), 0));
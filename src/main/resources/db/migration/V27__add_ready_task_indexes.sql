@@ -0,0 +1,12 @@
+-- Indexes backing the ready-to-start task query (NOT EXISTS anti-join over task_dependencies)
+
+-- Candidate tasks: only unstarted tasks are considered, ordered by priority then id
+CREATE INDEX idx_tasks_project_not_started ON tasks(project_id, priority, id)
+    WHERE status IN ('backlog', 'ready');
+
+-- Blocking lookups only need to know whether a dependency is still open; completed tasks
+-- dominate over time, so this partial index stays small
+CREATE INDEX idx_tasks_open_id ON tasks(id) WHERE status <> 'completed';
+
+-- The unique (task_id, depends_on_task_id) constraint already serves lookups by task_id
+DROP INDEX IF EXISTS idx_task_deps_task_id;
@@ -0,0 +1,4 @@
+-- Pull request sync walks open tasks that link a pull request in id order; few tasks do, so a
+-- partial index keeps the walk from scanning the table
+CREATE INDEX idx_tasks_open_pr_link ON tasks(id)
+    WHERE github_pr_url IS NOT NULL AND status NOT IN ('completed', 'cancelled');
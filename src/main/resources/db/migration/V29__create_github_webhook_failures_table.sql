@@ -0,0 +1,19 @@
+-- GitHub webhook deliveries whose processing failed, kept so they can be replayed
+CREATE TABLE github_webhook_failures (
+    id BIGSERIAL PRIMARY KEY,
+    delivery_id VARCHAR(64) NOT NULL UNIQUE,
+    event VARCHAR(64) NOT NULL,
+    payload BYTEA NOT NULL,
+    error TEXT,
+    attempts INTEGER NOT NULL DEFAULT 1,
+    received_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    failed_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+COMMENT ON TABLE github_webhook_failures IS 'GitHub webhook deliveries that failed processing';
+COMMENT ON COLUMN github_webhook_failures.delivery_id IS 'X-GitHub-Delivery header of the delivery';
+COMMENT ON COLUMN github_webhook_failures.payload IS 'Raw request body as signed by GitHub';
+
+-- Webhooks find tasks by the pull request they link and by display keys mentioned in commits
+CREATE INDEX idx_tasks_github_pr_url ON tasks(github_pr_url) WHERE github_pr_url IS NOT NULL;
+CREATE INDEX idx_tasks_display_key ON tasks(display_key);
@@ -0,0 +1,11 @@
+-- Full-text search document for tasks: title words rank above description words.
+-- Uses the 'english' configuration; TaskTextSearch must query with the same one.
+ALTER TABLE tasks
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A')
+            || setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+COMMENT ON COLUMN tasks.search_vector IS 'Weighted tsvector over title (A) and description (B), maintained by PostgreSQL';
@@ -0,0 +1,139 @@
+-- Per-project change version, bumped by PostgreSQL on every write to the project row or to its
+-- tasks, epics, PRDs, dependencies and acceptance criteria, so that every write path (JPA, JDBC
+-- batches, FK cascades) is covered. Conditional GETs compare ETags derived from it.
+ALTER TABLE projects ADD COLUMN change_version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN projects.change_version IS 'Incremented on every write to the project or its tasks, epics, PRDs, dependencies and criteria';
+
+-- Direct updates of the project row (including sequence reservations) bump the version,
+-- unless the update is itself a bump from one of the child triggers below
+CREATE FUNCTION bump_project_change_version() RETURNS trigger AS $$
+BEGIN
+    IF NEW.change_version = OLD.change_version THEN
+        NEW.change_version := OLD.change_version + 1;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_projects_change_version
+    BEFORE UPDATE ON projects
+    FOR EACH ROW EXECUTE FUNCTION bump_project_change_version();
+
+-- Child writes bump once per statement rather than once per row, so batch inserts and bulk
+-- updates update the project row once. Each function maps the changed rows to their projects.
+CREATE FUNCTION bump_change_version_by_project_id() RETURNS trigger AS $$
+BEGIN
+    UPDATE projects SET change_version = change_version + 1
+    WHERE id IN (SELECT project_id FROM changed_rows);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION bump_change_version_by_task_id() RETURNS trigger AS $$
+BEGIN
+    UPDATE projects SET change_version = change_version + 1
+    WHERE id IN (SELECT t.project_id FROM changed_rows c JOIN tasks t ON t.id = c.task_id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION bump_change_version_by_epic_id() RETURNS trigger AS $$
+BEGIN
+    UPDATE projects SET change_version = change_version + 1
+    WHERE id IN (SELECT e.project_id FROM changed_rows c JOIN epics e ON e.id = c.epic_id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION bump_change_version_by_criteria_owner() RETURNS trigger AS $$
+BEGIN
+    UPDATE projects SET change_version = change_version + 1
+    WHERE id IN (
+        SELECT t.project_id FROM changed_rows c JOIN tasks t ON t.id = c.task_id
+        UNION
+        SELECT e.project_id FROM changed_rows c JOIN epics e ON e.id = c.epic_id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION bump_change_version_by_prd_id() RETURNS trigger AS $$
+BEGIN
+    UPDATE projects SET change_version = change_version + 1
+    WHERE id IN (SELECT d.project_id FROM changed_rows c JOIN prds d ON d.id = c.prd_id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- One trigger per event: inserts and updates expose their rows as NEW TABLE, deletes as OLD TABLE.
+-- Rows removed by a cascade from a deleted parent find no parent to join to; the parent's own
+-- delete has already bumped the version.
+CREATE TRIGGER trg_tasks_change_version_ins AFTER INSERT ON tasks
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_project_id();
+CREATE TRIGGER trg_tasks_change_version_upd AFTER UPDATE ON tasks
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_project_id();
+CREATE TRIGGER trg_tasks_change_version_del AFTER DELETE ON tasks
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_project_id();
+
+CREATE TRIGGER trg_epics_change_version_ins AFTER INSERT ON epics
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_project_id();
+CREATE TRIGGER trg_epics_change_version_upd AFTER UPDATE ON epics
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_project_id();
+CREATE TRIGGER trg_epics_change_version_del AFTER DELETE ON epics
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_project_id();
+
+CREATE TRIGGER trg_prds_change_version_ins AFTER INSERT ON prds
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_project_id();
+CREATE TRIGGER trg_prds_change_version_upd AFTER UPDATE ON prds
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_project_id();
+CREATE TRIGGER trg_prds_change_version_del AFTER DELETE ON prds
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_project_id();
+
+CREATE TRIGGER trg_prd_documents_change_version_ins AFTER INSERT ON prd_documents
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_prd_id();
+CREATE TRIGGER trg_prd_documents_change_version_upd AFTER UPDATE ON prd_documents
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_prd_id();
+CREATE TRIGGER trg_prd_documents_change_version_del AFTER DELETE ON prd_documents
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_prd_id();
+
+CREATE TRIGGER trg_task_dependencies_change_version_ins AFTER INSERT ON task_dependencies
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_task_id();
+CREATE TRIGGER trg_task_dependencies_change_version_upd AFTER UPDATE ON task_dependencies
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_task_id();
+CREATE TRIGGER trg_task_dependencies_change_version_del AFTER DELETE ON task_dependencies
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_task_id();
+
+CREATE TRIGGER trg_epic_dependencies_change_version_ins AFTER INSERT ON epic_dependencies
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_epic_id();
+CREATE TRIGGER trg_epic_dependencies_change_version_upd AFTER UPDATE ON epic_dependencies
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_epic_id();
+CREATE TRIGGER trg_epic_dependencies_change_version_del AFTER DELETE ON epic_dependencies
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_epic_id();
+
+CREATE TRIGGER trg_acceptance_criteria_change_version_ins AFTER INSERT ON acceptance_criteria
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_criteria_owner();
+CREATE TRIGGER trg_acceptance_criteria_change_version_upd AFTER UPDATE ON acceptance_criteria
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_criteria_owner();
+CREATE TRIGGER trg_acceptance_criteria_change_version_del AFTER DELETE ON acceptance_criteria
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_change_version_by_criteria_owner();
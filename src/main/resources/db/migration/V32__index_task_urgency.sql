@@ -0,0 +1,22 @@
+-- The ready-to-start query orders by urgency, a CASE over priority that an index on the raw
+-- priority string cannot serve. Store the rank as a generated column and index that instead.
+-- Must match TaskSpecifications.URGENCY and TaskPriority's stored values.
+ALTER TABLE tasks
+    ADD COLUMN urgency INTEGER GENERATED ALWAYS AS (
+        CASE priority
+            WHEN 'critical' THEN 0
+            WHEN 'high' THEN 1
+            WHEN 'medium' THEN 2
+            WHEN 'low' THEN 3
+            ELSE 4
+        END
+    ) STORED;
+
+COMMENT ON COLUMN tasks.urgency IS 'Priority rank for work queues (0 = critical, 4 = unset), maintained by PostgreSQL';
+
+DROP INDEX idx_tasks_project_not_started;
+CREATE INDEX idx_tasks_project_not_started ON tasks(project_id, urgency, id)
+    WHERE status IN ('backlog', 'ready');
+
+-- Blocker lookups go through the tasks primary key, so this partial index was never chosen
+DROP INDEX idx_tasks_open_id;
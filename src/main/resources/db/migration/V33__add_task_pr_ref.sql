@@ -0,0 +1,19 @@
+-- Pull request webhooks look tasks up by the pull request they link. Links are entered by hand, so
+-- the same pull request can be written with different case, a trailing slash or a /files suffix.
+-- Store the normalized owner/repo/pull/number and index that instead of the raw URL.
+-- Must match PullRequestRef.key().
+ALTER TABLE tasks
+    ADD COLUMN github_pr_ref VARCHAR(500) GENERATED ALWAYS AS (
+        CASE WHEN btrim(github_pr_url, E' \t\r\n')
+                ~* '^https?://(?:www\.)?github\.com/[^/]+/[^/]+/pull/[0-9]+'
+            THEN lower(regexp_replace(
+                btrim(github_pr_url, E' \t\r\n'),
+                '^https?://(?:www\.)?github\.com/([^/]+)/([^/]+)/pull/0*([0-9]+).*$',
+                '\1/\2/pull/\3',
+                'i'))
+        END
+    ) STORED;
+
+COMMENT ON COLUMN tasks.github_pr_ref IS 'Normalized owner/repo/pull/number of github_pr_url, maintained by PostgreSQL';
+
+CREATE INDEX idx_tasks_github_pr_ref ON tasks(github_pr_ref) WHERE github_pr_ref IS NOT NULL;
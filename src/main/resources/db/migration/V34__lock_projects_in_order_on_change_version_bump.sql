@@ -0,0 +1,63 @@
+-- The child triggers from V31 updated their projects in whatever order the UPDATE visited them, so
+-- two statements touching the same projects in different orders could deadlock. Each function now
+-- locks its project rows in id order first; the UPDATE then only touches rows it already holds.
+CREATE OR REPLACE FUNCTION bump_change_version_by_project_id() RETURNS trigger AS $$
+BEGIN
+    PERFORM 1 FROM projects
+    WHERE id IN (SELECT project_id FROM changed_rows)
+    ORDER BY id FOR UPDATE;
+    UPDATE projects SET change_version = change_version + 1
+    WHERE id IN (SELECT project_id FROM changed_rows);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION bump_change_version_by_task_id() RETURNS trigger AS $$
+BEGIN
+    PERFORM 1 FROM projects
+    WHERE id IN (SELECT t.project_id FROM changed_rows c JOIN tasks t ON t.id = c.task_id)
+    ORDER BY id FOR UPDATE;
+    UPDATE projects SET change_version = change_version + 1
+    WHERE id IN (SELECT t.project_id FROM changed_rows c JOIN tasks t ON t.id = c.task_id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION bump_change_version_by_epic_id() RETURNS trigger AS $$
+BEGIN
+    PERFORM 1 FROM projects
+    WHERE id IN (SELECT e.project_id FROM changed_rows c JOIN epics e ON e.id = c.epic_id)
+    ORDER BY id FOR UPDATE;
+    UPDATE projects SET change_version = change_version + 1
+    WHERE id IN (SELECT e.project_id FROM changed_rows c JOIN epics e ON e.id = c.epic_id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION bump_change_version_by_criteria_owner() RETURNS trigger AS $$
+BEGIN
+    PERFORM 1 FROM projects
+    WHERE id IN (
+        SELECT t.project_id FROM changed_rows c JOIN tasks t ON t.id = c.task_id
+        UNION
+        SELECT e.project_id FROM changed_rows c JOIN epics e ON e.id = c.epic_id)
+    ORDER BY id FOR UPDATE;
+    UPDATE projects SET change_version = change_version + 1
+    WHERE id IN (
+        SELECT t.project_id FROM changed_rows c JOIN tasks t ON t.id = c.task_id
+        UNION
+        SELECT e.project_id FROM changed_rows c JOIN epics e ON e.id = c.epic_id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION bump_change_version_by_prd_id() RETURNS trigger AS $$
+BEGIN
+    PERFORM 1 FROM projects
+    WHERE id IN (SELECT d.project_id FROM changed_rows c JOIN prds d ON d.id = c.prd_id)
+    ORDER BY id FOR UPDATE;
+    UPDATE projects SET change_version = change_version + 1
+    WHERE id IN (SELECT d.project_id FROM changed_rows c JOIN prds d ON d.id = c.prd_id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,119 @@
+-- The child triggers from V31 updated projects.change_version as part of every write, so each
+-- writer held its project's row lock until it committed and all writers in a project, sequence
+-- reservations included, queued behind one another. Child writes now only record their projects in
+-- a transaction-local setting, which takes no lock. A deferred constraint trigger then bumps every
+-- recorded project once, in id order, while the transaction commits, so the row lock is held for
+-- the commit alone. Readers see the new version exactly when they can see the writes.
+
+-- Projects changed by the current transaction whose version has not been bumped yet
+CREATE FUNCTION pending_change_version_projects() RETURNS BIGINT[] AS $$
+    SELECT coalesce(
+        string_to_array(nullif(current_setting('specflux.changed_projects', true), ''), ',')
+            ::BIGINT[],
+        '{}');
+$$ LANGUAGE sql;
+
+CREATE FUNCTION record_changed_projects(ids BIGINT[]) RETURNS void AS $$
+BEGIN
+    PERFORM set_config(
+        'specflux.changed_projects',
+        array_to_string(
+            ARRAY(SELECT DISTINCT id FROM unnest(pending_change_version_projects() || ids) AS id),
+            ','),
+        true);
+END;
+$$ LANGUAGE plpgsql;
+
+-- The statement-level functions keep their names, so the V31 triggers now record instead of bump
+CREATE OR REPLACE FUNCTION bump_change_version_by_project_id() RETURNS trigger AS $$
+BEGIN
+    PERFORM record_changed_projects(ARRAY(SELECT project_id FROM changed_rows));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION bump_change_version_by_task_id() RETURNS trigger AS $$
+BEGIN
+    PERFORM record_changed_projects(
+        ARRAY(SELECT t.project_id FROM changed_rows c JOIN tasks t ON t.id = c.task_id));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION bump_change_version_by_epic_id() RETURNS trigger AS $$
+BEGIN
+    PERFORM record_changed_projects(
+        ARRAY(SELECT e.project_id FROM changed_rows c JOIN epics e ON e.id = c.epic_id));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION bump_change_version_by_criteria_owner() RETURNS trigger AS $$
+BEGIN
+    PERFORM record_changed_projects(
+        ARRAY(
+            SELECT t.project_id FROM changed_rows c JOIN tasks t ON t.id = c.task_id
+            UNION
+            SELECT e.project_id FROM changed_rows c JOIN epics e ON e.id = c.epic_id));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION bump_change_version_by_prd_id() RETURNS trigger AS $$
+BEGIN
+    PERFORM record_changed_projects(
+        ARRAY(SELECT d.project_id FROM changed_rows c JOIN prds d ON d.id = c.prd_id));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Runs once per changed row at commit. The first call bumps every recorded project and clears the
+-- list, the remaining calls find it empty. Locking in id order keeps transactions that commit
+-- changes to the same projects from deadlocking.
+CREATE FUNCTION flush_change_versions() RETURNS trigger AS $$
+DECLARE
+    ids BIGINT[] := pending_change_version_projects();
+BEGIN
+    IF cardinality(ids) > 0 THEN
+        PERFORM set_config('specflux.changed_projects', '', true);
+        PERFORM 1 FROM projects WHERE id = ANY (ids) ORDER BY id FOR UPDATE;
+        UPDATE projects SET change_version = change_version + 1 WHERE id = ANY (ids);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE CONSTRAINT TRIGGER trg_tasks_change_version_flush
+    AFTER INSERT OR UPDATE OR DELETE ON tasks
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION flush_change_versions();
+
+CREATE CONSTRAINT TRIGGER trg_epics_change_version_flush
+    AFTER INSERT OR UPDATE OR DELETE ON epics
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION flush_change_versions();
+
+CREATE CONSTRAINT TRIGGER trg_prds_change_version_flush
+    AFTER INSERT OR UPDATE OR DELETE ON prds
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION flush_change_versions();
+
+CREATE CONSTRAINT TRIGGER trg_prd_documents_change_version_flush
+    AFTER INSERT OR UPDATE OR DELETE ON prd_documents
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION flush_change_versions();
+
+CREATE CONSTRAINT TRIGGER trg_task_dependencies_change_version_flush
+    AFTER INSERT OR UPDATE OR DELETE ON task_dependencies
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION flush_change_versions();
+
+CREATE CONSTRAINT TRIGGER trg_epic_dependencies_change_version_flush
+    AFTER INSERT OR UPDATE OR DELETE ON epic_dependencies
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION flush_change_versions();
+
+CREATE CONSTRAINT TRIGGER trg_acceptance_criteria_change_version_flush
+    AFTER INSERT OR UPDATE OR DELETE ON acceptance_criteria
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION flush_change_versions();
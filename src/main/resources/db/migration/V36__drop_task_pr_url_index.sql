@@ -0,0 +1,3 @@
+-- Pull request lookups match the normalized github_pr_ref since V33, so nothing reads the raw URL
+-- index that V29 created any more
+DROP INDEX IF EXISTS idx_tasks_github_pr_url;
@@ -0,0 +1,76 @@
+package com.specflux.apikey.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.specflux.apikey.domain.ApiKey;
+import com.specflux.apikey.domain.ApiKeyRepository;
+import com.specflux.apikey.infrastructure.ApiKeyUsageWriter;
+import com.specflux.user.domain.User;
+import com.specflux.user.domain.UserRepository;
+
+/** Unit tests for how ApiKeyService caches validated keys. */
+class ApiKeyServiceTest {
+
+  private static final String FULL_KEY = "sfx_abcdefghijklmnopqrstuvwxyz";
+  private static final String KEY_PREFIX = "sfx_abcdefghijkl";
+  private static final long USER_ID = 7L;
+
+  private final ApiKeyRepository apiKeyRepository = mock(ApiKeyRepository.class);
+  private final ApiKeyService service =
+      new ApiKeyService(
+          new TransactionTemplate(mock(PlatformTransactionManager.class)),
+          apiKeyRepository,
+          mock(UserRepository.class),
+          mock(ApiKeyUsageWriter.class));
+
+  @Test
+  void validateKey_shouldServeRepeatedValidationsFromTheCache() {
+    ApiKey apiKey = apiKey();
+    when(apiKeyRepository.findByKeyPrefixWithUser(KEY_PREFIX)).thenReturn(Optional.of(apiKey));
+
+    assertThat(service.validateKey(FULL_KEY)).isPresent();
+    assertThat(service.validateKey(FULL_KEY))
+        .map(ApiKeyService.KeyOwner::publicId)
+        .contains("user_keyowner");
+    verify(apiKeyRepository, times(1)).findByKeyPrefixWithUser(KEY_PREFIX);
+  }
+
+  @Test
+  void validateKey_whenRevokedWhileLoading_shouldNotCacheTheKey() {
+    ApiKey loaded = apiKey();
+    ApiKey stored = apiKey();
+    when(apiKeyRepository.findByPublicId("key_test")).thenReturn(Optional.of(stored));
+    when(apiKeyRepository.findByKeyPrefixWithUser(KEY_PREFIX))
+        .thenAnswer(
+            invocation -> {
+              // The revocation commits after this validation has read the still valid key
+              service.revokeKey("key_test", USER_ID);
+              return Optional.of(loaded);
+            })
+        .thenReturn(Optional.of(stored));
+
+    assertThat(service.validateKey(FULL_KEY)).isPresent();
+    assertThat(service.validateKey(FULL_KEY)).isEmpty();
+    verify(apiKeyRepository, times(2)).findByKeyPrefixWithUser(KEY_PREFIX);
+  }
+
+  private ApiKey apiKey() {
+    User user = new User("user_keyowner", "fb_keyowner", "owner@example.com", "Key Owner");
+    ReflectionTestUtils.setField(user, "id", USER_ID);
+    ApiKey apiKey =
+        new ApiKey("key_test", user, KEY_PREFIX, service.hashKey(FULL_KEY), "Test Key", null);
+    ReflectionTestUtils.setField(apiKey, "id", 1L);
+    return apiKey;
+  }
+}
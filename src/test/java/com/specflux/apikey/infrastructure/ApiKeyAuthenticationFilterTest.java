@@ -1,12 +1,16 @@
 package com.specflux.apikey.infrastructure;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.OffsetDateTime;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
@@ -38,6 +42,8 @@ class ApiKeyAuthenticationFilterTest extends AbstractIntegrationTest {
   @Autowired private ApiKeyService apiKeyService;
   @Autowired private ApiKeyRepository apiKeyRepository;
   @Autowired private UserRepository userRepository;
+  @Autowired private ApiKeyUsageWriter apiKeyUsageWriter;
+  @Autowired private JdbcTemplate jdbcTemplate;
 
   private User testUser;
   private String validApiKey;
@@ -76,6 +82,35 @@ class ApiKeyAuthenticationFilterTest extends AbstractIntegrationTest {
         .andExpect(status().isUnauthorized());
   }
 
+  @Test
+  void authenticatedRequest_withApiKeyRevokedAfterUse_shouldReturn401() throws Exception {
+    mockMvc
+        .perform(get("/api/projects").header("Authorization", "Bearer " + validApiKey))
+        .andExpect(status().isOk());
+
+    var apiKey = apiKeyRepository.findByUserId(testUser.getId()).get(0);
+    apiKeyService.revokeKey(apiKey.getPublicId(), testUser.getId());
+
+    mockMvc
+        .perform(get("/api/projects").header("Authorization", "Bearer " + validApiKey))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void authenticatedRequest_shouldRecordLastUsedOnFlush() throws Exception {
+    var apiKey = apiKeyRepository.findByUserId(testUser.getId()).get(0);
+
+    mockMvc
+        .perform(get("/api/projects").header("Authorization", "Bearer " + validApiKey))
+        .andExpect(status().isOk());
+    apiKeyUsageWriter.flush();
+
+    OffsetDateTime lastUsedAt =
+        jdbcTemplate.queryForObject(
+            "SELECT last_used_at FROM api_keys WHERE id = ?", OffsetDateTime.class, apiKey.getId());
+    assertThat(lastUsedAt).isNotNull();
+  }
+
   @Test
   void authenticatedRequest_withExpiredApiKey_shouldReturn401() throws Exception {
     var apiKey = apiKeyRepository.findByUserId(testUser.getId()).get(0);
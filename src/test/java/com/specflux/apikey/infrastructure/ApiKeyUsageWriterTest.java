@@ -0,0 +1,88 @@
+package com.specflux.apikey.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+/** Unit tests for ApiKeyUsageWriter. */
+class ApiKeyUsageWriterTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private final ApiKeyUsageWriter writer = new ApiKeyUsageWriter(jdbcTemplate);
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void flush_whenBatchFails_shouldRetryWithNewestTimestamps() {
+    writer.recordUsage(1L, T0.plusSeconds(10));
+    writer.recordUsage(2L, T0.plusSeconds(20));
+    doThrow(new QueryTimeoutException("timeout"))
+        .doReturn(new int[0][])
+        .when(jdbcTemplate)
+        .batchUpdate(
+            anyString(),
+            any(Collection.class),
+            anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+
+    writer.flush();
+    // Key 1 is used again before the retry, key 2 only has an older use recorded
+    writer.recordUsage(1L, T0.plusSeconds(30));
+    writer.recordUsage(2L, T0.plusSeconds(5));
+    writer.flush();
+
+    ArgumentCaptor<Collection<Map.Entry<Long, Instant>>> batches =
+        ArgumentCaptor.forClass(Collection.class);
+    verify(jdbcTemplate, times(2))
+        .batchUpdate(
+            anyString(),
+            batches.capture(),
+            anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+    List<Collection<Map.Entry<Long, Instant>>> calls = batches.getAllValues();
+    assertThat(calls.get(1))
+        .containsExactlyInAnyOrder(
+            Map.entry(1L, T0.plusSeconds(30)), Map.entry(2L, T0.plusSeconds(20)));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void flush_afterSuccessfulBatch_shouldNotWriteAgain() {
+    writer.recordUsage(1L, T0);
+    doReturn(new int[0][])
+        .when(jdbcTemplate)
+        .batchUpdate(
+            anyString(),
+            any(Collection.class),
+            anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+
+    writer.flush();
+    writer.flush();
+
+    verify(jdbcTemplate, times(1))
+        .batchUpdate(
+            anyString(),
+            any(Collection.class),
+            anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+  }
+}
@@ -0,0 +1,40 @@
+package com.specflux.epic.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for EpicPhases. */
+class EpicPhasesTest {
+
+  @Test
+  void shouldUseLongestDependencyChain() {
+    // 2 -> 1, 3 -> 2, 4 -> 1, 4 -> 3 (each arrow reads "depends on")
+    EpicPhases phases = EpicPhases.of(new long[] {2, 3, 4, 4}, new long[] {1, 2, 1, 3});
+
+    assertThat(phases.phaseOf(1)).isEqualTo(1);
+    assertThat(phases.phaseOf(2)).isEqualTo(2);
+    assertThat(phases.phaseOf(3)).isEqualTo(3);
+    assertThat(phases.phaseOf(4)).isEqualTo(4);
+    assertThat(phases.maxPhase()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldPlaceEpicsWithoutDependenciesInFirstPhase() {
+    EpicPhases phases = EpicPhases.of(new long[] {2, 2}, new long[] {1, 1});
+
+    assertThat(phases.phaseOf(2)).isEqualTo(2);
+    assertThat(phases.phaseOf(99)).isEqualTo(1);
+    assertThat(EpicPhases.empty().maxPhase()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldTerminateOnLegacyCycles() {
+    // 2 -> 1, 3 -> 2, 2 -> 3
+    EpicPhases phases = EpicPhases.of(new long[] {2, 3, 2}, new long[] {1, 2, 3});
+
+    assertThat(phases.phaseOf(1)).isEqualTo(1);
+    assertThat(phases.phaseOf(2)).isEqualTo(2);
+    assertThat(phases.phaseOf(3)).isEqualTo(1);
+  }
+}
@@ -133,4 +133,26 @@ class EpicRepositoryTest extends AbstractIntegrationTest {
     assertThat(found).isPresent();
     assertThat(found.get().getStatus()).isEqualTo(EpicStatus.IN_PROGRESS);
   }
+
+  @Test
+  void shouldFindByProjectRefAndRef() {
+    Epic epic =
+        epicRepository.save(new Epic("epic_ref1", testProject, 1, "EPIC-E1", "Ref", testUser));
+    Project other =
+        projectRepository.save(new Project("proj_epic_other", "OTHER", "Other", testUser));
+    epicRepository.save(new Epic("epic_ref2", other, 1, "OTHER-E1", "Other Ref", testUser));
+
+    // Project key and display key
+    assertThat(epicRepository.findByProjectRefAndRef("EPIC", "EPIC", "EPIC-E1")).contains(epic);
+    // Project public id and epic public id
+    assertThat(
+            epicRepository.findByProjectRefAndRef("proj_epic_test", "PROJ_EPIC_TEST", "epic_ref1"))
+        .contains(epic);
+    // An epic is not found through another project
+    assertThat(epicRepository.findByProjectRefAndRef("OTHER", "OTHER", "EPIC-E1")).isEmpty();
+    assertThat(
+            epicRepository.findByProjectRefAndRef(
+                "proj_epic_other", "PROJ_EPIC_OTHER", "epic_ref1"))
+        .isEmpty();
+  }
 }
@@ -0,0 +1,175 @@
+package com.specflux.github.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.specflux.github.infrastructure.GithubApiClient;
+import com.specflux.github.infrastructure.GithubApiClient.ConditionalRepositoryList;
+import com.specflux.github.infrastructure.GithubApiClient.Repository;
+import com.specflux.github.infrastructure.GithubApiClient.RepositoryListResponse;
+import com.specflux.github.infrastructure.GithubAppConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/** Tests GithubRepositoryListCache, and its revalidation against a local stub of GitHub. */
+class GithubRepositoryListCacheTest {
+
+  private static final String REPOS =
+      "[{\"id\":1,\"name\":\"repo-one\",\"full_name\":\"octocat/repo-one\"}]";
+  private static final String ETAG = "\"repos-v1\"";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final GithubRepositoryListCache cache = new GithubRepositoryListCache(meterRegistry);
+
+  /** Validators each fetch was called with, as {@code etag|lastModified}. */
+  private final List<String> fetches = new ArrayList<>();
+
+  private HttpServer server;
+  private final List<String> requests = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", this::handle);
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  void get_shouldCountMissesAndRevalidations() {
+    cache.get(1L, 1, 30, respond(listing("\"v1\"")));
+    cache.get(1L, 1, 30, respond(notModified()));
+    cache.get(1L, 1, 30, respond(listing("\"v2\"")));
+    cache.get(1L, 1, 30, respond(notModified()));
+
+    assertThat(fetches).containsExactly("null|null", "\"v1\"|null", "\"v1\"|null", "\"v2\"|null");
+    assertThat(count("miss")).isEqualTo(1);
+    assertThat(count("not_modified")).isEqualTo(2);
+    assertThat(count("modified")).isEqualTo(1);
+  }
+
+  @Test
+  void get_shouldNotCacheListingsWithoutValidators() {
+    cache.get(1L, 1, 30, respond(listing(null)));
+    cache.get(1L, 1, 30, respond(listing(null)));
+
+    assertThat(fetches).containsExactly("null|null", "null|null");
+    assertThat(count("miss")).isEqualTo(2);
+    assertThat(size()).isZero();
+  }
+
+  @Test
+  void get_whenFull_shouldEvictTheLeastRecentlyUsedListing() {
+    for (int page = 1; page <= GithubRepositoryListCache.MAX_CACHED_LISTINGS; page++) {
+      cache.get(1L, page, 30, respond(listing("\"page-" + page + "\"")));
+    }
+    cache.get(1L, 1, 30, respond(notModified()));
+
+    cache.get(1L, GithubRepositoryListCache.MAX_CACHED_LISTINGS + 1, 30, respond(listing("\"x\"")));
+    fetches.clear();
+    cache.get(1L, 1, 30, respond(notModified()));
+    cache.get(1L, 2, 30, respond(listing("\"page-2\"")));
+
+    // Page 1 was used again before the cache filled up, so page 2 went instead
+    assertThat(fetches).containsExactly("\"page-1\"|null", "null|null");
+    assertThat(size()).isEqualTo(GithubRepositoryListCache.MAX_CACHED_LISTINGS);
+  }
+
+  @Test
+  void evict_shouldDropOnlyTheInstallationsListings() {
+    cache.get(1L, 1, 30, respond(listing("\"one-1\"")));
+    cache.get(1L, 2, 30, respond(listing("\"one-2\"")));
+    cache.get(2L, 1, 30, respond(listing("\"two-1\"")));
+
+    cache.evict(1L);
+    fetches.clear();
+    cache.get(1L, 1, 30, respond(listing("\"one-1\"")));
+    cache.get(2L, 1, 30, respond(notModified()));
+
+    assertThat(fetches).containsExactly("null|null", "\"two-1\"|null");
+  }
+
+  @Test
+  void get_shouldServeAGithub304FromTheCache() {
+    GithubAppConfig config = new GithubAppConfig();
+    ReflectionTestUtils.setField(
+        config, "apiUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+    GithubApiClient client = new GithubApiClient(config, new RestTemplate());
+    GithubRepositoryListCache.Fetcher fetcher =
+        (etag, lastModified) ->
+            client.listRepositoriesIfModified("access-token", 1, 30, etag, lastModified);
+
+    RepositoryListResponse first = cache.get(1L, 1, 30, fetcher);
+    RepositoryListResponse second = cache.get(1L, 1, 30, fetcher);
+
+    assertThat(requests).containsExactly("200", "304");
+    assertThat(second).isSameAs(first);
+    assertThat(second.getRepos()).extracting(Repository::getName).containsExactly("repo-one");
+    assertThat(count("not_modified")).isEqualTo(1);
+  }
+
+  private GithubRepositoryListCache.Fetcher respond(ConditionalRepositoryList result) {
+    return (etag, lastModified) -> {
+      fetches.add(etag + "|" + lastModified);
+      return result;
+    };
+  }
+
+  private static ConditionalRepositoryList listing(String etag) {
+    return new ConditionalRepositoryList(
+        new RepositoryListResponse(List.of(), 0, 1, 30), etag, null);
+  }
+
+  private static ConditionalRepositoryList notModified() {
+    return new ConditionalRepositoryList(null, null, null);
+  }
+
+  private double count(String result) {
+    return meterRegistry
+        .get("specflux.github.repos.cache.requests")
+        .tag("result", result)
+        .functionCounter()
+        .count();
+  }
+
+  private double size() {
+    return meterRegistry.get("specflux.github.repos.cache.size").gauge().value();
+  }
+
+  /** Serves one page of repositories, and 304 to requests that send its ETag. */
+  private void handle(HttpExchange exchange) throws IOException {
+    if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+      requests.add("304");
+      exchange.sendResponseHeaders(304, -1);
+      exchange.close();
+      return;
+    }
+    requests.add("200");
+    byte[] bytes = REPOS.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("ETag", ETAG);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+}
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -26,6 +27,7 @@ import com.specflux.common.AbstractIntegrationTest;
 import com.specflux.github.domain.GithubInstallation;
 import com.specflux.github.domain.GithubInstallationRepository;
 import com.specflux.github.infrastructure.GithubApiClient;
+import com.specflux.github.infrastructure.GithubApiClient.ConditionalRepositoryList;
 import com.specflux.github.infrastructure.GithubApiClient.Repository;
 import com.specflux.github.infrastructure.GithubApiClient.RepositoryListResponse;
 import com.specflux.github.infrastructure.GithubApiClient.TokenResponse;
@@ -53,6 +55,7 @@ class GithubServiceTest extends AbstractIntegrationTest {
 
   @Autowired private GithubService githubService;
   @Autowired private GithubInstallationRepository installationRepository;
+  @Autowired private GithubRepositoryListCache repositoryListCache;
   @Autowired private UserRepository userRepository;
 
   private User testUser;
@@ -158,6 +161,29 @@ class GithubServiceTest extends AbstractIntegrationTest {
     assertThat(installationRepository.count()).isEqualTo(0);
   }
 
+  @Test
+  void disconnect_shouldDropCachedRepositoryListings() {
+    GithubInstallation installation = installationRepository.save(createTestInstallation());
+    RepositoryListResponse apiResponse =
+        new RepositoryListResponse(List.of(createTestRepository(1L, "repo-one")), 1, 1, 30);
+    when(githubApiClient.listRepositoriesIfModified("access-token", 1, 30, null, null))
+        .thenReturn(new ConditionalRepositoryList(apiResponse, "\"etag-1\"", null));
+    githubService.listRepositories(1, 30);
+
+    githubService.disconnect();
+
+    List<String> etags = new ArrayList<>();
+    repositoryListCache.get(
+        installation.getId(),
+        1,
+        30,
+        (etag, lastModified) -> {
+          etags.add(etag);
+          return new ConditionalRepositoryList(apiResponse, null, null);
+        });
+    assertThat(etags).containsExactly((String) null);
+  }
+
   @Test
   void refreshAccessToken_shouldRefreshWhenExpired() {
     GithubInstallation installation =
@@ -204,7 +230,8 @@ class GithubServiceTest extends AbstractIntegrationTest {
     RepositoryListResponse apiResponse =
         new RepositoryListResponse(List.of(repo1, repo2), 2, 1, 30);
 
-    when(githubApiClient.listRepositories("access-token", 1, 30)).thenReturn(apiResponse);
+    when(githubApiClient.listRepositoriesIfModified("access-token", 1, 30, null, null))
+        .thenReturn(new ConditionalRepositoryList(apiResponse, null, null));
 
     RepositoryListResponse result = githubService.listRepositories(1, 30);
 
@@ -214,6 +241,25 @@ class GithubServiceTest extends AbstractIntegrationTest {
     assertThat(result.getTotalCount()).isEqualTo(2);
   }
 
+  @Test
+  void listRepositories_shouldServeUnchangedListingFromCache() {
+    GithubInstallation installation = createTestInstallation();
+    installationRepository.save(installation);
+
+    RepositoryListResponse apiResponse =
+        new RepositoryListResponse(List.of(createTestRepository(1L, "repo-one")), 1, 1, 30);
+    when(githubApiClient.listRepositoriesIfModified("access-token", 1, 30, null, null))
+        .thenReturn(new ConditionalRepositoryList(apiResponse, "\"etag-1\"", null));
+    when(githubApiClient.listRepositoriesIfModified("access-token", 1, 30, "\"etag-1\"", null))
+        .thenReturn(new ConditionalRepositoryList(null, "\"etag-1\"", null));
+
+    githubService.listRepositories(1, 30);
+    RepositoryListResponse result = githubService.listRepositories(1, 30);
+
+    verify(githubApiClient).listRepositoriesIfModified("access-token", 1, 30, "\"etag-1\"", null);
+    assertThat(result.getRepos()).extracting(Repository::getName).containsExactly("repo-one");
+  }
+
   @Test
   void listRepositories_shouldRefreshTokenIfExpired() {
     GithubInstallation installation =
@@ -232,12 +278,13 @@ class GithubServiceTest extends AbstractIntegrationTest {
     when(githubApiClient.refreshAccessToken("refresh-token")).thenReturn(newTokenResponse);
 
     RepositoryListResponse apiResponse = new RepositoryListResponse(List.of(), 0, 1, 30);
-    when(githubApiClient.listRepositories("new-access-token", 1, 30)).thenReturn(apiResponse);
+    when(githubApiClient.listRepositoriesIfModified("new-access-token", 1, 30, null, null))
+        .thenReturn(new ConditionalRepositoryList(apiResponse, null, null));
 
     RepositoryListResponse result = githubService.listRepositories(1, 30);
 
     verify(githubApiClient).refreshAccessToken("refresh-token");
-    verify(githubApiClient).listRepositories("new-access-token", 1, 30);
+    verify(githubApiClient).listRepositoriesIfModified("new-access-token", 1, 30, null, null);
     assertThat(result).isNotNull();
   }
 
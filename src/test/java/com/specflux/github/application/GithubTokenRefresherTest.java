@@ -0,0 +1,222 @@
+package com.specflux.github.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.specflux.github.domain.GithubInstallation;
+import com.specflux.github.domain.GithubInstallationRepository;
+import com.specflux.github.infrastructure.GithubApiClient;
+import com.specflux.github.infrastructure.GithubApiClient.GithubApiException;
+import com.specflux.github.infrastructure.GithubApiClient.TokenResponse;
+import com.specflux.shared.infrastructure.persistence.AdvisoryLocks;
+
+/** Unit tests for GithubTokenRefresher. */
+class GithubTokenRefresherTest {
+
+  private final GithubInstallationRepository repository = mock(GithubInstallationRepository.class);
+  private final GithubApiClient githubApiClient = mock(GithubApiClient.class);
+  private final AdvisoryLocks advisoryLocks = mock(AdvisoryLocks.class);
+  private final GithubTokenRefresher refresher =
+      new GithubTokenRefresher(
+          repository,
+          githubApiClient,
+          new TransactionTemplate(mock(PlatformTransactionManager.class)),
+          advisoryLocks,
+          Duration.ofMinutes(15));
+
+  @BeforeEach
+  void setUp() {
+    when(advisoryLocks.runExclusively(anyLong(), any()))
+        .thenAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(1).run();
+              return true;
+            });
+  }
+
+  @Test
+  void refresh_concurrentCallersShouldShareOneRefresh() throws Exception {
+    GithubInstallation installation = installation(Instant.now().minusSeconds(60));
+    when(repository.findById(1L)).thenReturn(Optional.of(installation));
+    when(repository.findByIdForUpdate(1L)).thenReturn(Optional.of(installation));
+    when(repository.save(installation)).thenReturn(installation);
+    CountDownLatch release = new CountDownLatch(1);
+    when(githubApiClient.refreshAccessToken("refresh-token"))
+        .thenAnswer(
+            invocation -> {
+              release.await(5, TimeUnit.SECONDS);
+              return tokenResponse();
+            });
+
+    List<CompletableFuture<GithubInstallation>> callers = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      callers.add(CompletableFuture.supplyAsync(() -> refresher.refresh(1L)));
+    }
+    Thread.sleep(100);
+    release.countDown();
+
+    for (CompletableFuture<GithubInstallation> caller : callers) {
+      assertThat(caller.get(5, TimeUnit.SECONDS).getAccessToken()).isEqualTo("new-access-token");
+    }
+    verify(githubApiClient, times(1)).refreshAccessToken(anyString());
+  }
+
+  @Test
+  void refresh_shouldSkipWhenAlreadyRefreshedElsewhere() {
+    GithubInstallation installation = installation(Instant.now().plusSeconds(8 * 3600));
+    when(repository.findById(1L)).thenReturn(Optional.of(installation));
+    when(repository.findByIdForUpdate(1L)).thenReturn(Optional.of(installation));
+
+    GithubInstallation result = refresher.refresh(1L);
+
+    assertThat(result.getAccessToken()).isEqualTo("access-token");
+    verify(githubApiClient, never()).refreshAccessToken(anyString());
+  }
+
+  @Test
+  void ensureFresh_shouldNotWaitForTokensThatAreStillValid() {
+    GithubInstallation installation = installation(Instant.now().plusSeconds(120));
+    when(repository.findById(1L)).thenReturn(Optional.of(installation));
+    when(repository.findByIdForUpdate(1L)).thenReturn(Optional.of(installation));
+    when(repository.save(installation)).thenReturn(installation);
+    when(githubApiClient.refreshAccessToken("refresh-token")).thenReturn(tokenResponse());
+
+    GithubInstallation result = refresher.ensureFresh(installation, 5);
+
+    assertThat(result).isSameAs(installation);
+    verify(githubApiClient, timeout(2_000)).refreshAccessToken("refresh-token");
+  }
+
+  @Test
+  void refresh_whenGithubRejectsATokenRedeemedElsewhere_shouldReturnTheStoredTokens() {
+    GithubInstallation stale = installation(Instant.now().minusSeconds(60));
+    GithubInstallation current = installation(Instant.now().plusSeconds(8 * 3600));
+    current.updateTokens(
+        "other-access-token",
+        Instant.now().plusSeconds(8 * 3600),
+        "other-refresh-token",
+        Instant.now().plusSeconds(86400));
+    when(repository.findById(1L)).thenReturn(Optional.of(stale), Optional.of(current));
+    when(githubApiClient.refreshAccessToken("refresh-token"))
+        .thenThrow(new GithubApiException("bad_refresh_token"));
+
+    GithubInstallation result = refresher.refresh(1L);
+
+    assertThat(result.getAccessToken()).isEqualTo("other-access-token");
+    verify(repository, never()).save(stale);
+  }
+
+  @Test
+  void refresh_whenTheRowChangedDuringTheCall_shouldKeepTheStoredTokens() {
+    GithubInstallation loaded = installation(Instant.now().minusSeconds(60));
+    GithubInstallation locked = installation(Instant.now().plusSeconds(8 * 3600));
+    locked.updateTokens(
+        "reconnected-access-token",
+        Instant.now().plusSeconds(8 * 3600),
+        "reconnected-refresh-token",
+        Instant.now().plusSeconds(86400));
+    when(repository.findById(1L)).thenReturn(Optional.of(loaded));
+    when(repository.findByIdForUpdate(1L)).thenReturn(Optional.of(locked));
+    when(githubApiClient.refreshAccessToken("refresh-token")).thenReturn(tokenResponse());
+
+    GithubInstallation result = refresher.refresh(1L);
+
+    assertThat(result.getAccessToken()).isEqualTo("reconnected-access-token");
+    verify(repository, never()).save(locked);
+  }
+
+  @Test
+  void ensureFresh_withExpiredRefreshToken_shouldAskToReconnect() {
+    GithubInstallation installation = installation(Instant.now().minusSeconds(60));
+    ReflectionTestUtils.setField(
+        installation, "refreshTokenExpiresAt", Instant.now().minusSeconds(60));
+
+    assertThatThrownBy(() -> refresher.ensureFresh(installation, 5))
+        .isInstanceOf(GithubApiException.class)
+        .hasMessageContaining("reconnect");
+    verify(githubApiClient, never()).refreshAccessToken(anyString());
+  }
+
+  @Test
+  void ensureFresh_withExpiredRefreshToken_shouldKeepUsingAValidAccessToken() {
+    GithubInstallation installation = installation(Instant.now().plusSeconds(120));
+    ReflectionTestUtils.setField(
+        installation, "refreshTokenExpiresAt", Instant.now().minusSeconds(60));
+
+    assertThat(refresher.ensureFresh(installation, 5)).isSameAs(installation);
+    verify(repository, never()).findById(1L);
+  }
+
+  @Test
+  void refreshExpiring_shouldRenewTokensThatExpireWithinTheLeadTime() {
+    GithubInstallation installation = installation(Instant.now().plusSeconds(120));
+    when(repository.findExpiringBefore(any(), any(), anyLong(), any()))
+        .thenReturn(List.of(installation), List.of());
+    when(repository.findById(1L)).thenReturn(Optional.of(installation));
+    when(repository.findByIdForUpdate(1L)).thenReturn(Optional.of(installation));
+    when(repository.save(installation)).thenReturn(installation);
+    when(githubApiClient.refreshAccessToken("refresh-token")).thenReturn(tokenResponse());
+
+    refresher.refreshExpiring();
+
+    assertThat(installation.getAccessToken()).isEqualTo("new-access-token");
+  }
+
+  @Test
+  void refreshExpiring_whenAnotherInstanceIsRefreshing_shouldSkipTheRun() {
+    when(advisoryLocks.runExclusively(anyLong(), any())).thenReturn(false);
+
+    refresher.refreshExpiring();
+
+    verify(repository, never()).findExpiringBefore(any(), any(), anyLong(), any());
+    verify(githubApiClient, never()).refreshAccessToken(anyString());
+  }
+
+  private static GithubInstallation installation(Instant accessTokenExpiresAt) {
+    GithubInstallation installation =
+        new GithubInstallation(
+            "ghi_test123456789",
+            1L,
+            12345L,
+            "access-token",
+            accessTokenExpiresAt,
+            "refresh-token",
+            Instant.now().plusSeconds(86400),
+            "testuser");
+    ReflectionTestUtils.setField(installation, "id", 1L);
+    return installation;
+  }
+
+  private static TokenResponse tokenResponse() {
+    TokenResponse response = new TokenResponse();
+    response.setAccessToken("new-access-token");
+    response.setRefreshToken("new-refresh-token");
+    response.setExpiresIn(28800L);
+    response.setRefreshTokenExpiresIn(15777000L);
+    return response;
+  }
+}
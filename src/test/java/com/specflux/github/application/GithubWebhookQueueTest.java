@@ -0,0 +1,270 @@
+package com.specflux.github.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.specflux.github.application.GithubWebhookQueue.Outcome;
+import com.specflux.github.domain.GithubWebhookFailure;
+import com.specflux.github.domain.GithubWebhookFailureRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/** Unit tests for GithubWebhookQueue, fed with recorded GitHub payloads. */
+class GithubWebhookQueueTest {
+
+  private static final int MAX_ATTEMPTS = 3;
+
+  private final GithubWebhookFailureRepository failureRepository =
+      mock(GithubWebhookFailureRepository.class);
+  private final RecordingHandler handler = new RecordingHandler();
+
+  private GithubWebhookQueue queue;
+
+  @AfterEach
+  void tearDown() {
+    if (queue != null) {
+      queue.stop();
+    }
+  }
+
+  @Test
+  void offer_shouldQueueEachDeliveryOnce() throws IOException {
+    queue = queue(10);
+    byte[] payload = payload("pull_request_closed.json");
+
+    assertThat(queue.offer("delivery-1", "pull_request", payload)).isEqualTo(Outcome.ACCEPTED);
+    assertThat(queue.offer("delivery-1", "pull_request", payload)).isEqualTo(Outcome.DUPLICATE);
+    assertThat(queue.offer("delivery-2", "issues", payload)).isEqualTo(Outcome.IGNORED);
+  }
+
+  @Test
+  void offer_shouldRejectWhenTheQueueIsFullAndAcceptRedeliveryLater() throws Exception {
+    queue = queue(1);
+    byte[] payload = payload("pull_request_closed.json");
+
+    assertThat(queue.offer("delivery-1", "pull_request", payload)).isEqualTo(Outcome.ACCEPTED);
+    assertThat(queue.offer("delivery-2", "pull_request", payload)).isEqualTo(Outcome.REJECTED);
+
+    queue.start();
+    awaitHandled(1);
+    assertThat(queue.offer("delivery-2", "pull_request", payload)).isEqualTo(Outcome.ACCEPTED);
+  }
+
+  @Test
+  void process_shouldIsolateAFailingDeliveryAndStoreIt() throws IOException {
+    queue = queue(10);
+    GithubWebhookDelivery good = delivery("delivery-1", payload("pull_request_closed.json"));
+    GithubWebhookDelivery bad =
+        delivery("delivery-2", "{not json".getBytes(StandardCharsets.UTF_8));
+    when(failureRepository.findByDeliveryId(anyString())).thenReturn(Optional.empty());
+
+    queue.process(List.of(good, bad));
+
+    assertThat(handler.handled).containsExactly("delivery-1");
+    ArgumentCaptor<GithubWebhookFailure> failure =
+        ArgumentCaptor.forClass(GithubWebhookFailure.class);
+    verify(failureRepository).save(failure.capture());
+    assertThat(failure.getValue().getDeliveryId()).isEqualTo("delivery-2");
+    assertThat(failure.getValue().getError()).contains("delivery-2");
+  }
+
+  @Test
+  void start_shouldReplayStoredDeliveriesAndClearThemOnceProcessed() throws IOException {
+    queue = queue(10);
+    GithubWebhookFailure failure = failure(1L, "delivery-1");
+    when(failureRepository.findByAttemptsLessThanAndIdGreaterThanOrderByIdAsc(
+            anyInt(), anyLong(), any(Limit.class)))
+        .thenReturn(List.of(failure));
+
+    queue.start();
+
+    verify(failureRepository, timeout(2_000)).deleteByDeliveryId("delivery-1");
+    verify(failureRepository, never()).save(any());
+    assertThat(handler.handled).containsExactly("delivery-1");
+  }
+
+  @Test
+  void replayStored_shouldPageThroughDeliveriesWithAttemptsLeft() throws IOException {
+    queue = queue(200);
+    List<GithubWebhookFailure> firstPage = new ArrayList<>();
+    for (long id = 1; id <= 100; id++) {
+      firstPage.add(failure(id, "delivery-" + id));
+    }
+    when(failureRepository.findByAttemptsLessThanAndIdGreaterThanOrderByIdAsc(
+            eq(MAX_ATTEMPTS), eq(0L), any(Limit.class)))
+        .thenReturn(firstPage);
+    when(failureRepository.findByAttemptsLessThanAndIdGreaterThanOrderByIdAsc(
+            eq(MAX_ATTEMPTS), eq(100L), any(Limit.class)))
+        .thenReturn(List.of(failure(101L, "delivery-101")));
+
+    assertThat(queue.replayStored()).isEqualTo(101);
+    // Deliveries that are still queued are not queued a second time
+    assertThat(queue.replayStored()).isZero();
+  }
+
+  @Test
+  void replay_shouldTreatRedeliveryAsDuplicateUntilTheReplayIsProcessed() throws Exception {
+    queue = queue(10);
+    GithubWebhookFailure failure = failure(1L, "delivery-1");
+    when(failureRepository.findByDeliveryId("delivery-1")).thenReturn(Optional.of(failure));
+
+    assertThat(queue.replay("delivery-1")).contains(Outcome.ACCEPTED);
+    assertThat(queue.replay("delivery-1")).contains(Outcome.DUPLICATE);
+    assertThat(queue.offer("delivery-1", "pull_request", failure.getPayload()))
+        .isEqualTo(Outcome.DUPLICATE);
+    assertThat(queue.replay("delivery-2")).isEmpty();
+
+    queue.start();
+    verify(failureRepository, timeout(2_000)).deleteByDeliveryId("delivery-1");
+
+    assertThat(replayOnceProcessed("delivery-1")).contains(Outcome.ACCEPTED);
+  }
+
+  @Test
+  void stop_shouldLeaveQueuedReplaysStoredWithTheirAttempts() throws IOException {
+    queue = queue(10);
+    GithubWebhookFailure failure = failure(1L, "delivery-1");
+    when(failureRepository.findByDeliveryId("delivery-1")).thenReturn(Optional.of(failure));
+    queue.replay("delivery-1");
+
+    queue.stop();
+
+    assertThat(failure.getAttempts()).isEqualTo(1);
+    verify(failureRepository, never()).save(any());
+    verify(failureRepository, never()).deleteByDeliveryId(anyString());
+  }
+
+  @Test
+  void stop_shouldProcessAcceptedDeliveriesBeforeShuttingDown() throws IOException {
+    queue = queue(10);
+    byte[] payload = payload("pull_request_closed.json");
+    queue.offer("delivery-1", "pull_request", payload);
+    queue.offer("delivery-2", "pull_request", payload);
+    queue.start();
+
+    queue.stop();
+
+    assertThat(handler.handled).containsExactly("delivery-1", "delivery-2");
+    assertThat(queue.offer("delivery-3", "pull_request", payload)).isEqualTo(Outcome.REJECTED);
+    verify(failureRepository, never()).save(any());
+  }
+
+  @Test
+  void stop_shouldStoreDeliveriesLeftAfterTheTimeout() throws IOException {
+    queue = queue(10);
+    when(failureRepository.findByDeliveryId(anyString())).thenReturn(Optional.empty());
+    queue.offer("delivery-1", "pull_request", payload("pull_request_closed.json"));
+
+    // No workers were started, so nothing drains the queue
+    queue.stop();
+
+    ArgumentCaptor<GithubWebhookFailure> failure =
+        ArgumentCaptor.forClass(GithubWebhookFailure.class);
+    verify(failureRepository).save(failure.capture());
+    assertThat(failure.getValue().getDeliveryId()).isEqualTo("delivery-1");
+    assertThat(handler.handled).isEmpty();
+  }
+
+  private GithubWebhookQueue queue(int capacity) {
+    return new GithubWebhookQueue(
+        List.of(handler),
+        failureRepository,
+        new TransactionTemplate(mock(PlatformTransactionManager.class)),
+        new SimpleMeterRegistry(),
+        capacity,
+        1,
+        10,
+        Duration.ofSeconds(2),
+        MAX_ATTEMPTS);
+  }
+
+  private static GithubWebhookFailure failure(long id, String deliveryId) throws IOException {
+    GithubWebhookFailure failure =
+        new GithubWebhookFailure(
+            deliveryId,
+            "pull_request",
+            payload("pull_request_closed.json"),
+            Instant.now(),
+            "database unavailable");
+    ReflectionTestUtils.setField(failure, "id", id);
+    return failure;
+  }
+
+  private void awaitHandled(int count) throws InterruptedException {
+    long deadline = System.nanoTime() + 2_000_000_000L;
+    while (handler.handled.size() < count && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(handler.handled).hasSize(count);
+  }
+
+  /** Replays a delivery as soon as its previous replay no longer counts as queued. */
+  private Optional<Outcome> replayOnceProcessed(String deliveryId) throws InterruptedException {
+    long deadline = System.nanoTime() + 2_000_000_000L;
+    Optional<Outcome> outcome = queue.replay(deliveryId);
+    while (outcome.equals(Optional.of(Outcome.DUPLICATE)) && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+      outcome = queue.replay(deliveryId);
+    }
+    return outcome;
+  }
+
+  private static GithubWebhookDelivery delivery(String deliveryId, byte[] payload) {
+    return new GithubWebhookDelivery(deliveryId, "pull_request", payload, Instant.now(), false);
+  }
+
+  private static byte[] payload(String name) throws IOException {
+    try (InputStream in =
+        GithubWebhookQueueTest.class.getResourceAsStream("/github/webhooks/" + name)) {
+      return in.readAllBytes();
+    }
+  }
+
+  /** Records handled deliveries and fails on payloads that are not JSON. */
+  private static final class RecordingHandler implements GithubWebhookHandler {
+
+    private final List<String> handled = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String event() {
+      return "pull_request";
+    }
+
+    @Override
+    public void handle(List<GithubWebhookDelivery> deliveries) {
+      for (GithubWebhookDelivery delivery : deliveries) {
+        if (new String(delivery.payload(), StandardCharsets.UTF_8).startsWith("{not")) {
+          throw new IllegalArgumentException("Malformed payload in " + delivery.deliveryId());
+        }
+      }
+      deliveries.forEach(d -> handled.add(d.deliveryId()));
+    }
+  }
+}
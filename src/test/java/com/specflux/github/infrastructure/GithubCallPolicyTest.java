@@ -0,0 +1,239 @@
+package com.specflux.github.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.specflux.github.infrastructure.GithubApiClient.GithubApiException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/** Tests GithubCallPolicy and the GitHub HTTP client against a local stub server. */
+class GithubCallPolicyTest {
+
+  private HttpServer server;
+  private String baseUrl;
+  private final AtomicInteger hits = new AtomicInteger();
+
+  /** Responses served in order; the last one repeats. */
+  private final ConcurrentLinkedQueue<StubResponse> responses = new ConcurrentLinkedQueue<>();
+
+  private volatile StubResponse lastResponse = new StubResponse(200, Map.of(), 0);
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    server.createContext("/", this::handle);
+    server.start();
+    baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  void get_shouldRetryServerErrors() {
+    stub(new StubResponse(503, Map.of(), 0), new StubResponse(502, Map.of(), 0), ok());
+
+    RestTemplate client = client(5, 3, Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+    assertThat(client.getForObject(url(), String.class)).isEqualTo("ok");
+    assertThat(hits).hasValue(3);
+  }
+
+  @Test
+  void get_shouldGiveUpAfterMaxAttempts() {
+    stub(new StubResponse(500, Map.of(), 0));
+
+    RestTemplate client = client(5, 3, Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+    assertThatThrownBy(() -> client.getForObject(url(), String.class))
+        .isInstanceOf(HttpServerErrorException.class);
+    assertThat(hits).hasValue(3);
+  }
+
+  @Test
+  void post_shouldNotRetryServerErrors() {
+    stub(new StubResponse(502, Map.of(), 0), ok());
+
+    RestTemplate client = client(5, 3, Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+    assertThatThrownBy(() -> client.postForObject(url(), "{}", String.class))
+        .isInstanceOf(HttpServerErrorException.class);
+    assertThat(hits).hasValue(1);
+  }
+
+  @Test
+  void post_shouldRetrySecondaryRateLimits() {
+    stub(new StubResponse(403, Map.of("Retry-After", "0"), 0), ok());
+
+    String body =
+        client(5, 3, Duration.ofSeconds(1), Duration.ofSeconds(5))
+            .postForObject(url(), "{}", String.class);
+
+    assertThat(body).isEqualTo("ok");
+    assertThat(hits).hasValue(2);
+  }
+
+  @Test
+  void get_shouldNotWaitForRateLimitResetBeyondTheDeadline() {
+    stub(new StubResponse(429, Map.of("Retry-After", "60"), 0), ok());
+
+    RestTemplate client = client(5, 3, Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+    assertThatThrownBy(() -> client.getForObject(url(), String.class))
+        .hasMessageContaining("429");
+    assertThat(hits).hasValue(1);
+  }
+
+  @Test
+  void get_shouldTimeOutSlowResponses() {
+    stub(new StubResponse(200, Map.of(), 2_000));
+
+    RestTemplate client = client(5, 2, Duration.ofMillis(200), Duration.ofMillis(300));
+
+    long start = System.nanoTime();
+    assertThatThrownBy(() -> client.getForObject(url(), String.class))
+        .isInstanceOf(GithubApiException.class);
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+  }
+
+  @Test
+  void calls_shouldBeRejectedWhenTheBulkheadIsFull() {
+    stub(new StubResponse(200, Map.of(), 500));
+    RestTemplate client = client(1, 1, Duration.ofSeconds(2), Duration.ofMillis(200));
+
+    CompletableFuture<String> first =
+        CompletableFuture.supplyAsync(() -> client.getForObject(url(), String.class));
+    sleep(Duration.ofMillis(100));
+
+    assertThatThrownBy(() -> client.getForObject(url(), String.class))
+        .isInstanceOf(GithubApiException.class)
+        .hasMessageContaining("Too many concurrent");
+    assertThat(first.join()).isEqualTo("ok");
+  }
+
+  @Test
+  void get_shouldCapEachAttemptAtTheTimeLeftUntilTheDeadline() {
+    stub(new StubResponse(200, Map.of(), 2_000));
+
+    RestTemplate client = client(5, 1, Duration.ofSeconds(5), Duration.ofMillis(300));
+
+    long start = System.nanoTime();
+    assertThatThrownBy(() -> client.getForObject(url(), String.class))
+        .isInstanceOf(GithubApiException.class);
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+  }
+
+  @Test
+  void intercept_shouldHoldTheSlotUntilTheResponseIsClosed() throws IOException {
+    GithubCallPolicy policy =
+        new GithubCallPolicy(
+            1, 1, Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(100));
+    HttpRequest request = mock(HttpRequest.class);
+    when(request.getMethod()).thenReturn(HttpMethod.GET);
+    when(request.getURI()).thenReturn(URI.create(url()));
+    ClientHttpResponse stubbed = mock(ClientHttpResponse.class);
+    when(stubbed.getStatusCode()).thenReturn(HttpStatus.OK);
+    ClientHttpRequestExecution execution = (r, b) -> stubbed;
+
+    ClientHttpResponse first = policy.intercept(request, new byte[0], execution);
+
+    assertThatThrownBy(() -> policy.intercept(request, new byte[0], execution))
+        .hasMessageContaining("Too many concurrent");
+    first.close();
+    first.close();
+    policy.intercept(request, new byte[0], execution);
+    // Closing twice returned the slot only once
+    assertThatThrownBy(() -> policy.intercept(request, new byte[0], execution))
+        .hasMessageContaining("Too many concurrent");
+  }
+
+  private RestTemplate client(
+      int maxConcurrentCalls, int maxAttempts, Duration readTimeout, Duration callTimeout) {
+    return GithubHttpConfig.restTemplate(
+        Duration.ofSeconds(1),
+        readTimeout,
+        new GithubCallPolicy(
+            maxConcurrentCalls,
+            maxAttempts,
+            Duration.ofMillis(10),
+            Duration.ofMillis(50),
+            callTimeout));
+  }
+
+  private String url() {
+    return baseUrl + "/user/repos";
+  }
+
+  private void stub(StubResponse... stubbed) {
+    for (StubResponse response : stubbed) {
+      responses.add(response);
+    }
+  }
+
+  private static StubResponse ok() {
+    return new StubResponse(200, Map.of(), 0);
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    hits.incrementAndGet();
+    StubResponse response = responses.poll();
+    if (response == null) {
+      response = lastResponse;
+    } else {
+      lastResponse = response;
+    }
+    exchange.getRequestBody().readAllBytes();
+    sleep(Duration.ofMillis(response.delayMillis()));
+
+    byte[] body =
+        (response.status() == 200 ? "ok" : "error " + response.status())
+            .getBytes(StandardCharsets.UTF_8);
+    response.headers().forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+    exchange.getResponseHeaders().add("Content-Type", "text/plain");
+    try (OutputStream out = exchange.getResponseBody()) {
+      exchange.sendResponseHeaders(response.status(), body.length);
+      out.write(body);
+    } catch (IOException e) {
+      // The client gave up waiting
+    }
+  }
+
+  private static void sleep(Duration duration) {
+    try {
+      Thread.sleep(duration);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private record StubResponse(int status, Map<String, String> headers, long delayMillis) {}
+}
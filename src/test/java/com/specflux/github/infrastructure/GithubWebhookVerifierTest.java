@@ -0,0 +1,37 @@
+package com.specflux.github.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for GithubWebhookVerifier, using the example from GitHub's webhook documentation. */
+class GithubWebhookVerifierTest {
+
+  private static final byte[] PAYLOAD = "Hello, World!".getBytes(StandardCharsets.UTF_8);
+  private static final String SIGNATURE =
+      "sha256=757107ea0eb2509fc211221cce984b8a37570b6d7586c22c46f4379c8b043e17";
+
+  private final GithubWebhookVerifier verifier =
+      new GithubWebhookVerifier("It's a Secret to Everybody");
+
+  @Test
+  void isValid_shouldAcceptGithubSignature() {
+    assertThat(verifier.isValid(PAYLOAD, SIGNATURE)).isTrue();
+  }
+
+  @Test
+  void isValid_shouldRejectTamperedPayloadsAndMalformedSignatures() {
+    assertThat(verifier.isValid("Hello, World?".getBytes(StandardCharsets.UTF_8), SIGNATURE))
+        .isFalse();
+    assertThat(verifier.isValid(PAYLOAD, SIGNATURE.replace("sha256=", "sha1="))).isFalse();
+    assertThat(verifier.isValid(PAYLOAD, "sha256=not-hex")).isFalse();
+    assertThat(verifier.isValid(PAYLOAD, null)).isFalse();
+  }
+
+  @Test
+  void isValid_shouldRejectEverythingWithoutASecret() {
+    assertThat(new GithubWebhookVerifier("").isValid(PAYLOAD, SIGNATURE)).isFalse();
+  }
+}
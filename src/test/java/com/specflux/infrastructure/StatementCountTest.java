@@ -0,0 +1,150 @@
+package com.specflux.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.specflux.common.AbstractControllerIntegrationTest;
+import com.specflux.epic.domain.Epic;
+import com.specflux.epic.domain.EpicDependency;
+import com.specflux.epic.domain.EpicDependencyRepository;
+import com.specflux.epic.domain.EpicRepository;
+import com.specflux.prd.domain.Prd;
+import com.specflux.prd.domain.PrdDocument;
+import com.specflux.prd.domain.PrdRepository;
+import com.specflux.project.domain.Project;
+import com.specflux.project.domain.ProjectRepository;
+import com.specflux.task.domain.Task;
+import com.specflux.task.domain.TaskDependency;
+import com.specflux.task.domain.TaskDependencyRepository;
+import com.specflux.task.domain.TaskRepository;
+import com.specflux.user.domain.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Guards against N+1 queries in the list and detail endpoints.
+ *
+ * <p>Every row references a different user, epic and PRD, and the epics form a dependency chain, so
+ * any association loaded row by row shows up as extra statements when the page grows.
+ */
+class StatementCountTest extends AbstractControllerIntegrationTest {
+
+  private static final int ROWS = 10;
+
+  @DynamicPropertySource
+  static void configureSchema(DynamicPropertyRegistry registry) {
+    configureSchemaForClass(registry, StatementCountTest.class);
+    registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+  }
+
+  @Autowired private ProjectRepository projectRepository;
+  @Autowired private EpicRepository epicRepository;
+  @Autowired private EpicDependencyRepository epicDependencyRepository;
+  @Autowired private PrdRepository prdRepository;
+  @Autowired private TaskRepository taskRepository;
+  @Autowired private TaskDependencyRepository taskDependencyRepository;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @PersistenceContext private EntityManager entityManager;
+
+  @BeforeEach
+  void seed() {
+    Project project =
+        projectRepository.save(new Project("proj_stmt", "STMT", "Statements", testUser));
+    Task root =
+        taskRepository.save(new Task("task_stmt_root", project, 100, "STMT-100", "Root", testUser));
+    Epic previousEpic = null;
+    for (int i = 1; i <= ROWS; i++) {
+      User owner =
+          userRepository.save(
+              new User("user_stmt_" + i, "fb_stmt_" + i, "stmt" + i + "@test.com", "User " + i));
+      Epic epic =
+          epicRepository.save(
+              new Epic("epic_stmt_" + i, project, i, "STMT-E" + i, "Epic " + i, owner));
+      Task task = new Task("task_stmt_" + i, project, i, "STMT-" + i, "Task " + i, owner);
+      task.setEpic(epic);
+      task.setAssignedTo(owner);
+      taskRepository.save(task);
+      taskDependencyRepository.save(new TaskDependency(root, task));
+
+      Prd prd = new Prd("prd_stmt_" + i, project, i, "STMT-P" + i, "PRD " + i, "prds/" + i, owner);
+      prd.addDocument(new PrdDocument(prd, "prd.md", "prds/" + i + "/prd.md"));
+      prdRepository.save(prd);
+
+      epic.setPrdId(prd.getId());
+      if (previousEpic != null) {
+        epicDependencyRepository.save(new EpicDependency(epic, previousEpic));
+      }
+      previousEpic = epic;
+    }
+  }
+
+  @Test
+  void listTasks_statementCountShouldNotGrowWithPageSize() throws Exception {
+    String path = "/api/projects/{projectRef}/tasks";
+
+    assertThat(statementsFor(get(path, "proj_stmt").param("limit", String.valueOf(ROWS))))
+        .isEqualTo(statementsFor(get(path, "proj_stmt").param("limit", "2")));
+  }
+
+  @Test
+  void listPrds_statementCountShouldNotGrowWithPageSize() throws Exception {
+    String path = "/api/projects/{projectRef}/prds";
+
+    assertThat(statementsFor(get(path, "proj_stmt").param("limit", String.valueOf(ROWS))))
+        .isEqualTo(statementsFor(get(path, "proj_stmt").param("limit", "2")));
+  }
+
+  @Test
+  void listEpics_statementCountShouldNotGrowWithPageSize() throws Exception {
+    String path = "/api/projects/{projectRef}/epics";
+
+    assertThat(statementsFor(get(path, "proj_stmt").param("limit", String.valueOf(ROWS))))
+        .isEqualTo(statementsFor(get(path, "proj_stmt").param("limit", "2")));
+  }
+
+  @Test
+  void listTaskDependencies_shouldUseConstantStatements() throws Exception {
+    long statements =
+        statementsFor(
+            get(
+                "/api/projects/{projectRef}/tasks/{taskRef}/dependencies",
+                "proj_stmt",
+                "STMT-100"));
+
+    // project, task, dependencies with both tasks joined
+    assertThat(statements).isLessThanOrEqualTo(3);
+  }
+
+  @Test
+  void getTask_shouldLoadAssociationsWithTheTask() throws Exception {
+    long statements =
+        statementsFor(get("/api/projects/{projectRef}/tasks/{taskRef}", "proj_stmt", "STMT-1"));
+
+    // project, task with epic/creator/assignee joined
+    assertThat(statements).isLessThanOrEqualTo(2);
+  }
+
+  private long statementsFor(MockHttpServletRequestBuilder request) throws Exception {
+    entityManager.flush();
+    entityManager.clear();
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    mockMvc.perform(request.with(user("user"))).andExpect(status().isOk());
+
+    return statistics.getPrepareStatementCount();
+  }
+}
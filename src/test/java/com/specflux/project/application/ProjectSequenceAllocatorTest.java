@@ -0,0 +1,155 @@
+package com.specflux.project.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.specflux.api.generated.model.CreateTaskRequestDto;
+import com.specflux.api.generated.model.TaskDto;
+import com.specflux.common.AbstractIntegrationTest;
+import com.specflux.project.domain.Project;
+import com.specflux.project.domain.ProjectRepository;
+import com.specflux.shared.application.CurrentUserService;
+import com.specflux.task.application.TaskApplicationService;
+import com.specflux.task.domain.TaskRepository;
+import com.specflux.user.domain.User;
+import com.specflux.user.domain.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Concurrency benchmark for ProjectSequenceAllocator.
+ *
+ * <p>Not transactional: every worker commits on its own connection, as concurrent API calls would.
+ */
+@Slf4j
+class ProjectSequenceAllocatorTest extends AbstractIntegrationTest {
+
+  private static final int THREADS = 16;
+  private static final int CREATES = 300;
+
+  @DynamicPropertySource
+  static void configureSchema(DynamicPropertyRegistry registry) {
+    configureSchemaForClass(registry, ProjectSequenceAllocatorTest.class);
+  }
+
+  @MockitoBean private CurrentUserService currentUserService;
+
+  @Autowired private ProjectSequenceAllocator allocator;
+  @Autowired private TaskApplicationService taskApplicationService;
+  @Autowired private ProjectRepository projectRepository;
+  @Autowired private TaskRepository taskRepository;
+  @Autowired private UserRepository userRepository;
+
+  private User testUser;
+  private Project testProject;
+
+  @BeforeEach
+  void setUp() {
+    testUser =
+        userRepository.save(
+            new User("user_seq_bench", "firebase_seq_bench", "seq@example.com", "Seq Bench"));
+    testProject =
+        projectRepository.save(new Project("proj_seq_bench", "SEQ", "Sequence Bench", testUser));
+    when(currentUserService.getCurrentUser()).thenReturn(testUser);
+  }
+
+  @AfterEach
+  void tearDown() {
+    taskRepository.deleteAll(taskRepository.findByProjectId(testProject.getId()));
+    projectRepository.delete(testProject);
+    userRepository.delete(testUser);
+  }
+
+  @Test
+  void parallelAllocations_shouldBeDistinctAndGapFree() throws Exception {
+    List<Integer> allocated =
+        runConcurrently(CREATES, () -> allocator.nextTaskSequence(testProject));
+
+    assertThat(allocated).doesNotHaveDuplicates();
+    assertThat(allocated)
+        .containsExactlyInAnyOrderElementsOf(IntStream.rangeClosed(1, CREATES).boxed().toList());
+  }
+
+  @Test
+  void parallelBlockReservations_shouldNotOverlap() throws Exception {
+    List<Integer> blockStarts =
+        runConcurrently(50, () -> allocator.reserveTaskSequences(testProject, 10));
+
+    Set<Integer> numbers = ConcurrentHashMap.newKeySet();
+    for (int start : blockStarts) {
+      for (int n = start; n < start + 10; n++) {
+        assertThat(numbers.add(n)).as("sequence %d allocated twice", n).isTrue();
+      }
+    }
+    assertThat(numbers).hasSize(500);
+  }
+
+  @Test
+  void parallelCreateTask_shouldProduceUniqueDisplayKeysWithoutRetries() throws Exception {
+    long started = System.nanoTime();
+    List<TaskDto> created =
+        runConcurrently(
+            CREATES,
+            () -> {
+              CreateTaskRequestDto request = new CreateTaskRequestDto();
+              request.setTitle("Parallel task");
+              return taskApplicationService.createTask(testProject.getPublicId(), request);
+            });
+    long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+    log.info(
+        "Created {} tasks on {} threads in {} ms ({} creates/s)",
+        CREATES,
+        THREADS,
+        elapsedMillis,
+        CREATES * 1000L / Math.max(1, elapsedMillis));
+
+    assertThat(created).extracting(TaskDto::getDisplayKey).doesNotHaveDuplicates();
+    assertThat(taskRepository.findByProjectId(testProject.getId())).hasSize(CREATES);
+  }
+
+  /** Runs the action {@code count} times across a thread pool, released together by a latch. */
+  private <T> List<T> runConcurrently(int count, Callable<T> action) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<T>> futures = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return action.call();
+                }));
+      }
+      start.countDown();
+
+      List<T> results = new ArrayList<>();
+      for (Future<T> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
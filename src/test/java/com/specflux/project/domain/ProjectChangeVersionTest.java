@@ -0,0 +1,139 @@
+package com.specflux.project.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.specflux.common.AbstractIntegrationTest;
+import com.specflux.task.domain.Task;
+import com.specflux.task.domain.TaskRepository;
+import com.specflux.user.domain.User;
+import com.specflux.user.domain.UserRepository;
+
+/**
+ * Integration tests for the project change version maintained by database triggers.
+ *
+ * <p>Not transactional: versions only move when a writing transaction commits, and concurrent
+ * writers each need their own connection.
+ */
+class ProjectChangeVersionTest extends AbstractIntegrationTest {
+
+  @DynamicPropertySource
+  static void configureSchema(DynamicPropertyRegistry registry) {
+    configureSchemaForClass(registry, ProjectChangeVersionTest.class);
+  }
+
+  @Autowired private ProjectRepository projectRepository;
+  @Autowired private TaskRepository taskRepository;
+  @Autowired private UserRepository userRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  private User testUser;
+  private Project testProject;
+  private Task task1;
+  private Task task2;
+
+  @BeforeEach
+  void setUp() {
+    testUser =
+        userRepository.save(
+            new User("user_cv_test", "firebase_cv_test", "cv@example.com", "Change Version"));
+    testProject =
+        projectRepository.save(new Project("proj_cv_test", "CVT", "Change Version", testUser));
+    task1 = taskRepository.save(new Task("task_cv1", testProject, 1, "CVT-1", "Task 1", testUser));
+    task2 = taskRepository.save(new Task("task_cv2", testProject, 2, "CVT-2", "Task 2", testUser));
+  }
+
+  @AfterEach
+  void tearDown() {
+    taskRepository.deleteAll(taskRepository.findByProjectId(testProject.getId()));
+    projectRepository.delete(testProject);
+    userRepository.delete(testUser);
+  }
+
+  @Test
+  void writesInOneTransaction_shouldBumpTheVersionOnceOnCommit() {
+    long before = changeVersion();
+
+    transactionTemplate.executeWithoutResult(
+        _ -> {
+          rename(task1, "Renamed 1");
+          rename(task2, "Renamed 2");
+          assertThat(changeVersion()).isEqualTo(before);
+        });
+
+    assertThat(changeVersion()).isEqualTo(before + 1);
+  }
+
+  @Test
+  void rolledBackWrites_shouldNotBumpTheVersion() {
+    long before = changeVersion();
+
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          rename(task1, "Discarded");
+          status.setRollbackOnly();
+        });
+
+    assertThat(changeVersion()).isEqualTo(before);
+  }
+
+  @Test
+  void concurrentWritesToOneProject_shouldNotWaitForEachOther() throws Exception {
+    long before = changeVersion();
+    CountDownLatch written = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Void> open =
+        CompletableFuture.runAsync(
+            () ->
+                transactionTemplate.executeWithoutResult(
+                    _ -> {
+                      rename(task1, "Held open");
+                      written.countDown();
+                      await(release);
+                    }));
+    try {
+      assertThat(written.await(5, TimeUnit.SECONDS)).isTrue();
+
+      // The open transaction has not locked the project row, so neither of these waits for it
+      CompletableFuture.runAsync(() -> rename(task2, "Committed")).get(5, TimeUnit.SECONDS);
+      CompletableFuture.runAsync(
+              () -> projectRepository.reserveTaskSequences(testProject.getId(), 1))
+          .get(5, TimeUnit.SECONDS);
+      assertThat(changeVersion()).isEqualTo(before + 2);
+    } finally {
+      release.countDown();
+    }
+
+    open.get(5, TimeUnit.SECONDS);
+    assertThat(changeVersion()).isEqualTo(before + 3);
+  }
+
+  private long changeVersion() {
+    return projectRepository.findChangeVersionByPublicId(testProject.getPublicId()).orElseThrow();
+  }
+
+  private void rename(Task task, String title) {
+    jdbcTemplate.update("UPDATE tasks SET title = ? WHERE id = ?", title, task.getId());
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -132,17 +132,15 @@ class ProjectRepositoryTest extends AbstractIntegrationTest {
     Project project = new Project("proj_pqr678", "SEQ", "Sequence Project", testUser);
     Project saved = projectRepository.save(project);
 
-    assertThat(saved.nextEpicSequence()).isEqualTo(1);
-    assertThat(saved.nextEpicSequence()).isEqualTo(2);
-    assertThat(saved.nextTaskSequence()).isEqualTo(1);
+    assertThat(projectRepository.reserveEpicSequences(saved.getId(), 1)).isEqualTo(1);
+    assertThat(projectRepository.reserveEpicSequences(saved.getId(), 1)).isEqualTo(2);
+    assertThat(projectRepository.reserveTaskSequences(saved.getId(), 3)).isEqualTo(3);
     assertThat(saved.nextReleaseSequence()).isEqualTo(1);
 
     projectRepository.save(saved);
 
     Optional<Project> found = projectRepository.findById(saved.getId());
     assertThat(found).isPresent();
-    assertThat(found.get().getEpicSequence()).isEqualTo(2);
-    assertThat(found.get().getTaskSequence()).isEqualTo(1);
     assertThat(found.get().getReleaseSequence()).isEqualTo(1);
   }
 }
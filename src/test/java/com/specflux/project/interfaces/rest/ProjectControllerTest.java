@@ -1,5 +1,6 @@
 package com.specflux.project.interfaces.rest;
 
+import static org.hamcrest.Matchers.not;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -133,6 +134,52 @@ class ProjectControllerTest extends AbstractControllerIntegrationTest {
         .andExpect(jsonPath("$.code").value("NOT_FOUND"));
   }
 
+  @Test
+  void getProject_withMatchingETag_shouldReturn304() throws Exception {
+    projectRepository.save(new Project("proj_etag", "ETAG", "ETag Project", testUser));
+
+    String etag =
+        mockMvc
+            .perform(get("/api/projects/{ref}", "ETAG").with(user("user")))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    mockMvc
+        .perform(
+            get("/api/projects/{ref}", "ETAG").with(user("user")).header("If-None-Match", etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", etag))
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void getProject_afterUpdate_shouldReturnNewETag() throws Exception {
+    Project project =
+        projectRepository.save(new Project("proj_etag_upd", "ETAGU", "Original Name", testUser));
+
+    String etag =
+        mockMvc
+            .perform(get("/api/projects/{ref}", "proj_etag_upd").with(user("user")))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    project.setName("Renamed");
+    projectRepository.saveAndFlush(project);
+
+    mockMvc
+        .perform(
+            get("/api/projects/{ref}", "proj_etag_upd")
+                .with(user("user"))
+                .header("If-None-Match", etag))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", not(etag)))
+        .andExpect(jsonPath("$.name").value("Renamed"));
+  }
+
   @Test
   void updateProject_shouldReturnUpdatedProject() throws Exception {
     Project project =
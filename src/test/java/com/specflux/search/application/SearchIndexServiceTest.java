@@ -0,0 +1,80 @@
+package com.specflux.search.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.specflux.search.domain.InvertedIndex;
+import com.specflux.search.domain.SearchDocument;
+import com.specflux.search.domain.SearchDocumentType;
+import com.specflux.search.infrastructure.SearchDocumentLoader;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/** Unit tests for how SearchIndexService builds project indexes. */
+class SearchIndexServiceTest {
+
+  private final SearchDocumentLoader loader = mock(SearchDocumentLoader.class);
+  private final SearchIndexService service =
+      new SearchIndexService(loader, new SimpleMeterRegistry(), false);
+
+  @Test
+  void search_concurrentFirstSearchesOfAProjectShouldShareOneBuild() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    when(loader.loadProject(1L))
+        .thenAnswer(
+            invocation -> {
+              release.await(5, TimeUnit.SECONDS);
+              return List.of(task(1, 1L, "Fix login redirect"));
+            });
+
+    List<CompletableFuture<List<InvertedIndex.Hit>>> searches = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      searches.add(CompletableFuture.supplyAsync(() -> service.search(1L, "login", Set.of(), 10)));
+    }
+    Thread.sleep(100);
+    release.countDown();
+
+    for (CompletableFuture<List<InvertedIndex.Hit>> search : searches) {
+      assertThat(search.get(5, TimeUnit.SECONDS)).hasSize(1);
+    }
+    verify(loader, times(1)).loadProject(1L);
+  }
+
+  @Test
+  void search_shouldNotWaitForAnotherProjectsBuild() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    when(loader.loadProject(1L))
+        .thenAnswer(
+            invocation -> {
+              release.await(5, TimeUnit.SECONDS);
+              return List.of(task(1, 1L, "Fix login redirect"));
+            });
+    when(loader.loadProject(2L)).thenReturn(List.of(task(2, 2L, "Billing export")));
+
+    CompletableFuture<List<InvertedIndex.Hit>> slow =
+        CompletableFuture.supplyAsync(() -> service.search(1L, "billing", Set.of(), 10));
+    Thread.sleep(100);
+
+    assertThat(service.search(2L, "billing", Set.of(), 10)).hasSize(1);
+    assertThat(slow).isNotDone();
+    release.countDown();
+    assertThat(slow.get(5, TimeUnit.SECONDS)).isEmpty();
+  }
+
+  private static SearchDocument task(long id, long projectId, String title) {
+    return new SearchDocument(
+        SearchDocumentType.TASK, id, projectId, "task_" + id, "TASK-" + id, title, null);
+  }
+}
@@ -0,0 +1,106 @@
+package com.specflux.search.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures query latency of an index holding 100k documents.
+ *
+ * <p>Document text is drawn from a 5,000 word vocabulary with a skewed distribution, so some query
+ * words match most documents. Not part of the regular build; run with {@code mvn test
+ * -Dtest=InvertedIndexBenchmarkTest -Dbenchmark=true}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class InvertedIndexBenchmarkTest {
+
+  private static final int DOCUMENTS = 100_000;
+  private static final int VOCABULARY = 5_000;
+
+  /** Enough runs for the JIT to compile the scoring loop before measuring. */
+  private static final int WARMUP_RUNS = 300;
+
+  private static final int MEASURED_RUNS = 100;
+  private static final long BUDGET_NANOS = 5_000_000;
+
+  @Test
+  void search_shouldAnswerWithinBudgetAtHundredThousandDocuments() {
+    Random random = new Random(42);
+    String[] words = new String[VOCABULARY];
+    for (int i = 0; i < VOCABULARY; i++) {
+      words[i] = word(random);
+    }
+
+    InvertedIndex index = new InvertedIndex();
+    List<SearchDocument> documents = new ArrayList<>(DOCUMENTS);
+    for (int i = 1; i <= DOCUMENTS; i++) {
+      SearchDocumentType type = SearchDocumentType.values()[i % SearchDocumentType.values().length];
+      documents.add(
+          new SearchDocument(
+              type, i, 1, "doc_" + i, "DOC-" + i, text(random, words, 6), text(random, words, 40)));
+    }
+    long start = System.nanoTime();
+    index.putAll(documents);
+    log.info(
+        "[searchIndex] documents={} build={}ms",
+        DOCUMENTS,
+        (System.nanoTime() - start) / 1_000_000);
+
+    // The most frequent words, a rarer one and a prefix shared by many terms
+    String common = words[0];
+    String other = words[1];
+    String rare = words[VOCABULARY / 2];
+    for (String query :
+        List.of(common, common + " " + other, rare, common.substring(0, 2), "doc-500")) {
+      long median = median(() -> index.search(query, Set.of(), 20));
+      log.info(
+          "[searchIndex] query=\"{}\" median={}ms",
+          query,
+          String.format(Locale.ROOT, "%.2f", median / 1e6));
+      assertThat(median).isLessThan(BUDGET_NANOS);
+    }
+  }
+
+  private static long median(Runnable run) {
+    for (int i = 0; i < WARMUP_RUNS; i++) {
+      run.run();
+    }
+    long[] times = new long[MEASURED_RUNS];
+    for (int i = 0; i < MEASURED_RUNS; i++) {
+      long start = System.nanoTime();
+      run.run();
+      times[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(times);
+    return times[MEASURED_RUNS / 2];
+  }
+
+  /** Picks words with a skew towards the start of the vocabulary. */
+  private static String text(Random random, String[] words, int length) {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      double skewed = Math.pow(random.nextDouble(), 3);
+      text.append(words[(int) (skewed * words.length)]).append(' ');
+    }
+    return text.toString();
+  }
+
+  private static String word(Random random) {
+    char[] letters = new char[4 + random.nextInt(6)];
+    for (int i = 0; i < letters.length; i++) {
+      letters[i] = (char) ('a' + random.nextInt(26));
+    }
+    return new String(letters);
+  }
+}
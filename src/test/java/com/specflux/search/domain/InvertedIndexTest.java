@@ -0,0 +1,132 @@
+package com.specflux.search.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+
+  private final InvertedIndex index = new InvertedIndex();
+
+  @Test
+  void search_shouldRankTitleMatchesAboveBodyMatches() {
+    index.put(task(1, "Write onboarding docs", "Explain how login works"));
+    index.put(task(2, "Fix login redirect", null));
+    index.put(task(3, "Build UI components", null));
+
+    assertThat(ids(index.search("login", Set.of(), 10))).containsExactly(2L, 1L);
+  }
+
+  @Test
+  void search_shouldRankRareTermsAboveCommonOnes() {
+    index.put(task(1, "Deploy service", "cache"));
+    index.put(task(2, "Deploy service", "database"));
+    index.put(task(3, "Deploy service", "database"));
+
+    List<InvertedIndex.Hit> hits = index.search("deploy", Set.of(), 10);
+    assertThat(hits).hasSize(3);
+    assertThat(index.search("cache", Set.of(), 10).getFirst().score())
+        .isGreaterThan(index.search("database", Set.of(), 10).getFirst().score());
+  }
+
+  @Test
+  void search_shouldMatchPrefixesBelowWholeWords() {
+    index.put(task(1, "Add authentication", null));
+    index.put(task(2, "Auth cleanup", null));
+
+    assertThat(ids(index.search("auth", Set.of(), 10))).containsExactly(2L, 1L);
+    assertThat(ids(index.search("authent", Set.of(), 10))).containsExactly(1L);
+  }
+
+  @Test
+  void search_shouldRequireEveryWord() {
+    index.put(task(1, "Fix login redirect", null));
+    index.put(task(2, "Fix signup form", null));
+
+    assertThat(ids(index.search("fix login", Set.of(), 10))).containsExactly(1L);
+    assertThat(index.search("fix payments", Set.of(), 10)).isEmpty();
+  }
+
+  @Test
+  void search_shouldMatchDisplayKeys() {
+    index.put(task(1, "Fix login redirect", null));
+
+    assertThat(ids(index.search("task-1", Set.of(), 10))).containsExactly(1L);
+  }
+
+  @Test
+  void search_shouldFilterByType() {
+    index.put(task(1, "Billing", null));
+    index.put(
+        new SearchDocument(
+            SearchDocumentType.SKILL, 1, 1, "skill_1", null, "billing-rules", "Billing rules"));
+
+    List<InvertedIndex.Hit> hits = index.search("billing", Set.of(SearchDocumentType.SKILL), 10);
+    assertThat(hits).hasSize(1);
+    assertThat(hits.getFirst().document().type()).isEqualTo(SearchDocumentType.SKILL);
+  }
+
+  @Test
+  void search_shouldReturnTopHitsOnly() {
+    for (int i = 1; i <= 50; i++) {
+      index.put(task(i, "Deploy service " + i, i == 7 ? "deploy deploy deploy" : null));
+    }
+
+    List<InvertedIndex.Hit> hits = index.search("deploy", Set.of(), 5);
+    assertThat(hits).hasSize(5);
+    assertThat(hits.getFirst().document().id()).isEqualTo(7L);
+    assertThat(hits).isSortedAccordingTo((a, b) -> Float.compare(b.score(), a.score()));
+  }
+
+  @Test
+  void put_shouldReplaceEarlierVersion() {
+    index.put(task(1, "Fix login redirect", null));
+    index.put(task(1, "Fix signup form", null));
+
+    assertThat(index.search("login", Set.of(), 10)).isEmpty();
+    assertThat(ids(index.search("signup", Set.of(), 10))).containsExactly(1L);
+    assertThat(index.size()).isEqualTo(1);
+  }
+
+  @Test
+  void remove_shouldDropDocument() {
+    index.put(task(1, "Fix login redirect", null));
+    index.put(task(2, "Fix login timeout", null));
+
+    index.remove(SearchDocumentType.TASK, 1);
+
+    assertThat(ids(index.search("login", Set.of(), 10))).containsExactly(2L);
+    assertThat(index.size()).isEqualTo(1);
+  }
+
+  @Test
+  void compaction_shouldKeepLiveDocumentsSearchable() {
+    List<SearchDocument> documents = new ArrayList<>();
+    for (int i = 1; i <= 3000; i++) {
+      documents.add(task(i, "Deploy service " + i, "version one"));
+    }
+    index.putAll(documents);
+    // Replace most documents so deletions pass the compaction threshold
+    for (int i = 1; i <= 2000; i++) {
+      index.put(task(i, "Deploy service " + i, "version two"));
+    }
+
+    assertThat(index.size()).isEqualTo(3000);
+    assertThat(index.search("one", Set.of(), 5000)).hasSize(1000);
+    assertThat(index.search("two", Set.of(), 5000)).hasSize(2000);
+    assertThat(ids(index.search("service 2500", Set.of(), 10))).containsExactly(2500L);
+  }
+
+  private static SearchDocument task(long id, String title, String body) {
+    return new SearchDocument(
+        SearchDocumentType.TASK, id, 1, "task_" + id, "TASK-" + id, title, body);
+  }
+
+  private static List<Long> ids(List<InvertedIndex.Hit> hits) {
+    return hits.stream().map(hit -> hit.document().id()).toList();
+  }
+}
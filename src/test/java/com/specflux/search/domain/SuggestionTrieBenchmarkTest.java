@@ -0,0 +1,95 @@
+package com.specflux.search.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures suggestion latency of a trie holding 100k documents.
+ *
+ * <p>Not part of the regular build; run with {@code mvn test -Dtest=SuggestionTrieBenchmarkTest
+ * -Dbenchmark=true}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SuggestionTrieBenchmarkTest {
+
+  private static final int DOCUMENTS = 100_000;
+  private static final int VOCABULARY = 5_000;
+  private static final int WARMUP_RUNS = 1_000;
+  private static final int MEASURED_RUNS = 200;
+  private static final long BUDGET_NANOS = 1_000_000;
+
+  @Test
+  void suggest_shouldAnswerWithinBudgetAtHundredThousandDocuments() {
+    Random random = new Random(42);
+    String[] words = new String[VOCABULARY];
+    for (int i = 0; i < VOCABULARY; i++) {
+      words[i] = word(random);
+    }
+
+    SuggestionTrie trie = new SuggestionTrie();
+    List<SearchDocument> documents = new ArrayList<>(DOCUMENTS);
+    SearchDocumentType[] types = {
+      SearchDocumentType.TASK, SearchDocumentType.EPIC, SearchDocumentType.PRD
+    };
+    for (int i = 1; i <= DOCUMENTS; i++) {
+      StringBuilder title = new StringBuilder();
+      for (int j = 0; j < 6; j++) {
+        title.append(words[random.nextInt(VOCABULARY)]).append(' ');
+      }
+      documents.add(
+          new SearchDocument(
+              types[i % types.length], i, 1, "doc_" + i, "DOC-" + i, title.toString(), null));
+    }
+    long start = System.nanoTime();
+    trie.putAll(documents);
+    log.info(
+        "[suggestionTrie] documents={} build={}ms",
+        DOCUMENTS,
+        (System.nanoTime() - start) / 1_000_000);
+
+    String word = words[0];
+    for (String query :
+        List.of("d", "doc-5", "doc-50000", word.substring(0, 2), word, words[1] + " " + word)) {
+      long median = median(() -> trie.suggest(query, Set.of(), 10));
+      log.info(
+          "[suggestionTrie] query=\"{}\" median={}ms",
+          query,
+          String.format(Locale.ROOT, "%.3f", median / 1e6));
+      assertThat(median).isLessThan(BUDGET_NANOS);
+    }
+  }
+
+  private static long median(Runnable run) {
+    for (int i = 0; i < WARMUP_RUNS; i++) {
+      run.run();
+    }
+    long[] times = new long[MEASURED_RUNS];
+    for (int i = 0; i < MEASURED_RUNS; i++) {
+      long start = System.nanoTime();
+      run.run();
+      times[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(times);
+    return times[MEASURED_RUNS / 2];
+  }
+
+  private static String word(Random random) {
+    char[] letters = new char[4 + random.nextInt(6)];
+    for (int i = 0; i < letters.length; i++) {
+      letters[i] = (char) ('a' + random.nextInt(26));
+    }
+    return new String(letters);
+  }
+}
@@ -0,0 +1,129 @@
+package com.specflux.search.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class SuggestionTrieTest {
+
+  private final SuggestionTrie trie = new SuggestionTrie();
+
+  @Test
+  void suggest_shouldPutExactDisplayKeyFirst() {
+    for (int i = 1; i <= 30; i++) {
+      trie.put(task(i, "Task " + i));
+    }
+
+    List<SearchDocument> suggestions = trie.suggest("task-1", Set.of(), 5);
+
+    assertThat(suggestions).hasSize(5);
+    assertThat(suggestions.getFirst().displayKey()).isEqualTo("TASK-1");
+    assertThat(suggestions).allMatch(document -> document.displayKey().startsWith("TASK-1"));
+  }
+
+  @Test
+  void suggest_shouldRankDisplayKeysAboveTitleWords() {
+    trie.put(task(1, "Login redirect"));
+    trie.put(
+        new SearchDocument(SearchDocumentType.EPIC, 2, 1, "epic_2", "LOG-E2", "Audit", null));
+
+    assertThat(ids(trie.suggest("log", Set.of(), 10))).containsExactly(2L, 1L);
+  }
+
+  @Test
+  void suggest_shouldMatchTitleWordPrefixesIgnoringCaseAndAccents() {
+    trie.put(task(1, "Améliorer la Sécurité"));
+    trie.put(task(2, "Fix login"));
+
+    assertThat(ids(trie.suggest("secu", Set.of(), 10))).containsExactly(1L);
+    assertThat(ids(trie.suggest("SÉCU", Set.of(), 10))).containsExactly(1L);
+    assertThat(trie.suggest("curite", Set.of(), 10)).isEmpty();
+  }
+
+  @Test
+  void suggest_withSeveralWords_shouldRequireEveryWord() {
+    trie.put(task(1, "Fix login redirect"));
+    trie.put(task(2, "Fix signup redirect"));
+
+    assertThat(ids(trie.suggest("login red", Set.of(), 10))).containsExactly(1L);
+    assertThat(ids(trie.suggest("red", Set.of(), 10))).containsExactlyInAnyOrder(1L, 2L);
+    assertThat(trie.suggest("payments red", Set.of(), 10)).isEmpty();
+  }
+
+  @Test
+  void suggest_shouldFilterByType() {
+    trie.put(task(1, "Billing export"));
+    trie.put(
+        new SearchDocument(SearchDocumentType.PRD, 2, 1, "prd_2", "PRD-2", "Billing", null));
+
+    List<SearchDocument> suggestions = trie.suggest("bill", Set.of(SearchDocumentType.PRD), 10);
+
+    assertThat(suggestions).hasSize(1);
+    assertThat(suggestions.getFirst().type()).isEqualTo(SearchDocumentType.PRD);
+  }
+
+  @Test
+  void suggest_shouldIgnoreTypesWithoutDisplayKeys() {
+    trie.put(
+        new SearchDocument(
+            SearchDocumentType.SKILL, 1, 1, "skill_1", null, "billing-rules", "Billing rules"));
+
+    assertThat(trie.suggest("bill", Set.of(), 10)).isEmpty();
+  }
+
+  @Test
+  void put_shouldReplaceEarlierVersion() {
+    trie.put(task(1, "Fix login redirect"));
+    trie.put(task(1, "Fix signup form"));
+
+    assertThat(trie.suggest("login", Set.of(), 10)).isEmpty();
+    assertThat(ids(trie.suggest("sign", Set.of(), 10))).containsExactly(1L);
+    assertThat(trie.suggest("sign", Set.of(), 10).getFirst().title()).isEqualTo("Fix signup form");
+  }
+
+  @Test
+  void remove_shouldRefillCachedSuggestions() {
+    List<SearchDocument> documents = new ArrayList<>();
+    for (int i = 1; i <= 50; i++) {
+      documents.add(task(i, "Deploy service " + i));
+    }
+    trie.putAll(documents);
+
+    // Newest first, so removing the cached ones must bring older documents back in
+    for (int i = 50; i > 20; i--) {
+      trie.remove(SearchDocumentType.TASK, i);
+    }
+
+    assertThat(ids(trie.suggest("deploy", Set.of(), 25)))
+        .hasSize(20)
+        .startsWith(20L, 19L, 18L);
+  }
+
+  @Test
+  void remove_shouldLeaveOtherTermsOnSharedPaths() {
+    trie.put(task(1, "Authentication"));
+    trie.put(task(2, "Authorization"));
+
+    trie.remove(SearchDocumentType.TASK, 1);
+
+    assertThat(trie.suggest("authe", Set.of(), 10)).isEmpty();
+    assertThat(ids(trie.suggest("auth", Set.of(), 10))).containsExactly(2L);
+
+    trie.remove(SearchDocumentType.TASK, 2);
+
+    assertThat(trie.suggest("a", Set.of(), 10)).isEmpty();
+  }
+
+  private static SearchDocument task(long id, String title) {
+    return new SearchDocument(
+        SearchDocumentType.TASK, id, 1, "task_" + id, "TASK-" + id, title, null);
+  }
+
+  private static List<Long> ids(List<SearchDocument> documents) {
+    return documents.stream().map(SearchDocument::id).toList();
+  }
+}
@@ -0,0 +1,181 @@
+package com.specflux.search.interfaces.rest;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.specflux.agent.domain.Agent;
+import com.specflux.agent.domain.AgentRepository;
+import com.specflux.common.AbstractControllerIntegrationTest;
+import com.specflux.epic.domain.Epic;
+import com.specflux.epic.domain.EpicRepository;
+import com.specflux.project.domain.Project;
+import com.specflux.project.domain.ProjectRepository;
+import com.specflux.task.domain.Task;
+import com.specflux.task.domain.TaskRepository;
+
+/**
+ * Integration tests for SearchController.
+ *
+ * <p>Uses schema isolation for parallel test execution.
+ */
+class SearchControllerTest extends AbstractControllerIntegrationTest {
+
+  @DynamicPropertySource
+  static void configureSchema(DynamicPropertyRegistry registry) {
+    configureSchemaForClass(registry, SearchControllerTest.class);
+  }
+
+  @Autowired private ProjectRepository projectRepository;
+  @Autowired private TaskRepository taskRepository;
+  @Autowired private EpicRepository epicRepository;
+  @Autowired private AgentRepository agentRepository;
+
+  private Project testProject;
+
+  @BeforeEach
+  void setUpProject() {
+    testProject =
+        projectRepository.save(new Project("proj_search_test", "SRCH", "Search Test", testUser));
+  }
+
+  @Test
+  void searchProject_shouldFindMatchesAcrossEntities() throws Exception {
+    epicRepository.save(
+        new Epic("epic_auth", testProject, 1, "SRCH-E1", "Authentication", testUser));
+    Task task = new Task("task_login", testProject, 1, "SRCH-1", "Fix login redirect", testUser);
+    task.setDescription("Users land on the wrong page after authentication");
+    taskRepository.save(task);
+    Agent agent = new Agent("agent_auth", testProject, "auth-reviewer");
+    agent.setDescription("Reviews authentication changes");
+    agentRepository.save(agent);
+    taskRepository.save(
+        new Task("task_other", testProject, 2, "SRCH-2", "Build UI components", testUser));
+
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/search", testProject.getPublicId())
+                .with(user("user"))
+                .param("q", "authent"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.length()").value(3))
+        .andExpect(jsonPath("$.data[0].type").value("EPIC"))
+        .andExpect(jsonPath("$.data[0].id").value("epic_auth"))
+        .andExpect(jsonPath("$.data[0].displayKey").value("SRCH-E1"))
+        .andExpect(jsonPath("$.data[0].title").value("Authentication"));
+  }
+
+  @Test
+  void searchProject_withTypes_shouldOnlyReturnThoseTypes() throws Exception {
+    epicRepository.save(new Epic("epic_billing", testProject, 1, "SRCH-E1", "Billing", testUser));
+    taskRepository.save(
+        new Task("task_billing", testProject, 1, "SRCH-1", "Billing export", testUser));
+
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/search", testProject.getPublicId())
+                .with(user("user"))
+                .param("q", "billing")
+                .param("types", "TASK"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.length()").value(1))
+        .andExpect(jsonPath("$.data[0].type").value("TASK"))
+        .andExpect(jsonPath("$.data[0].displayKey").value("SRCH-1"));
+  }
+
+  @Test
+  void searchProject_shouldReflectUpdatesAndDeletes() throws Exception {
+    Task task =
+        taskRepository.save(
+            new Task("task_rename", testProject, 1, "SRCH-1", "Fix login redirect", testUser));
+    task.setTitle("Fix signup form");
+    taskRepository.saveAndFlush(task);
+
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/search", testProject.getPublicId())
+                .with(user("user"))
+                .param("q", "signup"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.length()").value(1));
+
+    taskRepository.delete(task);
+    taskRepository.flush();
+
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/search", testProject.getPublicId())
+                .with(user("user"))
+                .param("q", "signup"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.length()").value(0));
+  }
+
+  @Test
+  void searchProject_withUnknownType_shouldReturn400() throws Exception {
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/search", testProject.getPublicId())
+                .with(user("user"))
+                .param("q", "billing")
+                .param("types", "RELEASE"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void suggest_shouldPutExactDisplayKeyFirst() throws Exception {
+    for (int i = 1; i <= 12; i++) {
+      taskRepository.save(
+          new Task("task_" + i, testProject, i, "SRCH-" + i, "Suggested task " + i, testUser));
+    }
+
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/suggest", testProject.getPublicId())
+                .with(user("user"))
+                .param("q", "srch-1")
+                .param("limit", "3"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.length()").value(3))
+        .andExpect(jsonPath("$.data[0].type").value("TASK"))
+        .andExpect(jsonPath("$.data[0].id").value("task_1"))
+        .andExpect(jsonPath("$.data[0].displayKey").value("SRCH-1"))
+        .andExpect(jsonPath("$.data[0].title").value("Suggested task 1"));
+  }
+
+  @Test
+  void suggest_shouldMatchTitleWordPrefixesAndReflectRenames() throws Exception {
+    epicRepository.save(new Epic("epic_billing", testProject, 1, "SRCH-E1", "Billing", testUser));
+    Task task =
+        taskRepository.save(
+            new Task("task_login", testProject, 1, "SRCH-1", "Fix login redirect", testUser));
+
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/suggest", testProject.getPublicId())
+                .with(user("user"))
+                .param("q", "redir"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.length()").value(1))
+        .andExpect(jsonPath("$.data[0].id").value("task_login"));
+
+    task.setTitle("Fix billing redirect");
+    taskRepository.saveAndFlush(task);
+
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/suggest", testProject.getPublicId())
+                .with(user("user"))
+                .param("q", "bill")
+                .param("types", "TASK"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.length()").value(1))
+        .andExpect(jsonPath("$.data[0].title").value("Fix billing redirect"));
+  }
+}
@@ -0,0 +1,70 @@
+package com.specflux.shared.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import com.specflux.shared.domain.KeysetCursor;
+
+/** Unit tests for CursorCodec. */
+class CursorCodecTest {
+
+  private final CursorCodec codec = new CursorCodec("test-secret");
+
+  @Test
+  void shouldRoundTripCursor() {
+    KeysetCursor cursor =
+        new KeysetCursor("created_at", false, true, "2025-01-15T10:30:00.123456Z", 42L);
+
+    KeysetCursor decoded = codec.decode(codec.encode(cursor));
+
+    assertThat(decoded).isEqualTo(cursor);
+  }
+
+  @Test
+  void shouldProduceUrlSafeOpaqueCursor() {
+    String encoded = codec.encode(new KeysetCursor("title", true, false, "fix login", 7L));
+
+    assertThat(encoded).matches("^[A-Za-z0-9_-]+$");
+    assertThat(encoded).doesNotContain("fix login");
+  }
+
+  @Test
+  void shouldReturnNullForMissingCursor() {
+    assertThat(codec.decode(null)).isNull();
+    assertThat(codec.decode("  ")).isNull();
+  }
+
+  @Test
+  void shouldRejectTamperedCursor() {
+    byte[] token =
+        Base64.getUrlDecoder()
+            .decode(codec.encode(new KeysetCursor("created_at", true, false, "x", 1L)));
+    token[token.length - 20] ^= 1;
+    String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+
+    assertThatThrownBy(() -> codec.decode(tampered))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid cursor");
+  }
+
+  @Test
+  void shouldRejectCursorSignedWithAnotherSecret() {
+    String foreign =
+        new CursorCodec("other-secret")
+            .encode(new KeysetCursor("created_at", true, false, "x", 1L));
+
+    assertThatThrownBy(() -> codec.decode(foreign)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRejectGarbage() {
+    assertThatThrownBy(() -> codec.decode("not a cursor!"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> codec.decode("eyJvZmZzZXQiOjIwfQ=="))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
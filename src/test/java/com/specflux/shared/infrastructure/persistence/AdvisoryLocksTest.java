@@ -0,0 +1,56 @@
+package com.specflux.shared.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.specflux.common.AbstractIntegrationTest;
+
+/** Integration tests for AdvisoryLocks. */
+class AdvisoryLocksTest extends AbstractIntegrationTest {
+
+  private static final long KEY = 42L;
+
+  @DynamicPropertySource
+  static void configureSchema(DynamicPropertyRegistry registry) {
+    configureSchemaForClass(registry, AdvisoryLocksTest.class);
+  }
+
+  @Autowired private AdvisoryLocks advisoryLocks;
+
+  @Test
+  void runExclusively_whileTheLockIsHeld_shouldSkipTheTask() {
+    AtomicBoolean nestedRan = new AtomicBoolean();
+
+    // Outside a transaction every call takes its own connection, i.e. its own session
+    boolean ran =
+        advisoryLocks.runExclusively(
+            KEY,
+            () ->
+                assertThat(advisoryLocks.runExclusively(KEY, () -> nestedRan.set(true)))
+                    .isFalse());
+
+    assertThat(ran).isTrue();
+    assertThat(nestedRan).isFalse();
+  }
+
+  @Test
+  void runExclusively_whenTheTaskFails_shouldReleaseTheLock() {
+    assertThatThrownBy(
+            () ->
+                advisoryLocks.runExclusively(
+                    KEY,
+                    () -> {
+                      throw new IllegalStateException("boom");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(advisoryLocks.runExclusively(KEY, () -> {})).isTrue();
+  }
+}
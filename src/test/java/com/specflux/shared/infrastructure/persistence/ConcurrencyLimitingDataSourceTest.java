@@ -0,0 +1,82 @@
+package com.specflux.shared.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for ConcurrencyLimitingDataSource. */
+class ConcurrencyLimitingDataSourceTest {
+
+  private final DataSource target = mock(DataSource.class);
+  private final Connection connection = mock(Connection.class);
+  private final ConcurrencyLimitingDataSource dataSource =
+      new ConcurrencyLimitingDataSource(target, 1, Duration.ofMillis(50));
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    when(target.getConnection()).thenReturn(connection);
+  }
+
+  @Test
+  void getConnection_shouldTimeOutWhenAllPermitsAreTaken() throws SQLException {
+    dataSource.getConnection();
+
+    assertThatThrownBy(dataSource::getConnection)
+        .isInstanceOf(SQLTransientConnectionException.class);
+    verify(target, times(1)).getConnection();
+  }
+
+  @Test
+  void close_shouldReleaseThePermitOnce() throws SQLException {
+    Connection first = dataSource.getConnection();
+    first.close();
+    first.close();
+
+    assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+    verify(connection, times(2)).close();
+    dataSource.getConnection();
+    assertThat(dataSource.getAvailablePermits()).isZero();
+  }
+
+  @Test
+  void abort_shouldReleaseThePermitOnce() throws SQLException {
+    Executor executor = Runnable::run;
+    Connection first = dataSource.getConnection();
+    first.abort(executor);
+    first.close();
+
+    assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+    verify(connection).abort(executor);
+    dataSource.getConnection();
+    assertThat(dataSource.getAvailablePermits()).isZero();
+  }
+
+  @Test
+  void getConnection_shouldReleaseThePermitWhenThePoolFails() throws SQLException {
+    when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+    assertThatThrownBy(dataSource::getConnection).hasMessage("pool exhausted");
+    assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+  }
+
+  @Test
+  void connection_shouldDelegateOtherCalls() throws SQLException {
+    when(connection.getAutoCommit()).thenReturn(true);
+
+    assertThat(dataSource.getConnection().getAutoCommit()).isTrue();
+  }
+}
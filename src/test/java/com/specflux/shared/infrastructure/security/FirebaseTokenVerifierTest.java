@@ -0,0 +1,209 @@
+package com.specflux.shared.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.google.firebase.ErrorCode;
+import com.google.firebase.auth.AuthErrorCode;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseAuthException;
+import com.google.firebase.auth.FirebaseToken;
+import com.google.firebase.auth.GetUsersResult;
+import com.google.firebase.auth.UserIdentifier;
+import com.google.firebase.auth.UserRecord;
+
+/** Unit tests for FirebaseTokenVerifier. */
+class FirebaseTokenVerifierTest {
+
+  private static final long NOW = 1_700_000_000L;
+
+  private final FirebaseAuth firebaseAuth = mock(FirebaseAuth.class);
+  private final MutableClock clock = new MutableClock();
+  private final FirebaseTokenVerifier verifier =
+      new FirebaseTokenVerifier(firebaseAuth, 100, clock);
+
+  @BeforeEach
+  void setUp() throws FirebaseAuthException {
+    FirebaseToken token = token("uid_1", NOW - 60, NOW + 3540);
+    when(firebaseAuth.verifyIdToken("token-1", false)).thenReturn(token);
+  }
+
+  @Test
+  void verify_shouldVerifyEachTokenOnlyOnce() throws FirebaseAuthException {
+    for (int i = 0; i < 1_000; i++) {
+      assertThat(verifier.verify("token-1").getFirebaseUid()).isEqualTo("uid_1");
+    }
+
+    verify(firebaseAuth, times(1)).verifyIdToken("token-1", false);
+    verify(firebaseAuth, never()).verifyIdToken(anyString(), eq(true));
+    assertThat(verifier.size()).isEqualTo(1);
+  }
+
+  @Test
+  void verify_cachedTokenOverheadShouldBeMicroseconds() throws FirebaseAuthException {
+    // Real ID tokens are around 900 characters
+    String idToken = "x".repeat(900);
+    FirebaseToken token = token("uid_2", NOW - 60, NOW + 3540);
+    when(firebaseAuth.verifyIdToken(idToken, false)).thenReturn(token);
+    int iterations = 100_000;
+    for (int i = 0; i < iterations; i++) {
+      verifier.verify(idToken);
+    }
+
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      verifier.verify(idToken);
+    }
+    long averageNanos = (System.nanoTime() - start) / iterations;
+
+    // Generous bound to stay stable on shared CI runners; a remote check takes tens of millis
+    assertThat(averageNanos).isLessThan(50_000);
+  }
+
+  @Test
+  void verify_shouldReverifyExpiredTokens() throws FirebaseAuthException {
+    verifier.verify("token-1");
+    clock.now = Instant.ofEpochSecond(NOW + 3540);
+    when(firebaseAuth.verifyIdToken("token-1", false))
+        .thenThrow(authException(AuthErrorCode.EXPIRED_ID_TOKEN));
+
+    assertThatThrownBy(() -> verifier.verify("token-1")).isInstanceOf(FirebaseAuthException.class);
+    assertThat(verifier.size()).isZero();
+  }
+
+  @Test
+  void checkRevocations_shouldDropAndRejectRevokedTokens() throws FirebaseAuthException {
+    verifier.verify("token-1");
+    givenUsers(user("uid_1", NOW - 10));
+
+    verifier.checkRevocations();
+
+    assertThat(verifier.size()).isZero();
+    assertThatThrownBy(() -> verifier.verify("token-1"))
+        .isInstanceOf(FirebaseAuthException.class)
+        .hasMessageContaining("revoked");
+  }
+
+  @Test
+  void checkRevocations_shouldKeepTokensIssuedAfterCutoff() throws FirebaseAuthException {
+    verifier.verify("token-1");
+    givenUsers(user("uid_1", NOW - 600));
+
+    verifier.checkRevocations();
+
+    assertThat(verifier.size()).isEqualTo(1);
+  }
+
+  @Test
+  void checkRevocations_shouldBlockDeletedUsers() throws FirebaseAuthException {
+    verifier.verify("token-1");
+    givenUsers();
+
+    verifier.checkRevocations();
+
+    assertThat(verifier.size()).isZero();
+    assertThatThrownBy(() -> verifier.verify("token-1")).isInstanceOf(FirebaseAuthException.class);
+  }
+
+  @Test
+  void checkRevocations_shouldKeepTokensWhenFirebaseIsUnavailable() throws FirebaseAuthException {
+    verifier.verify("token-1");
+    when(firebaseAuth.getUsers(anyCollection())).thenThrow(authException(null));
+
+    verifier.checkRevocations();
+
+    assertThat(verifier.verify("token-1").getFirebaseUid()).isEqualTo("uid_1");
+    verify(firebaseAuth, times(1)).verifyIdToken("token-1", false);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void checkRevocations_shouldLookUpUsersInBatchesOfAtMostOneHundred()
+      throws FirebaseAuthException {
+    for (int i = 0; i < 250; i++) {
+      FirebaseToken token = token("uid_b" + i, NOW - 60, NOW + 3540);
+      when(firebaseAuth.verifyIdToken("token-b" + i, false)).thenReturn(token);
+    }
+    FirebaseTokenVerifier verifier = new FirebaseTokenVerifier(firebaseAuth, 1_000, clock);
+    UserRecord[] users = new UserRecord[250];
+    for (int i = 0; i < 250; i++) {
+      verifier.verify("token-b" + i);
+      users[i] = user("uid_b" + i, i == 0 ? NOW - 10 : 0);
+    }
+    givenUsers(users);
+
+    verifier.checkRevocations();
+
+    ArgumentCaptor<Collection<UserIdentifier>> batches = ArgumentCaptor.forClass(Collection.class);
+    verify(firebaseAuth, times(3)).getUsers(batches.capture());
+    assertThat(batches.getAllValues()).allMatch(batch -> batch.size() <= 100);
+    assertThat(batches.getAllValues().stream().mapToInt(Collection::size).sum()).isEqualTo(250);
+    assertThat(verifier.size()).isEqualTo(249);
+  }
+
+  private void givenUsers(UserRecord... users) throws FirebaseAuthException {
+    GetUsersResult result = mock(GetUsersResult.class);
+    when(result.getUsers()).thenReturn(Set.of(users));
+    when(firebaseAuth.getUsers(anyCollection())).thenReturn(result);
+  }
+
+  private static UserRecord user(String uid, long tokensValidAfter) {
+    UserRecord user = mock(UserRecord.class);
+    when(user.getUid()).thenReturn(uid);
+    when(user.getTokensValidAfterTimestamp()).thenReturn(tokensValidAfter * 1000);
+    return user;
+  }
+
+  private static FirebaseToken token(String uid, long issuedAt, long expiresAt) {
+    FirebaseToken token = mock(FirebaseToken.class);
+    when(token.getUid()).thenReturn(uid);
+    when(token.getEmail()).thenReturn(uid + "@test.com");
+    when(token.getClaims()).thenReturn(Map.of("iat", issuedAt, "exp", expiresAt));
+    return token;
+  }
+
+  private static FirebaseAuthException authException(AuthErrorCode code) {
+    return new FirebaseAuthException(ErrorCode.UNAVAILABLE, "test", null, null, code);
+  }
+
+  /** Clock whose instant is set by the test. */
+  private static final class MutableClock extends Clock {
+
+    private Instant now = Instant.ofEpochSecond(NOW);
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.specflux.shared.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+/** Unit tests for OperatorAccess. */
+class OperatorAccessTest {
+
+  private final OperatorAccess access = new OperatorAccess(Set.of("fb_operator"));
+
+  @Test
+  void isOperator_shouldOnlyAllowListedFirebaseUsers() {
+    assertThat(access.isOperator(firebaseUser("fb_operator"))).isTrue();
+    assertThat(access.isOperator(firebaseUser("fb_someone_else"))).isFalse();
+    assertThat(
+            access.isOperator(
+                new UsernamePasswordAuthenticationToken(
+                    "fb_operator", null, Collections.emptyList())))
+        .isFalse();
+    assertThat(access.isOperator(null)).isFalse();
+  }
+
+  @Test
+  void isOperator_withoutConfiguredOperators_shouldAllowNobody() {
+    OperatorAccess none = new OperatorAccess(Set.of());
+
+    assertThat(none.isOperator(firebaseUser("fb_operator"))).isFalse();
+  }
+
+  private static FirebaseAuthenticationToken firebaseUser(String firebaseUid) {
+    return new FirebaseAuthenticationToken(
+        new FirebasePrincipal(firebaseUid, null, null, null), "token", Collections.emptyList());
+  }
+}
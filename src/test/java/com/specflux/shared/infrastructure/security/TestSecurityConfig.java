@@ -34,6 +34,7 @@ import lombok.RequiredArgsConstructor;
 public class TestSecurityConfig {
 
   private final ApiKeyService apiKeyService;
+  private final OperatorAccess operatorAccess;
 
   @Bean
   public SecurityFilterChain testSecurityFilterChain(HttpSecurity http) throws Exception {
@@ -43,6 +44,9 @@ public class TestSecurityConfig {
         .authorizeHttpRequests(
             auth ->
                 auth
+                    // Operational endpoints, such as replaying GitHub webhook deliveries
+                    .requestMatchers(OperatorAccess.OPERATOR_ENDPOINTS)
+                    .access((authentication, _) -> operatorAccess.decide(authentication.get()))
                     // Health and actuator endpoints
                     .requestMatchers("/actuator/**")
                     .permitAll()
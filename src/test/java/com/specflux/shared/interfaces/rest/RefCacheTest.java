@@ -0,0 +1,71 @@
+package com.specflux.shared.interfaces.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for RefCache. */
+class RefCacheTest {
+
+  private final RefCache<String> cache = new RefCache<>(100);
+
+  @Test
+  void evict_shouldRemoveOnlyTheKeysCachedWithTheOwner() {
+    cache.put("SPEC-1", 1L, "project-1", "task-1");
+    cache.put("task_1", 1L, "project-1", "task-1");
+    cache.put("SPEC-2", 2L, "project-1", "task-2");
+    cache.put("OTHER-1", 3L, "project-2", "task-3");
+
+    cache.evict("task-1");
+
+    assertThat(cache.get("SPEC-1")).isNull();
+    assertThat(cache.get("task_1")).isNull();
+    assertThat(cache.get("SPEC-2")).isEqualTo(2L);
+
+    cache.evict("project-1");
+
+    assertThat(cache.get("SPEC-2")).isNull();
+    assertThat(cache.get("OTHER-1")).isEqualTo(3L);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void evict_shouldKeepAKeyCachedAgainUnderAnotherOwner() {
+    cache.put("SPEC-1", 1L, "task-1");
+    cache.put("SPEC-1", 2L, "task-2");
+
+    cache.evict("task-1");
+
+    assertThat(cache.get("SPEC-1")).isEqualTo(2L);
+  }
+
+  @Test
+  void remove_shouldIgnoreAKeyThatResolvesToAnotherId() {
+    cache.put("SPEC-1", 2L, "task-2");
+
+    cache.remove("SPEC-1", 1L);
+
+    assertThat(cache.get("SPEC-1")).isEqualTo(2L);
+  }
+
+  @Test
+  void put_whenFull_shouldEvictEntriesThatWereNotReadAgain() {
+    for (int i = 0; i < 100; i++) {
+      cache.put("KEY-" + i, (long) i, "project");
+    }
+    for (int i = 0; i < 100; i += 2) {
+      cache.get("KEY-" + i);
+    }
+
+    cache.put("KEY-100", 100L, "project");
+
+    assertThat(cache.size()).isEqualTo(90);
+    for (int i = 0; i < 100; i += 2) {
+      assertThat(cache.get("KEY-" + i)).as("KEY-%d was read", i).isEqualTo((long) i);
+    }
+
+    cache.evict("project");
+
+    assertThat(cache.size()).isZero();
+  }
+}
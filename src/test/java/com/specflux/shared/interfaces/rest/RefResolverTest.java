@@ -0,0 +1,205 @@
+package com.specflux.shared.interfaces.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.specflux.epic.domain.EpicRepository;
+import com.specflux.prd.domain.PrdRepository;
+import com.specflux.project.domain.Project;
+import com.specflux.project.domain.ProjectRepository;
+import com.specflux.task.domain.Task;
+import com.specflux.task.domain.TaskRepository;
+import com.specflux.user.domain.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+
+/** Unit tests for the reference caches of RefResolver. */
+class RefResolverTest {
+
+  private final ProjectRepository projectRepository =
+      mock(ProjectRepository.class, withSettings().stubOnly());
+  private final TaskRepository taskRepository = mock(TaskRepository.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RefResolver refResolver =
+      new RefResolver(
+          projectRepository,
+          mock(EpicRepository.class),
+          taskRepository,
+          mock(UserRepository.class),
+          mock(PrdRepository.class),
+          meterRegistry);
+
+  /** Projects by id, looked up by the repository mocks. */
+  private final Map<Long, Project> projects = new HashMap<>();
+
+  @BeforeEach
+  void setUp() {
+    refResolver.registerMetrics();
+    when(projectRepository.findByProjectKey(anyString()))
+        .thenAnswer(
+            invocation -> {
+              String key = invocation.getArgument(0);
+              return Optional.ofNullable(projects.get(Long.parseLong(key.substring(1))));
+            });
+    when(projectRepository.findById(anyLong()))
+        .thenAnswer(invocation -> Optional.ofNullable(projects.get(invocation.getArgument(0))));
+  }
+
+  @AfterEach
+  void clearSynchronization() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void resolveProject_shouldServeRepeatedReferencesFromTheCache() {
+    givenProjects(2);
+    refResolver.resolveProject("p1");
+    refResolver.resolveProject("P1");
+    refResolver.resolveProject("p1");
+
+    assertThat(requests("miss")).isEqualTo(1);
+    assertThat(requests("hit")).isEqualTo(2);
+    assertThat(meterRegistry.get("specflux.refs.cache.size").gauge().value()).isEqualTo(1);
+  }
+
+  @Test
+  void resolveProject_shouldResolveAgainWhenTheCachedRowIsGone() {
+    givenProjects(2);
+    refResolver.resolveProject("P1");
+    projects.remove(1L);
+
+    assertThatThrownBy(() -> refResolver.resolveProject("P1"))
+        .isInstanceOf(EntityNotFoundException.class);
+    projects.put(1L, project(1L));
+
+    refResolver.resolveProject("P1");
+
+    assertThat(requests("hit")).isZero();
+    assertThat(requests("miss")).isEqualTo(3);
+  }
+
+  @Test
+  void resolveProject_shouldOnlyCacheOnceTheTransactionCommits() {
+    givenProjects(2);
+    TransactionSynchronizationManager.initSynchronization();
+    refResolver.resolveProject("P1");
+    refResolver.resolveProject("P1");
+    rollBack();
+
+    TransactionSynchronizationManager.initSynchronization();
+    refResolver.resolveProject("P1");
+    commit();
+
+    refResolver.resolveProject("P1");
+
+    assertThat(requests("miss")).isEqualTo(3);
+    assertThat(requests("hit")).isEqualTo(1);
+  }
+
+  @Test
+  void resolveProject_whenFull_shouldKeepRecentlyUsedReferences() {
+    givenProjects(RefResolver.MAX_CACHED_REFS + 1);
+    for (long id = 0; id < RefResolver.MAX_CACHED_REFS; id++) {
+      refResolver.resolveProject("P" + id);
+    }
+    // Use P0 again, then overflow by one
+    refResolver.resolveProject("P0");
+    refResolver.resolveProject("P" + RefResolver.MAX_CACHED_REFS);
+    double hitsBefore = requests("hit");
+
+    refResolver.resolveProject("P0");
+
+    assertThat(requests("hit") - hitsBefore).isEqualTo(1);
+    assertThat(meterRegistry.get("specflux.refs.cache.size").gauge().value())
+        .isLessThan(RefResolver.MAX_CACHED_REFS);
+  }
+
+  @Test
+  void evictProject_shouldDropTheProjectAndReferencesIntoIt() {
+    givenProjects(2);
+    Project project = refResolver.resolveProject("P1");
+    Task task = mock(Task.class);
+    when(task.getId()).thenReturn(7L);
+    when(taskRepository.findByPublicIdAndProjectId("task_7", 1L)).thenReturn(Optional.of(task));
+    when(taskRepository.findWithSummaryById(7L)).thenReturn(Optional.of(task));
+    refResolver.resolveProject("P0");
+    refResolver.resolveTask(project, "task_7");
+
+    refResolver.evictProject(project);
+
+    assertThat(meterRegistry.get("specflux.refs.cache.size").gauge().value()).isEqualTo(1);
+  }
+
+  @Test
+  void evictTask_shouldDropCachedTaskReferences() {
+    givenProjects(2);
+    Project project = refResolver.resolveProject("P1");
+    Task task = mock(Task.class);
+    when(task.getId()).thenReturn(7L);
+    when(taskRepository.findByPublicIdAndProjectId("task_7", 1L)).thenReturn(Optional.of(task));
+    when(taskRepository.findWithSummaryById(7L)).thenReturn(Optional.of(task));
+
+    refResolver.resolveTask(project, "task_7");
+    refResolver.resolveTask(project, "task_7");
+    refResolver.evictTask(task);
+    refResolver.resolveTask(project, "task_7");
+
+    verify(taskRepository, times(2)).findByPublicIdAndProjectId("task_7", 1L);
+    verify(taskRepository, times(1)).findWithSummaryById(7L);
+  }
+
+  private double requests(String result) {
+    return meterRegistry
+        .get("specflux.refs.cache.requests")
+        .tag("result", result)
+        .functionCounter()
+        .count();
+  }
+
+  private static void commit() {
+    var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+    TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+  }
+
+  private static void rollBack() {
+    var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+    TransactionSynchronizationUtils.invokeAfterCompletion(
+        synchronizations, TransactionSynchronization.STATUS_ROLLED_BACK);
+  }
+
+  private void givenProjects(int count) {
+    for (long id = 0; id < count; id++) {
+      projects.put(id, project(id));
+    }
+  }
+
+  private static Project project(long id) {
+    Project project = new Project("proj_" + id, "P" + id, "Project " + id, null);
+    ReflectionTestUtils.setField(project, "id", id);
+    return project;
+  }
+}
@@ -0,0 +1,268 @@
+package com.specflux.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+
+import com.specflux.github.application.GithubService;
+import com.specflux.github.domain.GithubInstallation;
+import com.specflux.github.domain.GithubInstallationRepository;
+import com.specflux.github.infrastructure.GithubApiClient;
+import com.specflux.github.infrastructure.GithubAppConfig;
+import com.specflux.shared.infrastructure.persistence.AdvisoryLocks;
+import com.specflux.task.domain.TaskRepository;
+import com.specflux.task.domain.TaskRepository.PullRequestLink;
+import com.specflux.task.domain.TaskStatus;
+import com.specflux.task.infrastructure.persistence.TaskBatchUpdater;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/** Tests TaskPullRequestSyncService against a local GitHub stub server. */
+class TaskPullRequestSyncServiceTest {
+
+  private static final Long OWNER_ID = 7L;
+
+  private HttpServer server;
+
+  /** Pull request listing JSON per repository path, served with the ETag of its hash. */
+  private final Map<String, String> pulls = new ConcurrentHashMap<>();
+
+  private final List<String> requests = new CopyOnWriteArrayList<>();
+  private volatile String rateLimitRemaining = "4000";
+
+  private final TaskRepository taskRepository = mock(TaskRepository.class);
+  private final TaskBatchUpdater taskBatchUpdater = mock(TaskBatchUpdater.class);
+  private final GithubInstallationRepository installationRepository =
+      mock(GithubInstallationRepository.class);
+  private final GithubService githubService = mock(GithubService.class);
+  private final AdvisoryLocks advisoryLocks = mock(AdvisoryLocks.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private TaskPullRequestSyncService syncService;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", this::handle);
+    server.start();
+
+    GithubAppConfig config = new GithubAppConfig();
+    ReflectionTestUtils.setField(
+        config, "apiUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+    syncService =
+        new TaskPullRequestSyncService(
+            taskRepository,
+            new TaskPullRequestStatusUpdater(
+                taskBatchUpdater, new TransactionTemplate(mock(PlatformTransactionManager.class))),
+            installationRepository,
+            githubService,
+            new GithubApiClient(config, new RestTemplate()),
+            advisoryLocks,
+            meterRegistry,
+            60,
+            100);
+
+    GithubInstallation installation =
+        new GithubInstallation(
+            "ghi_test123456789",
+            OWNER_ID,
+            12345L,
+            "access-token",
+            Instant.now().plusSeconds(3600),
+            "refresh-token",
+            Instant.now().plusSeconds(86400),
+            "testuser");
+    when(installationRepository.findByUserId(OWNER_ID)).thenReturn(Optional.of(installation));
+    when(githubService.refreshAccessToken(installation)).thenReturn(installation);
+    when(taskBatchUpdater.lockIds(any())).thenAnswer(invocation -> List.of());
+    when(advisoryLocks.runExclusively(anyLong(), any()))
+        .thenAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(1).run();
+              return true;
+            });
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  void syncAll_shouldApplyPullRequestStatesWithOneUpdatePerStatus() {
+    links(
+        link(1L, "https://github.com/acme/api/pull/10", TaskStatus.IN_PROGRESS),
+        link(2L, "https://github.com/acme/api/pull/11", TaskStatus.IN_REVIEW),
+        link(3L, "https://github.com/Acme/API/pull/11", TaskStatus.READY),
+        link(4L, "https://github.com/acme/api/pull/12", TaskStatus.IN_PROGRESS),
+        link(5L, "https://example.com/not-a-pull-request", TaskStatus.IN_PROGRESS));
+    pulls.put(
+        "/repos/acme/api/pulls",
+        "["
+            + pull(10, "open", null)
+            + ","
+            + pull(11, "closed", "2026-01-02T00:00:00Z")
+            + ","
+            + pull(12, "closed", null)
+            + "]");
+    when(taskBatchUpdater.lockIds(any())).thenReturn(List.of(1L), List.of(2L, 3L));
+
+    syncService.syncAll();
+
+    assertThat(requests).hasSize(1);
+    verify(taskBatchUpdater).updateAll(List.of(1L), Map.of("status", TaskStatus.IN_REVIEW));
+    verify(taskBatchUpdater).updateAll(List.of(2L, 3L), Map.of("status", TaskStatus.COMPLETED));
+    verify(taskBatchUpdater, never())
+        .updateAll(any(), eq(Map.of("status", TaskStatus.IN_PROGRESS)));
+  }
+
+  @Test
+  void syncAll_shouldRevalidateUnchangedRepositoriesWithTheirEtag() {
+    links(link(1L, "https://github.com/acme/api/pull/10", TaskStatus.IN_REVIEW));
+    pulls.put("/repos/acme/api/pulls", "[" + pull(10, "open", null) + "]");
+
+    syncService.syncAll();
+    syncService.syncAll();
+
+    assertThat(requests).containsExactly("/repos/acme/api/pulls", "/repos/acme/api/pulls 304");
+    assertThat(
+            meterRegistry
+                .get("specflux.github.pr-sync.requests")
+                .tag("result", "not_modified")
+                .functionCounter()
+                .count())
+        .isEqualTo(1);
+    verify(taskBatchUpdater, never()).updateAll(any(), anyMap());
+  }
+
+  @Test
+  void syncAll_shouldStopUsingATokenAtTheRateLimitReserve() {
+    links(
+        link(1L, "https://github.com/acme/api/pull/10", TaskStatus.IN_PROGRESS),
+        link(2L, "https://github.com/acme/web/pull/20", TaskStatus.IN_PROGRESS));
+    pulls.put("/repos/acme/api/pulls", "[" + pull(10, "open", null) + "]");
+    pulls.put("/repos/acme/web/pulls", "[" + pull(20, "open", null) + "]");
+    rateLimitRemaining = "50";
+
+    syncService.syncAll();
+
+    assertThat(requests).containsExactly("/repos/acme/api/pulls");
+  }
+
+  @Test
+  void syncAll_whenAnotherInstanceIsSyncing_shouldSkipTheRun() {
+    links(link(1L, "https://github.com/acme/api/pull/10", TaskStatus.IN_PROGRESS));
+    when(advisoryLocks.runExclusively(anyLong(), any())).thenReturn(false);
+
+    syncService.syncAll();
+
+    assertThat(requests).isEmpty();
+  }
+
+  @Test
+  void syncAll_whenApplyingFails_shouldNotRevalidateTheListingNextRun() {
+    links(link(1L, "https://github.com/acme/api/pull/10", TaskStatus.IN_PROGRESS));
+    pulls.put("/repos/acme/api/pulls", "[" + pull(10, "open", null) + "]");
+    when(taskBatchUpdater.lockIds(any()))
+        .thenThrow(new QueryTimeoutException("timeout"))
+        .thenReturn(List.of(1L));
+
+    assertThatThrownBy(syncService::syncAll).isInstanceOf(QueryTimeoutException.class);
+    syncService.syncAll();
+
+    assertThat(requests).containsExactly("/repos/acme/api/pulls", "/repos/acme/api/pulls");
+    verify(taskBatchUpdater).updateAll(List.of(1L), Map.of("status", TaskStatus.IN_REVIEW));
+  }
+
+  @Test
+  void syncAll_withListingCutOffAtTheLastPage_shouldNotRevalidateItNextRun() {
+    links(link(1L, "https://github.com/acme/api/pull/1", TaskStatus.IN_PROGRESS));
+    StringBuilder page = new StringBuilder("[");
+    for (int number = 1000; number < 1100; number++) {
+      page.append(number > 1000 ? "," : "").append(pull(number, "open", null));
+    }
+    pulls.put("/repos/acme/api/pulls", page.append("]").toString());
+
+    syncService.syncAll();
+    requests.clear();
+    syncService.syncAll();
+
+    // Read again without the ETag, but only down to where the first run started
+    assertThat(requests).containsExactly("/repos/acme/api/pulls");
+  }
+
+  private void links(PullRequestLink... links) {
+    // The first batch holds every link; the batch after it is empty
+    when(taskRepository.findPullRequestLinks(any(), anyLong(), any()))
+        .thenAnswer(
+            invocation -> invocation.<Long>getArgument(1) == 0 ? List.of(links) : List.of());
+  }
+
+  private static PullRequestLink link(Long id, String url, TaskStatus status) {
+    return new Link(id, url, status, OWNER_ID);
+  }
+
+  private static String pull(int number, String state, String mergedAt) {
+    return "{\"number\":"
+        + number
+        + ",\"state\":\""
+        + state
+        + "\",\"merged_at\":"
+        + (mergedAt == null ? "null" : "\"" + mergedAt + "\"")
+        + ",\"updated_at\":\"2026-01-02T00:00:00Z\"}";
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    String path = exchange.getRequestURI().getPath();
+    String body = pulls.getOrDefault(path, "[]");
+    String etag = "\"" + Integer.toHexString(body.hashCode()) + "\"";
+
+    exchange.getResponseHeaders().add("x-ratelimit-remaining", rateLimitRemaining);
+    if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+      requests.add(path + " 304");
+      exchange.sendResponseHeaders(304, -1);
+      exchange.close();
+      return;
+    }
+    requests.add(path);
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("ETag", etag);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private record Link(Long getId, String getGithubPrUrl, TaskStatus getStatus, Long getOwnerId)
+      implements PullRequestLink {}
+}
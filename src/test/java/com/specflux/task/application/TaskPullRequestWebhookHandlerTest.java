@@ -0,0 +1,82 @@
+package com.specflux.task.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.specflux.github.application.GithubWebhookDelivery;
+import com.specflux.task.domain.TaskRepository;
+import com.specflux.task.domain.TaskRepository.PullRequestLink;
+import com.specflux.task.domain.TaskStatus;
+import com.specflux.task.infrastructure.persistence.TaskBatchUpdater;
+
+/** Unit tests for TaskPullRequestWebhookHandler, fed with recorded GitHub payloads. */
+class TaskPullRequestWebhookHandlerTest {
+
+  private static final String PR_URL = "https://github.com/acme/api/pull/42";
+
+  private final TaskRepository taskRepository = mock(TaskRepository.class);
+  private final TaskBatchUpdater taskBatchUpdater = mock(TaskBatchUpdater.class);
+  private final TaskPullRequestWebhookHandler handler =
+      new TaskPullRequestWebhookHandler(
+          taskRepository,
+          new TaskPullRequestStatusUpdater(
+              taskBatchUpdater, new TransactionTemplate(mock(PlatformTransactionManager.class))));
+
+  @Test
+  void handle_shouldCompleteTasksLinkingAMergedPullRequest() throws IOException {
+    when(taskRepository.findPullRequestLinksByRefs(eq(Set.of("acme/api/pull/42")), any()))
+        .thenReturn(
+            List.of(
+                new Link(1L, PR_URL, TaskStatus.IN_REVIEW, 7L),
+                new Link(
+                    2L, " https://GitHub.com/Acme/API/pull/42/files/", TaskStatus.BLOCKED, 7L)));
+    when(taskBatchUpdater.lockIds(any())).thenReturn(List.of(1L, 2L));
+
+    handler.handle(List.of(delivery(recorded("pull_request_closed.json"))));
+
+    verify(taskBatchUpdater).updateAll(List.of(1L, 2L), Map.of("status", TaskStatus.COMPLETED));
+  }
+
+  @Test
+  void handle_shouldIgnoreActionsThatDoNotChangeState() throws IOException {
+    String labeled =
+        new String(recorded("pull_request_closed.json"), StandardCharsets.UTF_8)
+            .replace("\"action\": \"closed\"", "\"action\": \"labeled\"");
+
+    handler.handle(List.of(delivery(labeled.getBytes(StandardCharsets.UTF_8))));
+
+    verify(taskRepository, never()).findPullRequestLinksByRefs(any(), any());
+    verify(taskBatchUpdater, never()).updateAll(any(), anyMap());
+  }
+
+  private static GithubWebhookDelivery delivery(byte[] payload) {
+    return new GithubWebhookDelivery("delivery-1", "pull_request", payload, Instant.now(), false);
+  }
+
+  private static byte[] recorded(String name) throws IOException {
+    try (InputStream in =
+        TaskPullRequestWebhookHandlerTest.class.getResourceAsStream("/github/webhooks/" + name)) {
+      return in.readAllBytes();
+    }
+  }
+
+  private record Link(Long getId, String getGithubPrUrl, TaskStatus getStatus, Long getOwnerId)
+      implements PullRequestLink {}
+}
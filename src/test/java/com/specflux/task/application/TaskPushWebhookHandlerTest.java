@@ -0,0 +1,77 @@
+package com.specflux.task.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.specflux.github.application.GithubWebhookDelivery;
+import com.specflux.task.domain.TaskRepository;
+import com.specflux.task.domain.TaskStatus;
+import com.specflux.task.infrastructure.persistence.TaskBatchUpdater;
+
+/** Unit tests for TaskPushWebhookHandler, fed with a recorded GitHub payload. */
+class TaskPushWebhookHandlerTest {
+
+  private static final Set<String> GIT_URLS =
+      Set.of(
+          "https://github.com/acme/api.git",
+          "git@github.com:acme/api.git",
+          "git://github.com/acme/api.git",
+          "https://github.com/acme/api");
+
+  private final TaskRepository taskRepository = mock(TaskRepository.class);
+  private final TaskBatchUpdater taskBatchUpdater = mock(TaskBatchUpdater.class);
+  private final TaskPushWebhookHandler handler =
+      new TaskPushWebhookHandler(
+          taskRepository,
+          taskBatchUpdater,
+          new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+  @Test
+  void handle_shouldStartTasksMentionedInPushedCommits() throws IOException {
+    when(taskRepository.findIdsByDisplayKeysInRepository(
+            eq(Set.of("API-8", "API-9", "UTF-8")), any(), eq(GIT_URLS)))
+        .thenReturn(List.of(8L, 9L));
+    when(taskBatchUpdater.lockIds(any())).thenReturn(List.of(8L, 9L));
+
+    handler.handle(List.of(delivery(recorded())));
+
+    verify(taskBatchUpdater).updateAll(List.of(8L, 9L), Map.of("status", TaskStatus.IN_PROGRESS));
+  }
+
+  @Test
+  void handle_shouldNotUpdateWhenNoMentionedTaskBelongsToTheRepository() throws IOException {
+    when(taskRepository.findIdsByDisplayKeysInRepository(any(), any(), any()))
+        .thenReturn(List.of());
+
+    handler.handle(List.of(delivery(recorded())));
+
+    verify(taskBatchUpdater, never()).updateAll(any(), anyMap());
+  }
+
+  private static GithubWebhookDelivery delivery(byte[] payload) {
+    return new GithubWebhookDelivery("delivery-1", "push", payload, Instant.now(), false);
+  }
+
+  private static byte[] recorded() throws IOException {
+    try (InputStream in =
+        TaskPushWebhookHandlerTest.class.getResourceAsStream("/github/webhooks/push.json")) {
+      return in.readAllBytes();
+    }
+  }
+}
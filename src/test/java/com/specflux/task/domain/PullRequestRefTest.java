@@ -0,0 +1,33 @@
+package com.specflux.task.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for PullRequestRef. */
+class PullRequestRefTest {
+
+  @Test
+  void shouldParsePullRequestUrl() {
+    assertThat(PullRequestRef.parse("https://github.com/acme/api/pull/42"))
+        .contains(new PullRequestRef("acme", "api", 42));
+  }
+
+  @Test
+  void shouldNormalizeCaseWhitespaceAndSuffixes() {
+    assertThat(PullRequestRef.parse(" https://GitHub.com/Acme/API/pull/42/files "))
+        .map(PullRequestRef::key)
+        .contains("acme/api/pull/42");
+    assertThat(PullRequestRef.parse("http://www.github.com/acme/api/pull/042/"))
+        .map(PullRequestRef::key)
+        .contains("acme/api/pull/42");
+  }
+
+  @Test
+  void shouldRejectUrlsThatAreNotPullRequests() {
+    assertThat(PullRequestRef.parse("https://github.com/acme/api/issues/42")).isEmpty();
+    assertThat(PullRequestRef.parse("https://example.com/acme/api/pull/42")).isEmpty();
+    assertThat(PullRequestRef.parse("https://github.com/acme/api/pull/99999999999")).isEmpty();
+    assertThat(PullRequestRef.parse(null)).isEmpty();
+  }
+}
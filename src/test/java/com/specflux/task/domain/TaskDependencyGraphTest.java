@@ -0,0 +1,109 @@
+package com.specflux.task.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for TaskDependencyGraph. */
+class TaskDependencyGraphTest {
+
+  // 1 <- 2 <- 4, 1 <- 3 <- 4, 5 <- 4 (each arrow reads "is depended on by")
+  private final TaskDependencyGraph diamond =
+      TaskDependencyGraph.of(new long[] {2, 3, 4, 4, 4}, new long[] {1, 1, 2, 3, 5});
+
+  @Test
+  void shouldExposeDirectNeighboursInIdOrder() {
+    assertThat(diamond.taskCount()).isEqualTo(5);
+    assertThat(diamond.dependencyCount()).isEqualTo(5);
+    assertThat(diamond.dependenciesOf(4)).containsExactly(2, 3, 5);
+    assertThat(diamond.dependentsOf(1)).containsExactly(2, 3);
+    assertThat(diamond.dependenciesOf(99)).isEmpty();
+    assertThat(diamond.hasDependency(2, 1)).isTrue();
+    assertThat(diamond.hasDependency(1, 2)).isFalse();
+  }
+
+  @Test
+  void shouldIgnoreDuplicateEdges() {
+    TaskDependencyGraph graph = TaskDependencyGraph.of(new long[] {2, 2}, new long[] {1, 1});
+
+    assertThat(graph.dependencyCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldFindTransitiveUpstreamAndDownstreamTasks() {
+    assertThat(diamond.upstreamOf(4)).containsExactly(1, 2, 3, 5);
+    assertThat(diamond.upstreamOf(2)).containsExactly(1);
+    assertThat(diamond.downstreamOf(1)).containsExactly(2, 3, 4);
+    assertThat(diamond.downstreamOf(4)).isEmpty();
+  }
+
+  @Test
+  void shouldDetectCyclesBeforeInsert() {
+    assertThat(diamond.wouldCreateCycle(1, 4)).isTrue();
+    assertThat(diamond.wouldCreateCycle(2, 4)).isTrue();
+    assertThat(diamond.wouldCreateCycle(3, 3)).isTrue();
+    assertThat(diamond.wouldCreateCycle(5, 1)).isFalse();
+    assertThat(diamond.wouldCreateCycle(4, 1)).isFalse();
+    assertThat(diamond.wouldCreateCycle(10, 11)).isFalse();
+  }
+
+  @Test
+  void topologicalOrder_shouldPlaceDependenciesFirst() {
+    long[] order = diamond.topologicalOrder();
+
+    assertThat(order).containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+    assertOrdered(diamond, order);
+  }
+
+  @Test
+  void topologicalOrder_shouldAppendTasksOnLegacyCycles() {
+    TaskDependencyGraph graph =
+        TaskDependencyGraph.of(new long[] {2, 3, 4}, new long[] {1, 2, 3}).withDependency(2, 4);
+
+    assertThat(graph.topologicalOrder()).containsExactly(1, 2, 3, 4);
+  }
+
+  @Test
+  void withDependency_shouldReturnUpdatedCopy() {
+    TaskDependencyGraph updated = diamond.withDependency(5, 6);
+
+    assertThat(updated.dependenciesOf(5)).containsExactly(6);
+    assertThat(updated.upstreamOf(4)).containsExactly(1, 2, 3, 5, 6);
+    assertThat(diamond.contains(6)).isFalse();
+    assertThat(diamond.withDependency(2, 1)).isSameAs(diamond);
+  }
+
+  @Test
+  void shouldHandleLargeRandomAcyclicGraphs() {
+    Random random = new Random(42);
+    int taskCount = 2_000;
+    long[] from = new long[10_000];
+    long[] to = new long[10_000];
+    for (int e = 0; e < from.length; e++) {
+      // Edges only point to lower ids, so the graph is acyclic
+      long task = 2 + random.nextInt(taskCount - 1);
+      from[e] = task;
+      to[e] = 1 + random.nextInt((int) task - 1);
+    }
+    TaskDependencyGraph graph = TaskDependencyGraph.of(from, to);
+
+    long[] order = graph.topologicalOrder();
+    assertThat(order).hasSize(graph.taskCount());
+    assertOrdered(graph, order);
+    for (int e = 0; e < 100; e++) {
+      assertThat(graph.wouldCreateCycle(to[e], from[e])).isTrue();
+    }
+  }
+
+  private static void assertOrdered(TaskDependencyGraph graph, long[] order) {
+    List<Long> positions = Arrays.stream(order).boxed().toList();
+    long[][] edges = graph.edges();
+    for (int e = 0; e < edges[0].length; e++) {
+      assertThat(positions.indexOf(edges[1][e])).isLessThan(positions.indexOf(edges[0][e]));
+    }
+  }
+}
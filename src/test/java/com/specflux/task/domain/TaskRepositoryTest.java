@@ -8,6 +8,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +18,8 @@ import com.specflux.epic.domain.Epic;
 import com.specflux.epic.domain.EpicRepository;
 import com.specflux.project.domain.Project;
 import com.specflux.project.domain.ProjectRepository;
+import com.specflux.shared.domain.KeysetCursor;
+import com.specflux.shared.infrastructure.persistence.KeysetQueryExecutor;
 import com.specflux.user.domain.User;
 import com.specflux.user.domain.UserRepository;
 
@@ -37,6 +40,7 @@ class TaskRepositoryTest extends AbstractIntegrationTest {
   @Autowired private EpicRepository epicRepository;
   @Autowired private ProjectRepository projectRepository;
   @Autowired private UserRepository userRepository;
+  @Autowired private KeysetQueryExecutor keysetQueryExecutor;
 
   private User testUser;
   private User assignee;
@@ -182,4 +186,89 @@ class TaskRepositoryTest extends AbstractIntegrationTest {
     assertThat(found.get().getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
     assertThat(found.get().getGithubPrUrl()).isEqualTo("https://github.com/org/repo/pull/123");
   }
+
+  @Test
+  void shouldSeekPagesWithFiltersAndPrioritySort() {
+    Task low = new Task("task_low", testProject, 1, "TASK-1", "Low task", testUser);
+    low.setPriority(TaskPriority.LOW);
+    Task critical = new Task("task_crit", testProject, 2, "TASK-2", "Critical task", testUser);
+    critical.setPriority(TaskPriority.CRITICAL);
+    Task medium = new Task("task_med", testProject, 3, "TASK-3", "Medium task", testUser);
+    medium.setPriority(TaskPriority.MEDIUM);
+    Task done = new Task("task_done", testProject, 4, "TASK-4", "Done task", testUser);
+    done.setStatus(TaskStatus.COMPLETED);
+    taskRepository.saveAll(List.of(low, critical, medium, done));
+
+    var filter =
+        TaskSpecifications.inProject(testProject.getId())
+            .and(TaskSpecifications.statusNotIn(List.of(TaskStatus.COMPLETED)));
+
+    List<Task> page =
+        keysetQueryExecutor.fetch(
+            Task.class, Specification.where(filter), TaskSpecifications.PRIORITY, false, null, 2);
+    Task last = page.getLast();
+    KeysetCursor after =
+        new KeysetCursor(
+            "priority", false, false, TaskSpecifications.PRIORITY.format(last), last.getId());
+
+    assertThat(taskRepository.count(filter)).isEqualTo(3);
+    assertThat(page).extracting(Task::getDisplayKey).containsExactly("TASK-2", "TASK-3");
+    assertThat(
+            keysetQueryExecutor.fetch(
+                Task.class,
+                Specification.where(filter),
+                TaskSpecifications.PRIORITY,
+                false,
+                after,
+                2))
+        .extracting(Task::getDisplayKey)
+        .containsExactly("TASK-1");
+  }
+
+  @Test
+  void shouldFindByProjectRefAndRef() {
+    Task task =
+        taskRepository.save(new Task("task_ref1", testProject, 1, "TASK-1", "Ref", testUser));
+    Project other =
+        projectRepository.save(new Project("proj_task_other", "OTHER", "Other", testUser));
+    taskRepository.save(new Task("task_ref2", other, 1, "OTHER-1", "Other Ref", testUser));
+
+    // Project key and display key
+    assertThat(taskRepository.findByProjectRefAndRef("TASK", "TASK", "TASK-1")).contains(task);
+    // Project public id and task public id
+    assertThat(
+            taskRepository.findByProjectRefAndRef("proj_task_test", "PROJ_TASK_TEST", "task_ref1"))
+        .contains(task);
+    // A task is not found through another project
+    assertThat(taskRepository.findByProjectRefAndRef("OTHER", "OTHER", "TASK-1")).isEmpty();
+    assertThat(
+            taskRepository.findByProjectRefAndRef(
+                "proj_task_other", "PROJ_TASK_OTHER", "task_ref1"))
+        .isEmpty();
+  }
+
+  @Test
+  void shouldFindPullRequestLinksByNormalizedRef() {
+    String[] urls = {
+      "https://github.com/acme/api/pull/42",
+      " https://GitHub.com/Acme/API/pull/42/ ",
+      "http://www.github.com/acme/api/pull/42/files",
+      "https://github.com/acme/api/pull/420",
+      "https://example.com/acme/api/pull/42"
+    };
+    for (int i = 0; i < urls.length; i++) {
+      Task task =
+          new Task("task_pr" + i, testProject, i + 1, "TASK-" + (i + 1), "PR " + i, testUser);
+      task.setGithubPrUrl(urls[i]);
+      taskRepository.save(task);
+    }
+
+    List<TaskRepository.PullRequestLink> links =
+        taskRepository.findPullRequestLinksByRefs(
+            List.of("acme/api/pull/42"), List.of(TaskStatus.BACKLOG));
+
+    assertThat(links)
+        .extracting(TaskRepository.PullRequestLink::getGithubPrUrl)
+        .containsExactlyInAnyOrder(urls[0], urls[1], urls[2]);
+  }
 }
@@ -0,0 +1,187 @@
+package com.specflux.task.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.PredicateSpecification;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.specflux.common.AbstractIntegrationTest;
+import com.specflux.project.domain.Project;
+import com.specflux.project.domain.ProjectRepository;
+import com.specflux.shared.infrastructure.persistence.KeysetQueryExecutor;
+import com.specflux.task.domain.Task;
+import com.specflux.task.domain.TaskFilter;
+import com.specflux.task.domain.TaskRepository;
+import com.specflux.task.domain.TaskSpecifications;
+import com.specflux.user.domain.User;
+import com.specflux.user.domain.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares task search strategies on 10k and 100k tasks in one project.
+ *
+ * <p>Measures the first page (20 rows plus the total) of: loading every task and filtering with
+ * {@code contains} in Java, a case-insensitive LIKE in SQL, and the full-text search. Not part of
+ * the regular build; run with {@code mvn test -Dtest=TaskSearchBenchmarkTest -Dbenchmark=true}.
+ */
+@Slf4j
+@Transactional
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TaskSearchBenchmarkTest extends AbstractIntegrationTest {
+
+  private static final int PAGE_SIZE = 20;
+  private static final int WARMUP_RUNS = 3;
+  private static final int MEASURED_RUNS = 10;
+
+  /** Distinct words without shared prefixes, so substring and word matches agree. */
+  private static final String WORDS =
+      "ARRAY['authentication','billing','dashboard','export','invoice','migration',"
+          + "'notification','onboarding','payment','permission','report','search','session',"
+          + "'upload','webhook','workflow','profile']";
+
+  private static final String TERM = "billing";
+
+  @DynamicPropertySource
+  static void configureSchema(DynamicPropertyRegistry registry) {
+    configureSchemaForClass(registry, TaskSearchBenchmarkTest.class);
+  }
+
+  @Autowired private TaskRepository taskRepository;
+  @Autowired private ProjectRepository projectRepository;
+  @Autowired private UserRepository userRepository;
+  @Autowired private KeysetQueryExecutor keysetQueryExecutor;
+  @Autowired private TaskTextSearch taskTextSearch;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @PersistenceContext private EntityManager entityManager;
+
+  private User user;
+  private Project project;
+
+  @BeforeEach
+  void setUp() {
+    user =
+        userRepository.save(
+            new User("user_bench", "firebase_bench", "bench@example.com", "Benchmark"));
+    project = projectRepository.save(new Project("proj_bench", "BENCH", "Benchmark", user));
+  }
+
+  @Test
+  void compareSearchStrategies() {
+    seed(0, 10_000);
+    report(10_000);
+    seed(10_000, 100_000);
+    report(100_000);
+  }
+
+  private void report(int size) {
+    jdbcTemplate.execute("ANALYZE tasks");
+
+    long javaScan = median(this::javaScan);
+    long like = median(this::like);
+    long fullText = median(this::fullText);
+    log.info(
+        "[taskSearch] tasks={} javaScan={}ms like={}ms fullText={}ms",
+        size,
+        millis(javaScan),
+        millis(like),
+        millis(fullText));
+
+    assertThat(like()).isEqualTo(javaScan());
+    assertThat(fullText()).isEqualTo(javaScan());
+  }
+
+  /** The original approach: hydrate every task in the project and filter in Java. */
+  private long javaScan() {
+    List<Task> matches =
+        taskRepository.findByProjectId(project.getId()).stream()
+            .filter(
+                t ->
+                    t.getTitle().toLowerCase().contains(TERM)
+                        || (t.getDescription() != null
+                            && t.getDescription().toLowerCase().contains(TERM)))
+            .sorted(Comparator.comparing(Task::getCreatedAt).thenComparing(Task::getId))
+            .toList();
+    entityManager.clear();
+    return matches.size();
+  }
+
+  /** A case-insensitive LIKE on title and description, as the task list used to search. */
+  private long like() {
+    PredicateSpecification<Task> matches =
+        (root, cb) ->
+            cb.or(
+                cb.like(cb.lower(root.get("title")), "%" + TERM + "%"),
+                cb.like(cb.lower(root.get("description")), "%" + TERM + "%"));
+    Specification<Task> filter =
+        Specification.where(TaskSpecifications.inProject(project.getId()).and(matches));
+    long total = keysetQueryExecutor.count(Task.class, filter);
+    keysetQueryExecutor.fetch(
+        Task.class, filter, TaskSpecifications.sortKey(null), true, null, PAGE_SIZE + 1);
+    entityManager.clear();
+    return total;
+  }
+
+  private long fullText() {
+    TaskFilter filter = new TaskFilter(project.getId(), null, null, null, null, null, null);
+    String query = TaskTextSearch.toQuery(TERM);
+    long total = taskTextSearch.count(filter, query);
+    taskTextSearch.search(filter, query, null, null, false, PAGE_SIZE + 1);
+    return total;
+  }
+
+  private static String millis(long nanos) {
+    return String.format(Locale.ROOT, "%.1f", nanos / 1e6);
+  }
+
+  private static long median(LongSupplier run) {
+    for (int i = 0; i < WARMUP_RUNS; i++) {
+      run.getAsLong();
+    }
+    long[] times = new long[MEASURED_RUNS];
+    for (int i = 0; i < MEASURED_RUNS; i++) {
+      long start = System.nanoTime();
+      run.getAsLong();
+      times[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(times);
+    return times[MEASURED_RUNS / 2];
+  }
+
+  /** Inserts tasks with sequence numbers in (from, to], two vocabulary words in each text. */
+  private void seed(int from, int to) {
+    jdbcTemplate.update(
+        "INSERT INTO tasks (public_id, project_id, sequence_number, display_key, title,"
+            + " description, status, priority, requires_approval, created_by_id, created_at,"
+            + " updated_at)"
+            + " SELECT 'task_bench_' || i, ?, i, 'BENCH-' || i,"
+            + " w[1 + i % 17] || ' ' || w[1 + (i / 17) % 17] || ' task ' || i,"
+            + " 'As a user I want ' || w[1 + (i / 7) % 17] || ' to work with '"
+            + " || w[1 + (i / 289) % 17] || ' so that the team can ship',"
+            + " 'backlog', 'medium', true, ?, now() - make_interval(secs => i),"
+            + " now() - make_interval(secs => i)"
+            + " FROM generate_series(?, ?) AS i, (SELECT "
+            + WORDS
+            + " AS w) AS words",
+        project.getId(),
+        user.getId(),
+        from + 1,
+        to);
+  }
+}
@@ -1,17 +1,29 @@
 package com.specflux.task.interfaces.rest;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 
 import com.specflux.api.generated.model.AddTaskDependencyRequestDto;
+import com.specflux.api.generated.model.BatchCreateTasksRequestDto;
+import com.specflux.api.generated.model.BatchTaskFilterDto;
+import com.specflux.api.generated.model.BatchTaskUpdateDto;
+import com.specflux.api.generated.model.BatchUpdateTasksRequestDto;
 import com.specflux.api.generated.model.CreateAcceptanceCriteriaRequestDto;
 import com.specflux.api.generated.model.CreateTaskRequestDto;
 import com.specflux.api.generated.model.TaskPriorityDto;
@@ -26,6 +38,8 @@ import com.specflux.prd.domain.PrdRepository;
 import com.specflux.project.domain.Project;
 import com.specflux.project.domain.ProjectRepository;
 import com.specflux.task.domain.Task;
+import com.specflux.task.domain.TaskDependency;
+import com.specflux.task.domain.TaskDependencyRepository;
 import com.specflux.task.domain.TaskPriority;
 import com.specflux.task.domain.TaskRepository;
 import com.specflux.task.domain.TaskStatus;
@@ -46,6 +60,8 @@ class TaskControllerTest extends AbstractControllerIntegrationTest {
   @Autowired private EpicRepository epicRepository;
   @Autowired private PrdRepository prdRepository;
   @Autowired private TaskRepository taskRepository;
+  @Autowired private TaskDependencyRepository taskDependencyRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
 
   private Project testProject;
   private Epic testEpic;
@@ -120,6 +136,171 @@ class TaskControllerTest extends AbstractControllerIntegrationTest {
         .andExpect(jsonPath("$.code").value("NOT_FOUND"));
   }
 
+  @Test
+  void createTasksBatch_shouldCreateAllTasksWithConsecutiveKeys() throws Exception {
+    CreateTaskRequestDto first = new CreateTaskRequestDto();
+    first.setTitle("Design schema");
+    first.setEpicRef(testEpic.getDisplayKey());
+    CreateTaskRequestDto second = new CreateTaskRequestDto();
+    second.setTitle("Write migration");
+    second.setPriority(TaskPriorityDto.HIGH);
+    CreateTaskRequestDto third = new CreateTaskRequestDto();
+    third.setTitle("Add repository");
+    third.setEpicRef(testEpic.getDisplayKey());
+
+    BatchCreateTasksRequestDto request =
+        new BatchCreateTasksRequestDto(List.of(first, second, third));
+
+    mockMvc
+        .perform(
+            post("/api/projects/{projectRef}/tasks:batch", testProject.getPublicId())
+                .with(user("user"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.createdCount").value(3))
+        .andExpect(jsonPath("$.failedCount").value(0))
+        .andExpect(jsonPath("$.results[0].task.displayKey").value("TASK-1"))
+        .andExpect(jsonPath("$.results[0].task.epicDisplayKey").value("TASK-E1"))
+        .andExpect(jsonPath("$.results[1].task.displayKey").value("TASK-2"))
+        .andExpect(jsonPath("$.results[1].task.priority").value("HIGH"))
+        .andExpect(jsonPath("$.results[2].task.displayKey").value("TASK-3"));
+
+    assertThat(taskRepository.findByProjectId(testProject.getId())).hasSize(3);
+    assertThat(taskRepository.findByEpicId(testEpic.getId())).hasSize(2);
+  }
+
+  @Test
+  void createTasksBatch_withInvalidItems_shouldReportPerItemErrors() throws Exception {
+    CreateTaskRequestDto valid = new CreateTaskRequestDto();
+    valid.setTitle("Valid task");
+    CreateTaskRequestDto unknownEpic = new CreateTaskRequestDto();
+    unknownEpic.setTitle("Orphan task");
+    unknownEpic.setEpicRef("TASK-E99");
+
+    BatchCreateTasksRequestDto request =
+        new BatchCreateTasksRequestDto(List.of(unknownEpic, valid));
+
+    mockMvc
+        .perform(
+            post("/api/projects/{projectRef}/tasks:batch", testProject.getPublicId())
+                .with(user("user"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.createdCount").value(1))
+        .andExpect(jsonPath("$.failedCount").value(1))
+        .andExpect(jsonPath("$.results[0].index").value(0))
+        .andExpect(jsonPath("$.results[0].success").value(false))
+        .andExpect(jsonPath("$.results[0].error").exists())
+        .andExpect(jsonPath("$.results[1].success").value(true))
+        .andExpect(jsonPath("$.results[1].task.displayKey").value("TASK-1"));
+  }
+
+  @Test
+  void createTasksBatch_emptyList_shouldReturn400() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/projects/{projectRef}/tasks:batch", testProject.getPublicId())
+                .with(user("user"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"tasks\": []}"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void updateTasksBatch_byRefs_shouldApplyEachItemsChanges() throws Exception {
+    taskRepository.save(new Task("task_batch_1", testProject, 1, "TASK-1", "First", testUser));
+    taskRepository.save(new Task("task_batch_2", testProject, 2, "TASK-2", "Second", testUser));
+    taskRepository.save(new Task("task_batch_3", testProject, 3, "TASK-3", "Third", testUser));
+
+    UpdateTaskRequestDto complete = new UpdateTaskRequestDto();
+    complete.setStatus(TaskStatusDto.COMPLETED);
+    UpdateTaskRequestDto retitle = new UpdateTaskRequestDto();
+    retitle.setTitle("Renamed");
+    retitle.setEpicRef(testEpic.getDisplayKey());
+
+    BatchUpdateTasksRequestDto request = new BatchUpdateTasksRequestDto();
+    request.setUpdates(
+        List.of(
+            new BatchTaskUpdateDto("TASK-1", complete),
+            new BatchTaskUpdateDto("task_batch_2", retitle),
+            new BatchTaskUpdateDto("TASK-3", complete)));
+
+    mockMvc
+        .perform(
+            patch("/api/projects/{projectRef}/tasks:batch", testProject.getPublicId())
+                .with(user("user"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.updatedCount").value(3))
+        .andExpect(jsonPath("$.data[0].displayKey").value("TASK-1"))
+        .andExpect(jsonPath("$.data[0].status").value("COMPLETED"))
+        .andExpect(jsonPath("$.data[1].title").value("Renamed"))
+        .andExpect(jsonPath("$.data[1].status").value("BACKLOG"))
+        .andExpect(jsonPath("$.data[1].epicDisplayKey").value("TASK-E1"))
+        .andExpect(jsonPath("$.data[2].status").value("COMPLETED"));
+
+    assertThat(taskRepository.findByProjectIdAndStatus(testProject.getId(), TaskStatus.COMPLETED))
+        .hasSize(2);
+  }
+
+  @Test
+  void updateTasksBatch_byFilter_shouldMoveMatchingTasksToTargetStatus() throws Exception {
+    Task inEpic = new Task("task_filter_1", testProject, 1, "TASK-1", "In epic", testUser);
+    inEpic.setEpic(testEpic);
+    taskRepository.save(inEpic);
+    Task alsoInEpic = new Task("task_filter_2", testProject, 2, "TASK-2", "Also in", testUser);
+    alsoInEpic.setEpic(testEpic);
+    taskRepository.save(alsoInEpic);
+    taskRepository.save(new Task("task_filter_3", testProject, 3, "TASK-3", "Outside", testUser));
+
+    BatchTaskFilterDto filter = new BatchTaskFilterDto();
+    filter.setEpicRef(testEpic.getDisplayKey());
+    BatchUpdateTasksRequestDto request = new BatchUpdateTasksRequestDto();
+    request.setFilter(filter);
+    request.setTargetStatus(TaskStatusDto.READY);
+
+    mockMvc
+        .perform(
+            patch("/api/projects/{projectRef}/tasks:batch", testProject.getPublicId())
+                .with(user("user"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.updatedCount").value(2))
+        .andExpect(jsonPath("$.data[0].status").value("READY"))
+        .andExpect(jsonPath("$.data[1].status").value("READY"));
+
+    assertThat(taskRepository.findByPublicId("task_filter_3").orElseThrow().getStatus())
+        .isEqualTo(TaskStatus.BACKLOG);
+  }
+
+  @Test
+  void updateTasksBatch_withUnknownRef_shouldReturn404AndChangeNothing() throws Exception {
+    taskRepository.save(new Task("task_atomic", testProject, 1, "TASK-1", "Keep me", testUser));
+
+    UpdateTaskRequestDto complete = new UpdateTaskRequestDto();
+    complete.setStatus(TaskStatusDto.COMPLETED);
+    BatchUpdateTasksRequestDto request = new BatchUpdateTasksRequestDto();
+    request.setUpdates(
+        List.of(
+            new BatchTaskUpdateDto("TASK-1", complete),
+            new BatchTaskUpdateDto("TASK-99", complete)));
+
+    mockMvc
+        .perform(
+            patch("/api/projects/{projectRef}/tasks:batch", testProject.getPublicId())
+                .with(user("user"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isNotFound());
+
+    assertThat(taskRepository.findByPublicId("task_atomic").orElseThrow().getStatus())
+        .isEqualTo(TaskStatus.BACKLOG);
+  }
+
   @Test
   void getTask_byPublicId_shouldReturnTask() throws Exception {
     Task task =
@@ -271,6 +452,135 @@ class TaskControllerTest extends AbstractControllerIntegrationTest {
         .andExpect(jsonPath("$.pagination.nextCursor").exists());
   }
 
+  @Test
+  void listTasks_withMatchingETag_shouldReturn304() throws Exception {
+    taskRepository.save(new Task("task_etag1", testProject, 1, "TASK-1", "Task 1", testUser));
+
+    String etag = listTasksETag();
+
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/tasks", testProject.getPublicId())
+                .with(user("user"))
+                .header("If-None-Match", etag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void listTasks_afterTaskOrDependencyWrites_shouldReturnNewETag() throws Exception {
+    Task task1 =
+        taskRepository.save(new Task("task_etag1", testProject, 1, "TASK-1", "Task 1", testUser));
+    String initial = listTasksETag();
+
+    // Batch creation writes through JDBC rather than JPA
+    CreateTaskRequestDto created = new CreateTaskRequestDto();
+    created.setTitle("Task 2");
+    mockMvc
+        .perform(
+            post("/api/projects/{projectRef}/tasks:batch", testProject.getPublicId())
+                .with(user("user"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        new BatchCreateTasksRequestDto(List.of(created)))))
+        .andExpect(status().isOk());
+    String afterCreate = listTasksETag();
+
+    Task task2 =
+        taskRepository.findByProjectId(testProject.getId()).stream()
+            .filter(task -> !task.getId().equals(task1.getId()))
+            .findFirst()
+            .orElseThrow();
+    taskDependencyRepository.saveAndFlush(new TaskDependency(task2, task1));
+    String afterDependency = listTasksETag();
+
+    assertThat(afterCreate).isNotEqualTo(initial);
+    assertThat(afterDependency).isNotEqualTo(afterCreate);
+  }
+
+  @Test
+  void listTasks_followingCursors_shouldWalkPagesWithoutGapsOrRepeats() throws Exception {
+    taskRepository.save(new Task("task_page1", testProject, 1, "TASK-1", "Task 1", testUser));
+    taskRepository.save(new Task("task_page2", testProject, 2, "TASK-2", "Task 2", testUser));
+    taskRepository.save(new Task("task_page3", testProject, 3, "TASK-3", "Task 3", testUser));
+
+    String firstPage =
+        mockMvc
+            .perform(
+                get("/api/projects/{projectRef}/tasks", testProject.getPublicId())
+                    .with(user("user"))
+                    .param("limit", "2")
+                    .param("sort", "title")
+                    .param("order", "asc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].displayKey").value("TASK-1"))
+            .andExpect(jsonPath("$.data[1].displayKey").value("TASK-2"))
+            .andExpect(jsonPath("$.pagination.prevCursor").doesNotExist())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    String nextCursor = objectMapper.readTree(firstPage).at("/pagination/nextCursor").asText();
+
+    String secondPage =
+        mockMvc
+            .perform(
+                get("/api/projects/{projectRef}/tasks", testProject.getPublicId())
+                    .with(user("user"))
+                    .param("limit", "2")
+                    .param("sort", "title")
+                    .param("order", "asc")
+                    .param("cursor", nextCursor))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.length()").value(1))
+            .andExpect(jsonPath("$.data[0].displayKey").value("TASK-3"))
+            .andExpect(jsonPath("$.pagination.total").value(3))
+            .andExpect(jsonPath("$.pagination.hasMore").value(false))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    String prevCursor = objectMapper.readTree(secondPage).at("/pagination/prevCursor").asText();
+
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/tasks", testProject.getPublicId())
+                .with(user("user"))
+                .param("limit", "2")
+                .param("sort", "title")
+                .param("order", "asc")
+                .param("cursor", prevCursor))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data[0].displayKey").value("TASK-1"))
+        .andExpect(jsonPath("$.data[1].displayKey").value("TASK-2"))
+        .andExpect(jsonPath("$.pagination.hasMore").value(true));
+  }
+
+  @Test
+  void listTasks_withCursorFromDifferentSort_shouldReturn400() throws Exception {
+    taskRepository.save(new Task("task_cur1", testProject, 1, "TASK-1", "Task 1", testUser));
+    taskRepository.save(new Task("task_cur2", testProject, 2, "TASK-2", "Task 2", testUser));
+
+    String page =
+        mockMvc
+            .perform(
+                get("/api/projects/{projectRef}/tasks", testProject.getPublicId())
+                    .with(user("user"))
+                    .param("limit", "1"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    String nextCursor = objectMapper.readTree(page).at("/pagination/nextCursor").asText();
+
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/tasks", testProject.getPublicId())
+                .with(user("user"))
+                .param("limit", "1")
+                .param("sort", "title")
+                .param("cursor", nextCursor))
+        .andExpect(status().isBadRequest());
+  }
+
   @Test
   void listTasks_withStatusFilter_shouldReturnFilteredList() throws Exception {
     Task task1 = new Task("task_backlog", testProject, 1, "TASK-1", "Backlog Task", testUser);
@@ -347,6 +657,95 @@ class TaskControllerTest extends AbstractControllerIntegrationTest {
         .andExpect(jsonPath("$.data[0].title").value("Implement authentication"));
   }
 
+  @Test
+  void listTasks_withSearch_shouldRankTitleMatchesFirstAndHighlightThem() throws Exception {
+    Task inDescription =
+        new Task("task_docs", testProject, 1, "TASK-1", "Write onboarding docs", testUser);
+    inDescription.setDescription("Explain how login and token refresh work");
+    taskRepository.save(inDescription);
+    taskRepository.save(
+        new Task("task_login", testProject, 2, "TASK-2", "Fix login redirect", testUser));
+    taskRepository.save(
+        new Task("task_other", testProject, 3, "TASK-3", "Build UI components", testUser));
+
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/tasks", testProject.getPublicId())
+                .with(user("user"))
+                .param("search", "login"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.pagination.total").value(2))
+        .andExpect(jsonPath("$.data[0].displayKey").value("TASK-2"))
+        .andExpect(
+            jsonPath("$.data[0].searchMatch.titleHighlight")
+                .value("Fix <mark>login</mark> redirect"))
+        .andExpect(jsonPath("$.data[1].displayKey").value("TASK-1"))
+        .andExpect(
+            jsonPath("$.data[1].searchMatch.descriptionSnippet")
+                .value(containsString("<mark>login</mark>")));
+  }
+
+  @Test
+  void listTasks_withSearch_shouldEscapeHtmlAroundHighlights() throws Exception {
+    Task task =
+        new Task(
+            "task_xss", testProject, 1, "TASK-1", "Fix login & <img src=x onerror=f()>", testUser);
+    task.setDescription("Login \u0002breaks\u0003 when 1 < 2");
+    taskRepository.save(task);
+
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/tasks", testProject.getPublicId())
+                .with(user("user"))
+                .param("search", "login"))
+        .andExpect(status().isOk())
+        .andExpect(
+            jsonPath("$.data[0].searchMatch.titleHighlight")
+                .value(
+                    allOf(
+                        startsWith("Fix <mark>login</mark> &amp; "),
+                        not(containsString("<img")))))
+        .andExpect(
+            jsonPath("$.data[0].searchMatch.descriptionSnippet")
+                .value(containsString("<mark>Login</mark> breaks when 1 &lt; 2")));
+  }
+
+  @Test
+  void listTasks_withSearch_shouldPageThroughMatchesWithCursors() throws Exception {
+    for (int i = 1; i <= 3; i++) {
+      taskRepository.save(
+          new Task("task_" + i, testProject, i, "TASK-" + i, "Deploy service " + i, testUser));
+    }
+
+    String first =
+        mockMvc
+            .perform(
+                get("/api/projects/{projectRef}/tasks", testProject.getPublicId())
+                    .with(user("user"))
+                    .param("search", "deploy")
+                    .param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.length()").value(2))
+            .andExpect(jsonPath("$.pagination.hasMore").value(true))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    String nextCursor = objectMapper.readTree(first).at("/pagination/nextCursor").asText();
+
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/tasks", testProject.getPublicId())
+                .with(user("user"))
+                .param("search", "deploy")
+                .param("limit", "2")
+                .param("cursor", nextCursor))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.length()").value(1))
+        .andExpect(jsonPath("$.data[0].displayKey").value("TASK-3"))
+        .andExpect(jsonPath("$.pagination.hasMore").value(false))
+        .andExpect(jsonPath("$.pagination.prevCursor").exists());
+  }
+
   @Test
   void listTasks_withSort_shouldReturnSortedList() throws Exception {
     taskRepository.save(new Task("task_z", testProject, 1, "TASK-1", "Zeta Task", testUser));
@@ -688,6 +1087,166 @@ class TaskControllerTest extends AbstractControllerIntegrationTest {
         .andExpect(jsonPath("$.data.length()").value(0));
   }
 
+  @Test
+  void addTaskDependency_closingCycle_shouldReturn409() throws Exception {
+    Task task1 =
+        taskRepository.save(new Task("task_cy1", testProject, 1, "TASK-1", "Task 1", testUser));
+    Task task2 =
+        taskRepository.save(new Task("task_cy2", testProject, 2, "TASK-2", "Task 2", testUser));
+    Task task3 =
+        taskRepository.save(new Task("task_cy3", testProject, 3, "TASK-3", "Task 3", testUser));
+    taskDependencyRepository.save(new TaskDependency(task2, task1));
+    taskDependencyRepository.save(new TaskDependency(task3, task2));
+
+    AddTaskDependencyRequestDto request = new AddTaskDependencyRequestDto();
+    request.setDependsOnTaskRef(task3.getPublicId());
+
+    mockMvc
+        .perform(
+            post(
+                    "/api/projects/{projectRef}/tasks/{taskRef}/dependencies",
+                    testProject.getPublicId(),
+                    task1.getPublicId())
+                .with(user("user"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isConflict());
+
+    assertThat(taskDependencyRepository.findByTaskId(task1.getId())).isEmpty();
+  }
+
+  @Test
+  void getTaskDependencyGraph_shouldReturnTasksInTopologicalOrder() throws Exception {
+    Task task1 =
+        taskRepository.save(new Task("task_g1", testProject, 1, "TASK-1", "Task 1", testUser));
+    Task task2 =
+        taskRepository.save(new Task("task_g2", testProject, 2, "TASK-2", "Task 2", testUser));
+    Task task3 =
+        taskRepository.save(new Task("task_g3", testProject, 3, "TASK-3", "Task 3", testUser));
+    taskRepository.save(new Task("task_g4", testProject, 4, "TASK-4", "Unlinked", testUser));
+
+    // TASK-1 depends on TASK-3, which depends on TASK-2
+    for (String[] edge : new String[][] {{"task_g1", "task_g3"}, {"task_g3", "task_g2"}}) {
+      AddTaskDependencyRequestDto request = new AddTaskDependencyRequestDto();
+      request.setDependsOnTaskRef(edge[1]);
+      mockMvc
+          .perform(
+              post(
+                      "/api/projects/{projectRef}/tasks/{taskRef}/dependencies",
+                      testProject.getPublicId(),
+                      edge[0])
+                  .with(user("user"))
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(request)))
+          .andExpect(status().isCreated());
+    }
+
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/task-dependencies", testProject.getPublicId())
+                .with(user("user")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.nodes.length()").value(3))
+        .andExpect(jsonPath("$.nodes[0].id").value(task2.getPublicId()))
+        .andExpect(jsonPath("$.nodes[1].id").value(task3.getPublicId()))
+        .andExpect(jsonPath("$.nodes[2].id").value(task1.getPublicId()))
+        .andExpect(jsonPath("$.nodes[2].status").value("BACKLOG"))
+        .andExpect(jsonPath("$.edges.length()").value(2));
+
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/task-dependencies", testProject.getPublicId())
+                .param("taskRef", "TASK-3")
+                .param("direction", "downstream")
+                .with(user("user")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.nodes.length()").value(2))
+        .andExpect(jsonPath("$.nodes[0].displayKey").value("TASK-3"))
+        .andExpect(jsonPath("$.nodes[1].displayKey").value("TASK-1"))
+        .andExpect(jsonPath("$.edges.length()").value(1));
+  }
+
+  @Test
+  void getTaskDependencyGraph_withTaskDeletedBehindTheCache_shouldSkipItAndRebuild()
+      throws Exception {
+    Task task1 =
+        taskRepository.save(new Task("task_g1", testProject, 1, "TASK-1", "Task 1", testUser));
+    Task task2 =
+        taskRepository.save(new Task("task_g2", testProject, 2, "TASK-2", "Task 2", testUser));
+    AddTaskDependencyRequestDto request = new AddTaskDependencyRequestDto();
+    request.setDependsOnTaskRef("task_g2");
+    mockMvc
+        .perform(
+            post(
+                    "/api/projects/{projectRef}/tasks/{taskRef}/dependencies",
+                    testProject.getPublicId(),
+                    "task_g1")
+                .with(user("user"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isCreated());
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/task-dependencies", testProject.getPublicId())
+                .with(user("user")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.nodes.length()").value(2));
+
+    // Deleting through the repository bypasses the graph cache; the edge goes by FK cascade
+    taskRepository.delete(task2);
+
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/task-dependencies", testProject.getPublicId())
+                .with(user("user")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.nodes.length()").value(1))
+        .andExpect(jsonPath("$.nodes[0].id").value(task1.getPublicId()))
+        .andExpect(jsonPath("$.edges.length()").value(0));
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/task-dependencies", testProject.getPublicId())
+                .with(user("user")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.nodes.length()").value(0));
+  }
+
+  @Test
+  void listReadyTasks_shouldReturnUnblockedTasksByPriorityThenAge() throws Exception {
+    Task done = new Task("task_r1", testProject, 1, "TASK-1", "Done", testUser);
+    done.setStatus(TaskStatus.COMPLETED);
+    taskRepository.save(done);
+    Task open =
+        taskRepository.save(new Task("task_r2", testProject, 2, "TASK-2", "Open", testUser));
+    Task unblocked = new Task("task_r3", testProject, 3, "TASK-3", "Unblocked", testUser);
+    unblocked.setPriority(TaskPriority.LOW);
+    taskRepository.save(unblocked);
+    Task blocked = new Task("task_r4", testProject, 4, "TASK-4", "Blocked", testUser);
+    blocked.setPriority(TaskPriority.CRITICAL);
+    taskRepository.save(blocked);
+    Task urgent = new Task("task_r5", testProject, 5, "TASK-5", "Urgent", testUser);
+    urgent.setPriority(TaskPriority.CRITICAL);
+    taskRepository.save(urgent);
+    Task started = new Task("task_r6", testProject, 6, "TASK-6", "Started", testUser);
+    started.setStatus(TaskStatus.IN_PROGRESS);
+    taskRepository.save(started);
+    taskDependencyRepository.save(new TaskDependency(unblocked, done));
+    taskDependencyRepository.save(new TaskDependency(blocked, done));
+    taskDependencyRepository.save(new TaskDependency(blocked, open));
+
+    mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/tasks/ready", testProject.getPublicId())
+                .param("limit", "2")
+                .with(user("user")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.length()").value(2))
+        .andExpect(jsonPath("$.data[0].displayKey").value("TASK-5"))
+        .andExpect(jsonPath("$.data[1].displayKey").value("TASK-2"))
+        .andExpect(jsonPath("$.pagination.total").value(3))
+        .andExpect(jsonPath("$.pagination.hasMore").value(true));
+  }
+
   @Test
   void removeTaskDependency_notFound_shouldReturn404() throws Exception {
     Task task1 =
@@ -1125,4 +1684,19 @@ class TaskControllerTest extends AbstractControllerIntegrationTest {
         .andExpect(jsonPath("$.githubPrUrl").value("https://github.com/example/repo/pull/456"))
         .andExpect(jsonPath("$.epicId").value(testEpic.getPublicId()));
   }
+
+  private String listTasksETag() throws Exception {
+    // The test transaction never commits, so fire the change version bumps a commit would
+    taskRepository.flush();
+    jdbcTemplate.execute("SET CONSTRAINTS ALL IMMEDIATE");
+    jdbcTemplate.execute("SET CONSTRAINTS ALL DEFERRED");
+    return mockMvc
+        .perform(
+            get("/api/projects/{projectRef}/tasks", testProject.getPublicId()).with(user("user")))
+        .andExpect(status().isOk())
+        .andExpect(header().exists("ETag"))
+        .andReturn()
+        .getResponse()
+        .getHeader("ETag");
+  }
 }